@@ -0,0 +1,364 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import io.modelcontextprotocol.spec.McpError;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.util.Assert;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * Schedules requests that servers send to the client, such as sampling or elicitation
+ * requests, so that no more than a given number of them are handled at once.
+ *
+ * <p>
+ * A scheduler may be shared by many clients, each connected to a different server.
+ * Requests beyond the concurrency limit wait in a queue. The waiting request with the
+ * highest priority is dispatched first; among requests of equal priority the servers take
+ * turns, so that a server sending many requests cannot starve the others, and the
+ * requests of one server are dispatched in arrival order. When the queue is full further
+ * requests are rejected with an {@link McpError} carrying
+ * {@link McpSchema.ErrorCodes#SERVER_OVERLOADED}. A request cancelled by its server
+ * leaves the queue, or frees its slot if it was already dispatched.
+ *
+ * <pre>{@code
+ * ClientRequestScheduler<CreateMessageRequest> sampling = ClientRequestScheduler
+ *     .<CreateMessageRequest>builder()
+ *     .maxConcurrency(8)
+ *     .maxQueueSize(256)
+ *     .build();
+ *
+ * McpClient.async(transport).sampling(handler).samplingScheduler(sampling)...
+ * }</pre>
+ *
+ * @param <R> the type of the scheduled requests
+ */
+public final class ClientRequestScheduler<R> {
+
+	private final int maxConcurrency;
+
+	private final int maxQueueSize;
+
+	private final ToIntFunction<R> priority;
+
+	private final Map<Object, Lane> lanes = new IdentityHashMap<>();
+
+	// Lanes with waiting requests, in the order they take turns
+	private final List<Lane> turns = new ArrayList<>();
+
+	private int inFlight;
+
+	private int queued;
+
+	private long sequence;
+
+	private final LongAdder dispatched = new LongAdder();
+
+	private final LongAdder rejected = new LongAdder();
+
+	private final LongAdder totalQueueNanos = new LongAdder();
+
+	private final AtomicLong maxQueueNanos = new AtomicLong();
+
+	private ClientRequestScheduler(Builder<R> builder) {
+		this.maxConcurrency = builder.maxConcurrency;
+		this.maxQueueSize = builder.maxQueueSize;
+		this.priority = builder.priority;
+	}
+
+	/**
+	 * Creates a new builder.
+	 * @param <R> the type of the scheduled requests
+	 * @return a new builder
+	 */
+	public static <R> Builder<R> builder() {
+		return new Builder<>();
+	}
+
+	/**
+	 * Schedules a request. The handler is invoked once the request is dispatched.
+	 * @param source identifies the server that sent the request; requests are compared by
+	 * the identity of their source
+	 * @param request the request
+	 * @param handler handles the request
+	 * @param <T> the type of the result
+	 * @return a Mono emitting the result of the handler
+	 */
+	public <T> Mono<T> schedule(Object source, R request, Function<R, Mono<T>> handler) {
+		Assert.notNull(source, "Source must not be null");
+		Assert.notNull(handler, "Handler must not be null");
+		return Mono.create(sink -> {
+			Task<T> task = new Task<>(source, this.priority.applyAsInt(request), request, handler, sink);
+			sink.onCancel(task::cancel);
+			submit(task);
+		});
+	}
+
+	/**
+	 * Returns a snapshot of the scheduler's counters.
+	 * @return the current metrics
+	 */
+	public Metrics metrics() {
+		int queued;
+		int inFlight;
+		synchronized (this) {
+			queued = this.queued;
+			inFlight = this.inFlight;
+		}
+		long dispatched = this.dispatched.sum();
+		long totalQueueNanos = this.totalQueueNanos.sum();
+		return new Metrics(dispatched, this.rejected.sum(), queued, inFlight, Duration.ofNanos(totalQueueNanos),
+				Duration.ofNanos(this.maxQueueNanos.get()));
+	}
+
+	private void submit(Task<?> task) {
+		synchronized (this) {
+			if (this.inFlight < this.maxConcurrency) {
+				this.inFlight++;
+			}
+			else if (this.queued < this.maxQueueSize) {
+				Lane lane = this.lanes.computeIfAbsent(task.source, source -> new Lane());
+				if (lane.tasks.isEmpty()) {
+					this.turns.add(lane);
+				}
+				task.sequence = this.sequence++;
+				lane.tasks.add(task);
+				this.queued++;
+				return;
+			}
+			else {
+				this.rejected.increment();
+				task.sink.error(McpError.builder(McpSchema.ErrorCodes.SERVER_OVERLOADED)
+					.message("Too many pending requests")
+					.build());
+				return;
+			}
+		}
+		task.start();
+	}
+
+	private void release() {
+		Task<?> next;
+		synchronized (this) {
+			next = poll();
+			if (next == null) {
+				this.inFlight--;
+				return;
+			}
+		}
+		next.start();
+	}
+
+	// Must be called while holding the lock
+	private Task<?> poll() {
+		Lane chosen = null;
+		int chosenIndex = -1;
+		for (int i = 0; i < this.turns.size(); i++) {
+			Lane lane = this.turns.get(i);
+			if (chosen == null || lane.tasks.peek().priority > chosen.tasks.peek().priority) {
+				chosen = lane;
+				chosenIndex = i;
+			}
+		}
+		if (chosen == null) {
+			return null;
+		}
+		Task<?> task = chosen.tasks.poll();
+		this.turns.remove(chosenIndex);
+		if (!chosen.tasks.isEmpty()) {
+			this.turns.add(chosen);
+		}
+		else {
+			this.lanes.remove(task.source);
+		}
+		this.queued--;
+		return task;
+	}
+
+	// Returns whether the task was still waiting
+	private synchronized boolean remove(Task<?> task) {
+		Lane lane = this.lanes.get(task.source);
+		if (lane == null || !lane.tasks.remove(task)) {
+			return false;
+		}
+		this.queued--;
+		if (lane.tasks.isEmpty()) {
+			this.lanes.remove(task.source);
+			this.turns.remove(lane);
+		}
+		return true;
+	}
+
+	private final class Lane {
+
+		private final PriorityQueue<Task<?>> tasks = new PriorityQueue<>((a, b) -> a.priority != b.priority
+				? Integer.compare(b.priority, a.priority) : Long.compare(a.sequence, b.sequence));
+
+	}
+
+	private final class Task<T> {
+
+		private final Object source;
+
+		private final int priority;
+
+		private final R request;
+
+		private final Function<R, Mono<T>> handler;
+
+		private final MonoSink<T> sink;
+
+		private final long enqueuedAt = System.nanoTime();
+
+		private long sequence;
+
+		private volatile boolean cancelled;
+
+		private volatile Disposable running;
+
+		Task(Object source, int priority, R request, Function<R, Mono<T>> handler, MonoSink<T> sink) {
+			this.source = source;
+			this.priority = priority;
+			this.request = request;
+			this.handler = handler;
+			this.sink = sink;
+		}
+
+		void start() {
+			if (this.cancelled) {
+				release();
+				return;
+			}
+			long queueNanos = System.nanoTime() - this.enqueuedAt;
+			dispatched.increment();
+			totalQueueNanos.add(queueNanos);
+			maxQueueNanos.accumulateAndGet(queueNanos, Math::max);
+			Mono<T> result;
+			try {
+				result = this.handler.apply(this.request);
+			}
+			catch (Throwable e) {
+				result = Mono.error(e);
+			}
+			this.running = result.doFinally(signal -> release())
+				.subscribe(this.sink::success, this.sink::error, this.sink::success);
+			if (this.cancelled) {
+				this.running.dispose();
+			}
+		}
+
+		void cancel() {
+			this.cancelled = true;
+			if (!remove(this)) {
+				Disposable running = this.running;
+				if (running != null) {
+					running.dispose();
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Point-in-time counters of a {@link ClientRequestScheduler}. The dispatched and
+	 * rejected counts and the queue times are cumulative since the scheduler was created.
+	 *
+	 * @param dispatched requests passed to their handler
+	 * @param rejected requests rejected because the queue was full
+	 * @param currentlyQueued requests waiting right now
+	 * @param inFlight requests being handled right now
+	 * @param totalQueueTime the time dispatched requests spent waiting, summed
+	 * @param maxQueueTime the longest time a dispatched request spent waiting
+	 */
+	public record Metrics(long dispatched, long rejected, int currentlyQueued, int inFlight, Duration totalQueueTime,
+			Duration maxQueueTime) {
+
+		/**
+		 * Returns the average time dispatched requests spent waiting.
+		 * @return the average queue time, or zero if no request was dispatched
+		 */
+		public Duration averageQueueTime() {
+			return this.dispatched == 0 ? Duration.ZERO : this.totalQueueTime.dividedBy(this.dispatched);
+		}
+
+	}
+
+	/**
+	 * Builder for {@link ClientRequestScheduler}.
+	 *
+	 * @param <R> the type of the scheduled requests
+	 */
+	public static final class Builder<R> {
+
+		private int maxConcurrency = 4;
+
+		private int maxQueueSize = Integer.MAX_VALUE;
+
+		private ToIntFunction<R> priority = request -> 0;
+
+		private Builder() {
+		}
+
+		/**
+		 * Sets the maximum number of requests handled at once. Defaults to 4.
+		 * @param maxConcurrency the maximum number of requests in flight; must be
+		 * positive
+		 * @return this builder
+		 */
+		public Builder<R> maxConcurrency(int maxConcurrency) {
+			Assert.isTrue(maxConcurrency > 0, "Max concurrency must be positive");
+			this.maxConcurrency = maxConcurrency;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of waiting requests. By default the queue is not
+		 * bounded.
+		 * @param maxQueueSize the maximum number of waiting requests; must not be
+		 * negative
+		 * @return this builder
+		 */
+		public Builder<R> maxQueueSize(int maxQueueSize) {
+			Assert.isTrue(maxQueueSize >= 0, "Max queue size must not be negative");
+			this.maxQueueSize = maxQueueSize;
+			return this;
+		}
+
+		/**
+		 * Sets the function computing the priority of a request; requests with a higher
+		 * value are dispatched first. By default all requests have the same priority.
+		 * @param priority the priority function
+		 * @return this builder
+		 */
+		public Builder<R> priority(ToIntFunction<R> priority) {
+			Assert.notNull(priority, "Priority function must not be null");
+			this.priority = priority;
+			return this;
+		}
+
+		/**
+		 * Builds the scheduler.
+		 * @return a new scheduler
+		 */
+		public ClientRequestScheduler<R> build() {
+			return new ClientRequestScheduler<>(this);
+		}
+
+	}
+
+}
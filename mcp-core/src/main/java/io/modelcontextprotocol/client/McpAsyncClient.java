@@ -36,6 +36,7 @@ import io.modelcontextprotocol.spec.McpSchema.LoggingLevel;
 import io.modelcontextprotocol.spec.McpSchema.LoggingMessageNotification;
 import io.modelcontextprotocol.spec.McpSchema.PaginatedRequest;
 import io.modelcontextprotocol.spec.McpSchema.Root;
+import io.modelcontextprotocol.spec.PendingRequestTable;
 import io.modelcontextprotocol.util.Assert;
 import io.modelcontextprotocol.util.Utils;
 import org.slf4j.Logger;
@@ -183,6 +184,25 @@ public class McpAsyncClient {
 	 */
 	McpAsyncClient(McpClientTransport transport, Duration requestTimeout, Duration initializationTimeout,
 			JsonSchemaValidator jsonSchemaValidator, McpClientFeatures.Async features) {
+		this(transport, requestTimeout, initializationTimeout, jsonSchemaValidator, features,
+				PendingRequestTable.UNBOUNDED, PendingRequestTable.OverflowPolicy.FAIL_FAST);
+	}
+
+	/**
+	 * Create a new McpAsyncClient with a bound on the number of requests awaiting a
+	 * response from the server.
+	 * @param transport the transport to use.
+	 * @param requestTimeout the session request-response timeout.
+	 * @param initializationTimeout the max timeout to await for the client-server
+	 * @param jsonSchemaValidator the JSON schema validator to use for validating tool
+	 * responses against output schemas.
+	 * @param features the MCP Client supported features.
+	 * @param maxInFlightRequests maximum number of requests awaiting a response.
+	 * @param overflowPolicy what to do with requests beyond the limit.
+	 */
+	McpAsyncClient(McpClientTransport transport, Duration requestTimeout, Duration initializationTimeout,
+			JsonSchemaValidator jsonSchemaValidator, McpClientFeatures.Async features, int maxInFlightRequests,
+			PendingRequestTable.OverflowPolicy overflowPolicy) {
 
 		Assert.notNull(transport, "Transport must not be null");
 		Assert.notNull(requestTimeout, "Request timeout must not be null");
@@ -318,7 +338,7 @@ public class McpAsyncClient {
 
 		this.initializer = new LifecycleInitializer(clientCapabilities, clientInfo, transport.protocolVersions(),
 				initializationTimeout, ctx -> new McpClientSession(requestTimeout, transport, requestHandlers,
-						notificationHandlers, con -> con.contextWrite(ctx)),
+						notificationHandlers, con -> con.contextWrite(ctx), maxInFlightRequests, overflowPolicy),
 				postInitializationHook);
 
 		this.transport.setExceptionHandler(this.initializer::handleException);
@@ -556,10 +576,12 @@ public class McpAsyncClient {
 	// --------------------------
 	// Elicitation
 	// --------------------------
+	private static final TypeRef<ElicitRequest> ELICIT_REQUEST_TYPE_REF = new TypeRef<>() {
+	};
+
 	private RequestHandler<ElicitResult> elicitationCreateHandler() {
 		return params -> {
-			ElicitRequest request = transport.unmarshalFrom(params, new TypeRef<>() {
-			});
+			ElicitRequest request = transport.unmarshalFrom(params, ELICIT_REQUEST_TYPE_REF);
 
 			return this.elicitationHandler.apply(request);
 		};
@@ -844,12 +866,14 @@ public class McpAsyncClient {
 			.then());
 	}
 
+	private static final TypeRef<McpSchema.ResourcesUpdatedNotification> RESOURCES_UPDATED_NOTIFICATION_TYPE_REF = new TypeRef<>() {
+	};
+
 	private NotificationHandler asyncResourcesUpdatedNotificationHandler(
 			List<Function<List<McpSchema.ResourceContents>, Mono<Void>>> resourcesUpdateConsumers) {
 		return params -> {
 			McpSchema.ResourcesUpdatedNotification resourcesUpdatedNotification = transport.unmarshalFrom(params,
-					new TypeRef<>() {
-					});
+					RESOURCES_UPDATED_NOTIFICATION_TYPE_REF);
 
 			return readResource(new McpSchema.ReadResourceRequest(resourcesUpdatedNotification.uri()))
 				.flatMap(readResourceResult -> Flux.fromIterable(resourcesUpdateConsumers)
@@ -17,7 +17,10 @@ import io.modelcontextprotocol.spec.McpSchema.ElicitResult;
 import io.modelcontextprotocol.spec.McpSchema.Implementation;
 import io.modelcontextprotocol.spec.McpSchema.Root;
 import io.modelcontextprotocol.spec.McpTransport;
+import io.modelcontextprotocol.spec.PendingRequestTable;
+import io.modelcontextprotocol.spec.ProgressConflator;
 import io.modelcontextprotocol.util.Assert;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
@@ -143,6 +146,57 @@ public interface McpClient {
 		return new AsyncSpec(transport);
 	}
 
+	/**
+	 * Replaces the progress consumers of the given features with a single consumer that
+	 * conflates notifications before passing them to all of them.
+	 */
+	private static McpClientFeatures.Async withConflatedProgress(McpClientFeatures.Async features, Duration interval,
+			ProgressConflator.Counters counters) {
+		if (interval == null || features.progressConsumers().isEmpty()) {
+			return features;
+		}
+		List<Function<McpSchema.ProgressNotification, Mono<Void>>> progressConsumers = features.progressConsumers();
+		Function<McpSchema.ProgressNotification, Mono<Void>> conflated = ProgressConflator.conflating(interval,
+				notification -> Flux.fromIterable(progressConsumers)
+					.flatMap(consumer -> consumer.apply(notification))
+					.then(),
+				counters);
+		return new McpClientFeatures.Async(features.clientInfo(), features.clientCapabilities(), features.roots(),
+				features.toolsChangeConsumers(), features.resourcesChangeConsumers(),
+				features.resourcesUpdateConsumers(), features.promptsChangeConsumers(), features.loggingConsumers(),
+				List.of(conflated), features.samplingHandler(), features.elicitationHandler(),
+				features.enableCallToolSchemaCaching());
+	}
+
+	/**
+	 * Routes the sampling and elicitation requests of the given features through the
+	 * given schedulers, each client of a shared scheduler being a separate source.
+	 */
+	private static McpClientFeatures.Async withScheduledRequests(McpClientFeatures.Async features,
+			ClientRequestScheduler<CreateMessageRequest> samplingScheduler,
+			ClientRequestScheduler<ElicitRequest> elicitationScheduler) {
+		Function<CreateMessageRequest, Mono<CreateMessageResult>> samplingHandler = features.samplingHandler();
+		Function<ElicitRequest, Mono<ElicitResult>> elicitationHandler = features.elicitationHandler();
+		if ((samplingScheduler == null || samplingHandler == null)
+				&& (elicitationScheduler == null || elicitationHandler == null)) {
+			return features;
+		}
+		Object source = new Object();
+		if (samplingScheduler != null && samplingHandler != null) {
+			Function<CreateMessageRequest, Mono<CreateMessageResult>> handler = samplingHandler;
+			samplingHandler = request -> samplingScheduler.schedule(source, request, handler);
+		}
+		if (elicitationScheduler != null && elicitationHandler != null) {
+			Function<ElicitRequest, Mono<ElicitResult>> handler = elicitationHandler;
+			elicitationHandler = request -> elicitationScheduler.schedule(source, request, handler);
+		}
+		return new McpClientFeatures.Async(features.clientInfo(), features.clientCapabilities(), features.roots(),
+				features.toolsChangeConsumers(), features.resourcesChangeConsumers(),
+				features.resourcesUpdateConsumers(), features.promptsChangeConsumers(), features.loggingConsumers(),
+				features.progressConsumers(), samplingHandler, elicitationHandler,
+				features.enableCallToolSchemaCaching());
+	}
+
 	/**
 	 * Synchronous client specification. This class follows the builder pattern to provide
 	 * a fluent API for setting up clients with custom configurations.
@@ -167,6 +221,14 @@ public interface McpClient {
 
 		private Duration initializationTimeout = Duration.ofSeconds(20);
 
+		private int maxInFlightRequests = PendingRequestTable.UNBOUNDED;
+
+		private PendingRequestTable.OverflowPolicy overflowPolicy = PendingRequestTable.OverflowPolicy.FAIL_FAST;
+
+		private Duration progressNotificationInterval;
+
+		private ProgressConflator.Counters progressCounters;
+
 		private ClientCapabilities capabilities;
 
 		private Implementation clientInfo = new Implementation("Java SDK MCP Client", "0.15.0");
@@ -189,6 +251,10 @@ public interface McpClient {
 
 		private Function<ElicitRequest, ElicitResult> elicitationHandler;
 
+		private ClientRequestScheduler<CreateMessageRequest> samplingScheduler;
+
+		private ClientRequestScheduler<ElicitRequest> elicitationScheduler;
+
 		private Supplier<McpTransportContext> contextProvider = () -> McpTransportContext.EMPTY;
 
 		private JsonSchemaValidator jsonSchemaValidator;
@@ -227,6 +293,62 @@ public interface McpClient {
 			return this;
 		}
 
+		/**
+		 * Limits the number of requests awaiting a response from the server. Requests
+		 * beyond the limit either fail immediately or wait for a slot, depending on the
+		 * overflow policy. Queued requests count against the request timeout. By default
+		 * the number of requests in flight is not limited.
+		 * @param maxInFlightRequests maximum number of requests awaiting a response. Must
+		 * be positive.
+		 * @param overflowPolicy what to do with requests beyond the limit. Must not be
+		 * null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if maxInFlightRequests is not positive or
+		 * overflowPolicy is null
+		 */
+		public SyncSpec maxInFlightRequests(int maxInFlightRequests,
+				PendingRequestTable.OverflowPolicy overflowPolicy) {
+			Assert.isTrue(maxInFlightRequests > 0, "Max in-flight requests must be positive");
+			Assert.notNull(overflowPolicy, "Overflow policy must not be null");
+			this.maxInFlightRequests = maxInFlightRequests;
+			this.overflowPolicy = overflowPolicy;
+			return this;
+		}
+
+		/**
+		 * Conflates the progress notifications passed to the progress consumers. For each
+		 * progress token the consumers receive at most one notification per interval, and
+		 * only the latest one is kept; final notifications, whose progress reached the
+		 * total, are passed on immediately. By default every progress notification is
+		 * passed on.
+		 * @param progressNotificationInterval The minimum interval between two progress
+		 * notifications for the same token. Must not be null.
+		 * @param progressCounters Counters recording delivered and dropped notifications.
+		 * Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if an argument is null
+		 */
+		public SyncSpec progressNotificationInterval(Duration progressNotificationInterval,
+				ProgressConflator.Counters progressCounters) {
+			Assert.notNull(progressNotificationInterval, "Progress notification interval must not be null");
+			Assert.notNull(progressCounters, "Progress counters must not be null");
+			this.progressNotificationInterval = progressNotificationInterval;
+			this.progressCounters = progressCounters;
+			return this;
+		}
+
+		/**
+		 * Conflates the progress notifications passed to the progress consumers.
+		 * @param progressNotificationInterval The minimum interval between two progress
+		 * notifications for the same token. Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if progressNotificationInterval is null
+		 * @see #progressNotificationInterval(Duration, ProgressConflator.Counters)
+		 */
+		public SyncSpec progressNotificationInterval(Duration progressNotificationInterval) {
+			return progressNotificationInterval(progressNotificationInterval, new ProgressConflator.Counters());
+		}
+
 		/**
 		 * Sets the client capabilities that will be advertised to the server during
 		 * connection initialization. Capabilities define what features the client
@@ -318,6 +440,35 @@ public interface McpClient {
 			return this;
 		}
 
+		/**
+		 * Routes sampling requests through the given scheduler, which limits how many of
+		 * them are handled at once. A scheduler may be shared by several clients so that
+		 * the limit applies to all of their servers together. By default every sampling
+		 * request is passed to the handler as soon as it arrives.
+		 * @param samplingScheduler the scheduler. Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if samplingScheduler is null
+		 */
+		public SyncSpec samplingScheduler(ClientRequestScheduler<CreateMessageRequest> samplingScheduler) {
+			Assert.notNull(samplingScheduler, "Sampling scheduler must not be null");
+			this.samplingScheduler = samplingScheduler;
+			return this;
+		}
+
+		/**
+		 * Routes elicitation requests through the given scheduler, which limits how many
+		 * of them are handled at once. By default every elicitation request is passed to
+		 * the handler as soon as it arrives.
+		 * @param elicitationScheduler the scheduler. Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if elicitationScheduler is null
+		 */
+		public SyncSpec elicitationScheduler(ClientRequestScheduler<ElicitRequest> elicitationScheduler) {
+			Assert.notNull(elicitationScheduler, "Elicitation scheduler must not be null");
+			this.elicitationScheduler = elicitationScheduler;
+			return this;
+		}
+
 		/**
 		 * Adds a consumer to be notified when the available tools change. This allows the
 		 * client to react to changes in the server's tool capabilities, such as tools
@@ -490,11 +641,14 @@ public interface McpClient {
 					this.promptsChangeConsumers, this.loggingConsumers, this.progressConsumers, this.samplingHandler,
 					this.elicitationHandler, this.enableCallToolSchemaCaching);
 
-			McpClientFeatures.Async asyncFeatures = McpClientFeatures.Async.fromSync(syncFeatures);
+			McpClientFeatures.Async asyncFeatures = withScheduledRequests(
+					withConflatedProgress(McpClientFeatures.Async.fromSync(syncFeatures),
+							this.progressNotificationInterval, this.progressCounters),
+					this.samplingScheduler, this.elicitationScheduler);
 
 			return new McpSyncClient(new McpAsyncClient(transport, this.requestTimeout, this.initializationTimeout,
-					jsonSchemaValidator != null ? jsonSchemaValidator : McpJsonDefaults.getSchemaValidator(),
-					asyncFeatures), this.contextProvider);
+					jsonSchemaValidator != null ? jsonSchemaValidator : McpJsonDefaults.getLazySchemaValidator(),
+					asyncFeatures, this.maxInFlightRequests, this.overflowPolicy), this.contextProvider);
 		}
 
 	}
@@ -523,6 +677,14 @@ public interface McpClient {
 
 		private Duration initializationTimeout = Duration.ofSeconds(20);
 
+		private int maxInFlightRequests = PendingRequestTable.UNBOUNDED;
+
+		private PendingRequestTable.OverflowPolicy overflowPolicy = PendingRequestTable.OverflowPolicy.FAIL_FAST;
+
+		private Duration progressNotificationInterval;
+
+		private ProgressConflator.Counters progressCounters;
+
 		private ClientCapabilities capabilities;
 
 		private Implementation clientInfo = new Implementation("Java SDK MCP Client", "0.15.0");
@@ -545,6 +707,10 @@ public interface McpClient {
 
 		private Function<ElicitRequest, Mono<ElicitResult>> elicitationHandler;
 
+		private ClientRequestScheduler<CreateMessageRequest> samplingScheduler;
+
+		private ClientRequestScheduler<ElicitRequest> elicitationScheduler;
+
 		private JsonSchemaValidator jsonSchemaValidator;
 
 		private boolean enableCallToolSchemaCaching = false; // Default to false
@@ -581,6 +747,62 @@ public interface McpClient {
 			return this;
 		}
 
+		/**
+		 * Limits the number of requests awaiting a response from the server. Requests
+		 * beyond the limit either fail immediately or wait for a slot, depending on the
+		 * overflow policy. Queued requests count against the request timeout. By default
+		 * the number of requests in flight is not limited.
+		 * @param maxInFlightRequests maximum number of requests awaiting a response. Must
+		 * be positive.
+		 * @param overflowPolicy what to do with requests beyond the limit. Must not be
+		 * null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if maxInFlightRequests is not positive or
+		 * overflowPolicy is null
+		 */
+		public AsyncSpec maxInFlightRequests(int maxInFlightRequests,
+				PendingRequestTable.OverflowPolicy overflowPolicy) {
+			Assert.isTrue(maxInFlightRequests > 0, "Max in-flight requests must be positive");
+			Assert.notNull(overflowPolicy, "Overflow policy must not be null");
+			this.maxInFlightRequests = maxInFlightRequests;
+			this.overflowPolicy = overflowPolicy;
+			return this;
+		}
+
+		/**
+		 * Conflates the progress notifications passed to the progress consumers. For each
+		 * progress token the consumers receive at most one notification per interval, and
+		 * only the latest one is kept; final notifications, whose progress reached the
+		 * total, are passed on immediately. By default every progress notification is
+		 * passed on.
+		 * @param progressNotificationInterval The minimum interval between two progress
+		 * notifications for the same token. Must not be null.
+		 * @param progressCounters Counters recording delivered and dropped notifications.
+		 * Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if an argument is null
+		 */
+		public AsyncSpec progressNotificationInterval(Duration progressNotificationInterval,
+				ProgressConflator.Counters progressCounters) {
+			Assert.notNull(progressNotificationInterval, "Progress notification interval must not be null");
+			Assert.notNull(progressCounters, "Progress counters must not be null");
+			this.progressNotificationInterval = progressNotificationInterval;
+			this.progressCounters = progressCounters;
+			return this;
+		}
+
+		/**
+		 * Conflates the progress notifications passed to the progress consumers.
+		 * @param progressNotificationInterval The minimum interval between two progress
+		 * notifications for the same token. Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if progressNotificationInterval is null
+		 * @see #progressNotificationInterval(Duration, ProgressConflator.Counters)
+		 */
+		public AsyncSpec progressNotificationInterval(Duration progressNotificationInterval) {
+			return progressNotificationInterval(progressNotificationInterval, new ProgressConflator.Counters());
+		}
+
 		/**
 		 * Sets the client capabilities that will be advertised to the server during
 		 * connection initialization. Capabilities define what features the client
@@ -672,6 +894,35 @@ public interface McpClient {
 			return this;
 		}
 
+		/**
+		 * Routes sampling requests through the given scheduler, which limits how many of
+		 * them are handled at once. A scheduler may be shared by several clients so that
+		 * the limit applies to all of their servers together. By default every sampling
+		 * request is passed to the handler as soon as it arrives.
+		 * @param samplingScheduler the scheduler. Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if samplingScheduler is null
+		 */
+		public AsyncSpec samplingScheduler(ClientRequestScheduler<CreateMessageRequest> samplingScheduler) {
+			Assert.notNull(samplingScheduler, "Sampling scheduler must not be null");
+			this.samplingScheduler = samplingScheduler;
+			return this;
+		}
+
+		/**
+		 * Routes elicitation requests through the given scheduler, which limits how many
+		 * of them are handled at once. By default every elicitation request is passed to
+		 * the handler as soon as it arrives.
+		 * @param elicitationScheduler the scheduler. Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if elicitationScheduler is null
+		 */
+		public AsyncSpec elicitationScheduler(ClientRequestScheduler<ElicitRequest> elicitationScheduler) {
+			Assert.notNull(elicitationScheduler, "Elicitation scheduler must not be null");
+			this.elicitationScheduler = elicitationScheduler;
+			return this;
+		}
+
 		/**
 		 * Adds a consumer to be notified when the available tools change. This allows the
 		 * client to react to changes in the server's tool capabilities, such as tools
@@ -827,13 +1078,16 @@ public interface McpClient {
 		 */
 		public McpAsyncClient build() {
 			var jsonSchemaValidator = (this.jsonSchemaValidator != null) ? this.jsonSchemaValidator
-					: McpJsonDefaults.getSchemaValidator();
-			return new McpAsyncClient(this.transport, this.requestTimeout, this.initializationTimeout,
-					jsonSchemaValidator,
+					: McpJsonDefaults.getLazySchemaValidator();
+			McpClientFeatures.Async features = withConflatedProgress(
 					new McpClientFeatures.Async(this.clientInfo, this.capabilities, this.roots,
 							this.toolsChangeConsumers, this.resourcesChangeConsumers, this.resourcesUpdateConsumers,
 							this.promptsChangeConsumers, this.loggingConsumers, this.progressConsumers,
-							this.samplingHandler, this.elicitationHandler, this.enableCallToolSchemaCaching));
+							this.samplingHandler, this.elicitationHandler, this.enableCallToolSchemaCaching),
+					this.progressNotificationInterval, this.progressCounters);
+			features = withScheduledRequests(features, this.samplingScheduler, this.elicitationScheduler);
+			return new McpAsyncClient(this.transport, this.requestTimeout, this.initializationTimeout,
+					jsonSchemaValidator, features, this.maxInFlightRequests, this.overflowPolicy);
 		}
 
 	}
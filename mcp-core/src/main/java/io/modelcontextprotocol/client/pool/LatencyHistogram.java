@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.client.pool;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with logarithmic (power of two) microsecond buckets.
+ * Bucket {@code i} counts samples in the range {@code [2^(i-1), 2^i)} microseconds, with
+ * bucket {@code 0} holding sub-microsecond samples. The last bucket absorbs everything
+ * above roughly 35 minutes.
+ *
+ * <p>
+ * Recording is a single atomic increment, so the histogram can be updated on the hot
+ * request path of every pooled endpoint. Percentiles are approximate and resolve to the
+ * upper bound of the bucket that contains the requested rank.
+ */
+public final class LatencyHistogram {
+
+	static final int BUCKET_COUNT = 32;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+	private final LongAdder count = new LongAdder();
+
+	private final LongAdder totalNanos = new LongAdder();
+
+	/**
+	 * Records a single latency sample.
+	 * @param nanos the observed latency in nanoseconds
+	 */
+	public void record(long nanos) {
+		long micros = Math.max(0, nanos) / 1000;
+		int bucket = Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(micros));
+		this.buckets.incrementAndGet(bucket);
+		this.count.increment();
+		this.totalNanos.add(Math.max(0, nanos));
+	}
+
+	/**
+	 * Returns the number of recorded samples.
+	 * @return the sample count
+	 */
+	public long count() {
+		return this.count.sum();
+	}
+
+	/**
+	 * Returns the mean of all recorded samples.
+	 * @return the mean latency, or {@link Duration#ZERO} if nothing was recorded
+	 */
+	public Duration mean() {
+		long samples = count();
+		return samples == 0 ? Duration.ZERO : Duration.ofNanos(this.totalNanos.sum() / samples);
+	}
+
+	/**
+	 * Returns the approximate latency at the given percentile.
+	 * @param percentile the percentile in the range {@code [0.0, 1.0]}
+	 * @return the upper bound of the bucket holding the percentile, or
+	 * {@link Duration#ZERO} if nothing was recorded
+	 */
+	public Duration percentile(double percentile) {
+		if (percentile < 0.0 || percentile > 1.0) {
+			throw new IllegalArgumentException("Percentile must be between 0.0 and 1.0");
+		}
+		long[] snapshot = snapshot();
+		long total = 0;
+		for (long bucketCount : snapshot) {
+			total += bucketCount;
+		}
+		if (total == 0) {
+			return Duration.ZERO;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile * total));
+		long seen = 0;
+		for (int i = 0; i < snapshot.length; i++) {
+			seen += snapshot[i];
+			if (seen >= rank) {
+				return Duration.ofNanos(bucketUpperBoundMicros(i) * 1000);
+			}
+		}
+		return Duration.ofNanos(bucketUpperBoundMicros(BUCKET_COUNT - 1) * 1000);
+	}
+
+	/**
+	 * Returns a point-in-time copy of the bucket counts.
+	 * @return the bucket counts, indexed as described in the class documentation
+	 */
+	public long[] snapshot() {
+		long[] snapshot = new long[BUCKET_COUNT];
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			snapshot[i] = this.buckets.get(i);
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Returns the exclusive upper bound, in microseconds, of the given bucket.
+	 * @param bucket the bucket index
+	 * @return the upper bound in microseconds
+	 */
+	public static long bucketUpperBoundMicros(int bucket) {
+		return 1L << bucket;
+	}
+
+}
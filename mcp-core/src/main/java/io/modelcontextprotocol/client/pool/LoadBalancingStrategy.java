@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.client.pool;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Strategy used by an {@link McpAsyncClientPool} to pick the endpoint that serves the
+ * next request.
+ *
+ * <p>
+ * Implementations receive the currently eligible endpoints (healthy endpoints, or all
+ * endpoints if none is healthy) and must be thread-safe.
+ */
+@FunctionalInterface
+public interface LoadBalancingStrategy {
+
+	/**
+	 * Selects the endpoint for the next request.
+	 * @param candidates the eligible endpoints, never empty
+	 * @return the selected endpoint
+	 */
+	PooledEndpoint select(List<PooledEndpoint> candidates);
+
+	/**
+	 * Picks the endpoint with the fewest outstanding requests. Ties are broken in a
+	 * round-robin fashion so that idle endpoints share the load evenly.
+	 * @return a least-outstanding-requests strategy
+	 */
+	static LoadBalancingStrategy leastOutstandingRequests() {
+		AtomicInteger offset = new AtomicInteger();
+		return candidates -> {
+			int size = candidates.size();
+			int start = Math.floorMod(offset.getAndIncrement(), size);
+			PooledEndpoint best = null;
+			for (int i = 0; i < size; i++) {
+				PooledEndpoint candidate = candidates.get((start + i) % size);
+				if (best == null || candidate.outstandingRequests() < best.outstandingRequests()) {
+					best = candidate;
+				}
+			}
+			return best;
+		};
+	}
+
+	/**
+	 * Picks the endpoint with the lowest EWMA latency weighted by its outstanding
+	 * requests ({@code ewma * (outstanding + 1)}). Endpoints without latency samples are
+	 * preferred so that every replica gets measured.
+	 * @return an EWMA latency strategy
+	 */
+	static LoadBalancingStrategy ewmaLatency() {
+		AtomicInteger offset = new AtomicInteger();
+		return candidates -> {
+			int size = candidates.size();
+			int start = Math.floorMod(offset.getAndIncrement(), size);
+			PooledEndpoint best = null;
+			double bestScore = Double.MAX_VALUE;
+			for (int i = 0; i < size; i++) {
+				PooledEndpoint candidate = candidates.get((start + i) % size);
+				double ewma = candidate.ewmaLatencyNanos();
+				if (ewma < 0) {
+					return candidate;
+				}
+				double score = ewma * (candidate.outstandingRequests() + 1);
+				if (score < bestScore) {
+					best = candidate;
+					bestScore = score;
+				}
+			}
+			return best;
+		};
+	}
+
+}
@@ -0,0 +1,503 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.client.pool;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import io.modelcontextprotocol.client.McpAsyncClient;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.GetPromptRequest;
+import io.modelcontextprotocol.spec.McpSchema.GetPromptResult;
+import io.modelcontextprotocol.spec.McpSchema.ListPromptsResult;
+import io.modelcontextprotocol.spec.McpSchema.ListResourcesResult;
+import io.modelcontextprotocol.spec.McpSchema.ListToolsResult;
+import io.modelcontextprotocol.spec.McpSchema.ReadResourceRequest;
+import io.modelcontextprotocol.spec.McpSchema.ReadResourceResult;
+import io.modelcontextprotocol.util.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * A facade over several {@link McpAsyncClient} instances connected to equivalent MCP
+ * servers (for example replicas of the same tool server behind different URLs).
+ *
+ * <p>
+ * Every request is routed to one endpoint chosen by a {@link LoadBalancingStrategy}.
+ * Endpoints are periodically pinged in the background and unhealthy endpoints are
+ * excluded from selection until a ping succeeds again. Idempotent requests
+ * ({@code tools/list}, {@code resources/list}, {@code resources/read},
+ * {@code prompts/list}) can optionally be hedged: if the first endpoint has not answered
+ * within the configured hedge delay, or fails before it, the same request is sent to a
+ * second endpoint and the first successful answer wins.
+ *
+ * <p>
+ * Per-endpoint metrics (outstanding requests, EWMA latency, errors and a
+ * {@link LatencyHistogram}) are available through {@link #getEndpoints()}.
+ *
+ * <pre>{@code
+ * McpAsyncClientPool pool = McpAsyncClientPool.builder()
+ * 	.endpoint("replica-a", McpClient.async(transportA).build())
+ * 	.endpoint("replica-b", McpClient.async(transportB).build())
+ * 	.loadBalancingStrategy(LoadBalancingStrategy.ewmaLatency())
+ * 	.hedgeDelay(Duration.ofMillis(200))
+ * 	.build();
+ *
+ * pool.initialize().block();
+ * CallToolResult result = pool.callTool(new CallToolRequest("search", Map.of())).block();
+ * }</pre>
+ *
+ * @see McpAsyncClient
+ * @see LoadBalancingStrategy
+ */
+public class McpAsyncClientPool {
+
+	private static final Logger logger = LoggerFactory.getLogger(McpAsyncClientPool.class);
+
+	private final List<PooledEndpoint> endpoints;
+
+	private final LoadBalancingStrategy loadBalancingStrategy;
+
+	private final Duration healthCheckInterval;
+
+	private final Duration healthCheckTimeout;
+
+	private final int unhealthyThreshold;
+
+	private final Duration hedgeDelay;
+
+	private final Scheduler scheduler;
+
+	private final LongAdder hedgedRequests = new LongAdder();
+
+	private final AtomicBoolean healthChecksStarted = new AtomicBoolean(false);
+
+	private volatile Disposable healthCheckSubscription;
+
+	McpAsyncClientPool(List<PooledEndpoint> endpoints, LoadBalancingStrategy loadBalancingStrategy,
+			Duration healthCheckInterval, Duration healthCheckTimeout, int unhealthyThreshold, Duration hedgeDelay,
+			Scheduler scheduler) {
+		this.endpoints = Collections.unmodifiableList(endpoints);
+		this.loadBalancingStrategy = loadBalancingStrategy;
+		this.healthCheckInterval = healthCheckInterval;
+		this.healthCheckTimeout = healthCheckTimeout;
+		this.unhealthyThreshold = unhealthyThreshold;
+		this.hedgeDelay = hedgeDelay;
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Creates a new builder for an {@link McpAsyncClientPool}.
+	 * @return a new builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Returns the endpoints managed by this pool, in registration order.
+	 * @return an unmodifiable list of endpoints
+	 */
+	public List<PooledEndpoint> getEndpoints() {
+		return this.endpoints;
+	}
+
+	/**
+	 * Returns how many hedge requests were sent to a second endpoint.
+	 * @return the number of hedged requests
+	 */
+	public long getHedgedRequestCount() {
+		return this.hedgedRequests.sum();
+	}
+
+	/**
+	 * Initializes every endpoint and starts the background health checks. Endpoints that
+	 * fail to initialize are marked unhealthy and recovered by later health checks. The
+	 * returned Mono fails only if no endpoint could be initialized.
+	 * @return a Mono completing once all endpoints attempted initialization
+	 */
+	public Mono<Void> initialize() {
+		return Flux.fromIterable(this.endpoints)
+			.flatMap(endpoint -> endpoint.client()
+				.initialize()
+				.doOnSuccess(result -> endpoint.healthCheckSucceeded())
+				.map(result -> true)
+				.onErrorResume(error -> {
+					logger.warn("Failed to initialize pool endpoint {}: {}", endpoint.name(), error.getMessage());
+					endpoint.healthCheckFailed(1);
+					return Mono.just(false);
+				}))
+			.reduce(false, (any, initialized) -> any || initialized)
+			.flatMap(anyInitialized -> {
+				startHealthChecks();
+				return anyInitialized ? Mono.<Void>empty()
+						: Mono.error(new IllegalStateException("None of the pool endpoints could be initialized"));
+			});
+	}
+
+	/**
+	 * Calls a tool on one of the pooled endpoints. Tool calls are never hedged since they
+	 * may have side effects.
+	 * @param callToolRequest the tool call request
+	 * @return the tool call result
+	 */
+	public Mono<CallToolResult> callTool(CallToolRequest callToolRequest) {
+		return execute(client -> client.callTool(callToolRequest));
+	}
+
+	/**
+	 * Lists the first page of tools, hedged if enabled.
+	 * @return the tool list
+	 */
+	public Mono<ListToolsResult> listTools() {
+		return listTools(McpSchema.FIRST_PAGE);
+	}
+
+	/**
+	 * Lists a page of tools, hedged if enabled.
+	 * @param cursor the pagination cursor
+	 * @return the tool list
+	 */
+	public Mono<ListToolsResult> listTools(String cursor) {
+		return executeIdempotent(client -> client.listTools(cursor));
+	}
+
+	/**
+	 * Lists the first page of resources, hedged if enabled.
+	 * @return the resource list
+	 */
+	public Mono<ListResourcesResult> listResources() {
+		return listResources(McpSchema.FIRST_PAGE);
+	}
+
+	/**
+	 * Lists a page of resources, hedged if enabled.
+	 * @param cursor the pagination cursor
+	 * @return the resource list
+	 */
+	public Mono<ListResourcesResult> listResources(String cursor) {
+		return executeIdempotent(client -> client.listResources(cursor));
+	}
+
+	/**
+	 * Reads a resource, hedged if enabled.
+	 * @param readResourceRequest the read request
+	 * @return the resource contents
+	 */
+	public Mono<ReadResourceResult> readResource(ReadResourceRequest readResourceRequest) {
+		return executeIdempotent(client -> client.readResource(readResourceRequest));
+	}
+
+	/**
+	 * Lists the first page of prompts, hedged if enabled.
+	 * @return the prompt list
+	 */
+	public Mono<ListPromptsResult> listPrompts() {
+		return listPrompts(McpSchema.FIRST_PAGE);
+	}
+
+	/**
+	 * Lists a page of prompts, hedged if enabled.
+	 * @param cursor the pagination cursor
+	 * @return the prompt list
+	 */
+	public Mono<ListPromptsResult> listPrompts(String cursor) {
+		return executeIdempotent(client -> client.listPrompts(cursor));
+	}
+
+	/**
+	 * Gets a prompt from one of the pooled endpoints.
+	 * @param getPromptRequest the prompt request
+	 * @return the prompt
+	 */
+	public Mono<GetPromptResult> getPrompt(GetPromptRequest getPromptRequest) {
+		return execute(client -> client.getPrompt(getPromptRequest));
+	}
+
+	/**
+	 * Runs an arbitrary operation against the endpoint picked by the load balancing
+	 * strategy, tracking it in the endpoint metrics.
+	 * @param <T> the result type
+	 * @param operation the operation to run
+	 * @return the operation result
+	 */
+	public <T> Mono<T> execute(Function<McpAsyncClient, Mono<T>> operation) {
+		return Mono.defer(() -> invoke(select(null), operation));
+	}
+
+	/**
+	 * Runs an idempotent operation, sending it to a second endpoint if the first one has
+	 * not answered within the hedge delay, or as soon as it fails. Behaves like
+	 * {@link #execute(Function)} if hedging is disabled or only one endpoint is eligible.
+	 * @param <T> the result type
+	 * @param operation the idempotent operation to run
+	 * @return the first successful result
+	 */
+	public <T> Mono<T> executeIdempotent(Function<McpAsyncClient, Mono<T>> operation) {
+		if (this.hedgeDelay == null) {
+			return execute(operation);
+		}
+		return Mono.defer(() -> {
+			PooledEndpoint primary = select(null);
+			if (eligibleEndpoints(primary).isEmpty()) {
+				return invoke(primary, operation);
+			}
+			// A primary failing before the hedge delay starts the hedge at once
+			Sinks.Empty<Void> primaryFailed = Sinks.empty();
+			Mono<T> primaryCall = invoke(primary, operation).doOnError(error -> primaryFailed.tryEmitEmpty());
+			Mono<Void> hedgeTrigger = Mono.firstWithSignal(Mono.delay(this.hedgeDelay, this.scheduler).then(),
+					primaryFailed.asMono());
+			Mono<T> hedgeCall = hedgeTrigger.then(Mono.defer(() -> {
+				PooledEndpoint secondary = select(primary);
+				if (secondary == null) {
+					return Mono.<T>empty();
+				}
+				logger.debug("Hedging request from endpoint {} to {}", primary.name(), secondary.name());
+				this.hedgedRequests.increment();
+				return invoke(secondary, operation);
+			}));
+			return Mono.firstWithValue(primaryCall, hedgeCall)
+				.onErrorMap(NoSuchElementException.class,
+						error -> error.getSuppressed().length > 0 ? error.getSuppressed()[0] : error);
+		});
+	}
+
+	/**
+	 * Stops the health checks and gracefully closes every pooled client.
+	 * @return a Mono completing once all clients are closed
+	 */
+	public Mono<Void> closeGracefully() {
+		return Mono.defer(() -> {
+			stopHealthChecks();
+			return Flux.fromIterable(this.endpoints)
+				.flatMap(endpoint -> endpoint.client().closeGracefully().onErrorResume(error -> {
+					logger.warn("Failed to close pool endpoint {}: {}", endpoint.name(), error.getMessage());
+					return Mono.empty();
+				}))
+				.then();
+		});
+	}
+
+	/**
+	 * Stops the health checks and immediately closes every pooled client.
+	 */
+	public void close() {
+		stopHealthChecks();
+		this.endpoints.forEach(endpoint -> endpoint.client().close());
+	}
+
+	private <T> Mono<T> invoke(PooledEndpoint endpoint, Function<McpAsyncClient, Mono<T>> operation) {
+		return Mono.defer(() -> {
+			endpoint.requestStarted();
+			long startNanos = System.nanoTime();
+			return operation.apply(endpoint.client())
+				.doOnSuccess(result -> endpoint.recordLatency(System.nanoTime() - startNanos))
+				.doOnError(error -> {
+					endpoint.recordLatency(System.nanoTime() - startNanos);
+					endpoint.recordError();
+				})
+				.doFinally(signal -> endpoint.requestFinished());
+		});
+	}
+
+	/**
+	 * Picks an endpoint among the healthy ones, falling back to all endpoints when none
+	 * is healthy.
+	 * @param excluded an endpoint to exclude from the selection, may be null
+	 * @return the selected endpoint, or null if no other endpoint is available
+	 */
+	private PooledEndpoint select(PooledEndpoint excluded) {
+		List<PooledEndpoint> candidates = eligibleEndpoints(excluded);
+		if (candidates.isEmpty()) {
+			return null;
+		}
+		return this.loadBalancingStrategy.select(candidates);
+	}
+
+	private List<PooledEndpoint> eligibleEndpoints(PooledEndpoint excluded) {
+		List<PooledEndpoint> healthy = new ArrayList<>(this.endpoints.size());
+		for (PooledEndpoint endpoint : this.endpoints) {
+			if (endpoint != excluded && endpoint.isHealthy()) {
+				healthy.add(endpoint);
+			}
+		}
+		if (!healthy.isEmpty() || excluded != null) {
+			return healthy;
+		}
+		return this.endpoints;
+	}
+
+	private void startHealthChecks() {
+		if (this.healthCheckInterval == null || !this.healthChecksStarted.compareAndSet(false, true)) {
+			return;
+		}
+		// Ticks that fire while a previous round is still waiting on slow endpoints are
+		// skipped rather than queued
+		this.healthCheckSubscription = Flux.interval(this.healthCheckInterval, this.scheduler)
+			.onBackpressureDrop()
+			.concatMap(tick -> Flux.fromIterable(this.endpoints).flatMap(this::checkHealth).then(), 1)
+			.subscribe(null, error -> logger.error("Pool health check loop failed", error));
+	}
+
+	private void stopHealthChecks() {
+		Disposable subscription = this.healthCheckSubscription;
+		if (subscription != null) {
+			subscription.dispose();
+		}
+	}
+
+	private Mono<Void> checkHealth(PooledEndpoint endpoint) {
+		return Mono.defer(() -> {
+			Mono<?> probe = endpoint.client().isInitialized() ? endpoint.client().ping()
+					: endpoint.client().initialize();
+			return probe.timeout(this.healthCheckTimeout, this.scheduler)
+				.doOnSuccess(result -> endpoint.healthCheckSucceeded())
+				.onErrorResume(error -> {
+					boolean wasHealthy = endpoint.isHealthy();
+					endpoint.healthCheckFailed(this.unhealthyThreshold);
+					if (wasHealthy && !endpoint.isHealthy()) {
+						logger.warn("Pool endpoint {} marked unhealthy: {}", endpoint.name(), error.getMessage());
+					}
+					return Mono.empty();
+				})
+				.then();
+		});
+	}
+
+	/**
+	 * Builder for {@link McpAsyncClientPool}.
+	 */
+	public static class Builder {
+
+		private final Map<String, McpAsyncClient> clients = new LinkedHashMap<>();
+
+		private LoadBalancingStrategy loadBalancingStrategy = LoadBalancingStrategy.leastOutstandingRequests();
+
+		private Duration healthCheckInterval = Duration.ofSeconds(30);
+
+		private Duration healthCheckTimeout = Duration.ofSeconds(5);
+
+		private int unhealthyThreshold = 2;
+
+		private Duration hedgeDelay;
+
+		private Scheduler scheduler = Schedulers.parallel();
+
+		/**
+		 * Adds an endpoint to the pool.
+		 * @param name a unique name identifying the endpoint in logs and metrics
+		 * @param client the client connected to the endpoint
+		 * @return this builder
+		 */
+		public Builder endpoint(String name, McpAsyncClient client) {
+			Assert.hasText(name, "Endpoint name must not be empty");
+			Assert.notNull(client, "Client must not be null");
+			Assert.isTrue(!this.clients.containsKey(name), "Duplicate endpoint name: " + name);
+			this.clients.put(name, client);
+			return this;
+		}
+
+		/**
+		 * Sets the strategy used to pick the endpoint serving a request. Defaults to
+		 * {@link LoadBalancingStrategy#leastOutstandingRequests()}.
+		 * @param loadBalancingStrategy the strategy
+		 * @return this builder
+		 */
+		public Builder loadBalancingStrategy(LoadBalancingStrategy loadBalancingStrategy) {
+			Assert.notNull(loadBalancingStrategy, "Load balancing strategy must not be null");
+			this.loadBalancingStrategy = loadBalancingStrategy;
+			return this;
+		}
+
+		/**
+		 * Sets the interval between background health check pings. A null interval
+		 * disables health checks. Defaults to 30 seconds.
+		 * @param healthCheckInterval the interval, or null
+		 * @return this builder
+		 */
+		public Builder healthCheckInterval(Duration healthCheckInterval) {
+			this.healthCheckInterval = healthCheckInterval;
+			return this;
+		}
+
+		/**
+		 * Sets how long a health check ping may take before it counts as failed. Defaults
+		 * to 5 seconds.
+		 * @param healthCheckTimeout the timeout
+		 * @return this builder
+		 */
+		public Builder healthCheckTimeout(Duration healthCheckTimeout) {
+			Assert.notNull(healthCheckTimeout, "Health check timeout must not be null");
+			this.healthCheckTimeout = healthCheckTimeout;
+			return this;
+		}
+
+		/**
+		 * Sets the number of consecutive failed health checks after which an endpoint is
+		 * considered unhealthy. Defaults to 2.
+		 * @param unhealthyThreshold the threshold, at least 1
+		 * @return this builder
+		 */
+		public Builder unhealthyThreshold(int unhealthyThreshold) {
+			Assert.isTrue(unhealthyThreshold > 0, "Unhealthy threshold must be positive");
+			this.unhealthyThreshold = unhealthyThreshold;
+			return this;
+		}
+
+		/**
+		 * Enables hedging of idempotent requests: if the first endpoint has not answered
+		 * within the given delay the request is also sent to a second endpoint. A null
+		 * delay disables hedging, which is the default.
+		 * @param hedgeDelay the hedge delay, or null
+		 * @return this builder
+		 */
+		public Builder hedgeDelay(Duration hedgeDelay) {
+			this.hedgeDelay = hedgeDelay;
+			return this;
+		}
+
+		/**
+		 * Sets the scheduler used for health checks and hedge timers. Defaults to
+		 * {@link Schedulers#parallel()}.
+		 * @param scheduler the scheduler
+		 * @return this builder
+		 */
+		public Builder scheduler(Scheduler scheduler) {
+			Assert.notNull(scheduler, "Scheduler must not be null");
+			this.scheduler = scheduler;
+			return this;
+		}
+
+		/**
+		 * Builds the pool.
+		 * @return a new {@link McpAsyncClientPool}
+		 */
+		public McpAsyncClientPool build() {
+			Assert.isTrue(!this.clients.isEmpty(), "At least one endpoint must be configured");
+			List<PooledEndpoint> endpoints = new ArrayList<>(this.clients.size());
+			this.clients.forEach((name, client) -> endpoints.add(new PooledEndpoint(name, client)));
+			return new McpAsyncClientPool(endpoints, this.loadBalancingStrategy, this.healthCheckInterval,
+					this.healthCheckTimeout, this.unhealthyThreshold, this.hedgeDelay, this.scheduler);
+		}
+
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.client.pool;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.modelcontextprotocol.client.McpAsyncClient;
+import io.modelcontextprotocol.util.Assert;
+
+/**
+ * A single MCP server replica managed by an {@link McpAsyncClientPool}. Tracks the number
+ * of outstanding requests, an exponentially weighted moving average (EWMA) of the
+ * observed latency, the health state reported by background pings and a
+ * {@link LatencyHistogram} of all completed requests.
+ */
+public final class PooledEndpoint {
+
+	/**
+	 * Smoothing factor applied to every new latency sample.
+	 */
+	static final double EWMA_ALPHA = 0.3;
+
+	private final String name;
+
+	private final McpAsyncClient client;
+
+	private final AtomicInteger outstandingRequests = new AtomicInteger();
+
+	/**
+	 * EWMA latency in nanoseconds, stored as the raw bits of a double so that it can be
+	 * updated with a CAS loop.
+	 */
+	private final AtomicLong ewmaLatencyBits = new AtomicLong(Double.doubleToRawLongBits(-1.0));
+
+	private final AtomicInteger consecutiveHealthCheckFailures = new AtomicInteger();
+
+	private final LongAdder errorCount = new LongAdder();
+
+	private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+	private volatile boolean healthy = true;
+
+	PooledEndpoint(String name, McpAsyncClient client) {
+		Assert.hasText(name, "Endpoint name must not be empty");
+		Assert.notNull(client, "Client must not be null");
+		this.name = name;
+		this.client = client;
+	}
+
+	/**
+	 * Returns the name this endpoint was registered with.
+	 * @return the endpoint name
+	 */
+	public String name() {
+		return this.name;
+	}
+
+	/**
+	 * Returns the client bound to this endpoint.
+	 * @return the client
+	 */
+	public McpAsyncClient client() {
+		return this.client;
+	}
+
+	/**
+	 * Returns the number of requests currently in flight on this endpoint.
+	 * @return the outstanding request count
+	 */
+	public int outstandingRequests() {
+		return this.outstandingRequests.get();
+	}
+
+	/**
+	 * Returns the EWMA of the observed request latency.
+	 * @return the smoothed latency, or {@link Duration#ZERO} before the first sample
+	 */
+	public Duration ewmaLatency() {
+		double ewma = ewmaLatencyNanos();
+		return ewma < 0 ? Duration.ZERO : Duration.ofNanos((long) ewma);
+	}
+
+	/**
+	 * Returns whether the last health checks succeeded.
+	 * @return true if the endpoint is considered healthy
+	 */
+	public boolean isHealthy() {
+		return this.healthy;
+	}
+
+	/**
+	 * Returns the number of requests that completed with an error on this endpoint.
+	 * @return the error count
+	 */
+	public long errorCount() {
+		return this.errorCount.sum();
+	}
+
+	/**
+	 * Returns the latency histogram of all completed requests on this endpoint.
+	 * @return the latency histogram
+	 */
+	public LatencyHistogram latencyHistogram() {
+		return this.latencyHistogram;
+	}
+
+	double ewmaLatencyNanos() {
+		return Double.longBitsToDouble(this.ewmaLatencyBits.get());
+	}
+
+	void requestStarted() {
+		this.outstandingRequests.incrementAndGet();
+	}
+
+	void requestFinished() {
+		this.outstandingRequests.decrementAndGet();
+	}
+
+	void recordLatency(long nanos) {
+		this.latencyHistogram.record(nanos);
+		long current;
+		long next;
+		do {
+			current = this.ewmaLatencyBits.get();
+			double ewma = Double.longBitsToDouble(current);
+			double updated = ewma < 0 ? nanos : ewma + EWMA_ALPHA * (nanos - ewma);
+			next = Double.doubleToRawLongBits(updated);
+		}
+		while (!this.ewmaLatencyBits.compareAndSet(current, next));
+	}
+
+	void recordError() {
+		this.errorCount.increment();
+	}
+
+	void healthCheckSucceeded() {
+		this.consecutiveHealthCheckFailures.set(0);
+		this.healthy = true;
+	}
+
+	void healthCheckFailed(int unhealthyThreshold) {
+		if (this.consecutiveHealthCheckFailures.incrementAndGet() >= unhealthyThreshold) {
+			this.healthy = false;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "PooledEndpoint[name=" + this.name + ", healthy=" + this.healthy + ", outstanding="
+				+ this.outstandingRequests.get() + ", ewmaLatency=" + ewmaLatency() + "]";
+	}
+
+}
@@ -0,0 +1,454 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.client.pool;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import io.modelcontextprotocol.client.McpAsyncClient;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.transport.ServerParameters;
+import io.modelcontextprotocol.client.transport.StdioClientTransport;
+import io.modelcontextprotocol.json.McpJsonDefaults;
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.spec.McpClientTransport;
+import io.modelcontextprotocol.spec.TransportExecutors;
+import io.modelcontextprotocol.util.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * A pool of initialized {@link McpAsyncClient clients} backed by stdio server processes,
+ * keyed by {@link ServerParameters}.
+ *
+ * <p>
+ * Spawning a server process and running the {@code initialize} handshake usually
+ * dominates the latency of the first call to a stdio tool server. This pool keeps idle
+ * clients around after use and can {@link #warmUp(ServerParameters, int) spawn} them
+ * ahead of time, so that {@link #acquire(ServerParameters)} usually hands out a client
+ * that is ready to serve requests. An idle client is pinged before it is leased and
+ * replaced if the ping fails. Clients idle for longer than the configured maximum idle
+ * time are closed in the background. Cancelling an acquisition puts the idle client it
+ * was checking back into the pool, and closes a client it was spawning.
+ *
+ * <p>
+ * A leased client is returned with {@link Lease#release()}, or discarded with
+ * {@link Lease#invalidate()} if it should not be reused. A client keeps the state it
+ * negotiated with its server, such as resource subscriptions or the logging level, across
+ * leases.
+ *
+ * <pre>{@code
+ * StdioClientPool pool = StdioClientPool.builder()
+ * 	.clientFactory(transport -> McpClient.async(transport).requestTimeout(Duration.ofSeconds(30)).build())
+ * 	.build();
+ *
+ * pool.warmUp(parameters, 2).block();
+ * try (StdioClientPool.Lease lease = pool.acquire(parameters).block()) {
+ * 	lease.client().callTool(new CallToolRequest("search", Map.of())).block();
+ * }
+ * }</pre>
+ *
+ * @see StdioClientTransport
+ */
+public class StdioClientPool {
+
+	private static final Logger logger = LoggerFactory.getLogger(StdioClientPool.class);
+
+	private final Function<McpClientTransport, McpAsyncClient> clientFactory;
+
+	private final McpJsonMapper jsonMapper;
+
+	private final TransportExecutors transportExecutors;
+
+	private final int maxIdlePerServer;
+
+	private final Duration maxIdleTime;
+
+	private final Duration healthCheckTimeout;
+
+	private final Scheduler scheduler;
+
+	private final Map<ServerParameters, ConcurrentLinkedDeque<IdleClient>> idleClients = new ConcurrentHashMap<>();
+
+	private final AtomicBoolean closed = new AtomicBoolean(false);
+
+	private final Disposable reaper;
+
+	StdioClientPool(Function<McpClientTransport, McpAsyncClient> clientFactory, McpJsonMapper jsonMapper,
+			TransportExecutors transportExecutors, int maxIdlePerServer, Duration maxIdleTime, Duration reapInterval,
+			Duration healthCheckTimeout, Scheduler scheduler) {
+		this.clientFactory = clientFactory;
+		this.jsonMapper = jsonMapper;
+		this.transportExecutors = transportExecutors;
+		this.maxIdlePerServer = maxIdlePerServer;
+		this.maxIdleTime = maxIdleTime;
+		this.healthCheckTimeout = healthCheckTimeout;
+		this.scheduler = scheduler;
+		this.reaper = maxIdleTime == null ? null : Flux.interval(reapInterval, scheduler)
+			.subscribe(tick -> reapIdleClients(), error -> logger.error("Pool reaper failed", error));
+	}
+
+	/**
+	 * Creates a new builder for a {@link StdioClientPool}.
+	 * @return a new builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Spawns and initializes server processes until the given number of idle clients is
+	 * available for the server, capped at the maximum number of idle clients.
+	 * @param parameters the server to spawn
+	 * @param count the number of idle clients to have ready
+	 * @return a Mono completing once the clients are initialized
+	 */
+	public Mono<Void> warmUp(ServerParameters parameters, int count) {
+		Assert.notNull(parameters, "Server parameters must not be null");
+		return Mono.defer(() -> {
+			int missing = Math.min(count, this.maxIdlePerServer) - idleCount(parameters);
+			return Flux.range(0, Math.max(missing, 0))
+				.flatMap(i -> spawn(parameters))
+				.doOnNext(client -> offerIdle(parameters, client))
+				.then();
+		});
+	}
+
+	/**
+	 * Leases a client for the given server, reusing an idle client that answers a ping or
+	 * spawning and initializing a new server process otherwise.
+	 * @param parameters the server to connect to
+	 * @return the lease
+	 */
+	public Mono<Lease> acquire(ServerParameters parameters) {
+		Assert.notNull(parameters, "Server parameters must not be null");
+		return Mono.defer(() -> {
+			if (this.closed.get()) {
+				return Mono.error(new IllegalStateException("The pool has been closed"));
+			}
+			IdleClient idle = pollIdle(parameters);
+			if (idle == null) {
+				return spawn(parameters).map(client -> new Lease(parameters, client));
+			}
+			// Whoever settles first owns the client: the ping leasing it, or a cancel
+			// putting it back
+			AtomicBoolean settled = new AtomicBoolean(false);
+			return idle.client()
+				.ping()
+				.timeout(this.healthCheckTimeout, this.scheduler)
+				.filter(pong -> settled.compareAndSet(false, true))
+				.map(pong -> new Lease(parameters, idle.client()))
+				.doOnCancel(() -> {
+					if (settled.compareAndSet(false, true)) {
+						offerIdle(parameters, idle.client());
+					}
+				})
+				.onErrorResume(error -> {
+					logger.debug("Discarding idle client for {} that failed its health check: {}",
+							parameters.getCommand(), error.getMessage());
+					discard(idle.client());
+					return acquire(parameters);
+				});
+		});
+	}
+
+	/**
+	 * Returns the number of idle clients available for the given server.
+	 * @param parameters the server
+	 * @return the idle client count
+	 */
+	public int idleCount(ServerParameters parameters) {
+		ConcurrentLinkedDeque<IdleClient> idle = this.idleClients.get(parameters);
+		return idle != null ? idle.size() : 0;
+	}
+
+	/**
+	 * Stops the reaper and gracefully closes every idle client. Clients leased at that
+	 * time are closed when they are released.
+	 * @return a Mono completing once the idle clients are closed
+	 */
+	public Mono<Void> closeGracefully() {
+		return Mono.defer(() -> {
+			if (!this.closed.compareAndSet(false, true)) {
+				return Mono.empty();
+			}
+			if (this.reaper != null) {
+				this.reaper.dispose();
+			}
+			return Flux.fromIterable(this.idleClients.values())
+				.flatMapIterable(idle -> idle)
+				.filter(IdleClient::claim)
+				.flatMap(idle -> closeQuietly(idle.client()))
+				.then(Mono.fromRunnable(this.idleClients::clear));
+		});
+	}
+
+	private Mono<McpAsyncClient> spawn(ServerParameters parameters) {
+		return Mono.defer(() -> {
+			McpAsyncClient client = this.clientFactory
+				.apply(new StdioClientTransport(parameters, this.jsonMapper, this.transportExecutors));
+			return client.initialize()
+				.doOnCancel(() -> discard(client))
+				.thenReturn(client)
+				.onErrorResume(error -> closeQuietly(client).then(Mono.error(error)));
+		});
+	}
+
+	private IdleClient pollIdle(ServerParameters parameters) {
+		ConcurrentLinkedDeque<IdleClient> idle = this.idleClients.get(parameters);
+		if (idle == null) {
+			return null;
+		}
+		IdleClient candidate;
+		while ((candidate = idle.pollFirst()) != null) {
+			if (candidate.claim()) {
+				return candidate;
+			}
+		}
+		return null;
+	}
+
+	private void offerIdle(ServerParameters parameters, McpAsyncClient client) {
+		ConcurrentLinkedDeque<IdleClient> idle = this.idleClients.computeIfAbsent(parameters,
+				key -> new ConcurrentLinkedDeque<>());
+		if (this.closed.get() || idle.size() >= this.maxIdlePerServer) {
+			discard(client);
+			return;
+		}
+		// Most recently used first, so that the reaper finds the oldest at the tail
+		idle.offerFirst(new IdleClient(client, this.scheduler.now(TimeUnit.NANOSECONDS)));
+	}
+
+	private void reapIdleClients() {
+		long deadline = this.scheduler.now(TimeUnit.NANOSECONDS) - this.maxIdleTime.toNanos();
+		this.idleClients.values().forEach(idle -> idle.removeIf(candidate -> {
+			if (candidate.idleSinceNanos() - deadline <= 0 && candidate.claim()) {
+				logger.debug("Closing client idle for longer than {}", this.maxIdleTime);
+				discard(candidate.client());
+				return true;
+			}
+			return false;
+		}));
+	}
+
+	private void discard(McpAsyncClient client) {
+		closeQuietly(client).subscribe();
+	}
+
+	private static Mono<Void> closeQuietly(McpAsyncClient client) {
+		return client.closeGracefully().onErrorResume(error -> {
+			logger.warn("Failed to close pooled client: {}", error.getMessage());
+			return Mono.empty();
+		});
+	}
+
+	private record IdleClient(McpAsyncClient client, long idleSinceNanos, AtomicBoolean claimed) {
+
+		IdleClient(McpAsyncClient client, long idleSinceNanos) {
+			this(client, idleSinceNanos, new AtomicBoolean(false));
+		}
+
+		/**
+		 * Takes ownership of the client, which is either leased or closed afterwards.
+		 * @return false if someone else took ownership first
+		 */
+		boolean claim() {
+			return this.claimed.compareAndSet(false, true);
+		}
+
+	}
+
+	/**
+	 * A client leased from the pool. Closing the lease releases it.
+	 */
+	public final class Lease implements AutoCloseable {
+
+		private final ServerParameters parameters;
+
+		private final McpAsyncClient client;
+
+		private final AtomicBoolean returned = new AtomicBoolean(false);
+
+		private Lease(ServerParameters parameters, McpAsyncClient client) {
+			this.parameters = parameters;
+			this.client = client;
+		}
+
+		/**
+		 * Returns the leased client, which must not be used after the lease is released.
+		 * @return the client
+		 */
+		public McpAsyncClient client() {
+			return this.client;
+		}
+
+		/**
+		 * Returns the client to the pool, or closes it if the pool is full or closed.
+		 * Subsequent calls have no effect.
+		 */
+		public void release() {
+			if (this.returned.compareAndSet(false, true)) {
+				offerIdle(this.parameters, this.client);
+			}
+		}
+
+		/**
+		 * Closes the client instead of returning it to the pool, for instance after it
+		 * failed in a way that makes it unfit for reuse. Subsequent calls have no effect.
+		 */
+		public void invalidate() {
+			if (this.returned.compareAndSet(false, true)) {
+				discard(this.client);
+			}
+		}
+
+		@Override
+		public void close() {
+			release();
+		}
+
+	}
+
+	/**
+	 * Builder for {@link StdioClientPool}.
+	 */
+	public static class Builder {
+
+		private Function<McpClientTransport, McpAsyncClient> clientFactory = transport -> McpClient.async(transport)
+			.build();
+
+		private McpJsonMapper jsonMapper;
+
+		private TransportExecutors transportExecutors = TransportExecutors.shared();
+
+		private int maxIdlePerServer = 4;
+
+		private Duration maxIdleTime = Duration.ofMinutes(5);
+
+		private Duration reapInterval = Duration.ofSeconds(30);
+
+		private Duration healthCheckTimeout = Duration.ofSeconds(5);
+
+		private Scheduler scheduler = Schedulers.parallel();
+
+		/**
+		 * Sets the factory creating a client over a new stdio transport, to configure
+		 * capabilities, handlers and timeouts. The factory must not initialize the
+		 * client. Defaults to {@code McpClient.async(transport).build()}.
+		 * @param clientFactory the client factory
+		 * @return this builder
+		 */
+		public Builder clientFactory(Function<McpClientTransport, McpAsyncClient> clientFactory) {
+			Assert.notNull(clientFactory, "Client factory must not be null");
+			this.clientFactory = clientFactory;
+			return this;
+		}
+
+		/**
+		 * Sets the JSON mapper used by the stdio transports. Defaults to
+		 * {@link McpJsonDefaults#getMapper()}.
+		 * @param jsonMapper the JSON mapper
+		 * @return this builder
+		 */
+		public Builder jsonMapper(McpJsonMapper jsonMapper) {
+			Assert.notNull(jsonMapper, "JsonMapper must not be null");
+			this.jsonMapper = jsonMapper;
+			return this;
+		}
+
+		/**
+		 * Sets the executors the stdio transports run their I/O on. Defaults to
+		 * {@link TransportExecutors#shared()}.
+		 * @param transportExecutors the transport executors
+		 * @return this builder
+		 */
+		public Builder transportExecutors(TransportExecutors transportExecutors) {
+			Assert.notNull(transportExecutors, "Transport executors must not be null");
+			this.transportExecutors = transportExecutors;
+			return this;
+		}
+
+		/**
+		 * Sets how many idle clients are kept per server. Defaults to 4.
+		 * @param maxIdlePerServer the maximum, at least 1
+		 * @return this builder
+		 */
+		public Builder maxIdlePerServer(int maxIdlePerServer) {
+			Assert.isTrue(maxIdlePerServer > 0, "Max idle per server must be positive");
+			this.maxIdlePerServer = maxIdlePerServer;
+			return this;
+		}
+
+		/**
+		 * Sets how long a client may stay idle before it is closed. A null duration keeps
+		 * idle clients until the pool is closed. Defaults to 5 minutes.
+		 * @param maxIdleTime the maximum idle time, or null
+		 * @return this builder
+		 */
+		public Builder maxIdleTime(Duration maxIdleTime) {
+			this.maxIdleTime = maxIdleTime;
+			return this;
+		}
+
+		/**
+		 * Sets how often idle clients are checked against the maximum idle time. Defaults
+		 * to 30 seconds.
+		 * @param reapInterval the interval
+		 * @return this builder
+		 */
+		public Builder reapInterval(Duration reapInterval) {
+			Assert.notNull(reapInterval, "Reap interval must not be null");
+			this.reapInterval = reapInterval;
+			return this;
+		}
+
+		/**
+		 * Sets how long the ping of an idle client may take before the client is
+		 * replaced. Defaults to 5 seconds.
+		 * @param healthCheckTimeout the timeout
+		 * @return this builder
+		 */
+		public Builder healthCheckTimeout(Duration healthCheckTimeout) {
+			Assert.notNull(healthCheckTimeout, "Health check timeout must not be null");
+			this.healthCheckTimeout = healthCheckTimeout;
+			return this;
+		}
+
+		/**
+		 * Sets the scheduler used for reaping, health check timeouts and idle time
+		 * tracking. Defaults to {@link Schedulers#parallel()}.
+		 * @param scheduler the scheduler
+		 * @return this builder
+		 */
+		public Builder scheduler(Scheduler scheduler) {
+			Assert.notNull(scheduler, "Scheduler must not be null");
+			this.scheduler = scheduler;
+			return this;
+		}
+
+		/**
+		 * Builds the pool.
+		 * @return a new {@link StdioClientPool}
+		 */
+		public StdioClientPool build() {
+			return new StdioClientPool(this.clientFactory,
+					this.jsonMapper == null ? McpJsonDefaults.getMapper() : this.jsonMapper, this.transportExecutors,
+					this.maxIdlePerServer, this.maxIdleTime, this.reapInterval, this.healthCheckTimeout,
+					this.scheduler);
+		}
+
+	}
+
+}
@@ -456,7 +456,7 @@ public class HttpClientSseClientTransport implements McpClientTransport {
 	private Mono<String> serializeMessage(final JSONRPCMessage message) {
 		return Mono.defer(() -> {
 			try {
-				return Mono.just(jsonMapper.writeValueAsString(message));
+				return Mono.just(McpSchema.serializeJsonRpcMessage(jsonMapper, message));
 			}
 			catch (IOException e) {
 				return Mono.error(new McpTransportException("Failed to serialize message", e));
@@ -5,11 +5,13 @@
 package io.modelcontextprotocol.client.transport;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandler;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Comparator;
@@ -31,7 +33,10 @@ import io.modelcontextprotocol.json.TypeRef;
 import io.modelcontextprotocol.spec.ClosedMcpTransportSession;
 import io.modelcontextprotocol.spec.DefaultMcpTransportSession;
 import io.modelcontextprotocol.spec.DefaultMcpTransportStream;
+import io.modelcontextprotocol.spec.HttpCompression;
+import io.modelcontextprotocol.spec.HttpContentCoding;
 import io.modelcontextprotocol.spec.HttpHeaders;
+import io.modelcontextprotocol.spec.McpBinaryFormat;
 import io.modelcontextprotocol.spec.McpClientTransport;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpTransportException;
@@ -129,10 +134,20 @@ public class HttpClientStreamableHttpTransport implements McpClientTransport {
 
 	private final String latestSupportedProtocolVersion;
 
+	/**
+	 * Compression of request and response bodies, or null if disabled.
+	 */
+	private final HttpCompression compression;
+
+	/**
+	 * Binary format of the messages sent, or null to send JSON.
+	 */
+	private final McpBinaryFormat binaryFormat;
+
 	private HttpClientStreamableHttpTransport(McpJsonMapper jsonMapper, HttpClient httpClient,
 			HttpRequest.Builder requestBuilder, String baseUri, String endpoint, boolean resumableStreams,
 			boolean openConnectionOnStartup, McpAsyncHttpClientRequestCustomizer httpRequestCustomizer,
-			List<String> supportedProtocolVersions) {
+			List<String> supportedProtocolVersions, HttpCompression compression, McpBinaryFormat binaryFormat) {
 		this.jsonMapper = jsonMapper;
 		this.httpClient = httpClient;
 		this.requestBuilder = requestBuilder;
@@ -147,6 +162,8 @@ public class HttpClientStreamableHttpTransport implements McpClientTransport {
 			.sorted(Comparator.reverseOrder())
 			.findFirst()
 			.get();
+		this.compression = compression;
+		this.binaryFormat = binaryFormat;
 	}
 
 	@Override
@@ -265,6 +282,11 @@ public class HttpClientStreamableHttpTransport implements McpClientTransport {
 					requestBuilder = requestBuilder.header(HttpHeaders.LAST_EVENT_ID, stream.lastId().get());
 				}
 
+				if (this.compression != null) {
+					requestBuilder = requestBuilder.header(HttpHeaders.ACCEPT_ENCODING,
+							this.compression.acceptEncoding());
+				}
+
 				var builder = requestBuilder.uri(uri)
 					.header(HttpHeaders.ACCEPT, TEXT_EVENT_STREAM)
 					.header("Cache-Control", "no-cache")
@@ -275,121 +297,116 @@ public class HttpClientStreamableHttpTransport implements McpClientTransport {
 				var transportContext = connectionCtx.getOrDefault(McpTransportContext.KEY, McpTransportContext.EMPTY);
 				return Mono.from(this.httpRequestCustomizer.customize(builder, "GET", uri, null, transportContext));
 			})
-				.flatMapMany(
-						requestBuilder -> Flux.<ResponseEvent>create(
-								sseSink -> this.httpClient
-									.sendAsync(requestBuilder.build(),
-											responseInfo -> ResponseSubscribers.sseToBodySubscriber(responseInfo,
-													sseSink))
-									.whenComplete((response, throwable) -> {
-										if (throwable != null) {
-											sseSink.error(throwable);
-										}
-										else {
-											logger.debug("SSE connection established successfully");
-										}
-									}))
-							.map(responseEvent -> (ResponseSubscribers.SseResponseEvent) responseEvent)
-							.flatMap(responseEvent -> {
-								int statusCode = responseEvent.responseInfo().statusCode();
-
-								if (statusCode >= 200 && statusCode < 300) {
-
-									if (MESSAGE_EVENT_TYPE.equals(responseEvent.sseEvent().event())) {
-										String data = responseEvent.sseEvent().data();
-										// Per 2025-11-25 spec (SEP-1699), servers may
-										// send SSE events
-										// with empty data to prime the client for
-										// reconnection.
-										// Skip these events as they contain no JSON-RPC
-										// message.
-										if (data == null || data.isBlank()) {
-											logger.debug("Skipping SSE event with empty data (stream primer)");
-											return Flux.empty();
-										}
-										try {
-											// We don't support batching ATM and probably
-											// won't since the next version considers
-											// removing it.
-											McpSchema.JSONRPCMessage message = McpSchema
-												.deserializeJsonRpcMessage(this.jsonMapper, data);
-
-											Tuple2<Optional<String>, Iterable<McpSchema.JSONRPCMessage>> idWithMessages = Tuples
-												.of(Optional.ofNullable(responseEvent.sseEvent().id()),
-														List.of(message));
-
-											McpTransportStream<Disposable> sessionStream = stream != null ? stream
-													: new DefaultMcpTransportStream<>(this.resumableStreams,
-															this::reconnect);
-											logger.debug("Connected stream {}", sessionStream.streamId());
-
-											return Flux.from(sessionStream.consumeSseStream(Flux.just(idWithMessages)));
-
-										}
-										catch (IOException ioException) {
-											return Flux.<McpSchema.JSONRPCMessage>error(new McpTransportException(
-													"Error parsing JSON-RPC message: " + responseEvent, ioException));
-										}
-									}
-									else {
-										logger.debug("Received SSE event with type: {}", responseEvent.sseEvent());
-										return Flux.empty();
-									}
+				.flatMapMany(requestBuilder -> Flux.<ResponseEvent>create(
+						sseSink -> this.httpClient
+							.sendAsync(requestBuilder.build(),
+									responseInfo -> ResponseSubscribers.sseToBodySubscriber(responseInfo, sseSink,
+											this.compression))
+							.whenComplete((response, throwable) -> {
+								if (throwable != null) {
+									sseSink.error(throwable);
 								}
-								else if (statusCode == METHOD_NOT_ALLOWED) { // NotAllowed
-									logger
-										.debug("The server does not support SSE streams, using request-response mode.");
-									return Flux.empty();
+								else {
+									logger.debug("SSE connection established successfully");
 								}
-								else if (statusCode == NOT_FOUND) {
-
-									if (transportSession != null && transportSession.sessionId().isPresent()) {
-										// only if the request was sent with a session id
-										// and the response is 404, we consider it a
-										// session not found error.
-										logger.debug("Session not found for session ID: {}",
-												transportSession.sessionId().get());
-										String sessionIdRepresentation = sessionIdOrPlaceholder(transportSession);
-										McpTransportSessionNotFoundException exception = new McpTransportSessionNotFoundException(
-												"Session not found for session ID: " + sessionIdRepresentation);
-										return Flux.<McpSchema.JSONRPCMessage>error(exception);
-									}
-									return Flux.<McpSchema.JSONRPCMessage>error(
-											new McpTransportException("Server Not Found. Status code:" + statusCode
-													+ ", response-event:" + responseEvent));
+							}))
+					.map(responseEvent -> (ResponseSubscribers.SseResponseEvent) responseEvent)
+					.flatMap(responseEvent -> {
+						int statusCode = responseEvent.responseInfo().statusCode();
+
+						if (statusCode >= 200 && statusCode < 300) {
+
+							if (MESSAGE_EVENT_TYPE.equals(responseEvent.sseEvent().event())) {
+								String data = responseEvent.sseEvent().data();
+								// Per 2025-11-25 spec (SEP-1699), servers may
+								// send SSE events
+								// with empty data to prime the client for
+								// reconnection.
+								// Skip these events as they contain no JSON-RPC
+								// message.
+								if (data == null || data.isBlank()) {
+									logger.debug("Skipping SSE event with empty data (stream primer)");
+									return Flux.empty();
 								}
-								else if (statusCode == BAD_REQUEST) {
-									if (transportSession != null && transportSession.sessionId().isPresent()) {
-										// only if the request was sent with a session id
-										// and thre response is 404, we consider it a
-										// session not found error.
-										String sessionIdRepresentation = sessionIdOrPlaceholder(transportSession);
-										McpTransportSessionNotFoundException exception = new McpTransportSessionNotFoundException(
-												"Session not found for session ID: " + sessionIdRepresentation);
-										return Flux.<McpSchema.JSONRPCMessage>error(exception);
-									}
-									return Flux.<McpSchema.JSONRPCMessage>error(
-											new McpTransportException("Bad Request. Status code:" + statusCode
-													+ ", response-event:" + responseEvent));
+								try {
+									// We don't support batching ATM and probably
+									// won't since the next version considers
+									// removing it.
+									McpSchema.JSONRPCMessage message = McpSchema
+										.deserializeJsonRpcMessage(this.jsonMapper, data);
 
-								}
+									Tuple2<Optional<String>, Iterable<McpSchema.JSONRPCMessage>> idWithMessages = Tuples
+										.of(Optional.ofNullable(responseEvent.sseEvent().id()), List.of(message));
+
+									McpTransportStream<Disposable> sessionStream = stream != null ? stream
+											: new DefaultMcpTransportStream<>(this.resumableStreams, this::reconnect);
+									logger.debug("Connected stream {}", sessionStream.streamId());
+
+									return Flux.from(sessionStream.consumeSseStream(Flux.just(idWithMessages)));
 
-								return Flux.<McpSchema.JSONRPCMessage>error(new McpTransportException(
-										"Received unrecognized SSE event type: " + responseEvent.sseEvent().event()));
-							}).<McpSchema
-									.JSONRPCMessage>flatMap(
-											jsonrpcMessage -> this.handler.get().apply(Mono.just(jsonrpcMessage)))
-							.onErrorMap(CompletionException.class, t -> t.getCause())
-							.onErrorComplete(t -> {
-								this.handleException(t);
-								return true;
-							})
-							.doFinally(s -> {
-								Disposable ref = disposableRef.getAndSet(null);
-								if (ref != null) {
-									transportSession.removeConnection(ref);
 								}
-							}))
+								catch (IOException ioException) {
+									return Flux.<McpSchema.JSONRPCMessage>error(new McpTransportException(
+											"Error parsing JSON-RPC message: " + responseEvent, ioException));
+								}
+							}
+							else {
+								logger.debug("Received SSE event with type: {}", responseEvent.sseEvent());
+								return Flux.empty();
+							}
+						}
+						else if (statusCode == METHOD_NOT_ALLOWED) { // NotAllowed
+							logger.debug("The server does not support SSE streams, using request-response mode.");
+							return Flux.empty();
+						}
+						else if (statusCode == NOT_FOUND) {
+
+							if (transportSession != null && transportSession.sessionId().isPresent()) {
+								// only if the request was sent with a session id
+								// and the response is 404, we consider it a
+								// session not found error.
+								logger.debug("Session not found for session ID: {}",
+										transportSession.sessionId().get());
+								String sessionIdRepresentation = sessionIdOrPlaceholder(transportSession);
+								McpTransportSessionNotFoundException exception = new McpTransportSessionNotFoundException(
+										"Session not found for session ID: " + sessionIdRepresentation);
+								return Flux.<McpSchema.JSONRPCMessage>error(exception);
+							}
+							return Flux.<McpSchema.JSONRPCMessage>error(
+									new McpTransportException("Server Not Found. Status code:" + statusCode
+											+ ", response-event:" + responseEvent));
+						}
+						else if (statusCode == BAD_REQUEST) {
+							if (transportSession != null && transportSession.sessionId().isPresent()) {
+								// only if the request was sent with a session id
+								// and thre response is 404, we consider it a
+								// session not found error.
+								String sessionIdRepresentation = sessionIdOrPlaceholder(transportSession);
+								McpTransportSessionNotFoundException exception = new McpTransportSessionNotFoundException(
+										"Session not found for session ID: " + sessionIdRepresentation);
+								return Flux.<McpSchema.JSONRPCMessage>error(exception);
+							}
+							return Flux.<McpSchema.JSONRPCMessage>error(new McpTransportException(
+									"Bad Request. Status code:" + statusCode + ", response-event:" + responseEvent));
+
+						}
+
+						return Flux.<McpSchema.JSONRPCMessage>error(new McpTransportException(
+								"Received unrecognized SSE event type: " + responseEvent.sseEvent().event()));
+					}).<McpSchema
+							.JSONRPCMessage>flatMap(
+									jsonrpcMessage -> this.handler.get().apply(Mono.just(jsonrpcMessage)))
+					.onErrorMap(CompletionException.class, t -> t.getCause())
+					.onErrorComplete(t -> {
+						this.handleException(t);
+						return true;
+					})
+					.doFinally(s -> {
+						Disposable ref = disposableRef.getAndSet(null);
+						if (ref != null) {
+							transportSession.removeConnection(ref);
+						}
+					}))
 				.contextWrite(ctx)
 				.subscribe();
 
@@ -406,15 +423,19 @@ public class HttpClientStreamableHttpTransport implements McpClientTransport {
 
 			String contentType = responseInfo.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElse("").toLowerCase();
 
-			if (contentType.contains(TEXT_EVENT_STREAM)) {
+			if (this.binaryFormat != null && contentType.contains(this.binaryFormat.contentType())) {
+				logger.debug("Received binary response, using byte array subscriber");
+				return ResponseSubscribers.binaryBodySubscriber(responseInfo, sink, this.compression);
+			}
+			else if (contentType.contains(TEXT_EVENT_STREAM)) {
 				// For SSE streams, use line subscriber that returns Void
 				logger.debug("Received SSE stream response, using line subscriber");
-				return ResponseSubscribers.sseToBodySubscriber(responseInfo, sink);
+				return ResponseSubscribers.sseToBodySubscriber(responseInfo, sink, this.compression);
 			}
 			else if (contentType.contains(APPLICATION_JSON)) {
 				// For JSON responses and others, use string subscriber
 				logger.debug("Received response, using string subscriber");
-				return ResponseSubscribers.aggregateBodySubscriber(responseInfo, sink);
+				return ResponseSubscribers.aggregateBodySubscriber(responseInfo, sink, this.compression);
 			}
 
 			logger.debug("Received Bodyless response, using discarding subscriber");
@@ -425,9 +446,41 @@ public class HttpClientStreamableHttpTransport implements McpClientTransport {
 
 	}
 
+	/**
+	 * Sets the body of a POST request, compressed with the preferred coding if request
+	 * compression is enabled and the body is at least the minimum size.
+	 */
+	private HttpRequest.Builder post(HttpRequest.Builder builder, byte[] content) {
+		if (this.compression == null) {
+			return builder.POST(HttpRequest.BodyPublishers.ofByteArray(content));
+		}
+		builder.header(HttpHeaders.ACCEPT_ENCODING, this.compression.acceptEncoding());
+		if (!this.compression.compressRequests() || content.length < this.compression.minSize()) {
+			return builder.POST(HttpRequest.BodyPublishers.ofByteArray(content));
+		}
+		HttpContentCoding coding = this.compression.codings().get(0);
+		try {
+			byte[] encoded = HttpCompression.encode(coding, content);
+			return builder.header(HttpHeaders.CONTENT_ENCODING, coding.name())
+				.POST(HttpRequest.BodyPublishers.ofByteArray(encoded));
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to compress request body", e);
+		}
+	}
+
 	public String toString(McpSchema.JSONRPCMessage message) {
 		try {
-			return this.jsonMapper.writeValueAsString(message);
+			return McpSchema.serializeJsonRpcMessage(this.jsonMapper, message);
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Failed to serialize JSON-RPC message", e);
+		}
+	}
+
+	private byte[] toBinary(McpSchema.JSONRPCMessage message) {
+		try {
+			return this.binaryFormat.write(this.jsonMapper, message);
 		}
 		catch (IOException e) {
 			throw new RuntimeException("Failed to serialize JSON-RPC message", e);
@@ -442,7 +495,8 @@ public class HttpClientStreamableHttpTransport implements McpClientTransport {
 			final McpTransportSession<Disposable> transportSession = this.activeSession.get();
 
 			var uri = Utils.resolveUri(this.baseUri, this.endpoint);
-			String jsonBody = this.toString(sentMessage);
+			byte[] binaryBody = this.binaryFormat != null ? this.toBinary(sentMessage) : null;
+			String jsonBody = binaryBody == null ? this.toString(sentMessage) : null;
 
 			Disposable connection = Mono.deferContextual(ctx -> {
 				HttpRequest.Builder requestBuilder = this.requestBuilder.copy();
@@ -452,14 +506,18 @@ public class HttpClientStreamableHttpTransport implements McpClientTransport {
 							transportSession.sessionId().get());
 				}
 
-				var builder = requestBuilder.uri(uri)
-					.header(HttpHeaders.ACCEPT, APPLICATION_JSON + ", " + TEXT_EVENT_STREAM)
-					.header(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON)
-					.header(HttpHeaders.CACHE_CONTROL, "no-cache")
-					.header(HttpHeaders.PROTOCOL_VERSION,
-							ctx.getOrDefault(McpAsyncClient.NEGOTIATED_PROTOCOL_VERSION,
-									this.latestSupportedProtocolVersion))
-					.POST(HttpRequest.BodyPublishers.ofString(jsonBody));
+				var builder = post(
+						requestBuilder.uri(uri)
+							.header(HttpHeaders.ACCEPT,
+									binaryBody != null ? this.binaryFormat.contentType() + ", " + APPLICATION_JSON
+											+ ", " + TEXT_EVENT_STREAM : APPLICATION_JSON + ", " + TEXT_EVENT_STREAM)
+							.header(HttpHeaders.CONTENT_TYPE,
+									binaryBody != null ? this.binaryFormat.contentType() : APPLICATION_JSON)
+							.header(HttpHeaders.CACHE_CONTROL, "no-cache")
+							.header(HttpHeaders.PROTOCOL_VERSION,
+									ctx.getOrDefault(McpAsyncClient.NEGOTIATED_PROTOCOL_VERSION,
+											this.latestSupportedProtocolVersion)),
+						binaryBody != null ? binaryBody : jsonBody.getBytes(StandardCharsets.UTF_8));
 				var transportContext = ctx.getOrDefault(McpTransportContext.KEY, McpTransportContext.EMPTY);
 				return Mono
 					.from(this.httpRequestCustomizer.customize(builder, "POST", uri, jsonBody, transportContext));
@@ -550,6 +608,23 @@ public class HttpClientStreamableHttpTransport implements McpClientTransport {
 								}
 							});
 					}
+					else if (this.binaryFormat != null && contentType.contains(this.binaryFormat.contentType())) {
+						deliveredSink.success();
+						byte[] data = ((ResponseSubscribers.BinaryResponseEvent) responseEvent).data();
+						if (sentMessage instanceof McpSchema.JSONRPCNotification) {
+							logger.warn("Notification: {} received non-compliant response of {} bytes", sentMessage,
+									data.length);
+							return Mono.empty();
+						}
+
+						try {
+							return Mono.just(this.binaryFormat.read(this.jsonMapper, data));
+						}
+						catch (IOException | IllegalArgumentException e) {
+							return Mono.error(new McpTransportException(
+									"Error deserializing JSON-RPC message: " + responseEvent, e));
+						}
+					}
 					else if (contentType.contains(APPLICATION_JSON)) {
 						deliveredSink.success();
 						String data = ((ResponseSubscribers.AggregateResponseEvent) responseEvent).data();
@@ -664,6 +739,10 @@ public class HttpClientStreamableHttpTransport implements McpClientTransport {
 		private List<String> supportedProtocolVersions = List.of(ProtocolVersions.MCP_2024_11_05,
 				ProtocolVersions.MCP_2025_03_26, ProtocolVersions.MCP_2025_06_18, ProtocolVersions.MCP_2025_11_25);
 
+		private HttpCompression compression;
+
+		private McpBinaryFormat binaryFormat;
+
 		/**
 		 * Creates a new builder with the specified base URI.
 		 * @param baseUri the base URI of the MCP server
@@ -836,6 +915,33 @@ public class HttpClientStreamableHttpTransport implements McpClientTransport {
 			return this;
 		}
 
+		/**
+		 * Enables compression: the client accepts compressed responses and, if
+		 * {@link HttpCompression.Builder#compressRequests(boolean) configured},
+		 * compresses its request bodies. Disabled by default.
+		 * @param compression the codings and thresholds to apply
+		 * @return this builder
+		 */
+		public Builder compression(HttpCompression compression) {
+			Assert.notNull(compression, "compression must not be null");
+			this.compression = compression;
+			return this;
+		}
+
+		/**
+		 * Sends messages in a binary format instead of JSON, and accepts responses in
+		 * that format. The server must accept the format; SSE streams from the server
+		 * still carry JSON. The request customizer is called with a null body for
+		 * messages sent in the binary format.
+		 * @param binaryFormat the binary format
+		 * @return this builder
+		 */
+		public Builder binaryFormat(McpBinaryFormat binaryFormat) {
+			Assert.notNull(binaryFormat, "binaryFormat must not be null");
+			this.binaryFormat = binaryFormat;
+			return this;
+		}
+
 		/**
 		 * Construct a fresh instance of {@link HttpClientStreamableHttpTransport} using
 		 * the current builder configuration.
@@ -845,7 +951,7 @@ public class HttpClientStreamableHttpTransport implements McpClientTransport {
 			HttpClient httpClient = this.clientBuilder.connectTimeout(this.connectTimeout).build();
 			return new HttpClientStreamableHttpTransport(jsonMapper == null ? McpJsonDefaults.getMapper() : jsonMapper,
 					httpClient, requestBuilder, baseUri, endpoint, resumableStreams, openConnectionOnStartup,
-					httpRequestCustomizer, supportedProtocolVersions);
+					httpRequestCustomizer, supportedProtocolVersions, compression, binaryFormat);
 		}
 
 	}
@@ -4,9 +4,16 @@
 
 package io.modelcontextprotocol.client.transport;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodySubscriber;
 import java.net.http.HttpResponse.ResponseInfo;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 
@@ -15,9 +22,14 @@ import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.modelcontextprotocol.spec.HttpCompression;
+import io.modelcontextprotocol.spec.HttpContentCoding;
+import io.modelcontextprotocol.spec.HttpHeaders;
 import io.modelcontextprotocol.spec.McpTransportException;
 import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Utility class providing various {@link BodySubscriber} implementations for handling
@@ -38,7 +50,7 @@ class ResponseSubscribers {
 	record SseEvent(String id, String event, String data) {
 	}
 
-	sealed interface ResponseEvent permits SseResponseEvent, AggregateResponseEvent, DummyEvent {
+	sealed interface ResponseEvent permits SseResponseEvent, AggregateResponseEvent, BinaryResponseEvent, DummyEvent {
 
 		ResponseInfo responseInfo();
 
@@ -54,6 +66,9 @@ class ResponseSubscribers {
 	record AggregateResponseEvent(ResponseInfo responseInfo, String data) implements ResponseEvent {
 	}
 
+	record BinaryResponseEvent(ResponseInfo responseInfo, byte[] data) implements ResponseEvent {
+	}
+
 	static BodySubscriber<Void> sseToBodySubscriber(ResponseInfo responseInfo, FluxSink<ResponseEvent> sink) {
 		return HttpResponse.BodySubscribers
 			.fromLineSubscriber(FlowAdapters.toFlowSubscriber(new SseLineSubscriber(responseInfo, sink)));
@@ -69,6 +84,90 @@ class ResponseSubscribers {
 			.fromLineSubscriber(FlowAdapters.toFlowSubscriber(new BodilessResponseLineSubscriber(responseInfo, sink)));
 	}
 
+	static BodySubscriber<Void> sseToBodySubscriber(ResponseInfo responseInfo, FluxSink<ResponseEvent> sink,
+			HttpCompression compression) {
+		return lineSubscriber(responseInfo, compression, new SseLineSubscriber(responseInfo, sink));
+	}
+
+	static BodySubscriber<Void> aggregateBodySubscriber(ResponseInfo responseInfo, FluxSink<ResponseEvent> sink,
+			HttpCompression compression) {
+		return lineSubscriber(responseInfo, compression, new AggregateSubscriber(responseInfo, sink));
+	}
+
+	/**
+	 * Collects a response body in a binary format, decoding it first if it has a
+	 * Content-Encoding, and emits it as a single {@link BinaryResponseEvent}.
+	 * @param responseInfo the response
+	 * @param sink the sink of the event
+	 * @param compression the codings the request accepted, or null
+	 * @return the body subscriber
+	 */
+	static BodySubscriber<Void> binaryBodySubscriber(ResponseInfo responseInfo, FluxSink<ResponseEvent> sink,
+			HttpCompression compression) {
+		Optional<HttpContentCoding> coding = contentCoding(responseInfo, compression);
+		return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(), body -> {
+			try {
+				byte[] data = coding.isPresent() ? coding.get().decoder(new ByteArrayInputStream(body)).readAllBytes()
+						: body;
+				sink.next(new BinaryResponseEvent(responseInfo, data));
+				sink.complete();
+			}
+			catch (IOException e) {
+				sink.error(e);
+			}
+			return null;
+		});
+	}
+
+	private static Optional<HttpContentCoding> contentCoding(ResponseInfo responseInfo, HttpCompression compression) {
+		return compression != null
+				? compression.coding(responseInfo.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null))
+				: Optional.empty();
+	}
+
+	/**
+	 * Feeds the lines of a response body to a line subscriber, decoding the body first if
+	 * it has a Content-Encoding. The decoding stream blocks on the body, so it is read on
+	 * the bounded elastic scheduler.
+	 * @param responseInfo the response
+	 * @param compression the codings the request accepted, or null
+	 * @param subscriber the line subscriber
+	 * @return the body subscriber
+	 */
+	private static BodySubscriber<Void> lineSubscriber(ResponseInfo responseInfo, HttpCompression compression,
+			BaseSubscriber<String> subscriber) {
+		Optional<HttpContentCoding> coding = contentCoding(responseInfo, compression);
+		if (coding.isEmpty()) {
+			return HttpResponse.BodySubscribers.fromLineSubscriber(FlowAdapters.toFlowSubscriber(subscriber));
+		}
+		return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofInputStream(), body -> {
+			Flux.using(() -> decodingReader(coding.get(), body), reader -> Flux.fromStream(reader.lines()),
+					reader -> closeQuietly(body))
+				.subscribeOn(Schedulers.boundedElastic())
+				.subscribe(subscriber);
+			return null;
+		});
+	}
+
+	private static BufferedReader decodingReader(HttpContentCoding coding, InputStream body) throws Exception {
+		try {
+			return new BufferedReader(new InputStreamReader(coding.decoder(body), StandardCharsets.UTF_8));
+		}
+		catch (Exception e) {
+			closeQuietly(body);
+			throw e;
+		}
+	}
+
+	private static void closeQuietly(InputStream body) {
+		try {
+			body.close();
+		}
+		catch (Exception e) {
+			logger.debug("Failed to close response body: {}", e.getMessage());
+		}
+	}
+
 	static class SseLineSubscriber extends BaseSubscriber<String> {
 
 		/**
@@ -9,6 +9,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -65,6 +66,22 @@ public class ServerParameters {
 		return this.env;
 	}
 
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof ServerParameters other)) {
+			return false;
+		}
+		return this.command.equals(other.command) && this.args.equals(other.args) && this.env.equals(other.env);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.command, this.args, this.env);
+	}
+
 	public static Builder builder(String command) {
 		return new Builder(command);
 	}
@@ -11,15 +11,18 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import io.modelcontextprotocol.json.TypeRef;
 import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.spec.JsonLineReader;
+import io.modelcontextprotocol.spec.JsonLineWriter;
 import io.modelcontextprotocol.spec.McpClientTransport;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.JSONRPCMessage;
+import io.modelcontextprotocol.spec.TransportExecutors;
 import io.modelcontextprotocol.util.Assert;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +36,15 @@ import reactor.core.scheduler.Schedulers;
  * Implementation of the MCP Stdio transport that communicates with a server process using
  * standard input/output streams. Messages are exchanged as newline-delimited JSON-RPC
  * messages over stdin/stdout, with errors and debug information sent to stderr.
+ * <p>
+ * Messages are framed at the byte level with {@link JsonLineReader} and
+ * {@link JsonLineWriter}. Outbound messages queued while the outbound thread is busy are
+ * written to the process with a single write and flush.
+ * <p>
+ * Reading and writing run on {@link TransportExecutors}, shared between transports unless
+ * configured otherwise, so the number of threads does not grow with the number of server
+ * processes. Writes of one transport are performed one at a time and in order, on the
+ * blocking executor, since a write to a process that stops reading its stdin blocks.
  *
  * @author Christian Tzolov
  * @author Dariusz Jędrzejczyk
@@ -66,6 +78,11 @@ public class StdioClientTransport implements McpClientTransport {
 
 	private volatile boolean isClosing = false;
 
+	/** Written and flushed on the outbound scheduler only */
+	private JsonLineWriter outboundWriter;
+
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
 	// visible for tests
 	private Consumer<String> stdErrorHandler = error -> logger.info("STDERR Message received: {}", error);
 
@@ -75,8 +92,20 @@ public class StdioClientTransport implements McpClientTransport {
 	 * @param jsonMapper The JsonMapper to use for JSON serialization/deserialization
 	 */
 	public StdioClientTransport(ServerParameters params, McpJsonMapper jsonMapper) {
+		this(params, jsonMapper, TransportExecutors.shared());
+	}
+
+	/**
+	 * Creates a new StdioClientTransport running its I/O on the given executors.
+	 * @param params The parameters for configuring the server process
+	 * @param jsonMapper The JsonMapper to use for JSON serialization/deserialization
+	 * @param transportExecutors The executors to read and write the process streams on
+	 */
+	public StdioClientTransport(ServerParameters params, McpJsonMapper jsonMapper,
+			TransportExecutors transportExecutors) {
 		Assert.notNull(params, "The params can not be null");
 		Assert.notNull(jsonMapper, "The JsonMapper can not be null");
+		Assert.notNull(transportExecutors, "The TransportExecutors can not be null");
 
 		this.inboundSink = Sinks.many().unicast().onBackpressureBuffer();
 		this.outboundSink = Sinks.many().unicast().onBackpressureBuffer();
@@ -88,9 +117,10 @@ public class StdioClientTransport implements McpClientTransport {
 		this.errorSink = Sinks.many().unicast().onBackpressureBuffer();
 
 		// Start threads
-		this.inboundScheduler = Schedulers.fromExecutorService(Executors.newSingleThreadExecutor(), "inbound");
-		this.outboundScheduler = Schedulers.fromExecutorService(Executors.newSingleThreadExecutor(), "outbound");
-		this.errorScheduler = Schedulers.fromExecutorService(Executors.newSingleThreadExecutor(), "error");
+		this.inboundScheduler = transportExecutors.blockingScheduler();
+		// Pipe writes block while the process does not read its stdin
+		this.outboundScheduler = transportExecutors.newBlockingSerialScheduler();
+		this.errorScheduler = transportExecutors.blockingScheduler();
 	}
 
 	/**
@@ -246,8 +276,8 @@ public class StdioClientTransport implements McpClientTransport {
 	 */
 	private void startInboundProcessing() {
 		this.inboundScheduler.schedule(() -> {
-			try (BufferedReader processReader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-				String line;
+			try (JsonLineReader processReader = new JsonLineReader(process.getInputStream())) {
+				byte[] line;
 				while (!isClosing && (line = processReader.readLine()) != null) {
 					try {
 						JSONRPCMessage message = McpSchema.deserializeJsonRpcMessage(this.jsonMapper, line);
@@ -260,7 +290,8 @@ public class StdioClientTransport implements McpClientTransport {
 					}
 					catch (Exception e) {
 						if (!isClosing) {
-							logger.error("Error processing inbound message for line: {}", line, e);
+							logger.error("Error processing inbound message for line: {}",
+									new String(line, StandardCharsets.UTF_8), e);
 						}
 						break;
 					}
@@ -280,37 +311,56 @@ public class StdioClientTransport implements McpClientTransport {
 
 	/**
 	 * Starts the outbound processing thread that writes JSON-RPC messages to the
-	 * process's output stream. Messages are serialized to JSON and written with a newline
-	 * delimiter.
+	 * process's output stream. Messages are serialized to JSON and buffered with a
+	 * newline delimiter; a flush is scheduled behind the messages queued on the outbound
+	 * thread.
 	 */
 	private void startOutboundProcessing() {
+		this.outboundWriter = new JsonLineWriter(this.process.getOutputStream());
 		this.handleOutbound(messages -> messages
 			// this bit is important since writes come from user threads, and we
 			// want to ensure that the actual writing happens on a dedicated thread
 			.publishOn(outboundScheduler)
-			.handle((message, s) -> {
+			.<JSONRPCMessage>handle((message, s) -> {
 				if (message != null && !isClosing) {
 					try {
-						String jsonMessage = jsonMapper.writeValueAsString(message);
-						// Escape any embedded newlines in the JSON message as per spec:
+						// Messages MUST NOT contain embedded newlines, which the writer
+						// guarantees:
 						// https://spec.modelcontextprotocol.io/specification/basic/transports/#stdio
-						// - Messages are delimited by newlines, and MUST NOT contain
-						// embedded newlines.
-						jsonMessage = jsonMessage.replace("\r\n", "\\n").replace("\n", "\\n").replace("\r", "\\n");
-
-						var os = this.process.getOutputStream();
-						synchronized (os) {
-							os.write(jsonMessage.getBytes(StandardCharsets.UTF_8));
-							os.write("\n".getBytes(StandardCharsets.UTF_8));
-							os.flush();
-						}
+						this.outboundWriter.write(McpSchema.serializeJsonRpcMessageAsBytes(jsonMapper, message));
+						scheduleFlush();
 						s.next(message);
 					}
 					catch (IOException e) {
 						s.error(new RuntimeException(e));
 					}
 				}
-			}));
+			})
+			.doOnComplete(this::flushOutbound));
+	}
+
+	/**
+	 * Schedules a flush on the outbound thread unless one is pending. The flush runs
+	 * after the drain in progress, so all messages written by that drain share one flush.
+	 */
+	private void scheduleFlush() {
+		if (this.flushScheduled.compareAndSet(false, true)) {
+			this.outboundScheduler.schedule(this::flushOutbound);
+		}
+	}
+
+	private void flushOutbound() {
+		this.flushScheduled.set(false);
+		try {
+			this.outboundWriter.flush();
+		}
+		catch (IOException e) {
+			if (!isClosing) {
+				logger.error("Error in outbound processing", e);
+				isClosing = true;
+				outboundSink.tryEmitComplete();
+			}
+		}
 	}
 
 	protected void handleOutbound(Function<Flux<JSONRPCMessage>, Flux<JSONRPCMessage>> outboundConsumer) {
@@ -364,8 +414,8 @@ public class StdioClientTransport implements McpClientTransport {
 			}
 		}).then(Mono.fromRunnable(() -> {
 			try {
-				// The Threads are blocked on readLine so disposeGracefully would not
-				// interrupt them, therefore we issue an async hard dispose.
+				// The shared threads are not owned by the schedulers; the readers
+				// return once the process streams reach end of input.
 				inboundScheduler.dispose();
 				errorScheduler.dispose();
 				outboundScheduler.dispose();
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.instrumentation;
+
+/**
+ * Service provider interface for observing MCP traffic. Sessions report request
+ * lifecycles and transports report message encoding and decoding, as well as the messages
+ * waiting in their outbound queues, through the instance installed with
+ * {@link McpInstrumentations#set(McpInstrumentation)}.
+ * <p>
+ * All methods default to no-ops so implementations only override what they record. When
+ * no instrumentation is installed the callers detect {@link #NOOP} and skip measuring
+ * altogether, so the disabled path costs a single volatile read per message.
+ * Implementations are called on transport and handler threads and must be thread-safe and
+ * non-blocking.
+ */
+public interface McpInstrumentation {
+
+	/**
+	 * Instrumentation that records nothing.
+	 */
+	McpInstrumentation NOOP = new McpInstrumentation() {
+	};
+
+	/**
+	 * The side of the connection that records an observation.
+	 */
+	enum Side {
+
+		CLIENT, SERVER
+
+	}
+
+	/**
+	 * Whether a request was received from the peer or sent to it.
+	 */
+	enum Direction {
+
+		/**
+		 * A request received from the peer and handled locally.
+		 */
+		INBOUND,
+
+		/**
+		 * A request sent to the peer and awaiting its response.
+		 */
+		OUTBOUND
+
+	}
+
+	/**
+	 * What happened to a message sent to a session whose outbound queue was full.
+	 */
+	enum Overflow {
+
+		/**
+		 * The notification was discarded.
+		 */
+		DROPPED,
+
+		/**
+		 * The sender gave up waiting for room.
+		 */
+		TIMED_OUT,
+
+		/**
+		 * The session was closed for reading too slowly.
+		 */
+		DISCONNECTED
+
+	}
+
+	/**
+	 * Called when a request starts being handled or is sent to the peer.
+	 * @param side the local side of the connection
+	 * @param direction the request direction
+	 * @param method the JSON-RPC method
+	 * @param toolName the tool name for {@code tools/call} requests, null otherwise
+	 * @return the observation to stop once the request terminates
+	 */
+	default RequestObservation requestStarted(Side side, Direction direction, String method, String toolName) {
+		return RequestObservation.NOOP;
+	}
+
+	/**
+	 * Called after a JSON-RPC message was read from its wire representation.
+	 * @param bytes the UTF-8 size of the message
+	 * @param nanos the time spent decoding
+	 * @param error the decoding failure, or null on success
+	 */
+	default void messageDecoded(int bytes, long nanos, Throwable error) {
+	}
+
+	/**
+	 * Called after a JSON-RPC message was written to its wire representation.
+	 * @param bytes the UTF-8 size of the message, or 0 if encoding failed
+	 * @param nanos the time spent encoding
+	 * @param error the encoding failure, or null on success
+	 */
+	default void messageEncoded(int bytes, long nanos, Throwable error) {
+	}
+
+	/**
+	 * Called when messages join or leave the outbound queue of a server transport
+	 * session. Every message queued while an instrumentation is installed is reported to
+	 * it once with {@code +1} and once with {@code -1} when written or discarded, so the
+	 * sum of the changes is the number of messages waiting to be written.
+	 * @param delta the change in the number of queued messages
+	 */
+	default void outboundQueueChanged(int delta) {
+	}
+
+	/**
+	 * Called when a message is sent to a session whose outbound queue is full and the
+	 * message cannot be queued.
+	 * @param overflow what happened to the message
+	 */
+	default void outboundOverflow(Overflow overflow) {
+	}
+
+	/**
+	 * An in-progress request observation.
+	 */
+	@FunctionalInterface
+	interface RequestObservation {
+
+		/**
+		 * Observation that records nothing.
+		 */
+		RequestObservation NOOP = error -> {
+		};
+
+		/**
+		 * Stops the observation. Called exactly once.
+		 * @param error the failure, null if the request succeeded. JSON-RPC error
+		 * responses are reported as {@link io.modelcontextprotocol.spec.McpError}, and
+		 * cancellations as {@link java.util.concurrent.CancellationException}.
+		 */
+		void stop(Throwable error);
+
+	}
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.instrumentation;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+import io.modelcontextprotocol.spec.McpError;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.util.Assert;
+import reactor.core.publisher.Mono;
+
+/**
+ * Holds the process-wide {@link McpInstrumentation} and adapts it to the reactive request
+ * pipelines of sessions and handlers.
+ * <p>
+ * The instrumentation is global rather than configured per client or server because the
+ * codec hooks run inside transports, which are built independently of the session
+ * builders. It is read on every message, so it may be installed or replaced at any time.
+ */
+public final class McpInstrumentations {
+
+	private static volatile McpInstrumentation instrumentation = McpInstrumentation.NOOP;
+
+	private McpInstrumentations() {
+	}
+
+	/**
+	 * Returns the installed instrumentation.
+	 * @return the instrumentation, {@link McpInstrumentation#NOOP} if none is installed
+	 */
+	public static McpInstrumentation get() {
+		return instrumentation;
+	}
+
+	/**
+	 * Installs the process-wide instrumentation.
+	 * @param instrumentation the instrumentation, {@link McpInstrumentation#NOOP} to
+	 * disable
+	 */
+	public static void set(McpInstrumentation instrumentation) {
+		Assert.notNull(instrumentation, "Instrumentation must not be null");
+		McpInstrumentations.instrumentation = instrumentation;
+	}
+
+	/**
+	 * Observes a request sent to the peer. The observation starts on subscription and
+	 * stops when the response arrives, the request fails or it is cancelled.
+	 * @param <T> the response type
+	 * @param side the local side of the connection
+	 * @param method the JSON-RPC method
+	 * @param params the request parameters
+	 * @param request the request pipeline
+	 * @return the observed pipeline, or {@code request} itself when instrumentation is
+	 * disabled
+	 */
+	public static <T> Mono<T> observeOutbound(McpInstrumentation.Side side, String method, Object params,
+			Mono<T> request) {
+		McpInstrumentation current = instrumentation;
+		if (current == McpInstrumentation.NOOP) {
+			return request;
+		}
+		return Mono.defer(() -> {
+			McpInstrumentation.RequestObservation observation = current.requestStarted(side,
+					McpInstrumentation.Direction.OUTBOUND, method, toolName(method, params));
+			return request.doOnSuccess(result -> observation.stop(null))
+				.doOnError(observation::stop)
+				.doOnCancel(() -> observation.stop(new CancellationException()));
+		});
+	}
+
+	/**
+	 * Observes the handling of a request received from the peer. Error responses produced
+	 * by the handler pipeline count as failures.
+	 * @param side the local side of the connection
+	 * @param request the received request
+	 * @param response the pipeline producing the response
+	 * @return the observed pipeline, or {@code response} itself when instrumentation is
+	 * disabled
+	 */
+	public static Mono<McpSchema.JSONRPCResponse> observeInbound(McpInstrumentation.Side side,
+			McpSchema.JSONRPCRequest request, Mono<McpSchema.JSONRPCResponse> response) {
+		McpInstrumentation current = instrumentation;
+		if (current == McpInstrumentation.NOOP) {
+			return response;
+		}
+		return Mono.defer(() -> {
+			McpInstrumentation.RequestObservation observation = current.requestStarted(side,
+					McpInstrumentation.Direction.INBOUND, request.method(),
+					toolName(request.method(), request.params()));
+			return response.doOnSuccess(result -> {
+				if (result != null && result.error() != null) {
+					observation.stop(new McpError(result.error()));
+				}
+				else {
+					observation.stop(null);
+				}
+			}).doOnError(observation::stop).doOnCancel(() -> observation.stop(new CancellationException()));
+		});
+	}
+
+	/**
+	 * Extracts the tool name of {@code tools/call} requests without deserializing them.
+	 * @param method the JSON-RPC method
+	 * @param params the request parameters, either typed or as received from a transport
+	 * @return the tool name, or null for other methods
+	 */
+	public static String toolName(String method, Object params) {
+		if (McpSchema.METHOD_TOOLS_CALL.equals(method)) {
+			if (params instanceof McpSchema.CallToolRequest callToolRequest) {
+				return callToolRequest.name();
+			}
+			if (params instanceof Map<?, ?> map && map.get("name") instanceof String name) {
+				return name;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Computes the UTF-8 encoded length of a character sequence without encoding it.
+	 * @param text the text
+	 * @return the number of bytes
+	 */
+	public static int utf8Length(CharSequence text) {
+		int length = text.length();
+		int bytes = length;
+		for (int i = 0; i < length; i++) {
+			char c = text.charAt(i);
+			if (c >= 0x80) {
+				if (c < 0x800) {
+					bytes += 1;
+				}
+				else if (Character.isHighSurrogate(c) && i + 1 < length
+						&& Character.isLowSurrogate(text.charAt(i + 1))) {
+					// 4 bytes for the pair, which counts as 2 chars
+					bytes += 2;
+					i++;
+				}
+				else {
+					bytes += 2;
+				}
+			}
+		}
+		return bytes;
+	}
+
+}
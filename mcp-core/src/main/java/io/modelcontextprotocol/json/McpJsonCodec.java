@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.json;
+
+import java.io.IOException;
+
+/**
+ * Reads, writes and converts values of one type. A codec is obtained once from a
+ * {@link McpJsonMapper} and reused, so that the work of resolving the type is not
+ * repeated for every value.
+ *
+ * @param <T> the type of the values
+ * @see McpJsonMapper#codec(TypeRef)
+ */
+public interface McpJsonCodec<T> {
+
+	/**
+	 * Deserialize a JSON string.
+	 * @param content JSON as String
+	 * @return deserialized instance
+	 * @throws IOException on parse errors
+	 */
+	T read(String content) throws IOException;
+
+	/**
+	 * Deserialize JSON bytes.
+	 * @param content JSON as bytes
+	 * @return deserialized instance
+	 * @throws IOException on parse errors
+	 */
+	T read(byte[] content) throws IOException;
+
+	/**
+	 * Convert a value, such as the map of a JSON-RPC params object, to this codec's type.
+	 * @param fromValue source value
+	 * @return converted value
+	 */
+	T convert(Object fromValue);
+
+	/**
+	 * Serialize a value to a JSON string.
+	 * @param value value to serialize
+	 * @return JSON as String
+	 * @throws IOException on serialization errors
+	 */
+	String writeAsString(T value) throws IOException;
+
+	/**
+	 * Serialize a value to JSON bytes.
+	 * @param value value to serialize
+	 * @return JSON as bytes
+	 * @throws IOException on serialization errors
+	 */
+	byte[] writeAsBytes(T value) throws IOException;
+
+}
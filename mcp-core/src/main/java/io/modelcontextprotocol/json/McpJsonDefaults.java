@@ -3,6 +3,8 @@
  */
 package io.modelcontextprotocol.json;
 
+import java.util.Map;
+
 import io.modelcontextprotocol.json.schema.JsonSchemaValidator;
 import io.modelcontextprotocol.json.schema.JsonSchemaValidatorSupplier;
 import io.modelcontextprotocol.util.McpServiceLoader;
@@ -34,9 +36,11 @@ import io.modelcontextprotocol.util.McpServiceLoader;
  */
 public class McpJsonDefaults {
 
-	protected static McpServiceLoader<McpJsonMapperSupplier, McpJsonMapper> mcpMapperServiceLoader;
+	protected static volatile McpServiceLoader<McpJsonMapperSupplier, McpJsonMapper> mcpMapperServiceLoader;
+
+	protected static volatile McpServiceLoader<JsonSchemaValidatorSupplier, JsonSchemaValidator> mcpValidatorServiceLoader;
 
-	protected static McpServiceLoader<JsonSchemaValidatorSupplier, JsonSchemaValidator> mcpValidatorServiceLoader;
+	private static final JsonSchemaValidator LAZY_SCHEMA_VALIDATOR = new LazySchemaValidator();
 
 	public McpJsonDefaults() {
 		mcpMapperServiceLoader = new McpServiceLoader<>(McpJsonMapperSupplier.class);
@@ -51,11 +55,13 @@ public class McpJsonDefaults {
 		mcpMapperServiceLoader.unsetSupplier(supplier);
 	}
 
-	public synchronized static McpJsonMapper getMapper() {
-		if (mcpMapperServiceLoader == null) {
-			new McpJsonDefaults();
+	public static McpJsonMapper getMapper() {
+		McpServiceLoader<McpJsonMapperSupplier, McpJsonMapper> loader = mcpMapperServiceLoader;
+		if (loader == null) {
+			initialize();
+			loader = mcpMapperServiceLoader;
 		}
-		return mcpMapperServiceLoader.getDefault();
+		return loader.getDefault();
 	}
 
 	void setJsonSchemaValidatorSupplier(JsonSchemaValidatorSupplier supplier) {
@@ -66,11 +72,49 @@ public class McpJsonDefaults {
 		mcpValidatorServiceLoader.unsetSupplier(supplier);
 	}
 
-	public synchronized static JsonSchemaValidator getSchemaValidator() {
-		if (mcpValidatorServiceLoader == null) {
+	public static JsonSchemaValidator getSchemaValidator() {
+		McpServiceLoader<JsonSchemaValidatorSupplier, JsonSchemaValidator> loader = mcpValidatorServiceLoader;
+		if (loader == null) {
+			initialize();
+			loader = mcpValidatorServiceLoader;
+		}
+		return loader.getDefault();
+	}
+
+	/**
+	 * Returns a {@link JsonSchemaValidator} that looks up the default validator the first
+	 * time it validates a value. Builders use it when no validator was configured, so
+	 * that building a client or server does not load the validator implementation and its
+	 * dependencies, which many applications never need.
+	 * @return a validator delegating to {@link #getSchemaValidator()}
+	 */
+	public static JsonSchemaValidator getLazySchemaValidator() {
+		return LAZY_SCHEMA_VALIDATOR;
+	}
+
+	private static synchronized void initialize() {
+		if (mcpMapperServiceLoader == null || mcpValidatorServiceLoader == null) {
 			new McpJsonDefaults();
 		}
-		return mcpValidatorServiceLoader.getDefault();
+	}
+
+	/**
+	 * Delegates both validation and compilation to the default validator, so that schemas
+	 * are compiled, and checked, by the implementation rather than validated anew on
+	 * every call.
+	 */
+	private static final class LazySchemaValidator implements JsonSchemaValidator {
+
+		@Override
+		public ValidationResponse validate(Map<String, Object> schema, Object structuredContent) {
+			return getSchemaValidator().validate(schema, structuredContent);
+		}
+
+		@Override
+		public CompiledSchema compile(Map<String, Object> schema) {
+			return getSchemaValidator().compile(schema);
+		}
+
 	}
 
 }
@@ -87,4 +87,45 @@ public interface McpJsonMapper {
 	 */
 	byte[] writeValueAsBytes(Object value) throws IOException;
 
+	/**
+	 * Returns a reusable codec for a parameterized type. Hold on to the codec, or to the
+	 * {@link TypeRef}, rather than creating a new {@code TypeRef} for every value. The
+	 * default implementation delegates to the methods of this mapper; implementations may
+	 * return codecs with the type resolved up front.
+	 * @param type parameterized type reference
+	 * @return a codec for the type
+	 * @param <T> generic type
+	 */
+	default <T> McpJsonCodec<T> codec(TypeRef<T> type) {
+		McpJsonMapper mapper = this;
+		return new McpJsonCodec<>() {
+
+			@Override
+			public T read(String content) throws IOException {
+				return mapper.readValue(content, type);
+			}
+
+			@Override
+			public T read(byte[] content) throws IOException {
+				return mapper.readValue(content, type);
+			}
+
+			@Override
+			public T convert(Object fromValue) {
+				return mapper.convertValue(fromValue, type);
+			}
+
+			@Override
+			public String writeAsString(T value) throws IOException {
+				return mapper.writeValueAsString(value);
+			}
+
+			@Override
+			public byte[] writeAsBytes(T value) throws IOException {
+				return mapper.writeValueAsBytes(value);
+			}
+
+		};
+	}
+
 }
@@ -41,4 +41,37 @@ public interface JsonSchemaValidator {
 	 */
 	ValidationResponse validate(Map<String, Object> schema, Object structuredContent);
 
+	/**
+	 * Prepares a JSON schema for validating many values, such as the arguments of every
+	 * call to a tool. Implementations should parse and compile the schema here, once, and
+	 * fail if it is not a valid schema. The default implementation delegates each
+	 * validation to {@link #validate(Map, Object)}.
+	 * @param schema The JSON schema to compile.
+	 * @return The compiled schema.
+	 * @throws IllegalArgumentException if the schema is null or cannot be compiled
+	 */
+	default CompiledSchema compile(Map<String, Object> schema) {
+		if (schema == null) {
+			throw new IllegalArgumentException("Schema must not be null");
+		}
+		return content -> validate(schema, content);
+	}
+
+	/**
+	 * A JSON schema compiled by {@link JsonSchemaValidator#compile(Map)}.
+	 */
+	@FunctionalInterface
+	interface CompiledSchema {
+
+		/**
+		 * Validates a value against this schema.
+		 * @param content The value to validate, either a JSON string or an object
+		 * convertible to JSON.
+		 * @return A ValidationResponse indicating whether the validation was successful
+		 * or not.
+		 */
+		ValidationResponse validate(Object content);
+
+	}
+
 }
@@ -5,6 +5,8 @@
 package io.modelcontextprotocol.server;
 
 import io.modelcontextprotocol.common.McpTransportContext;
+import io.modelcontextprotocol.instrumentation.McpInstrumentation;
+import io.modelcontextprotocol.instrumentation.McpInstrumentations;
 import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
 import org.slf4j.Logger;
@@ -34,7 +36,7 @@ class DefaultMcpStatelessServerHandler implements McpStatelessServerHandler {
 		if (requestHandler == null) {
 			return Mono.error(new McpError("Missing handler for request type: " + request.method()));
 		}
-		return requestHandler.handle(transportContext, request.params())
+		Mono<McpSchema.JSONRPCResponse> response = requestHandler.handle(transportContext, request.params())
 			.map(result -> new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, request.id(), result, null))
 			.onErrorResume(t -> {
 				McpSchema.JSONRPCResponse.JSONRPCError error;
@@ -47,6 +49,7 @@ class DefaultMcpStatelessServerHandler implements McpStatelessServerHandler {
 				}
 				return Mono.just(new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, request.id(), null, error));
 			});
+		return McpInstrumentations.observeInbound(McpInstrumentation.Side.SERVER, request, response);
 	}
 
 	@Override
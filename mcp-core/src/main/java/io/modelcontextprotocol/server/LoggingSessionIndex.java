@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import io.modelcontextprotocol.spec.McpLoggableSession;
+import io.modelcontextprotocol.spec.McpSchema.LoggingLevel;
+
+/**
+ * Server-wide index of the sessions, grouped by their minimum logging level, so that a
+ * broadcast log message only visits the sessions that accept it. Sessions are removed
+ * when they close. They are also held weakly, as some transport providers release a
+ * session whose client went away without closing it.
+ */
+final class LoggingSessionIndex {
+
+	private final Map<LoggingLevel, Set<McpLoggableSession>> sessionsByLevel = new EnumMap<>(LoggingLevel.class);
+
+	LoggingSessionIndex() {
+		for (LoggingLevel level : LoggingLevel.values()) {
+			this.sessionsByLevel.put(level, Collections.newSetFromMap(new WeakHashMap<>()));
+		}
+	}
+
+	/**
+	 * Adds a session with the given minimum logging level.
+	 * @param session the session
+	 * @param minLoggingLevel the session's minimum logging level
+	 */
+	synchronized void add(McpLoggableSession session, LoggingLevel minLoggingLevel) {
+		remove(session);
+		this.sessionsByLevel.get(minLoggingLevel).add(session);
+	}
+
+	/**
+	 * Records the minimum logging level of a session, replacing the previous one. Does
+	 * nothing if the session is not in the index, for example because it was closed.
+	 * @param session the session
+	 * @param minLoggingLevel the session's minimum logging level
+	 */
+	synchronized void update(McpLoggableSession session, LoggingLevel minLoggingLevel) {
+		if (remove(session)) {
+			this.sessionsByLevel.get(minLoggingLevel).add(session);
+		}
+	}
+
+	/**
+	 * Removes a session.
+	 * @param session the session
+	 * @return true if the session was in the index
+	 */
+	synchronized boolean remove(McpLoggableSession session) {
+		boolean removed = false;
+		for (Set<McpLoggableSession> sessions : this.sessionsByLevel.values()) {
+			removed |= sessions.remove(session);
+		}
+		return removed;
+	}
+
+	/**
+	 * Returns the sessions whose minimum logging level admits the given level.
+	 * @param level the level of a log message
+	 * @return a snapshot of the interested sessions
+	 */
+	synchronized List<McpLoggableSession> sessionsAccepting(LoggingLevel level) {
+		List<McpLoggableSession> sessions = new ArrayList<>();
+		this.sessionsByLevel.forEach((minLoggingLevel, atLevel) -> {
+			if (minLoggingLevel.level() <= level.level()) {
+				sessions.addAll(atLevel);
+			}
+		});
+		return sessions;
+	}
+
+}
@@ -5,18 +5,25 @@
 package io.modelcontextprotocol.server;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiFunction;
 
+import io.modelcontextprotocol.json.McpJsonCodec;
 import io.modelcontextprotocol.json.McpJsonMapper;
 import io.modelcontextprotocol.json.TypeRef;
 import io.modelcontextprotocol.json.schema.JsonSchemaValidator;
+import io.modelcontextprotocol.server.admission.McpAdmissionController;
+import io.modelcontextprotocol.server.admission.McpAdmissionRequest;
+import io.modelcontextprotocol.server.cache.McpToolResultCache;
 import io.modelcontextprotocol.spec.DefaultMcpStreamableServerSessionFactory;
 import io.modelcontextprotocol.spec.McpClientSession;
 import io.modelcontextprotocol.spec.McpError;
@@ -33,7 +40,11 @@ import io.modelcontextprotocol.spec.McpSchema.Tool;
 import io.modelcontextprotocol.spec.McpServerSession;
 import io.modelcontextprotocol.spec.McpServerTransportProvider;
 import io.modelcontextprotocol.spec.McpServerTransportProviderBase;
+import io.modelcontextprotocol.spec.McpStreamableServerSession;
+import io.modelcontextprotocol.spec.McpStreamableSessionState;
 import io.modelcontextprotocol.spec.McpStreamableServerTransportProvider;
+import io.modelcontextprotocol.spec.PendingRequestTable;
+import io.modelcontextprotocol.spec.ProgressConflator;
 import io.modelcontextprotocol.util.Assert;
 import io.modelcontextprotocol.util.DefaultMcpUriTemplateManagerFactory;
 import io.modelcontextprotocol.util.McpUriTemplateManagerFactory;
@@ -91,12 +102,28 @@ public class McpAsyncServer {
 
 	private static final Logger logger = LoggerFactory.getLogger(McpAsyncServer.class);
 
+	private static final TypeRef<McpSchema.CallToolRequest> CALL_TOOL_REQUEST_TYPE_REF = new TypeRef<>() {
+	};
+
+	private static final TypeRef<McpSchema.ReadResourceRequest> READ_RESOURCE_REQUEST_TYPE_REF = new TypeRef<>() {
+	};
+
+	private static final TypeRef<McpSchema.GetPromptRequest> GET_PROMPT_REQUEST_TYPE_REF = new TypeRef<>() {
+	};
+
+	private static final TypeRef<SetLevelRequest> SET_LEVEL_REQUEST_TYPE_REF = new TypeRef<>() {
+	};
+
 	private final McpServerTransportProviderBase mcpTransportProvider;
 
 	private final McpJsonMapper jsonMapper;
 
 	private final JsonSchemaValidator jsonSchemaValidator;
 
+	private final boolean validateToolInputs;
+
+	private final McpToolResultCache toolResultCache;
+
 	private final McpSchema.ServerCapabilities serverCapabilities;
 
 	private final McpSchema.Implementation serverInfo;
@@ -111,9 +138,10 @@ public class McpAsyncServer {
 
 	private final ConcurrentHashMap<String, McpServerFeatures.AsyncPromptSpecification> prompts = new ConcurrentHashMap<>();
 
-	// FIXME: this field is deprecated and should be remvoed together with the
-	// broadcasting loggingNotification.
-	private LoggingLevel minLoggingLevel = LoggingLevel.DEBUG;
+	// Until a client sets its level, broadcast log messages reach it at any level
+	private static final LoggingLevel BROADCAST_LOGGING_LEVEL = LoggingLevel.DEBUG;
+
+	private final LoggingSessionIndex loggingSessions = new LoggingSessionIndex();
 
 	private final ConcurrentHashMap<McpSchema.CompleteReference, McpServerFeatures.AsyncCompletionSpecification> completions = new ConcurrentHashMap<>();
 
@@ -121,61 +149,164 @@ public class McpAsyncServer {
 
 	private McpUriTemplateManagerFactory uriTemplateManagerFactory = new DefaultMcpUriTemplateManagerFactory();
 
+	private final ProgressConflator.Counters progressCounters = new ProgressConflator.Counters();
+
 	/**
 	 * Create a new McpAsyncServer with the given transport provider and capabilities.
 	 * @param mcpTransportProvider The transport layer implementation for MCP
 	 * communication.
 	 * @param features The MCP server supported features.
 	 * @param jsonMapper The JsonMapper to use for JSON serialization/deserialization
+	 * @param admissionController The admission controller guarding request handlers, or
+	 * null to admit every request
+	 * @param progressNotificationInterval The minimum interval between two progress
+	 * notifications for the same token, or null to send every progress notification
+	 * @param validateToolInputs Whether to validate the arguments of tool calls against
+	 * the input schema of the tool
+	 * @param toolResultCache The cache for the results of read-only, idempotent tools, or
+	 * null to call the tools every time
+	 * @param maxInFlightRequests The maximum number of requests each session sends to its
+	 * client that await a response
+	 * @param overflowPolicy What to do with requests beyond {@code maxInFlightRequests}
 	 */
 	McpAsyncServer(McpServerTransportProvider mcpTransportProvider, McpJsonMapper jsonMapper,
 			McpServerFeatures.Async features, Duration requestTimeout,
-			McpUriTemplateManagerFactory uriTemplateManagerFactory, JsonSchemaValidator jsonSchemaValidator) {
+			McpUriTemplateManagerFactory uriTemplateManagerFactory, JsonSchemaValidator jsonSchemaValidator,
+			McpAdmissionController admissionController, Duration progressNotificationInterval,
+			boolean validateToolInputs, McpToolResultCache toolResultCache, int maxInFlightRequests,
+			PendingRequestTable.OverflowPolicy overflowPolicy) {
 		this.mcpTransportProvider = mcpTransportProvider;
 		this.jsonMapper = jsonMapper;
 		this.serverInfo = features.serverInfo();
 		this.serverCapabilities = features.serverCapabilities().mutate().logging().build();
 		this.instructions = features.instructions();
-		this.tools.addAll(withStructuredOutputHandling(jsonSchemaValidator, features.tools()));
+		this.jsonSchemaValidator = jsonSchemaValidator;
+		this.validateToolInputs = validateToolInputs;
+		this.toolResultCache = toolResultCache;
+		this.tools.addAll(withStructuredOutputHandling(jsonSchemaValidator, withInputValidation(features.tools())));
 		this.resources.putAll(features.resources());
 		this.resourceTemplates.putAll(features.resourceTemplates());
 		this.prompts.putAll(features.prompts());
 		this.completions.putAll(features.completions());
 		this.uriTemplateManagerFactory = uriTemplateManagerFactory;
-		this.jsonSchemaValidator = jsonSchemaValidator;
 
-		Map<String, McpRequestHandler<?>> requestHandlers = prepareRequestHandlers();
+		Map<String, McpRequestHandler<?>> requestHandlers = withAdmissionControl(
+				withProgressConflation(prepareRequestHandlers(), progressNotificationInterval), admissionController);
 		Map<String, McpNotificationHandler> notificationHandlers = prepareNotificationHandlers(features);
 
 		this.protocolVersions = mcpTransportProvider.protocolVersions();
 
-		mcpTransportProvider.setSessionFactory(transport -> new McpServerSession(UUID.randomUUID().toString(),
-				requestTimeout, transport, this::asyncInitializeRequestHandler, requestHandlers, notificationHandlers));
+		mcpTransportProvider.setSessionFactory(transport -> {
+			McpServerSession session = new McpServerSession(UUID.randomUUID().toString(), requestTimeout, transport,
+					this::asyncInitializeRequestHandler, requestHandlers, notificationHandlers, maxInFlightRequests,
+					overflowPolicy);
+			this.loggingSessions.add(session, BROADCAST_LOGGING_LEVEL);
+			session.setCloseListener(() -> this.loggingSessions.remove(session));
+			return session;
+		});
 	}
 
 	McpAsyncServer(McpStreamableServerTransportProvider mcpTransportProvider, McpJsonMapper jsonMapper,
 			McpServerFeatures.Async features, Duration requestTimeout,
-			McpUriTemplateManagerFactory uriTemplateManagerFactory, JsonSchemaValidator jsonSchemaValidator) {
+			McpUriTemplateManagerFactory uriTemplateManagerFactory, JsonSchemaValidator jsonSchemaValidator,
+			McpAdmissionController admissionController, Duration progressNotificationInterval,
+			boolean validateToolInputs, McpToolResultCache toolResultCache, int maxInFlightRequests,
+			PendingRequestTable.OverflowPolicy overflowPolicy) {
 		this.mcpTransportProvider = mcpTransportProvider;
 		this.jsonMapper = jsonMapper;
 		this.serverInfo = features.serverInfo();
 		this.serverCapabilities = features.serverCapabilities().mutate().logging().build();
 		this.instructions = features.instructions();
-		this.tools.addAll(withStructuredOutputHandling(jsonSchemaValidator, features.tools()));
+		this.jsonSchemaValidator = jsonSchemaValidator;
+		this.validateToolInputs = validateToolInputs;
+		this.toolResultCache = toolResultCache;
+		this.tools.addAll(withStructuredOutputHandling(jsonSchemaValidator, withInputValidation(features.tools())));
 		this.resources.putAll(features.resources());
 		this.resourceTemplates.putAll(features.resourceTemplates());
 		this.prompts.putAll(features.prompts());
 		this.completions.putAll(features.completions());
 		this.uriTemplateManagerFactory = uriTemplateManagerFactory;
-		this.jsonSchemaValidator = jsonSchemaValidator;
 
-		Map<String, McpRequestHandler<?>> requestHandlers = prepareRequestHandlers();
+		Map<String, McpRequestHandler<?>> requestHandlers = withAdmissionControl(
+				withProgressConflation(prepareRequestHandlers(), progressNotificationInterval), admissionController);
 		Map<String, McpNotificationHandler> notificationHandlers = prepareNotificationHandlers(features);
 
 		this.protocolVersions = mcpTransportProvider.protocolVersions();
 
-		mcpTransportProvider.setSessionFactory(new DefaultMcpStreamableServerSessionFactory(requestTimeout,
-				this::asyncInitializeRequestHandler, requestHandlers, notificationHandlers));
+		McpStreamableServerSession.Factory sessionFactory = new DefaultMcpStreamableServerSessionFactory(requestTimeout,
+				this::asyncInitializeRequestHandler, requestHandlers, notificationHandlers, maxInFlightRequests,
+				overflowPolicy);
+		mcpTransportProvider.setSessionFactory(new McpStreamableServerSession.Factory() {
+
+			@Override
+			public McpStreamableServerSession.McpStreamableServerSessionInit startSession(
+					McpSchema.InitializeRequest initializeRequest) {
+				McpStreamableServerSession.McpStreamableServerSessionInit init = sessionFactory
+					.startSession(initializeRequest);
+				addLoggingSession(init.session(), BROADCAST_LOGGING_LEVEL);
+				return init;
+			}
+
+			@Override
+			public McpStreamableServerSession restoreSession(McpStreamableSessionState state) {
+				McpStreamableServerSession session = sessionFactory.restoreSession(state);
+				addLoggingSession(session, state.minLoggingLevel());
+				return session;
+			}
+
+		});
+	}
+
+	private void addLoggingSession(McpStreamableServerSession session, LoggingLevel minLoggingLevel) {
+		this.loggingSessions.add(session, minLoggingLevel);
+		session.setCloseListener(() -> this.loggingSessions.remove(session));
+	}
+
+	/**
+	 * Gives every request handler except {@code ping} an exchange that conflates its
+	 * progress notifications. Pending notifications are flushed before the response.
+	 */
+	private Map<String, McpRequestHandler<?>> withProgressConflation(Map<String, McpRequestHandler<?>> requestHandlers,
+			Duration progressNotificationInterval) {
+		if (progressNotificationInterval == null) {
+			return requestHandlers;
+		}
+		Map<String, McpRequestHandler<?>> conflated = new HashMap<>();
+		requestHandlers.forEach((method, handler) -> conflated.put(method, McpSchema.METHOD_PING.equals(method)
+				? handler : conflated(handler, progressNotificationInterval, this.progressCounters)));
+		return conflated;
+	}
+
+	private static <T> McpRequestHandler<T> conflated(McpRequestHandler<T> handler, Duration interval,
+			ProgressConflator.Counters counters) {
+		return (exchange, params) -> Mono.defer(() -> {
+			ProgressConflator conflator = new ProgressConflator(interval, exchange::progressNotification, counters);
+			return handler.handle(exchange.withProgressConflator(conflator), params)
+				.flatMap(result -> conflator.flush().thenReturn(result))
+				.switchIfEmpty(conflator.flush().then(Mono.empty()))
+				.onErrorResume(error -> conflator.flush().then(Mono.error(error)))
+				.doOnCancel(conflator::discard);
+		});
+	}
+
+	/**
+	 * Puts every request handler except {@code ping} behind the admission controller.
+	 */
+	private static Map<String, McpRequestHandler<?>> withAdmissionControl(
+			Map<String, McpRequestHandler<?>> requestHandlers, McpAdmissionController admissionController) {
+		if (admissionController == null) {
+			return requestHandlers;
+		}
+		Map<String, McpRequestHandler<?>> admitted = new HashMap<>();
+		requestHandlers.forEach((method, handler) -> admitted.put(method,
+				McpSchema.METHOD_PING.equals(method) ? handler : admitted(method, handler, admissionController)));
+		return admitted;
+	}
+
+	private static <T> McpRequestHandler<T> admitted(String method, McpRequestHandler<T> handler,
+			McpAdmissionController admissionController) {
+		return (exchange, params) -> admissionController.admit(
+				McpAdmissionRequest.of(exchange.sessionId(), method, params), () -> handler.handle(exchange, params));
 	}
 
 	private Map<String, McpNotificationHandler> prepareNotificationHandlers(McpServerFeatures.Async features) {
@@ -283,6 +414,16 @@ public class McpAsyncServer {
 		return this.serverInfo;
 	}
 
+	/**
+	 * Get the counts of progress notifications delivered and dropped by progress
+	 * conflation. Both stay at zero unless a progress notification interval is
+	 * configured.
+	 * @return The progress conflation counters
+	 */
+	public ProgressConflator.Counters getProgressCounters() {
+		return this.progressCounters;
+	}
+
 	/**
 	 * Gracefully closes the server, allowing any in-progress operations to complete.
 	 * @return A Mono that completes when the server has been closed
@@ -300,7 +441,10 @@ public class McpAsyncServer {
 
 	private McpNotificationHandler asyncRootsListChangedNotificationHandler(
 			List<BiFunction<McpAsyncServerExchange, List<McpSchema.Root>, Mono<Void>>> rootsChangeConsumers) {
-		return (exchange, params) -> exchange.listRoots()
+		return (exchange, params) -> Mono.defer(() -> {
+			exchange.invalidateRoots();
+			return exchange.listRoots();
+		})
 			.flatMap(listRootsResult -> Flux.fromIterable(rootsChangeConsumers)
 				.flatMap(consumer -> Mono.defer(() -> consumer.apply(exchange, listRootsResult.roots())))
 				.onErrorResume(error -> {
@@ -333,24 +477,97 @@ public class McpAsyncServer {
 			return Mono.error(new IllegalStateException("Server must be configured with tool capabilities"));
 		}
 
-		var wrappedToolSpecification = withStructuredOutputHandling(this.jsonSchemaValidator, toolSpecification);
+		McpServerFeatures.AsyncToolSpecification wrappedToolSpecification;
+		try {
+			wrappedToolSpecification = withStructuredOutputHandling(this.jsonSchemaValidator,
+					withInputValidation(toolSpecification));
+		}
+		catch (IllegalArgumentException e) {
+			return Mono.error(e);
+		}
 
 		return Mono.defer(() -> {
-			// Remove tools with duplicate tool names first
-			if (this.tools.removeIf(th -> th.tool().name().equals(wrappedToolSpecification.tool().name()))) {
-				logger.warn("Replace existing Tool with name '{}'", wrappedToolSpecification.tool().name());
+			putTool(wrappedToolSpecification);
+			if (this.serverCapabilities.tools().listChanged()) {
+				return notifyToolsListChanged();
 			}
+			return Mono.empty();
+		});
+	}
 
-			this.tools.add(wrappedToolSpecification);
-			logger.debug("Added tool handler: {}", wrappedToolSpecification.tool().name());
+	/**
+	 * Removes and adds tool handlers at runtime as one change, so that clients are
+	 * notified once rather than once per tool. Tools that already exist are replaced.
+	 * @param removedToolNames the names of the tool handlers to remove
+	 * @param toolSpecifications the tool handlers to add
+	 * @return Mono that completes when clients have been notified of the change
+	 */
+	public Mono<Void> updateTools(Collection<String> removedToolNames,
+			Collection<McpServerFeatures.AsyncToolSpecification> toolSpecifications) {
+		if (removedToolNames == null || removedToolNames.stream().anyMatch(Objects::isNull)) {
+			return Mono.error(new IllegalArgumentException("Tool names must not be null"));
+		}
+		if (toolSpecifications == null) {
+			return Mono.error(new IllegalArgumentException("Tool specifications must not be null"));
+		}
+		if (this.serverCapabilities.tools() == null) {
+			return Mono.error(new IllegalStateException("Server must be configured with tool capabilities"));
+		}
 
-			if (this.serverCapabilities.tools().listChanged()) {
+		List<McpServerFeatures.AsyncToolSpecification> wrappedToolSpecifications = new ArrayList<>();
+		for (McpServerFeatures.AsyncToolSpecification toolSpecification : toolSpecifications) {
+			if (toolSpecification == null || toolSpecification.tool() == null) {
+				return Mono.error(new IllegalArgumentException("Tool must not be null"));
+			}
+			if (toolSpecification.call() == null && toolSpecification.callHandler() == null) {
+				return Mono.error(new IllegalArgumentException("Tool call handler must not be null"));
+			}
+			try {
+				wrappedToolSpecifications.add(
+						withStructuredOutputHandling(this.jsonSchemaValidator, withInputValidation(toolSpecification)));
+			}
+			catch (IllegalArgumentException e) {
+				return Mono.error(e);
+			}
+		}
+
+		return Mono.defer(() -> {
+			boolean changed = false;
+			for (String toolName : removedToolNames) {
+				changed |= removeToolNamed(toolName);
+			}
+			for (McpServerFeatures.AsyncToolSpecification wrappedToolSpecification : wrappedToolSpecifications) {
+				putTool(wrappedToolSpecification);
+				changed = true;
+			}
+			if (changed && this.serverCapabilities.tools().listChanged()) {
 				return notifyToolsListChanged();
 			}
 			return Mono.empty();
 		});
 	}
 
+	private void putTool(McpServerFeatures.AsyncToolSpecification wrappedToolSpecification) {
+		// Remove tools with duplicate tool names first
+		if (this.tools.removeIf(th -> th.tool().name().equals(wrappedToolSpecification.tool().name()))) {
+			logger.warn("Replace existing Tool with name '{}'", wrappedToolSpecification.tool().name());
+		}
+		invalidateToolResults(wrappedToolSpecification.tool().name());
+
+		this.tools.add(wrappedToolSpecification);
+		logger.debug("Added tool handler: {}", wrappedToolSpecification.tool().name());
+	}
+
+	private boolean removeToolNamed(String toolName) {
+		if (this.tools.removeIf(toolSpecification -> toolSpecification.tool().name().equals(toolName))) {
+			invalidateToolResults(toolName);
+			logger.debug("Removed tool handler: {}", toolName);
+			return true;
+		}
+		logger.warn("Ignore as a Tool with name '{}' not found", toolName);
+		return false;
+	}
+
 	private static class StructuredOutputCallToolHandler
 			implements BiFunction<McpAsyncServerExchange, McpSchema.CallToolRequest, Mono<McpSchema.CallToolResult>> {
 
@@ -436,6 +653,35 @@ public class McpAsyncServer {
 
 	}
 
+	private List<McpServerFeatures.AsyncToolSpecification> withInputValidation(
+			List<McpServerFeatures.AsyncToolSpecification> tools) {
+
+		if (!this.validateToolInputs || Utils.isEmpty(tools)) {
+			return tools;
+		}
+
+		return tools.stream().map(this::withInputValidation).toList();
+	}
+
+	private McpServerFeatures.AsyncToolSpecification withInputValidation(
+			McpServerFeatures.AsyncToolSpecification toolSpecification) {
+
+		if (!this.validateToolInputs || toolSpecification.callHandler() == null) {
+			return toolSpecification;
+		}
+
+		var callHandler = ToolArguments.InputValidatingCallToolHandler.wrap(this.jsonSchemaValidator, this.jsonMapper,
+				toolSpecification.tool(), toolSpecification.callHandler());
+		if (callHandler == toolSpecification.callHandler()) {
+			return toolSpecification;
+		}
+
+		return McpServerFeatures.AsyncToolSpecification.builder()
+			.tool(toolSpecification.tool())
+			.callHandler(callHandler)
+			.build();
+	}
+
 	private static List<McpServerFeatures.AsyncToolSpecification> withStructuredOutputHandling(
 			JsonSchemaValidator jsonSchemaValidator, List<McpServerFeatures.AsyncToolSpecification> tools) {
 
@@ -488,17 +734,9 @@ public class McpAsyncServer {
 		}
 
 		return Mono.defer(() -> {
-			if (this.tools.removeIf(toolSpecification -> toolSpecification.tool().name().equals(toolName))) {
-
-				logger.debug("Removed tool handler: {}", toolName);
-				if (this.serverCapabilities.tools().listChanged()) {
-					return notifyToolsListChanged();
-				}
-			}
-			else {
-				logger.warn("Ignore as a Tool with name '{}' not found", toolName);
+			if (removeToolNamed(toolName) && this.serverCapabilities.tools().listChanged()) {
+				return notifyToolsListChanged();
 			}
-
 			return Mono.empty();
 		});
 	}
@@ -520,10 +758,9 @@ public class McpAsyncServer {
 	}
 
 	private McpRequestHandler<CallToolResult> toolsCallRequestHandler() {
+		McpJsonCodec<McpSchema.CallToolRequest> codec = this.jsonMapper.codec(CALL_TOOL_REQUEST_TYPE_REF);
 		return (exchange, params) -> {
-			McpSchema.CallToolRequest callToolRequest = jsonMapper.convertValue(params,
-					new TypeRef<McpSchema.CallToolRequest>() {
-					});
+			McpSchema.CallToolRequest callToolRequest = codec.convert(params);
 
 			Optional<McpServerFeatures.AsyncToolSpecification> toolSpecification = this.tools.stream()
 				.filter(tr -> callToolRequest.name().equals(tr.tool().name()))
@@ -536,10 +773,22 @@ public class McpAsyncServer {
 					.build());
 			}
 
-			return toolSpecification.get().callHandler().apply(exchange, callToolRequest);
+			var callHandler = toolSpecification.get().callHandler();
+			if (this.toolResultCache != null && McpToolResultCache.isCacheable(toolSpecification.get().tool())) {
+				return this.toolResultCache.get(callToolRequest.name(), callToolRequest.arguments(),
+						() -> callHandler.apply(exchange, callToolRequest));
+			}
+
+			return callHandler.apply(exchange, callToolRequest);
 		};
 	}
 
+	private void invalidateToolResults(String toolName) {
+		if (this.toolResultCache != null) {
+			this.toolResultCache.invalidate(toolName);
+		}
+	}
+
 	// ---------------------------------------
 	// Resource Management
 	// ---------------------------------------
@@ -560,20 +809,76 @@ public class McpAsyncServer {
 		}
 
 		return Mono.defer(() -> {
-			var previous = this.resources.put(resourceSpecification.resource().uri(), resourceSpecification);
-			if (previous != null) {
-				logger.warn("Replace existing Resource with URI '{}'", resourceSpecification.resource().uri());
+			putResource(resourceSpecification);
+			if (this.serverCapabilities.resources().listChanged()) {
+				return notifyResourcesListChanged();
 			}
-			else {
-				logger.debug("Added resource handler: {}", resourceSpecification.resource().uri());
+			return Mono.empty();
+		});
+	}
+
+	/**
+	 * Removes and adds resource handlers at runtime as one change, so that clients are
+	 * notified once rather than once per resource. Resources that already exist are
+	 * replaced.
+	 * @param removedResourceUris the URIs of the resource handlers to remove
+	 * @param resourceSpecifications the resource handlers to add
+	 * @return Mono that completes when clients have been notified of the change
+	 */
+	public Mono<Void> updateResources(Collection<String> removedResourceUris,
+			Collection<McpServerFeatures.AsyncResourceSpecification> resourceSpecifications) {
+		if (removedResourceUris == null || removedResourceUris.stream().anyMatch(Objects::isNull)) {
+			return Mono.error(new IllegalArgumentException("Resource URIs must not be null"));
+		}
+		if (resourceSpecifications == null) {
+			return Mono.error(new IllegalArgumentException("Resource specifications must not be null"));
+		}
+		for (McpServerFeatures.AsyncResourceSpecification resourceSpecification : resourceSpecifications) {
+			if (resourceSpecification == null || resourceSpecification.resource() == null) {
+				return Mono.error(new IllegalArgumentException("Resource must not be null"));
 			}
-			if (this.serverCapabilities.resources().listChanged()) {
+		}
+		if (this.serverCapabilities.resources() == null) {
+			return Mono.error(new IllegalStateException(
+					"Server must be configured with resource capabilities to allow updating resources"));
+		}
+
+		List<McpServerFeatures.AsyncResourceSpecification> added = List.copyOf(resourceSpecifications);
+		return Mono.defer(() -> {
+			boolean changed = false;
+			for (String resourceUri : removedResourceUris) {
+				changed |= removeResourceWithUri(resourceUri);
+			}
+			for (McpServerFeatures.AsyncResourceSpecification resourceSpecification : added) {
+				putResource(resourceSpecification);
+				changed = true;
+			}
+			if (changed && this.serverCapabilities.resources().listChanged()) {
 				return notifyResourcesListChanged();
 			}
 			return Mono.empty();
 		});
 	}
 
+	private void putResource(McpServerFeatures.AsyncResourceSpecification resourceSpecification) {
+		var previous = this.resources.put(resourceSpecification.resource().uri(), resourceSpecification);
+		if (previous != null) {
+			logger.warn("Replace existing Resource with URI '{}'", resourceSpecification.resource().uri());
+		}
+		else {
+			logger.debug("Added resource handler: {}", resourceSpecification.resource().uri());
+		}
+	}
+
+	private boolean removeResourceWithUri(String resourceUri) {
+		if (this.resources.remove(resourceUri) != null) {
+			logger.debug("Removed resource handler: {}", resourceUri);
+			return true;
+		}
+		logger.warn("Ignore as a Resource with URI '{}' not found", resourceUri);
+		return false;
+	}
+
 	/**
 	 * List all registered resources.
 	 * @return A Flux stream of all registered resources
@@ -597,16 +902,8 @@ public class McpAsyncServer {
 		}
 
 		return Mono.defer(() -> {
-			McpServerFeatures.AsyncResourceSpecification removed = this.resources.remove(resourceUri);
-			if (removed != null) {
-				logger.debug("Removed resource handler: {}", resourceUri);
-				if (this.serverCapabilities.resources().listChanged()) {
-					return notifyResourcesListChanged();
-				}
-				return Mono.empty();
-			}
-			else {
-				logger.warn("Ignore as a Resource with URI '{}' not found", resourceUri);
+			if (removeResourceWithUri(resourceUri) && this.serverCapabilities.resources().listChanged()) {
+				return notifyResourcesListChanged();
 			}
 			return Mono.empty();
 		});
@@ -714,9 +1011,9 @@ public class McpAsyncServer {
 	}
 
 	private McpRequestHandler<McpSchema.ReadResourceResult> resourcesReadRequestHandler() {
+		McpJsonCodec<McpSchema.ReadResourceRequest> codec = this.jsonMapper.codec(READ_RESOURCE_REQUEST_TYPE_REF);
 		return (ex, params) -> {
-			McpSchema.ReadResourceRequest resourceRequest = jsonMapper.convertValue(params, new TypeRef<>() {
-			});
+			McpSchema.ReadResourceRequest resourceRequest = codec.convert(params);
 
 			var resourceUri = resourceRequest.uri();
 
@@ -768,13 +1065,7 @@ public class McpAsyncServer {
 		}
 
 		return Mono.defer(() -> {
-			var previous = this.prompts.put(promptSpecification.prompt().name(), promptSpecification);
-			if (previous != null) {
-				logger.warn("Replace existing Prompt with name '{}'", promptSpecification.prompt().name());
-			}
-			else {
-				logger.debug("Added prompt handler: {}", promptSpecification.prompt().name());
-			}
+			putPrompt(promptSpecification);
 			if (this.serverCapabilities.prompts().listChanged()) {
 				return this.notifyPromptsListChanged();
 			}
@@ -783,6 +1074,61 @@ public class McpAsyncServer {
 		});
 	}
 
+	/**
+	 * Removes and adds prompt handlers at runtime as one change, so that clients are
+	 * notified once rather than once per prompt. Prompts that already exist are replaced.
+	 * @param removedPromptNames the names of the prompt handlers to remove
+	 * @param promptSpecifications the prompt handlers to add
+	 * @return Mono that completes when clients have been notified of the change
+	 */
+	public Mono<Void> updatePrompts(Collection<String> removedPromptNames,
+			Collection<McpServerFeatures.AsyncPromptSpecification> promptSpecifications) {
+		if (removedPromptNames == null || removedPromptNames.stream().anyMatch(Objects::isNull)) {
+			return Mono.error(new IllegalArgumentException("Prompt names must not be null"));
+		}
+		if (promptSpecifications == null || promptSpecifications.stream().anyMatch(Objects::isNull)) {
+			return Mono.error(new IllegalArgumentException("Prompt specifications must not be null"));
+		}
+		if (this.serverCapabilities.prompts() == null) {
+			return Mono.error(new IllegalStateException("Server must be configured with prompt capabilities"));
+		}
+
+		List<McpServerFeatures.AsyncPromptSpecification> added = List.copyOf(promptSpecifications);
+		return Mono.defer(() -> {
+			boolean changed = false;
+			for (String promptName : removedPromptNames) {
+				changed |= removePromptNamed(promptName);
+			}
+			for (McpServerFeatures.AsyncPromptSpecification promptSpecification : added) {
+				putPrompt(promptSpecification);
+				changed = true;
+			}
+			if (changed && this.serverCapabilities.prompts().listChanged()) {
+				return this.notifyPromptsListChanged();
+			}
+			return Mono.empty();
+		});
+	}
+
+	private void putPrompt(McpServerFeatures.AsyncPromptSpecification promptSpecification) {
+		var previous = this.prompts.put(promptSpecification.prompt().name(), promptSpecification);
+		if (previous != null) {
+			logger.warn("Replace existing Prompt with name '{}'", promptSpecification.prompt().name());
+		}
+		else {
+			logger.debug("Added prompt handler: {}", promptSpecification.prompt().name());
+		}
+	}
+
+	private boolean removePromptNamed(String promptName) {
+		if (this.prompts.remove(promptName) != null) {
+			logger.debug("Removed prompt handler: {}", promptName);
+			return true;
+		}
+		logger.warn("Ignore as a Prompt with name '{}' not found", promptName);
+		return false;
+	}
+
 	/**
 	 * List all registered prompts.
 	 * @return A Flux stream of all registered prompts
@@ -805,17 +1151,8 @@ public class McpAsyncServer {
 		}
 
 		return Mono.defer(() -> {
-			McpServerFeatures.AsyncPromptSpecification removed = this.prompts.remove(promptName);
-
-			if (removed != null) {
-				logger.debug("Removed prompt handler: {}", promptName);
-				if (this.serverCapabilities.prompts().listChanged()) {
-					return this.notifyPromptsListChanged();
-				}
-				return Mono.empty();
-			}
-			else {
-				logger.warn("Ignore as a Prompt with name '{}' not found", promptName);
+			if (removePromptNamed(promptName) && this.serverCapabilities.prompts().listChanged()) {
+				return this.notifyPromptsListChanged();
 			}
 			return Mono.empty();
 		});
@@ -846,10 +1183,9 @@ public class McpAsyncServer {
 	}
 
 	private McpRequestHandler<McpSchema.GetPromptResult> promptsGetRequestHandler() {
+		McpJsonCodec<McpSchema.GetPromptRequest> codec = this.jsonMapper.codec(GET_PROMPT_REQUEST_TYPE_REF);
 		return (exchange, params) -> {
-			McpSchema.GetPromptRequest promptRequest = jsonMapper.convertValue(params,
-					new TypeRef<McpSchema.GetPromptRequest>() {
-					});
+			McpSchema.GetPromptRequest promptRequest = codec.convert(params);
 
 			// Implement prompt retrieval logic here
 			McpServerFeatures.AsyncPromptSpecification specification = this.prompts.get(promptRequest.name());
@@ -870,10 +1206,10 @@ public class McpAsyncServer {
 	// ---------------------------------------
 
 	/**
-	 * This implementation would, incorrectly, broadcast the logging message to all
-	 * connected clients, using a single minLoggingLevel for all of them. Similar to the
-	 * sampling and roots, the logging level should be set per client session and use the
-	 * ServerExchange to send the logging message to the right client.
+	 * Broadcasts the logging message to the connected clients that set a minimum logging
+	 * level admitting it. Clients that never set a logging level receive broadcast
+	 * messages of any level. Similar to the sampling and roots, logging is better done
+	 * through the ServerExchange, which sends the logging message to the right client.
 	 * @param loggingMessageNotification The logging message to send
 	 * @return A Mono that completes when the notification has been sent
 	 * @deprecated Use
@@ -887,26 +1223,24 @@ public class McpAsyncServer {
 			return Mono.error(new McpError("Logging message must not be null"));
 		}
 
-		if (loggingMessageNotification.level().level() < minLoggingLevel.level()) {
-			return Mono.empty();
-		}
-
-		return this.mcpTransportProvider.notifyClients(McpSchema.METHOD_NOTIFICATION_MESSAGE,
-				loggingMessageNotification);
+		return Flux
+			.defer(() -> Flux.fromIterable(this.loggingSessions.sessionsAccepting(loggingMessageNotification.level())))
+			.flatMap(session -> session
+				.sendNotification(McpSchema.METHOD_NOTIFICATION_MESSAGE, loggingMessageNotification)
+				.doOnError(e -> logger.error("Failed to send logging notification: {}", e.getMessage()))
+				.onErrorComplete())
+			.then();
 	}
 
 	private McpRequestHandler<Object> setLoggerRequestHandler() {
+		McpJsonCodec<SetLevelRequest> codec = this.jsonMapper.codec(SET_LEVEL_REQUEST_TYPE_REF);
 		return (exchange, params) -> {
 			return Mono.defer(() -> {
 
-				SetLevelRequest newMinLoggingLevel = jsonMapper.convertValue(params, new TypeRef<SetLevelRequest>() {
-				});
+				SetLevelRequest newMinLoggingLevel = codec.convert(params);
 
 				exchange.setMinLoggingLevel(newMinLoggingLevel.level());
-
-				// FIXME: this field is deprecated and should be removed together
-				// with the broadcasting loggingNotification.
-				this.minLoggingLevel = newMinLoggingLevel.level();
+				this.loggingSessions.update(exchange.loggingSession(), newMinLoggingLevel.level());
 
 				return Mono.just(Map.of());
 			});
@@ -7,15 +7,21 @@ package io.modelcontextprotocol.server;
 import io.modelcontextprotocol.common.McpTransportContext;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 import io.modelcontextprotocol.json.TypeRef;
 import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpLoggableSession;
+import io.modelcontextprotocol.spec.McpRootsCache;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.LoggingLevel;
 import io.modelcontextprotocol.spec.McpSchema.LoggingMessageNotification;
 import io.modelcontextprotocol.spec.McpSession;
+import io.modelcontextprotocol.spec.McpStreamableServerSession;
+import io.modelcontextprotocol.spec.ProgressConflator;
 import io.modelcontextprotocol.util.Assert;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -37,6 +43,10 @@ public class McpAsyncServerExchange {
 
 	private final McpTransportContext transportContext;
 
+	private final ProgressConflator progressConflator;
+
+	private final McpRootsCache rootsCache;
+
 	private static final TypeRef<McpSchema.CreateMessageResult> CREATE_MESSAGE_RESULT_TYPE_REF = new TypeRef<>() {
 	};
 
@@ -69,6 +79,8 @@ public class McpAsyncServerExchange {
 		this.clientCapabilities = clientCapabilities;
 		this.clientInfo = clientInfo;
 		this.transportContext = McpTransportContext.EMPTY;
+		this.progressConflator = null;
+		this.rootsCache = null;
 	}
 
 	/**
@@ -83,11 +95,47 @@ public class McpAsyncServerExchange {
 	public McpAsyncServerExchange(String sessionId, McpLoggableSession session,
 			McpSchema.ClientCapabilities clientCapabilities, McpSchema.Implementation clientInfo,
 			McpTransportContext transportContext) {
+		this(sessionId, session, clientCapabilities, clientInfo, transportContext, null, null);
+	}
+
+	/**
+	 * Create a new asynchronous exchange with the client, keeping the client's roots in
+	 * the given cache.
+	 * @param session The server session representing a 1-1 interaction.
+	 * @param clientCapabilities The client capabilities that define the supported
+	 * features and functionality.
+	 * @param clientInfo The client implementation information.
+	 * @param transportContext context associated with the client as extracted from the
+	 * transport
+	 * @param rootsCache the roots cache of the session, shared by all of its exchanges
+	 */
+	public McpAsyncServerExchange(String sessionId, McpLoggableSession session,
+			McpSchema.ClientCapabilities clientCapabilities, McpSchema.Implementation clientInfo,
+			McpTransportContext transportContext, McpRootsCache rootsCache) {
+		this(sessionId, session, clientCapabilities, clientInfo, transportContext, null, rootsCache);
+	}
+
+	private McpAsyncServerExchange(String sessionId, McpLoggableSession session,
+			McpSchema.ClientCapabilities clientCapabilities, McpSchema.Implementation clientInfo,
+			McpTransportContext transportContext, ProgressConflator progressConflator, McpRootsCache rootsCache) {
 		this.sessionId = sessionId;
 		this.session = session;
 		this.clientCapabilities = clientCapabilities;
 		this.clientInfo = clientInfo;
 		this.transportContext = transportContext;
+		this.progressConflator = progressConflator;
+		this.rootsCache = rootsCache;
+	}
+
+	/**
+	 * Creates a copy of this exchange whose progress notifications go through the given
+	 * conflator.
+	 * @param progressConflator the conflator, delivering through this exchange
+	 * @return the conflating exchange
+	 */
+	McpAsyncServerExchange withProgressConflator(ProgressConflator progressConflator) {
+		return new McpAsyncServerExchange(this.sessionId, this.session, this.clientCapabilities, this.clientInfo,
+				this.transportContext, progressConflator, this.rootsCache);
 	}
 
 	/**
@@ -151,6 +199,23 @@ public class McpAsyncServerExchange {
 				CREATE_MESSAGE_RESULT_TYPE_REF);
 	}
 
+	/**
+	 * Sends several sampling requests to the client, with at most the given number of
+	 * them awaiting a response at any time. The results are emitted in the order of the
+	 * requests; the first failed request fails the returned Flux and cancels the requests
+	 * still in flight.
+	 * @param createMessageRequests The requests to send
+	 * @param maxConcurrency The maximum number of requests awaiting a response at once
+	 * @return A Flux emitting the result of each request, in request order
+	 * @see #createMessage(McpSchema.CreateMessageRequest)
+	 */
+	public Flux<McpSchema.CreateMessageResult> createMessages(
+			List<McpSchema.CreateMessageRequest> createMessageRequests, int maxConcurrency) {
+		Assert.notNull(createMessageRequests, "Create message requests must not be null");
+		Assert.isTrue(maxConcurrency > 0, "Max concurrency must be positive");
+		return Flux.fromIterable(createMessageRequests).flatMapSequential(this::createMessage, maxConcurrency, 1);
+	}
+
 	/**
 	 * Creates a new elicitation. MCP provides a standardized way for servers to request
 	 * additional information from users through the client during interactions. This flow
@@ -177,10 +242,44 @@ public class McpAsyncServerExchange {
 	}
 
 	/**
-	 * Retrieves the list of all roots provided by the client.
+	 * Retrieves the list of all roots provided by the client. When the client announces
+	 * changes to its roots, the list is fetched once per session and served from a cache
+	 * until the client sends {@code notifications/roots/list_changed}.
 	 * @return A Mono that emits the list of roots result.
 	 */
 	public Mono<McpSchema.ListRootsResult> listRoots() {
+		if (!isRootsCacheable()) {
+			return fetchRoots();
+		}
+		return this.rootsCache.get(() -> fetchRoots().map(McpSchema.ListRootsResult::roots))
+			.map(roots -> new McpSchema.ListRootsResult(roots, null));
+	}
+
+	/**
+	 * Returns the roots of the client if they are cached, without contacting the client.
+	 * Roots are cached once {@link #listRoots()} has fetched them, provided the client
+	 * announces changes to its roots.
+	 * @return the cached roots, or empty if none are cached
+	 */
+	public Optional<List<McpSchema.Root>> cachedRoots() {
+		return isRootsCacheable() ? this.rootsCache.current() : Optional.empty();
+	}
+
+	/**
+	 * Discards the cached roots of the session, after the client announced a change.
+	 */
+	void invalidateRoots() {
+		if (this.rootsCache != null) {
+			this.rootsCache.invalidate();
+		}
+	}
+
+	private boolean isRootsCacheable() {
+		return this.rootsCache != null && this.clientCapabilities != null && this.clientCapabilities.roots() != null
+				&& Boolean.TRUE.equals(this.clientCapabilities.roots().listChanged());
+	}
+
+	private Mono<McpSchema.ListRootsResult> fetchRoots() {
 
 		// @formatter:off
 		return this.listRoots(McpSchema.FIRST_PAGE)
@@ -208,9 +307,11 @@ public class McpAsyncServerExchange {
 
 	/**
 	 * Send a logging message notification to the client. Messages below the current
-	 * minimum logging level will be filtered out.
+	 * minimum logging level will be filtered out. Messages are queued in a bounded
+	 * per-session buffer and dropped while the client does not keep up.
 	 * @param loggingMessageNotification The logging message to send
-	 * @return A Mono that completes when the notification has been sent
+	 * @return A Mono that completes when the notification has been sent, filtered out or
+	 * dropped
 	 */
 	public Mono<Void> loggingNotification(LoggingMessageNotification loggingMessageNotification) {
 
@@ -228,14 +329,19 @@ public class McpAsyncServerExchange {
 
 	/**
 	 * Sends a notification to the client that the current progress status has changed for
-	 * long-running operations.
+	 * long-running operations. If the server conflates progress notifications, the
+	 * notification may be held back and replaced by a later one for the same token.
 	 * @param progressNotification The progress notification to send
 	 * @return A Mono that completes when the notification has been sent
+	 * @see McpServer.AsyncSpecification#progressNotificationInterval(java.time.Duration)
 	 */
 	public Mono<Void> progressNotification(McpSchema.ProgressNotification progressNotification) {
 		if (progressNotification == null) {
 			return Mono.error(new McpError("Progress notification must not be null"));
 		}
+		if (this.progressConflator != null) {
+			return this.progressConflator.offer(progressNotification);
+		}
 		return this.session.sendNotification(McpSchema.METHOD_NOTIFICATION_PROGRESS, progressNotification);
 	}
 
@@ -257,4 +363,17 @@ public class McpAsyncServerExchange {
 		this.session.setMinLoggingLevel(minLoggingLevel);
 	}
 
+	/**
+	 * Returns the session that outlives this exchange. For Streamable HTTP that is the
+	 * session owning the request stream, so that later notifications use its listening
+	 * stream.
+	 * @return the long-lived session
+	 */
+	McpLoggableSession loggingSession() {
+		if (this.session instanceof McpStreamableServerSession.McpStreamableServerSessionStream stream) {
+			return stream.getSession();
+		}
+		return this.session;
+	}
+
 }
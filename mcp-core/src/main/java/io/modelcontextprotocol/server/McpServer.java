@@ -17,11 +17,15 @@ import io.modelcontextprotocol.common.McpTransportContext;
 import io.modelcontextprotocol.json.McpJsonDefaults;
 import io.modelcontextprotocol.json.McpJsonMapper;
 import io.modelcontextprotocol.json.schema.JsonSchemaValidator;
+import io.modelcontextprotocol.server.admission.DefaultMcpAdmissionController;
+import io.modelcontextprotocol.server.admission.McpAdmissionController;
+import io.modelcontextprotocol.server.cache.McpToolResultCache;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
 import io.modelcontextprotocol.spec.McpServerTransportProvider;
 import io.modelcontextprotocol.spec.McpStatelessServerTransport;
 import io.modelcontextprotocol.spec.McpStreamableServerTransportProvider;
+import io.modelcontextprotocol.spec.PendingRequestTable;
 import io.modelcontextprotocol.util.Assert;
 import io.modelcontextprotocol.util.DefaultMcpUriTemplateManagerFactory;
 import io.modelcontextprotocol.util.McpUriTemplateManagerFactory;
@@ -240,10 +244,12 @@ public interface McpServer {
 					this.instructions);
 
 			var jsonSchemaValidator = (this.jsonSchemaValidator != null) ? this.jsonSchemaValidator
-					: McpJsonDefaults.getSchemaValidator();
+					: McpJsonDefaults.getLazySchemaValidator();
 
 			return new McpAsyncServer(transportProvider, jsonMapper == null ? McpJsonDefaults.getMapper() : jsonMapper,
-					features, requestTimeout, uriTemplateManagerFactory, jsonSchemaValidator);
+					features, requestTimeout, uriTemplateManagerFactory, jsonSchemaValidator, admissionController,
+					progressNotificationInterval, validateToolInputs, toolResultCache, maxInFlightRequests,
+					overflowPolicy);
 		}
 
 	}
@@ -267,9 +273,11 @@ public interface McpServer {
 					this.resources, this.resourceTemplates, this.prompts, this.completions, this.rootsChangeHandlers,
 					this.instructions);
 			var jsonSchemaValidator = this.jsonSchemaValidator != null ? this.jsonSchemaValidator
-					: McpJsonDefaults.getSchemaValidator();
+					: McpJsonDefaults.getLazySchemaValidator();
 			return new McpAsyncServer(transportProvider, jsonMapper == null ? McpJsonDefaults.getMapper() : jsonMapper,
-					features, requestTimeout, uriTemplateManagerFactory, jsonSchemaValidator);
+					features, requestTimeout, uriTemplateManagerFactory, jsonSchemaValidator, admissionController,
+					progressNotificationInterval, validateToolInputs, toolResultCache, maxInFlightRequests,
+					overflowPolicy);
 		}
 
 	}
@@ -289,6 +297,18 @@ public interface McpServer {
 
 		JsonSchemaValidator jsonSchemaValidator;
 
+		McpAdmissionController admissionController;
+
+		boolean validateToolInputs;
+
+		McpToolResultCache toolResultCache;
+
+		Duration progressNotificationInterval;
+
+		int maxInFlightRequests = PendingRequestTable.UNBOUNDED;
+
+		PendingRequestTable.OverflowPolicy overflowPolicy = PendingRequestTable.OverflowPolicy.FAIL_FAST;
+
 		String instructions;
 
 		boolean strictToolNameValidation = ToolNameValidator.isStrictByDefault();
@@ -831,6 +851,95 @@ public interface McpServer {
 			return this;
 		}
 
+		/**
+		 * Sets the admission controller deciding whether incoming client requests may
+		 * run. It can bound the number of requests in flight per session, rate limit
+		 * methods and tools, and cap the concurrency of individual tools. Rejected
+		 * requests are answered with a JSON-RPC error. By default every request is
+		 * admitted.
+		 * @param admissionController The admission controller to use. Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if admissionController is null
+		 * @see DefaultMcpAdmissionController
+		 */
+		public AsyncSpecification<S> admissionController(McpAdmissionController admissionController) {
+			Assert.notNull(admissionController, "Admission controller must not be null");
+			this.admissionController = admissionController;
+			return this;
+		}
+
+		/**
+		 * Validates the arguments of every tool call against the input schema of the tool
+		 * before calling its handler. Each input schema is compiled once, when the tool
+		 * is added, with the configured {@link JsonSchemaValidator}. Invalid arguments
+		 * are answered with a tool result flagged as an error, describing the validation
+		 * errors, without calling the handler. Disabled by default.
+		 * @param validateToolInputs Whether to validate tool call arguments
+		 * @return This builder instance for method chaining
+		 */
+		public AsyncSpecification<S> validateToolInputs(boolean validateToolInputs) {
+			this.validateToolInputs = validateToolInputs;
+			return this;
+		}
+
+		/**
+		 * Sets the cache for the results of tools annotated as both read-only and
+		 * idempotent. Calls to these tools with the same arguments are answered from the
+		 * cache, across sessions, and the entries of a tool are discarded when it is
+		 * replaced or removed. Other tools are always called. By default no results are
+		 * cached.
+		 * @param toolResultCache The cache to use. Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if toolResultCache is null
+		 * @see McpToolResultCache#isCacheable(McpSchema.Tool)
+		 */
+		public AsyncSpecification<S> toolResultCache(McpToolResultCache toolResultCache) {
+			Assert.notNull(toolResultCache, "Tool result cache must not be null");
+			this.toolResultCache = toolResultCache;
+			return this;
+		}
+
+		/**
+		 * Conflates the progress notifications sent by request handlers. For each
+		 * progress token at most one notification is sent per interval, and only the
+		 * latest one is kept; final notifications, whose progress reached the total, are
+		 * sent immediately. Notifications still pending when a handler completes are sent
+		 * before its response. By default every progress notification is sent.
+		 * @param progressNotificationInterval The minimum interval between two progress
+		 * notifications for the same token. Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if progressNotificationInterval is null
+		 * @see McpAsyncServer#getProgressCounters()
+		 */
+		public AsyncSpecification<S> progressNotificationInterval(Duration progressNotificationInterval) {
+			Assert.notNull(progressNotificationInterval, "Progress notification interval must not be null");
+			this.progressNotificationInterval = progressNotificationInterval;
+			return this;
+		}
+
+		/**
+		 * Limits the number of requests each session sends to its client, such as
+		 * sampling, elicitation or roots requests, that await a response. Requests beyond
+		 * the limit either fail immediately or wait for a slot, depending on the overflow
+		 * policy. Queued requests count against the request timeout. By default the
+		 * number of requests in flight is not limited.
+		 * @param maxInFlightRequests maximum number of requests awaiting a response. Must
+		 * be positive.
+		 * @param overflowPolicy what to do with requests beyond the limit. Must not be
+		 * null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if maxInFlightRequests is not positive or
+		 * overflowPolicy is null
+		 */
+		public AsyncSpecification<S> maxInFlightRequests(int maxInFlightRequests,
+				PendingRequestTable.OverflowPolicy overflowPolicy) {
+			Assert.isTrue(maxInFlightRequests > 0, "Max in-flight requests must be positive");
+			Assert.notNull(overflowPolicy, "Overflow policy must not be null");
+			this.maxInFlightRequests = maxInFlightRequests;
+			this.overflowPolicy = overflowPolicy;
+			return this;
+		}
+
 	}
 
 	class SingleSessionSyncSpecification extends SyncSpecification<SingleSessionSyncSpecification> {
@@ -858,7 +967,9 @@ public interface McpServer {
 			var asyncServer = new McpAsyncServer(transportProvider,
 					jsonMapper == null ? McpJsonDefaults.getMapper() : jsonMapper, asyncFeatures, requestTimeout,
 					uriTemplateManagerFactory,
-					jsonSchemaValidator != null ? jsonSchemaValidator : McpJsonDefaults.getSchemaValidator());
+					jsonSchemaValidator != null ? jsonSchemaValidator : McpJsonDefaults.getLazySchemaValidator(),
+					admissionController, progressNotificationInterval, validateToolInputs, toolResultCache,
+					maxInFlightRequests, overflowPolicy);
 			return new McpSyncServer(asyncServer, this.immediateExecution);
 		}
 
@@ -886,10 +997,12 @@ public interface McpServer {
 			McpServerFeatures.Async asyncFeatures = McpServerFeatures.Async.fromSync(syncFeatures,
 					this.immediateExecution);
 			var jsonSchemaValidator = this.jsonSchemaValidator != null ? this.jsonSchemaValidator
-					: McpJsonDefaults.getSchemaValidator();
+					: McpJsonDefaults.getLazySchemaValidator();
 			var asyncServer = new McpAsyncServer(transportProvider,
 					jsonMapper == null ? McpJsonDefaults.getMapper() : jsonMapper, asyncFeatures, this.requestTimeout,
-					this.uriTemplateManagerFactory, jsonSchemaValidator);
+					this.uriTemplateManagerFactory, jsonSchemaValidator, this.admissionController,
+					this.progressNotificationInterval, this.validateToolInputs, this.toolResultCache,
+					this.maxInFlightRequests, this.overflowPolicy);
 			return new McpSyncServer(asyncServer, this.immediateExecution);
 		}
 
@@ -941,6 +1054,18 @@ public interface McpServer {
 
 		JsonSchemaValidator jsonSchemaValidator;
 
+		McpAdmissionController admissionController;
+
+		boolean validateToolInputs;
+
+		McpToolResultCache toolResultCache;
+
+		Duration progressNotificationInterval;
+
+		int maxInFlightRequests = PendingRequestTable.UNBOUNDED;
+
+		PendingRequestTable.OverflowPolicy overflowPolicy = PendingRequestTable.OverflowPolicy.FAIL_FAST;
+
 		/**
 		 * The Model Context Protocol (MCP) provides a standardized way for servers to
 		 * expose prompt templates to clients. Prompts allow servers to provide structured
@@ -1444,6 +1569,95 @@ public interface McpServer {
 			return this;
 		}
 
+		/**
+		 * Sets the admission controller deciding whether incoming client requests may
+		 * run. It can bound the number of requests in flight per session, rate limit
+		 * methods and tools, and cap the concurrency of individual tools. Rejected
+		 * requests are answered with a JSON-RPC error. By default every request is
+		 * admitted.
+		 * @param admissionController The admission controller to use. Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if admissionController is null
+		 * @see DefaultMcpAdmissionController
+		 */
+		public SyncSpecification<S> admissionController(McpAdmissionController admissionController) {
+			Assert.notNull(admissionController, "Admission controller must not be null");
+			this.admissionController = admissionController;
+			return this;
+		}
+
+		/**
+		 * Validates the arguments of every tool call against the input schema of the tool
+		 * before calling its handler. Each input schema is compiled once, when the tool
+		 * is added, with the configured {@link JsonSchemaValidator}. Invalid arguments
+		 * are answered with a tool result flagged as an error, describing the validation
+		 * errors, without calling the handler. Disabled by default.
+		 * @param validateToolInputs Whether to validate tool call arguments
+		 * @return This builder instance for method chaining
+		 */
+		public SyncSpecification<S> validateToolInputs(boolean validateToolInputs) {
+			this.validateToolInputs = validateToolInputs;
+			return this;
+		}
+
+		/**
+		 * Sets the cache for the results of tools annotated as both read-only and
+		 * idempotent. Calls to these tools with the same arguments are answered from the
+		 * cache, across sessions, and the entries of a tool are discarded when it is
+		 * replaced or removed. Other tools are always called. By default no results are
+		 * cached.
+		 * @param toolResultCache The cache to use. Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if toolResultCache is null
+		 * @see McpToolResultCache#isCacheable(McpSchema.Tool)
+		 */
+		public SyncSpecification<S> toolResultCache(McpToolResultCache toolResultCache) {
+			Assert.notNull(toolResultCache, "Tool result cache must not be null");
+			this.toolResultCache = toolResultCache;
+			return this;
+		}
+
+		/**
+		 * Conflates the progress notifications sent by request handlers. For each
+		 * progress token at most one notification is sent per interval, and only the
+		 * latest one is kept; final notifications, whose progress reached the total, are
+		 * sent immediately. Notifications still pending when a handler completes are sent
+		 * before its response. By default every progress notification is sent.
+		 * @param progressNotificationInterval The minimum interval between two progress
+		 * notifications for the same token. Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if progressNotificationInterval is null
+		 * @see McpAsyncServer#getProgressCounters()
+		 */
+		public SyncSpecification<S> progressNotificationInterval(Duration progressNotificationInterval) {
+			Assert.notNull(progressNotificationInterval, "Progress notification interval must not be null");
+			this.progressNotificationInterval = progressNotificationInterval;
+			return this;
+		}
+
+		/**
+		 * Limits the number of requests each session sends to its client, such as
+		 * sampling, elicitation or roots requests, that await a response. Requests beyond
+		 * the limit either fail immediately or wait for a slot, depending on the overflow
+		 * policy. Queued requests count against the request timeout. By default the
+		 * number of requests in flight is not limited.
+		 * @param maxInFlightRequests maximum number of requests awaiting a response. Must
+		 * be positive.
+		 * @param overflowPolicy what to do with requests beyond the limit. Must not be
+		 * null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if maxInFlightRequests is not positive or
+		 * overflowPolicy is null
+		 */
+		public SyncSpecification<S> maxInFlightRequests(int maxInFlightRequests,
+				PendingRequestTable.OverflowPolicy overflowPolicy) {
+			Assert.isTrue(maxInFlightRequests > 0, "Max in-flight requests must be positive");
+			Assert.notNull(overflowPolicy, "Overflow policy must not be null");
+			this.maxInFlightRequests = maxInFlightRequests;
+			this.overflowPolicy = overflowPolicy;
+			return this;
+		}
+
 		/**
 		 * Enable on "immediate execution" of the operations on the underlying
 		 * {@link McpAsyncServer}. Defaults to false, which does blocking code offloading
@@ -1476,6 +1690,12 @@ public interface McpServer {
 
 		JsonSchemaValidator jsonSchemaValidator;
 
+		McpAdmissionController admissionController;
+
+		boolean validateToolInputs;
+
+		McpToolResultCache toolResultCache;
+
 		String instructions;
 
 		boolean strictToolNameValidation = ToolNameValidator.isStrictByDefault();
@@ -1933,12 +2153,61 @@ public interface McpServer {
 			return this;
 		}
 
+		/**
+		 * Sets the admission controller deciding whether incoming client requests may
+		 * run. It can bound the number of requests in flight per session, rate limit
+		 * methods and tools, and cap the concurrency of individual tools. Rejected
+		 * requests are answered with a JSON-RPC error. By default every request is
+		 * admitted.
+		 * @param admissionController The admission controller to use. Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if admissionController is null
+		 * @see DefaultMcpAdmissionController
+		 */
+		public StatelessAsyncSpecification admissionController(McpAdmissionController admissionController) {
+			Assert.notNull(admissionController, "Admission controller must not be null");
+			this.admissionController = admissionController;
+			return this;
+		}
+
+		/**
+		 * Validates the arguments of every tool call against the input schema of the tool
+		 * before calling its handler. Each input schema is compiled once, when the tool
+		 * is added, with the configured {@link JsonSchemaValidator}. Invalid arguments
+		 * are answered with a tool result flagged as an error, describing the validation
+		 * errors, without calling the handler. Disabled by default.
+		 * @param validateToolInputs Whether to validate tool call arguments
+		 * @return This builder instance for method chaining
+		 */
+		public StatelessAsyncSpecification validateToolInputs(boolean validateToolInputs) {
+			this.validateToolInputs = validateToolInputs;
+			return this;
+		}
+
+		/**
+		 * Sets the cache for the results of tools annotated as both read-only and
+		 * idempotent. Calls to these tools with the same arguments are answered from the
+		 * cache, across sessions, and the entries of a tool are discarded when it is
+		 * replaced or removed. Other tools are always called. By default no results are
+		 * cached.
+		 * @param toolResultCache The cache to use. Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if toolResultCache is null
+		 * @see McpToolResultCache#isCacheable(McpSchema.Tool)
+		 */
+		public StatelessAsyncSpecification toolResultCache(McpToolResultCache toolResultCache) {
+			Assert.notNull(toolResultCache, "Tool result cache must not be null");
+			this.toolResultCache = toolResultCache;
+			return this;
+		}
+
 		public McpStatelessAsyncServer build() {
 			var features = new McpStatelessServerFeatures.Async(this.serverInfo, this.serverCapabilities, this.tools,
 					this.resources, this.resourceTemplates, this.prompts, this.completions, this.instructions);
 			return new McpStatelessAsyncServer(transport, jsonMapper == null ? McpJsonDefaults.getMapper() : jsonMapper,
 					features, requestTimeout, uriTemplateManagerFactory,
-					jsonSchemaValidator != null ? jsonSchemaValidator : McpJsonDefaults.getSchemaValidator());
+					jsonSchemaValidator != null ? jsonSchemaValidator : McpJsonDefaults.getLazySchemaValidator(),
+					admissionController, validateToolInputs, toolResultCache);
 		}
 
 	}
@@ -1959,6 +2228,12 @@ public interface McpServer {
 
 		JsonSchemaValidator jsonSchemaValidator;
 
+		McpAdmissionController admissionController;
+
+		boolean validateToolInputs;
+
+		McpToolResultCache toolResultCache;
+
 		String instructions;
 
 		boolean strictToolNameValidation = ToolNameValidator.isStrictByDefault();
@@ -2416,6 +2691,54 @@ public interface McpServer {
 			return this;
 		}
 
+		/**
+		 * Sets the admission controller deciding whether incoming client requests may
+		 * run. It can bound the number of requests in flight per session, rate limit
+		 * methods and tools, and cap the concurrency of individual tools. Rejected
+		 * requests are answered with a JSON-RPC error. By default every request is
+		 * admitted.
+		 * @param admissionController The admission controller to use. Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if admissionController is null
+		 * @see DefaultMcpAdmissionController
+		 */
+		public StatelessSyncSpecification admissionController(McpAdmissionController admissionController) {
+			Assert.notNull(admissionController, "Admission controller must not be null");
+			this.admissionController = admissionController;
+			return this;
+		}
+
+		/**
+		 * Validates the arguments of every tool call against the input schema of the tool
+		 * before calling its handler. Each input schema is compiled once, when the tool
+		 * is added, with the configured {@link JsonSchemaValidator}. Invalid arguments
+		 * are answered with a tool result flagged as an error, describing the validation
+		 * errors, without calling the handler. Disabled by default.
+		 * @param validateToolInputs Whether to validate tool call arguments
+		 * @return This builder instance for method chaining
+		 */
+		public StatelessSyncSpecification validateToolInputs(boolean validateToolInputs) {
+			this.validateToolInputs = validateToolInputs;
+			return this;
+		}
+
+		/**
+		 * Sets the cache for the results of tools annotated as both read-only and
+		 * idempotent. Calls to these tools with the same arguments are answered from the
+		 * cache, across sessions, and the entries of a tool are discarded when it is
+		 * replaced or removed. Other tools are always called. By default no results are
+		 * cached.
+		 * @param toolResultCache The cache to use. Must not be null.
+		 * @return This builder instance for method chaining
+		 * @throws IllegalArgumentException if toolResultCache is null
+		 * @see McpToolResultCache#isCacheable(McpSchema.Tool)
+		 */
+		public StatelessSyncSpecification toolResultCache(McpToolResultCache toolResultCache) {
+			Assert.notNull(toolResultCache, "Tool result cache must not be null");
+			this.toolResultCache = toolResultCache;
+			return this;
+		}
+
 		/**
 		 * Enable on "immediate execution" of the operations on the underlying
 		 * {@link McpStatelessAsyncServer}. Defaults to false, which does blocking code
@@ -2439,7 +2762,9 @@ public interface McpServer {
 			var asyncServer = new McpStatelessAsyncServer(transport,
 					jsonMapper == null ? McpJsonDefaults.getMapper() : jsonMapper, asyncFeatures, requestTimeout,
 					uriTemplateManagerFactory,
-					this.jsonSchemaValidator != null ? this.jsonSchemaValidator : McpJsonDefaults.getSchemaValidator());
+					this.jsonSchemaValidator != null ? this.jsonSchemaValidator
+							: McpJsonDefaults.getLazySchemaValidator(),
+					this.admissionController, this.validateToolInputs, this.toolResultCache);
 			return new McpStatelessSyncServer(asyncServer, this.immediateExecution);
 		}
 
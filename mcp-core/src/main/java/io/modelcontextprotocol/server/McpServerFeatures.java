@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 
+import io.modelcontextprotocol.json.McpJsonCodec;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
 import io.modelcontextprotocol.util.Assert;
@@ -295,6 +296,24 @@ public class McpServerFeatures {
 				return this;
 			}
 
+			/**
+			 * Sets a call tool handler receiving the arguments of each call bound to
+			 * {@code T}. The arguments are converted with the given codec, which is
+			 * obtained once from the server's JSON mapper, for example with
+			 * {@code jsonMapper.codec(new TypeRef<MyArguments>() {})}. Arguments that
+			 * cannot be bound are answered with a tool result flagged as an error,
+			 * without calling the handler.
+			 * @param <T> the type of the tool arguments
+			 * @param argumentsCodec The codec converting the arguments to {@code T}
+			 * @param callHandler The function that implements the tool's logic
+			 * @return this builder instance
+			 */
+			public <T> Builder callHandler(McpJsonCodec<T> argumentsCodec,
+					BiFunction<McpAsyncServerExchange, T, Mono<McpSchema.CallToolResult>> callHandler) {
+				this.callHandler = ToolArguments.bindAsync(argumentsCodec, callHandler);
+				return this;
+			}
+
 			/**
 			 * Builds the AsyncToolSpecification instance.
 			 * @return a new AsyncToolSpecification instance
@@ -574,6 +593,24 @@ public class McpServerFeatures {
 				return this;
 			}
 
+			/**
+			 * Sets a call tool handler receiving the arguments of each call bound to
+			 * {@code T}. The arguments are converted with the given codec, which is
+			 * obtained once from the server's JSON mapper, for example with
+			 * {@code jsonMapper.codec(new TypeRef<MyArguments>() {})}. Arguments that
+			 * cannot be bound are answered with a tool result flagged as an error,
+			 * without calling the handler.
+			 * @param <T> the type of the tool arguments
+			 * @param argumentsCodec The codec converting the arguments to {@code T}
+			 * @param callHandler The function that implements the tool's logic
+			 * @return this builder instance
+			 */
+			public <T> Builder callHandler(McpJsonCodec<T> argumentsCodec,
+					BiFunction<McpSyncServerExchange, T, McpSchema.CallToolResult> callHandler) {
+				this.callHandler = ToolArguments.bindSync(argumentsCodec, callHandler);
+				return this;
+			}
+
 			/**
 			 * Builds the SyncToolSpecification instance.
 			 * @return a new SyncToolSpecification instance
@@ -5,10 +5,14 @@
 package io.modelcontextprotocol.server;
 
 import io.modelcontextprotocol.json.TypeRef;
+import io.modelcontextprotocol.json.McpJsonCodec;
 import io.modelcontextprotocol.json.McpJsonMapper;
 import io.modelcontextprotocol.common.McpTransportContext;
 import io.modelcontextprotocol.json.schema.JsonSchemaValidator;
 import io.modelcontextprotocol.server.McpStatelessServerFeatures.AsyncResourceTemplateSpecification;
+import io.modelcontextprotocol.server.admission.McpAdmissionController;
+import io.modelcontextprotocol.server.admission.McpAdmissionRequest;
+import io.modelcontextprotocol.server.cache.McpToolResultCache;
 import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
@@ -51,6 +55,15 @@ public class McpStatelessAsyncServer {
 
 	private static final Logger logger = LoggerFactory.getLogger(McpStatelessAsyncServer.class);
 
+	private static final TypeRef<McpSchema.CallToolRequest> CALL_TOOL_REQUEST_TYPE_REF = new TypeRef<>() {
+	};
+
+	private static final TypeRef<McpSchema.ReadResourceRequest> READ_RESOURCE_REQUEST_TYPE_REF = new TypeRef<>() {
+	};
+
+	private static final TypeRef<McpSchema.GetPromptRequest> GET_PROMPT_REQUEST_TYPE_REF = new TypeRef<>() {
+	};
+
 	private final McpStatelessServerTransport mcpTransportProvider;
 
 	private final McpJsonMapper jsonMapper;
@@ -77,21 +90,29 @@ public class McpStatelessAsyncServer {
 
 	private final JsonSchemaValidator jsonSchemaValidator;
 
+	private final boolean validateToolInputs;
+
+	private final McpToolResultCache toolResultCache;
+
 	McpStatelessAsyncServer(McpStatelessServerTransport mcpTransport, McpJsonMapper jsonMapper,
 			McpStatelessServerFeatures.Async features, Duration requestTimeout,
-			McpUriTemplateManagerFactory uriTemplateManagerFactory, JsonSchemaValidator jsonSchemaValidator) {
+			McpUriTemplateManagerFactory uriTemplateManagerFactory, JsonSchemaValidator jsonSchemaValidator,
+			McpAdmissionController admissionController, boolean validateToolInputs,
+			McpToolResultCache toolResultCache) {
 		this.mcpTransportProvider = mcpTransport;
 		this.jsonMapper = jsonMapper;
 		this.serverInfo = features.serverInfo();
 		this.serverCapabilities = features.serverCapabilities();
 		this.instructions = features.instructions();
-		this.tools.addAll(withStructuredOutputHandling(jsonSchemaValidator, features.tools()));
+		this.jsonSchemaValidator = jsonSchemaValidator;
+		this.validateToolInputs = validateToolInputs;
+		this.toolResultCache = toolResultCache;
+		this.tools.addAll(withStructuredOutputHandling(jsonSchemaValidator, withInputValidation(features.tools())));
 		this.resources.putAll(features.resources());
 		this.resourceTemplates.putAll(features.resourceTemplates());
 		this.prompts.putAll(features.prompts());
 		this.completions.putAll(features.completions());
 		this.uriTemplateManagerFactory = uriTemplateManagerFactory;
-		this.jsonSchemaValidator = jsonSchemaValidator;
 
 		Map<String, McpStatelessRequestHandler<?>> requestHandlers = new HashMap<>();
 
@@ -128,10 +149,23 @@ public class McpStatelessAsyncServer {
 
 		this.protocolVersions = new ArrayList<>(mcpTransport.protocolVersions());
 
+		if (admissionController != null) {
+			requestHandlers.replaceAll((method,
+					requestHandler) -> McpSchema.METHOD_PING.equals(method)
+							|| McpSchema.METHOD_INITIALIZE.equals(method) ? requestHandler
+									: admitted(method, requestHandler, admissionController));
+		}
+
 		McpStatelessServerHandler handler = new DefaultMcpStatelessServerHandler(requestHandlers, Map.of());
 		mcpTransport.setMcpHandler(handler);
 	}
 
+	private static <T> McpStatelessRequestHandler<T> admitted(String method, McpStatelessRequestHandler<T> handler,
+			McpAdmissionController admissionController) {
+		return (transportContext, params) -> admissionController.admit(McpAdmissionRequest.of(null, method, params),
+				() -> handler.handle(transportContext, params));
+	}
+
 	// ---------------------------------------
 	// Lifecycle Management
 	// ---------------------------------------
@@ -201,6 +235,32 @@ public class McpStatelessAsyncServer {
 	// Tool Management
 	// ---------------------------------------
 
+	private List<McpStatelessServerFeatures.AsyncToolSpecification> withInputValidation(
+			List<McpStatelessServerFeatures.AsyncToolSpecification> tools) {
+
+		if (!this.validateToolInputs || Utils.isEmpty(tools)) {
+			return tools;
+		}
+
+		return tools.stream().map(this::withInputValidation).toList();
+	}
+
+	private McpStatelessServerFeatures.AsyncToolSpecification withInputValidation(
+			McpStatelessServerFeatures.AsyncToolSpecification toolSpecification) {
+
+		if (!this.validateToolInputs) {
+			return toolSpecification;
+		}
+
+		var callHandler = ToolArguments.InputValidatingCallToolHandler.wrap(this.jsonSchemaValidator, this.jsonMapper,
+				toolSpecification.tool(), toolSpecification.callHandler());
+		if (callHandler == toolSpecification.callHandler()) {
+			return toolSpecification;
+		}
+
+		return new McpStatelessServerFeatures.AsyncToolSpecification(toolSpecification.tool(), callHandler);
+	}
+
 	private static List<McpStatelessServerFeatures.AsyncToolSpecification> withStructuredOutputHandling(
 			JsonSchemaValidator jsonSchemaValidator, List<McpStatelessServerFeatures.AsyncToolSpecification> tools) {
 
@@ -334,13 +394,21 @@ public class McpStatelessAsyncServer {
 			return Mono.error(new IllegalStateException("Server must be configured with tool capabilities"));
 		}
 
-		var wrappedToolSpecification = withStructuredOutputHandling(this.jsonSchemaValidator, toolSpecification);
+		McpStatelessServerFeatures.AsyncToolSpecification wrappedToolSpecification;
+		try {
+			wrappedToolSpecification = withStructuredOutputHandling(this.jsonSchemaValidator,
+					withInputValidation(toolSpecification));
+		}
+		catch (IllegalArgumentException e) {
+			return Mono.error(e);
+		}
 
 		return Mono.defer(() -> {
 			// Remove tools with duplicate tool names first
 			if (this.tools.removeIf(th -> th.tool().name().equals(wrappedToolSpecification.tool().name()))) {
 				logger.warn("Replace existing Tool with name '{}'", wrappedToolSpecification.tool().name());
 			}
+			invalidateToolResults(wrappedToolSpecification.tool().name());
 
 			this.tools.add(wrappedToolSpecification);
 			logger.debug("Added tool handler: {}", wrappedToolSpecification.tool().name());
@@ -372,6 +440,7 @@ public class McpStatelessAsyncServer {
 
 		return Mono.defer(() -> {
 			if (this.tools.removeIf(toolSpecification -> toolSpecification.tool().name().equals(toolName))) {
+				invalidateToolResults(toolName);
 
 				logger.debug("Removed tool handler: {}", toolName);
 			}
@@ -393,10 +462,9 @@ public class McpStatelessAsyncServer {
 	}
 
 	private McpStatelessRequestHandler<CallToolResult> toolsCallRequestHandler() {
+		McpJsonCodec<McpSchema.CallToolRequest> codec = this.jsonMapper.codec(CALL_TOOL_REQUEST_TYPE_REF);
 		return (ctx, params) -> {
-			McpSchema.CallToolRequest callToolRequest = jsonMapper.convertValue(params,
-					new TypeRef<McpSchema.CallToolRequest>() {
-					});
+			McpSchema.CallToolRequest callToolRequest = codec.convert(params);
 
 			Optional<McpStatelessServerFeatures.AsyncToolSpecification> toolSpecification = this.tools.stream()
 				.filter(tr -> callToolRequest.name().equals(tr.tool().name()))
@@ -409,10 +477,22 @@ public class McpStatelessAsyncServer {
 					.build());
 			}
 
-			return toolSpecification.get().callHandler().apply(ctx, callToolRequest);
+			var callHandler = toolSpecification.get().callHandler();
+			if (this.toolResultCache != null && McpToolResultCache.isCacheable(toolSpecification.get().tool())) {
+				return this.toolResultCache.get(callToolRequest.name(), callToolRequest.arguments(),
+						() -> callHandler.apply(ctx, callToolRequest));
+			}
+
+			return callHandler.apply(ctx, callToolRequest);
 		};
 	}
 
+	private void invalidateToolResults(String toolName) {
+		if (this.toolResultCache != null) {
+			this.toolResultCache.invalidate(toolName);
+		}
+	}
+
 	// ---------------------------------------
 	// Resource Management
 	// ---------------------------------------
@@ -560,9 +640,9 @@ public class McpStatelessAsyncServer {
 	}
 
 	private McpStatelessRequestHandler<McpSchema.ReadResourceResult> resourcesReadRequestHandler() {
+		McpJsonCodec<McpSchema.ReadResourceRequest> codec = this.jsonMapper.codec(READ_RESOURCE_REQUEST_TYPE_REF);
 		return (ctx, params) -> {
-			McpSchema.ReadResourceRequest resourceRequest = jsonMapper.convertValue(params, new TypeRef<>() {
-			});
+			McpSchema.ReadResourceRequest resourceRequest = codec.convert(params);
 			var resourceUri = resourceRequest.uri();
 
 			// First try to find a static resource specification
@@ -680,10 +760,9 @@ public class McpStatelessAsyncServer {
 	}
 
 	private McpStatelessRequestHandler<McpSchema.GetPromptResult> promptsGetRequestHandler() {
+		McpJsonCodec<McpSchema.GetPromptRequest> codec = this.jsonMapper.codec(GET_PROMPT_REQUEST_TYPE_REF);
 		return (ctx, params) -> {
-			McpSchema.GetPromptRequest promptRequest = jsonMapper.convertValue(params,
-					new TypeRef<McpSchema.GetPromptRequest>() {
-					});
+			McpSchema.GetPromptRequest promptRequest = codec.convert(params);
 
 			// Implement prompt retrieval logic here
 			McpStatelessServerFeatures.AsyncPromptSpecification specification = this.prompts.get(promptRequest.name());
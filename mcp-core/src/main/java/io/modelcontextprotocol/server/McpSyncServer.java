@@ -231,10 +231,10 @@ public class McpSyncServer {
 	}
 
 	/**
-	 * This implementation would, incorrectly, broadcast the logging message to all
-	 * connected clients, using a single minLoggingLevel for all of them. Similar to the
-	 * sampling and roots, the logging level should be set per client session and use the
-	 * ServerExchange to send the logging message to the right client.
+	 * Broadcasts the logging message to the connected clients that set a minimum logging
+	 * level admitting it. Clients that never set a logging level do not receive broadcast
+	 * messages. Similar to the sampling and roots, logging is better done through the
+	 * ServerExchange, which sends the logging message to the right client.
 	 * @param loggingMessageNotification The logging message to send
 	 * @deprecated Use
 	 * {@link McpSyncServerExchange#loggingNotification(LoggingMessageNotification)}
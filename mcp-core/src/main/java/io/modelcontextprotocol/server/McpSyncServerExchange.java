@@ -4,6 +4,9 @@
 
 package io.modelcontextprotocol.server;
 
+import java.util.List;
+import java.util.Optional;
+
 import io.modelcontextprotocol.common.McpTransportContext;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.LoggingMessageNotification;
@@ -82,6 +85,19 @@ public class McpSyncServerExchange {
 		return this.exchange.createMessage(createMessageRequest).block();
 	}
 
+	/**
+	 * Sends several sampling requests to the client, with at most the given number of
+	 * them awaiting a response at any time, and waits for all of them.
+	 * @param createMessageRequests The requests to send
+	 * @param maxConcurrency The maximum number of requests awaiting a response at once
+	 * @return The result of each request, in request order
+	 * @see #createMessage(McpSchema.CreateMessageRequest)
+	 */
+	public List<McpSchema.CreateMessageResult> createMessages(
+			List<McpSchema.CreateMessageRequest> createMessageRequests, int maxConcurrency) {
+		return this.exchange.createMessages(createMessageRequests, maxConcurrency).collectList().block();
+	}
+
 	/**
 	 * Creates a new elicitation. MCP provides a standardized way for servers to request
 	 * additional information from users through the client during interactions. This flow
@@ -108,6 +124,15 @@ public class McpSyncServerExchange {
 		return this.exchange.listRoots().block();
 	}
 
+	/**
+	 * Returns the roots of the client if they are cached, without contacting the client.
+	 * @return the cached roots, or empty if none are cached
+	 * @see McpAsyncServerExchange#cachedRoots()
+	 */
+	public Optional<List<McpSchema.Root>> cachedRoots() {
+		return this.exchange.cachedRoots();
+	}
+
 	/**
 	 * Retrieves a paginated list of roots provided by the client.
 	 * @param cursor Optional pagination cursor from a previous list request
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import io.modelcontextprotocol.json.McpJsonCodec;
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.json.TypeRef;
+import io.modelcontextprotocol.json.schema.JsonSchemaValidator;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.util.Assert;
+import reactor.core.publisher.Mono;
+
+/**
+ * Validation and typed binding of tool call arguments, shared by the stateful and
+ * stateless servers and their tool specifications.
+ * <p>
+ * Invalid arguments are reported as a tool result with {@code isError} set rather than as
+ * a protocol error, so that the model sees the problem and can correct the call.
+ */
+final class ToolArguments {
+
+	private static final TypeRef<HashMap<String, Object>> MAP_TYPE_REF = new TypeRef<>() {
+	};
+
+	private ToolArguments() {
+	}
+
+	/**
+	 * Wraps a handler taking arguments of type {@code T}, converting the arguments of
+	 * each request with the given codec.
+	 */
+	static <C, T> BiFunction<C, CallToolRequest, Mono<CallToolResult>> bindAsync(McpJsonCodec<T> argumentsCodec,
+			BiFunction<C, T, Mono<CallToolResult>> handler) {
+		Assert.notNull(argumentsCodec, "Arguments codec must not be null");
+		Assert.notNull(handler, "Call handler function must not be null");
+		return (context, request) -> {
+			T arguments;
+			try {
+				arguments = bind(argumentsCodec, request);
+			}
+			catch (RuntimeException e) {
+				return Mono.just(invalidArguments(request, e.getMessage()));
+			}
+			return handler.apply(context, arguments);
+		};
+	}
+
+	/**
+	 * Wraps a blocking handler taking arguments of type {@code T}, converting the
+	 * arguments of each request with the given codec.
+	 */
+	static <C, T> BiFunction<C, CallToolRequest, CallToolResult> bindSync(McpJsonCodec<T> argumentsCodec,
+			BiFunction<C, T, CallToolResult> handler) {
+		Assert.notNull(argumentsCodec, "Arguments codec must not be null");
+		Assert.notNull(handler, "Call handler function must not be null");
+		return (context, request) -> {
+			T arguments;
+			try {
+				arguments = bind(argumentsCodec, request);
+			}
+			catch (RuntimeException e) {
+				return invalidArguments(request, e.getMessage());
+			}
+			return handler.apply(context, arguments);
+		};
+	}
+
+	private static <T> T bind(McpJsonCodec<T> argumentsCodec, CallToolRequest request) {
+		return argumentsCodec.convert(request.arguments() != null ? request.arguments() : Map.of());
+	}
+
+	static CallToolResult invalidArguments(CallToolRequest request, String message) {
+		return CallToolResult.builder()
+			.content(List
+				.of(new McpSchema.TextContent("Invalid arguments for tool '" + request.name() + "': " + message)))
+			.isError(true)
+			.build();
+	}
+
+	/**
+	 * A call handler validating the arguments of each call against the input schema of
+	 * the tool before calling the delegate. The schema is compiled once, when the handler
+	 * is created.
+	 *
+	 * @param <C> the type of the context passed to the handler
+	 */
+	static final class InputValidatingCallToolHandler<C>
+			implements BiFunction<C, CallToolRequest, Mono<CallToolResult>> {
+
+		private final JsonSchemaValidator.CompiledSchema inputSchema;
+
+		private final BiFunction<C, CallToolRequest, Mono<CallToolResult>> delegate;
+
+		InputValidatingCallToolHandler(JsonSchemaValidator.CompiledSchema inputSchema,
+				BiFunction<C, CallToolRequest, Mono<CallToolResult>> delegate) {
+			this.inputSchema = inputSchema;
+			this.delegate = delegate;
+		}
+
+		/**
+		 * Wraps the handler of a tool, or returns it unchanged if the tool has no input
+		 * schema or the handler already validates its input.
+		 * @throws IllegalArgumentException if the input schema cannot be compiled
+		 */
+		static <C> BiFunction<C, CallToolRequest, Mono<CallToolResult>> wrap(JsonSchemaValidator validator,
+				McpJsonMapper jsonMapper, McpSchema.Tool tool,
+				BiFunction<C, CallToolRequest, Mono<CallToolResult>> handler) {
+			if (tool.inputSchema() == null || handler instanceof InputValidatingCallToolHandler) {
+				return handler;
+			}
+			Map<String, Object> schema = jsonMapper.convertValue(tool.inputSchema(), MAP_TYPE_REF);
+			return new InputValidatingCallToolHandler<>(validator.compile(schema), handler);
+		}
+
+		@Override
+		public Mono<CallToolResult> apply(C context, CallToolRequest request) {
+			var validation = this.inputSchema.validate(request.arguments() != null ? request.arguments() : Map.of());
+			if (!validation.valid()) {
+				return Mono.just(invalidArguments(request, validation.errorMessage()));
+			}
+			return this.delegate.apply(context, request);
+		}
+
+	}
+
+}
@@ -0,0 +1,412 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.admission;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.modelcontextprotocol.spec.McpError;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.util.Assert;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * Default {@link McpAdmissionController} combining the following limits, checked in this
+ * order:
+ * <ol>
+ * <li>a maximum number of requests in flight per session</li>
+ * <li>token-bucket rate limits per method</li>
+ * <li>token-bucket rate limits per tool name</li>
+ * <li>concurrency limits per tool name, with an optional bounded wait queue</li>
+ * </ol>
+ * Rate limits are shared by all sessions of the server. A request exceeding a limit is
+ * rejected immediately with an {@link McpError} carrying
+ * {@link McpSchema.ErrorCodes#SERVER_OVERLOADED}; the error data holds the {@code reason}
+ * and, for rate limits, a {@code retryAfterMs} hint. The per-session limit does not apply
+ * to stateless servers, which have no session.
+ *
+ * <pre>{@code
+ * McpAdmissionController admission = DefaultMcpAdmissionController.builder()
+ *     .maxInFlightPerSession(16)
+ *     .methodRateLimit(McpSchema.METHOD_RESOURCES_READ, 50, 100)
+ *     .toolConcurrencyLimit("search", 8, 32)
+ *     .build();
+ *
+ * McpServer.async(transportProvider).admissionController(admission)...
+ * }</pre>
+ */
+public final class DefaultMcpAdmissionController implements McpAdmissionController {
+
+	private static final Runnable NOOP = () -> {
+	};
+
+	private final int maxInFlightPerSession;
+
+	private final ConcurrentHashMap<String, Integer> sessionInFlight = new ConcurrentHashMap<>();
+
+	private final Map<String, TokenBucket> methodRateLimits;
+
+	private final Map<String, TokenBucket> toolRateLimits;
+
+	private final Map<String, ConcurrencyLimiter> toolConcurrencyLimits;
+
+	private final LongAdder admitted = new LongAdder();
+
+	private final LongAdder queued = new LongAdder();
+
+	private final LongAdder rejectedSessionLimit = new LongAdder();
+
+	private final LongAdder rejectedRateLimit = new LongAdder();
+
+	private final LongAdder rejectedConcurrencyLimit = new LongAdder();
+
+	private DefaultMcpAdmissionController(Builder builder) {
+		this.maxInFlightPerSession = builder.maxInFlightPerSession;
+		Map<String, TokenBucket> methodRateLimits = new HashMap<>();
+		builder.methodRateLimits.forEach((method, rate) -> methodRateLimits.put(method, rate.newBucket()));
+		this.methodRateLimits = Map.copyOf(methodRateLimits);
+		Map<String, TokenBucket> toolRateLimits = new HashMap<>();
+		builder.toolRateLimits.forEach((toolName, rate) -> toolRateLimits.put(toolName, rate.newBucket()));
+		this.toolRateLimits = Map.copyOf(toolRateLimits);
+		Map<String, ConcurrencyLimiter> toolConcurrencyLimits = new HashMap<>();
+		builder.toolConcurrencyLimits.forEach((toolName, limit) -> toolConcurrencyLimits.put(toolName,
+				new ConcurrencyLimiter(limit.maxConcurrent(), limit.maxQueued())));
+		this.toolConcurrencyLimits = Map.copyOf(toolConcurrencyLimits);
+	}
+
+	/**
+	 * Creates a new builder.
+	 * @return a new builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	@Override
+	public Mono<Permit> acquire(McpAdmissionRequest request) {
+		return Mono.defer(() -> {
+			Runnable releaseSession = NOOP;
+			String sessionId = request.sessionId();
+			if (sessionId != null && this.maxInFlightPerSession != Integer.MAX_VALUE) {
+				if (!acquireSession(sessionId)) {
+					this.rejectedSessionLimit.increment();
+					return Mono.error(rejected("session-limit",
+							"Too many concurrent requests for session (limit " + this.maxInFlightPerSession + ")",
+							null));
+				}
+				releaseSession = () -> releaseSession(sessionId);
+			}
+
+			McpError rateLimited = checkRate(this.methodRateLimits.get(request.method()), "method " + request.method());
+			if (rateLimited == null && request.toolName() != null) {
+				rateLimited = checkRate(this.toolRateLimits.get(request.toolName()), "tool " + request.toolName());
+			}
+			if (rateLimited != null) {
+				releaseSession.run();
+				this.rejectedRateLimit.increment();
+				return Mono.error(rateLimited);
+			}
+
+			ConcurrencyLimiter limiter = (request.toolName() != null)
+					? this.toolConcurrencyLimits.get(request.toolName()) : null;
+			if (limiter == null) {
+				this.admitted.increment();
+				return Mono.just(new OncePermit(releaseSession));
+			}
+
+			Runnable onFailure = releaseSession;
+			return limiter.acquire(request.toolName()).map(releaseTool -> {
+				this.admitted.increment();
+				return (Permit) new OncePermit(() -> {
+					releaseTool.run();
+					onFailure.run();
+				});
+			}).doOnError(e -> onFailure.run()).doOnCancel(onFailure);
+		});
+	}
+
+	/**
+	 * Returns a snapshot of the admission counters.
+	 * @return the current metrics
+	 */
+	public McpAdmissionMetrics getMetrics() {
+		int currentlyQueued = 0;
+		for (ConcurrencyLimiter limiter : this.toolConcurrencyLimits.values()) {
+			currentlyQueued += limiter.queuedCount.get();
+		}
+		return new McpAdmissionMetrics(this.admitted.sum(), this.queued.sum(), currentlyQueued,
+				this.rejectedSessionLimit.sum(), this.rejectedRateLimit.sum(), this.rejectedConcurrencyLimit.sum());
+	}
+
+	private boolean acquireSession(String sessionId) {
+		boolean[] acquired = new boolean[1];
+		this.sessionInFlight.compute(sessionId, (id, count) -> {
+			int current = (count != null) ? count : 0;
+			if (current >= this.maxInFlightPerSession) {
+				return count;
+			}
+			acquired[0] = true;
+			return current + 1;
+		});
+		return acquired[0];
+	}
+
+	private void releaseSession(String sessionId) {
+		this.sessionInFlight.computeIfPresent(sessionId, (id, count) -> (count <= 1) ? null : count - 1);
+	}
+
+	private static McpError checkRate(TokenBucket bucket, String subject) {
+		if (bucket == null) {
+			return null;
+		}
+		long waitNanos = bucket.tryAcquire();
+		if (waitNanos == 0) {
+			return null;
+		}
+		long retryAfterMs = Math.max(1, Duration.ofNanos(waitNanos).toMillis());
+		return rejected("rate-limit", "Rate limit exceeded for " + subject, retryAfterMs);
+	}
+
+	private static McpError rejected(String reason, String message, Long retryAfterMs) {
+		Map<String, Object> data = new HashMap<>();
+		data.put("reason", reason);
+		if (retryAfterMs != null) {
+			data.put("retryAfterMs", retryAfterMs);
+		}
+		return McpError.builder(McpSchema.ErrorCodes.SERVER_OVERLOADED).message(message).data(data).build();
+	}
+
+	/**
+	 * Permit guarding against double release.
+	 */
+	private static final class OncePermit implements Permit {
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private final Runnable onRelease;
+
+		OncePermit(Runnable onRelease) {
+			this.onRelease = onRelease;
+		}
+
+		@Override
+		public void release() {
+			if (this.released.compareAndSet(false, true)) {
+				this.onRelease.run();
+			}
+		}
+
+	}
+
+	/**
+	 * Limits concurrent executions of one tool. When all slots are taken, requests wait
+	 * in a FIFO queue of bounded size and are handed a slot directly as one is released.
+	 */
+	private final class ConcurrencyLimiter {
+
+		private final int maxConcurrent;
+
+		private final int maxQueued;
+
+		private final AtomicInteger active = new AtomicInteger();
+
+		private final AtomicInteger queuedCount = new AtomicInteger();
+
+		private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+		ConcurrencyLimiter(int maxConcurrent, int maxQueued) {
+			this.maxConcurrent = maxConcurrent;
+			this.maxQueued = maxQueued;
+		}
+
+		Mono<Runnable> acquire(String toolName) {
+			if (tryAcquire()) {
+				return Mono.just(this::release);
+			}
+			if (this.queuedCount.incrementAndGet() > this.maxQueued) {
+				this.queuedCount.decrementAndGet();
+				rejectedConcurrencyLimit.increment();
+				return Mono.error(rejected("concurrency-limit",
+						"Too many concurrent calls to tool " + toolName + " (limit " + this.maxConcurrent + ")", null));
+			}
+			queued.increment();
+			return Mono.create(sink -> {
+				Waiter waiter = new Waiter(sink);
+				sink.onCancel(() -> {
+					if (waiter.claimed.compareAndSet(false, true)) {
+						this.queuedCount.decrementAndGet();
+						this.waiters.remove(waiter);
+					}
+					else {
+						// The slot was handed over as the subscriber cancelled: the sink
+						// drops it, so it is passed on to the next waiter
+						release();
+					}
+				});
+				this.waiters.add(waiter);
+				// A slot may have been released before the waiter was enqueued
+				if (tryAcquire()) {
+					release();
+				}
+			});
+		}
+
+		private boolean tryAcquire() {
+			for (;;) {
+				int current = this.active.get();
+				if (current >= this.maxConcurrent) {
+					return false;
+				}
+				if (this.active.compareAndSet(current, current + 1)) {
+					return true;
+				}
+			}
+		}
+
+		private void release() {
+			Waiter waiter;
+			while ((waiter = this.waiters.poll()) != null) {
+				if (waiter.claimed.compareAndSet(false, true)) {
+					this.queuedCount.decrementAndGet();
+					// The slot is handed over, active stays unchanged
+					waiter.sink.success(this::release);
+					return;
+				}
+			}
+			this.active.decrementAndGet();
+			// A waiter may have been enqueued after the queue was found empty
+			if (!this.waiters.isEmpty() && tryAcquire()) {
+				release();
+			}
+		}
+
+	}
+
+	private static final class Waiter {
+
+		final MonoSink<Runnable> sink;
+
+		final AtomicBoolean claimed = new AtomicBoolean();
+
+		Waiter(MonoSink<Runnable> sink) {
+			this.sink = sink;
+		}
+
+	}
+
+	/**
+	 * Builder for {@link DefaultMcpAdmissionController}.
+	 */
+	public static final class Builder {
+
+		private int maxInFlightPerSession = Integer.MAX_VALUE;
+
+		private final Map<String, RateLimit> methodRateLimits = new HashMap<>();
+
+		private final Map<String, RateLimit> toolRateLimits = new HashMap<>();
+
+		private final Map<String, ConcurrencyLimit> toolConcurrencyLimits = new HashMap<>();
+
+		private Builder() {
+		}
+
+		/**
+		 * Limits the number of requests a single session may have in flight.
+		 * @param maxInFlight the maximum number of concurrent requests per session
+		 * @return this builder
+		 */
+		public Builder maxInFlightPerSession(int maxInFlight) {
+			Assert.isTrue(maxInFlight > 0, "Max in-flight per session must be positive");
+			this.maxInFlightPerSession = maxInFlight;
+			return this;
+		}
+
+		/**
+		 * Rate limits a JSON-RPC method across all sessions.
+		 * @param method the method, e.g. {@link McpSchema#METHOD_TOOLS_CALL}
+		 * @param permitsPerSecond the sustained rate
+		 * @param burst the maximum number of requests accepted in a burst
+		 * @return this builder
+		 */
+		public Builder methodRateLimit(String method, double permitsPerSecond, int burst) {
+			Assert.hasText(method, "Method must not be empty");
+			this.methodRateLimits.put(method, new RateLimit(permitsPerSecond, burst));
+			return this;
+		}
+
+		/**
+		 * Rate limits calls to a tool across all sessions.
+		 * @param toolName the tool name
+		 * @param permitsPerSecond the sustained rate
+		 * @param burst the maximum number of calls accepted in a burst
+		 * @return this builder
+		 */
+		public Builder toolRateLimit(String toolName, double permitsPerSecond, int burst) {
+			Assert.hasText(toolName, "Tool name must not be empty");
+			this.toolRateLimits.put(toolName, new RateLimit(permitsPerSecond, burst));
+			return this;
+		}
+
+		/**
+		 * Limits concurrent calls to a tool. Calls beyond the limit are rejected.
+		 * @param toolName the tool name
+		 * @param maxConcurrent the maximum number of concurrent calls
+		 * @return this builder
+		 */
+		public Builder toolConcurrencyLimit(String toolName, int maxConcurrent) {
+			return toolConcurrencyLimit(toolName, maxConcurrent, 0);
+		}
+
+		/**
+		 * Limits concurrent calls to a tool. Up to {@code maxQueued} calls beyond the
+		 * limit wait for a slot; further calls are rejected.
+		 * @param toolName the tool name
+		 * @param maxConcurrent the maximum number of concurrent calls
+		 * @param maxQueued the maximum number of waiting calls
+		 * @return this builder
+		 */
+		public Builder toolConcurrencyLimit(String toolName, int maxConcurrent, int maxQueued) {
+			Assert.hasText(toolName, "Tool name must not be empty");
+			Assert.isTrue(maxConcurrent > 0, "Max concurrent calls must be positive");
+			Assert.isTrue(maxQueued >= 0, "Max queued calls must not be negative");
+			this.toolConcurrencyLimits.put(toolName, new ConcurrencyLimit(maxConcurrent, maxQueued));
+			return this;
+		}
+
+		/**
+		 * Builds the controller.
+		 * @return a new controller
+		 */
+		public DefaultMcpAdmissionController build() {
+			return new DefaultMcpAdmissionController(this);
+		}
+
+	}
+
+	private record RateLimit(double permitsPerSecond, int burst) {
+
+		RateLimit {
+			Assert.isTrue(permitsPerSecond > 0, "Permits per second must be positive");
+			Assert.isTrue(burst > 0, "Burst must be positive");
+		}
+
+		TokenBucket newBucket() {
+			return new TokenBucket(this.permitsPerSecond, this.burst);
+		}
+
+	}
+
+	private record ConcurrencyLimit(int maxConcurrent, int maxQueued) {
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.admission;
+
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Decides whether an incoming client request may be executed by the server. The server
+ * asks the controller for a {@link Permit} before invoking the request handler and
+ * releases it once the handler terminates, whether it completed, failed or was cancelled.
+ *
+ * <p>
+ * A controller rejects a request by failing the returned Mono, typically with an
+ * {@link io.modelcontextprotocol.spec.McpError} carrying
+ * {@link io.modelcontextprotocol.spec.McpSchema.ErrorCodes#SERVER_OVERLOADED}, which the
+ * server sends back to the client as the JSON-RPC error. It may also delay the permit to
+ * queue the request.
+ *
+ * <p>
+ * {@code ping} requests and the initialization handshake are never subject to admission
+ * control.
+ *
+ * @see DefaultMcpAdmissionController
+ */
+@FunctionalInterface
+public interface McpAdmissionController {
+
+	/**
+	 * Acquires a permit to execute the request.
+	 * @param request the request to admit
+	 * @return a Mono emitting the permit, or failing if the request is rejected
+	 */
+	Mono<Permit> acquire(McpAdmissionRequest request);
+
+	/**
+	 * Runs the execution once a permit is acquired and releases the permit when the
+	 * execution terminates or is cancelled.
+	 * @param <T> the result type
+	 * @param request the request to admit
+	 * @param execution supplies the request execution
+	 * @return the result of the execution
+	 */
+	default <T> Mono<T> admit(McpAdmissionRequest request, Supplier<Mono<T>> execution) {
+		return Mono.usingWhen(acquire(request), permit -> execution.get(),
+				permit -> Mono.fromRunnable(permit::release));
+	}
+
+	/**
+	 * Returns a controller admitting every request.
+	 * @return a controller that never rejects
+	 */
+	static McpAdmissionController permitAll() {
+		Mono<Permit> permit = Mono.just(() -> {
+		});
+		return request -> permit;
+	}
+
+	/**
+	 * A granted admission, released once the request has been executed.
+	 */
+	@FunctionalInterface
+	interface Permit {
+
+		/**
+		 * Releases the resources held for the request. Called exactly once.
+		 */
+		void release();
+
+	}
+
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.admission;
+
+/**
+ * Point-in-time counters of a {@link DefaultMcpAdmissionController}. All counters except
+ * {@code currentlyQueued} are cumulative since the controller was created.
+ *
+ * @param admitted requests granted a permit
+ * @param queued requests that had to wait for a tool concurrency slot
+ * @param currentlyQueued requests waiting for a tool concurrency slot right now
+ * @param rejectedSessionLimit requests rejected by the per-session in-flight limit
+ * @param rejectedRateLimit requests rejected by a method or tool rate limit
+ * @param rejectedConcurrencyLimit requests rejected because a tool concurrency limit and
+ * its queue were exhausted
+ */
+public record McpAdmissionMetrics(long admitted, long queued, int currentlyQueued, long rejectedSessionLimit,
+		long rejectedRateLimit, long rejectedConcurrencyLimit) {
+
+	/**
+	 * Returns the total number of rejected requests.
+	 * @return the number of rejected requests
+	 */
+	public long rejected() {
+		return this.rejectedSessionLimit + this.rejectedRateLimit + this.rejectedConcurrencyLimit;
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.admission;
+
+import java.util.Map;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.util.Assert;
+
+/**
+ * Describes an incoming request for the purpose of admission control.
+ *
+ * @param sessionId the id of the session the request arrived on, or null for stateless
+ * servers
+ * @param method the JSON-RPC method
+ * @param toolName the name of the called tool for {@code tools/call} requests, null
+ * otherwise
+ */
+public record McpAdmissionRequest(String sessionId, String method, String toolName) {
+
+	public McpAdmissionRequest {
+		Assert.hasText(method, "Method must not be empty");
+	}
+
+	/**
+	 * Creates an admission request from the raw request parameters, extracting the tool
+	 * name of {@code tools/call} requests without deserializing the whole request.
+	 * @param sessionId the session id, or null
+	 * @param method the JSON-RPC method
+	 * @param params the request parameters as received from the transport
+	 * @return the admission request
+	 */
+	public static McpAdmissionRequest of(String sessionId, String method, Object params) {
+		String toolName = null;
+		if (McpSchema.METHOD_TOOLS_CALL.equals(method)) {
+			if (params instanceof McpSchema.CallToolRequest callToolRequest) {
+				toolName = callToolRequest.name();
+			}
+			else if (params instanceof Map<?, ?> map && map.get("name") instanceof String name) {
+				toolName = name;
+			}
+		}
+		return new McpAdmissionRequest(sessionId, method, toolName);
+	}
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.admission;
+
+import io.modelcontextprotocol.util.Assert;
+
+/**
+ * A token bucket refilled continuously at a fixed rate up to its capacity.
+ */
+final class TokenBucket {
+
+	private final double capacity;
+
+	private final double tokensPerNano;
+
+	private double tokens;
+
+	private long lastRefillNanos;
+
+	TokenBucket(double permitsPerSecond, int burst) {
+		Assert.isTrue(permitsPerSecond > 0, "Permits per second must be positive");
+		Assert.isTrue(burst > 0, "Burst must be positive");
+		this.capacity = burst;
+		this.tokensPerNano = permitsPerSecond / 1_000_000_000d;
+		this.tokens = burst;
+		this.lastRefillNanos = System.nanoTime();
+	}
+
+	/**
+	 * Takes one token if available.
+	 * @return 0 if a token was taken, otherwise the number of nanoseconds until the next
+	 * token becomes available
+	 */
+	synchronized long tryAcquire() {
+		long now = System.nanoTime();
+		this.tokens = Math.min(this.capacity, this.tokens + (now - this.lastRefillNanos) * this.tokensPerNano);
+		this.lastRefillNanos = now;
+		if (this.tokens >= 1) {
+			this.tokens -= 1;
+			return 0;
+		}
+		return Math.max(1, (long) Math.ceil((1 - this.tokens) / this.tokensPerNano));
+	}
+
+}
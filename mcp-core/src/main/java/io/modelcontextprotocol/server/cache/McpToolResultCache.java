@@ -0,0 +1,350 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.util.Assert;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caches the results of tools that declare themselves pure functions of their arguments,
+ * that is tools whose {@link McpSchema.ToolAnnotations} set both {@code readOnlyHint} and
+ * {@code idempotentHint}. Results are shared by all sessions of the server.
+ * <p>
+ * Entries are keyed by tool name and a canonical form of the arguments, in which the keys
+ * of nested objects are sorted, so that arguments differing only in key order share an
+ * entry. Each tool has its own time to live and maximum number of entries; the least
+ * recently used entry is evicted when a tool exceeds its bound. Concurrent calls with the
+ * same arguments share a single call to the tool. Results flagged as errors, and calls
+ * that fail, are not cached.
+ * <p>
+ * The server invalidates the entries of a tool when the tool is replaced or removed.
+ * Applications whose tools read data that changes can call {@link #invalidate(String)} or
+ * {@link #invalidateAll()} themselves.
+ *
+ * <pre>{@code
+ * McpToolResultCache cache = McpToolResultCache.builder()
+ *     .defaultTimeToLive(Duration.ofMinutes(5))
+ *     .tool("code-search", Duration.ofSeconds(30), 500)
+ *     .build();
+ *
+ * McpServer.async(transportProvider).toolResultCache(cache)...
+ * }</pre>
+ */
+public final class McpToolResultCache {
+
+	private final Duration defaultTimeToLive;
+
+	private final int defaultMaxEntries;
+
+	private final Map<String, ToolLimits> toolLimits;
+
+	private final ConcurrentHashMap<String, ToolEntries> entries = new ConcurrentHashMap<>();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	private McpToolResultCache(Builder builder) {
+		this.defaultTimeToLive = builder.defaultTimeToLive;
+		this.defaultMaxEntries = builder.defaultMaxEntries;
+		this.toolLimits = Map.copyOf(builder.toolLimits);
+	}
+
+	/**
+	 * Creates a new builder.
+	 * @return a new builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Returns whether the results of the given tool are cached, that is whether it is
+	 * annotated as both read-only and idempotent.
+	 * @param tool the tool
+	 * @return true if calls to the tool are cached
+	 */
+	public static boolean isCacheable(McpSchema.Tool tool) {
+		McpSchema.ToolAnnotations annotations = tool.annotations();
+		return annotations != null && Boolean.TRUE.equals(annotations.readOnlyHint())
+				&& Boolean.TRUE.equals(annotations.idempotentHint());
+	}
+
+	/**
+	 * Returns the cached result of calling a tool with the given arguments, calling the
+	 * tool if no result is cached or in flight.
+	 * @param toolName the name of the tool
+	 * @param arguments the arguments of the call, may be null
+	 * @param call calls the tool
+	 * @return a Mono emitting the result
+	 */
+	public Mono<McpSchema.CallToolResult> get(String toolName, Map<String, Object> arguments,
+			Supplier<Mono<McpSchema.CallToolResult>> call) {
+		Assert.notNull(toolName, "Tool name must not be null");
+		Assert.notNull(call, "Call must not be null");
+		String key = canonicalKey(arguments);
+		ToolEntries tool = this.entries.computeIfAbsent(toolName, this::newToolEntries);
+		return Mono.defer(() -> tool.get(key, call));
+	}
+
+	/**
+	 * Discards the cached results of a tool.
+	 * @param toolName the name of the tool
+	 */
+	public void invalidate(String toolName) {
+		Assert.notNull(toolName, "Tool name must not be null");
+		this.entries.remove(toolName);
+	}
+
+	/**
+	 * Discards all cached results.
+	 */
+	public void invalidateAll() {
+		this.entries.clear();
+	}
+
+	/**
+	 * Returns a snapshot of the cache counters.
+	 * @return the current metrics
+	 */
+	public McpToolResultCacheMetrics getMetrics() {
+		int size = 0;
+		for (ToolEntries tool : this.entries.values()) {
+			size += tool.size();
+		}
+		return new McpToolResultCacheMetrics(this.hits.sum(), this.misses.sum(), this.evictions.sum(), size);
+	}
+
+	private ToolEntries newToolEntries(String toolName) {
+		ToolLimits limits = this.toolLimits.get(toolName);
+		return (limits != null) ? new ToolEntries(limits.timeToLive(), limits.maxEntries())
+				: new ToolEntries(this.defaultTimeToLive, this.defaultMaxEntries);
+	}
+
+	/**
+	 * Renders arguments as JSON-like text with object keys sorted, so that equal
+	 * arguments produce equal keys whatever the order of their properties.
+	 */
+	static String canonicalKey(Object value) {
+		StringBuilder key = new StringBuilder();
+		appendCanonical(key, value);
+		return key.toString();
+	}
+
+	private static void appendCanonical(StringBuilder key, Object value) {
+		if (value instanceof Map<?, ?> map) {
+			Map<String, Object> sorted = new TreeMap<>();
+			map.forEach((name, item) -> sorted.put(String.valueOf(name), item));
+			key.append('{');
+			boolean first = true;
+			for (Map.Entry<String, Object> entry : sorted.entrySet()) {
+				if (!first) {
+					key.append(',');
+				}
+				first = false;
+				appendString(key, entry.getKey());
+				key.append(':');
+				appendCanonical(key, entry.getValue());
+			}
+			key.append('}');
+		}
+		else if (value instanceof List<?> list) {
+			key.append('[');
+			for (int i = 0; i < list.size(); i++) {
+				if (i > 0) {
+					key.append(',');
+				}
+				appendCanonical(key, list.get(i));
+			}
+			key.append(']');
+		}
+		else if (value instanceof CharSequence text) {
+			appendString(key, text.toString());
+		}
+		else {
+			key.append(value);
+		}
+	}
+
+	private static void appendString(StringBuilder key, String text) {
+		key.append('"').append(text.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+	}
+
+	/**
+	 * The entries of one tool, in least recently used order.
+	 */
+	private final class ToolEntries {
+
+		private final Duration timeToLive;
+
+		private final int maxEntries;
+
+		private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+		ToolEntries(Duration timeToLive, int maxEntries) {
+			this.timeToLive = timeToLive;
+			this.maxEntries = maxEntries;
+		}
+
+		Mono<McpSchema.CallToolResult> get(String key, Supplier<Mono<McpSchema.CallToolResult>> call) {
+			Entry entry;
+			synchronized (this.entries) {
+				entry = this.entries.get(key);
+				if (entry != null && entry.isExpired()) {
+					this.entries.remove(key);
+					entry = null;
+				}
+				if (entry == null) {
+					entry = new Entry(key, call);
+					this.entries.put(key, entry);
+					evictOverflow();
+					misses.increment();
+				}
+				else {
+					hits.increment();
+				}
+			}
+			return entry.result;
+		}
+
+		int size() {
+			synchronized (this.entries) {
+				return this.entries.size();
+			}
+		}
+
+		private void evictOverflow() {
+			Iterator<Entry> iterator = this.entries.values().iterator();
+			while (this.entries.size() > this.maxEntries && iterator.hasNext()) {
+				iterator.next();
+				iterator.remove();
+				evictions.increment();
+			}
+		}
+
+		private void discard(Entry entry) {
+			synchronized (this.entries) {
+				this.entries.remove(entry.key, entry);
+			}
+		}
+
+		private final class Entry {
+
+			private final String key;
+
+			private final Mono<McpSchema.CallToolResult> result;
+
+			private volatile boolean resolved;
+
+			private volatile long expiresAt;
+
+			Entry(String key, Supplier<Mono<McpSchema.CallToolResult>> call) {
+				this.key = key;
+				this.result = Mono.defer(call).doOnNext(result -> {
+					if (Boolean.TRUE.equals(result.isError())) {
+						discard(this);
+					}
+					else {
+						this.expiresAt = System.nanoTime() + timeToLive.toNanos();
+						this.resolved = true;
+					}
+				}).doOnError(error -> discard(this)).doOnSuccess(result -> {
+					if (result == null) {
+						discard(this);
+					}
+				}).cache(result -> timeToLive, error -> Duration.ZERO, () -> Duration.ZERO);
+			}
+
+			boolean isExpired() {
+				return this.resolved && System.nanoTime() - this.expiresAt > 0;
+			}
+
+		}
+
+	}
+
+	private record ToolLimits(Duration timeToLive, int maxEntries) {
+	}
+
+	/**
+	 * Builder for {@link McpToolResultCache}.
+	 */
+	public static final class Builder {
+
+		private Duration defaultTimeToLive = Duration.ofMinutes(5);
+
+		private int defaultMaxEntries = 1000;
+
+		private final Map<String, ToolLimits> toolLimits = new HashMap<>();
+
+		private Builder() {
+		}
+
+		/**
+		 * Sets how long results are kept for tools without their own settings. Defaults
+		 * to five minutes.
+		 * @param timeToLive the time to live, must be positive
+		 * @return this builder
+		 */
+		public Builder defaultTimeToLive(Duration timeToLive) {
+			Assert.notNull(timeToLive, "Time to live must not be null");
+			Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "Time to live must be positive");
+			this.defaultTimeToLive = timeToLive;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of results kept per tool for tools without their own
+		 * settings. Defaults to 1000.
+		 * @param maxEntries the maximum number of entries, must be positive
+		 * @return this builder
+		 */
+		public Builder defaultMaxEntries(int maxEntries) {
+			Assert.isTrue(maxEntries > 0, "Max entries must be positive");
+			this.defaultMaxEntries = maxEntries;
+			return this;
+		}
+
+		/**
+		 * Sets how long and how many results are kept for one tool.
+		 * @param toolName the name of the tool
+		 * @param timeToLive the time to live, must be positive
+		 * @param maxEntries the maximum number of entries, must be positive
+		 * @return this builder
+		 */
+		public Builder tool(String toolName, Duration timeToLive, int maxEntries) {
+			Assert.hasText(toolName, "Tool name must not be empty");
+			Assert.notNull(timeToLive, "Time to live must not be null");
+			Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "Time to live must be positive");
+			Assert.isTrue(maxEntries > 0, "Max entries must be positive");
+			this.toolLimits.put(toolName, new ToolLimits(timeToLive, maxEntries));
+			return this;
+		}
+
+		/**
+		 * Builds the cache.
+		 * @return a new cache
+		 */
+		public McpToolResultCache build() {
+			return new McpToolResultCache(this);
+		}
+
+	}
+
+}
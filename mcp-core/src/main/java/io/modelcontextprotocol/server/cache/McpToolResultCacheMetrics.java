@@ -0,0 +1,28 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.cache;
+
+/**
+ * Point-in-time counters of a {@link McpToolResultCache}. All counters except
+ * {@code size} are cumulative since the cache was created.
+ *
+ * @param hits calls answered from the cache, including calls that joined a call to the
+ * tool already in flight for the same arguments
+ * @param misses calls that had to call the tool
+ * @param evictions entries removed to respect a size bound
+ * @param size entries currently cached, including calls still in flight
+ */
+public record McpToolResultCacheMetrics(long hits, long misses, long evictions, int size) {
+
+	/**
+	 * Returns the fraction of calls answered from the cache.
+	 * @return the hit ratio between 0 and 1, or 0 if no call has been made
+	 */
+	public double hitRatio() {
+		long total = this.hits + this.misses;
+		return (total == 0) ? 0 : (double) this.hits / total;
+	}
+
+}
@@ -0,0 +1,576 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.gateway;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.modelcontextprotocol.client.McpAsyncClient;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.pool.LoadBalancingStrategy;
+import io.modelcontextprotocol.client.pool.McpAsyncClientPool;
+import io.modelcontextprotocol.server.McpAsyncServer;
+import io.modelcontextprotocol.server.McpAsyncServerExchange;
+import io.modelcontextprotocol.server.McpServerFeatures;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.GetPromptRequest;
+import io.modelcontextprotocol.spec.McpSchema.GetPromptResult;
+import io.modelcontextprotocol.spec.McpSchema.LoggingMessageNotification;
+import io.modelcontextprotocol.spec.McpSchema.ProgressNotification;
+import io.modelcontextprotocol.spec.McpSchema.Prompt;
+import io.modelcontextprotocol.spec.McpSchema.Resource;
+import io.modelcontextprotocol.spec.McpSchema.Tool;
+import io.modelcontextprotocol.util.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * An aggregating MCP gateway that exposes the tools, resources and prompts of many
+ * upstream MCP servers through a single downstream {@link McpAsyncServer}.
+ *
+ * <p>
+ * Each upstream is reached through an {@link McpAsyncClientPool}, so an upstream can be
+ * served by several replicas. The gateway:
+ * <ul>
+ * <li>merges upstream {@code tools/list}, {@code resources/list} and {@code prompts/list}
+ * into the downstream server catalog, which then answers list requests from memory. Tool
+ * and prompt names are namespaced as {@code <upstream><separator><name>}; resource URIs
+ * are kept as they are and routed to the upstream that first announced them</li>
+ * <li>routes {@code tools/call}, {@code prompts/get} and {@code resources/read} to the
+ * owning upstream</li>
+ * <li>forwards upstream progress notifications to the downstream session that issued the
+ * request (progress tokens are rewritten to be unique across downstream sessions) and
+ * upstream logging notifications to the downstream sessions with requests in flight on
+ * that upstream</li>
+ * <li>applies upstream {@code list_changed} notifications incrementally, only adding,
+ * replacing or removing the entries of the upstream that changed. The changes of an
+ * upstream are applied one at a time, and each sends downstream clients a single
+ * {@code list_changed} notification</li>
+ * </ul>
+ *
+ * <p>
+ * The downstream server must be built with the capabilities the gateway should expose
+ * (tools, resources, prompts). Latency added by the gateway hop can be observed through
+ * the per-endpoint histograms of {@link #getUpstreamPool(String)}.
+ *
+ * <pre>{@code
+ * McpAsyncServer server = McpServer.async(transportProvider)
+ * 	.serverInfo("gateway", "1.0.0")
+ * 	.capabilities(ServerCapabilities.builder().tools(true).resources(false, true).prompts(true).build())
+ * 	.build();
+ *
+ * McpGateway gateway = McpGateway.builder(server)
+ * 	.upstream("github", McpClient.async(githubTransport))
+ * 	.upstream("search", McpClient.async(searchReplicaA), McpClient.async(searchReplicaB))
+ * 	.build();
+ *
+ * gateway.start().block();
+ * }</pre>
+ *
+ * @see McpAsyncClientPool
+ */
+public class McpGateway {
+
+	private static final Logger logger = LoggerFactory.getLogger(McpGateway.class);
+
+	/**
+	 * Default separator between the upstream name and the tool or prompt name.
+	 */
+	public static final String DEFAULT_NAMESPACE_SEPARATOR = "__";
+
+	private static final String PROGRESS_TOKEN = "progressToken";
+
+	/**
+	 * How long to retry queueing a catalog change while another thread queues one.
+	 */
+	private static final Duration CHANGE_EMIT_TIMEOUT = Duration.ofSeconds(5);
+
+	private final McpAsyncServer server;
+
+	private final Map<String, Upstream> upstreams;
+
+	private final String namespaceSeparator;
+
+	/**
+	 * Resource URI to owning upstream name.
+	 */
+	private final Map<String, String> resourceOwners = new ConcurrentHashMap<>();
+
+	/**
+	 * Gateway generated progress token to the downstream exchange and original token.
+	 */
+	private final Map<String, ProgressRoute> progressRoutes = new ConcurrentHashMap<>();
+
+	private final AtomicLong progressTokenCounter = new AtomicLong();
+
+	private McpGateway(McpAsyncServer server, String namespaceSeparator, Map<String, List<McpClient.AsyncSpec>> specs,
+			Function<String, McpAsyncClientPool.Builder> poolCustomizer) {
+		this.server = server;
+		this.namespaceSeparator = namespaceSeparator;
+
+		Map<String, Upstream> upstreams = new LinkedHashMap<>();
+		specs.forEach((name, replicas) -> {
+			Upstream upstream = new Upstream(name);
+			McpAsyncClientPool.Builder poolBuilder = poolCustomizer.apply(name);
+			for (int i = 0; i < replicas.size(); i++) {
+				McpAsyncClient client = replicas.get(i)
+					.toolsChangeConsumer(tools -> this.applyTools(upstream, tools))
+					.resourcesChangeConsumer(resources -> this.applyResources(upstream, resources))
+					.promptsChangeConsumer(prompts -> this.applyPrompts(upstream, prompts))
+					.progressConsumer(this::forwardProgress)
+					.loggingConsumer(notification -> this.forwardLogging(upstream, notification))
+					.build();
+				poolBuilder.endpoint(name + "-" + i, client);
+			}
+			upstream.pool = poolBuilder.build();
+			upstreams.put(name, upstream);
+		});
+		this.upstreams = Collections.unmodifiableMap(upstreams);
+	}
+
+	/**
+	 * Creates a new gateway builder exposing the upstream catalogs through the given
+	 * server.
+	 * @param server the downstream server
+	 * @return a new builder
+	 */
+	public static Builder builder(McpAsyncServer server) {
+		return new Builder(server);
+	}
+
+	/**
+	 * Initializes every upstream pool and loads the upstream catalogs into the downstream
+	 * server. Upstreams that cannot be initialized are logged and skipped; their entries
+	 * appear once a later {@code list_changed} notification arrives.
+	 * @return a Mono completing once all upstream catalogs were loaded
+	 */
+	public Mono<Void> start() {
+		return Flux.fromIterable(this.upstreams.values())
+			.flatMap(upstream -> upstream.pool.initialize()
+				.then(Mono.defer(() -> loadCatalog(upstream)))
+				.onErrorResume(error -> {
+					logger.warn("Failed to load catalog of upstream {}: {}", upstream.name, error.getMessage());
+					return Mono.empty();
+				}))
+			.then();
+	}
+
+	/**
+	 * Returns the client pool used to reach the given upstream.
+	 * @param upstreamName the upstream name
+	 * @return the pool, or null if there is no such upstream
+	 */
+	public McpAsyncClientPool getUpstreamPool(String upstreamName) {
+		Upstream upstream = this.upstreams.get(upstreamName);
+		return upstream != null ? upstream.pool : null;
+	}
+
+	/**
+	 * Returns the names of the configured upstreams.
+	 * @return the upstream names, in registration order
+	 */
+	public List<String> getUpstreamNames() {
+		return List.copyOf(this.upstreams.keySet());
+	}
+
+	/**
+	 * Closes every upstream pool. The downstream server is left to the caller.
+	 * @return a Mono completing once all upstream sessions are closed
+	 */
+	public Mono<Void> closeGracefully() {
+		return Flux.fromIterable(this.upstreams.values()).flatMap(upstream -> upstream.pool.closeGracefully()).then();
+	}
+
+	private Mono<Void> loadCatalog(Upstream upstream) {
+		McpSchema.ServerCapabilities local = this.server.getServerCapabilities();
+		McpSchema.ServerCapabilities remote = upstreamCapabilities(upstream);
+		if (remote == null) {
+			return Mono.empty();
+		}
+
+		Mono<Void> tools = local.tools() != null && remote.tools() != null
+				? listAll(upstream.pool::listTools, McpSchema.ListToolsResult::tools,
+						McpSchema.ListToolsResult::nextCursor)
+					.flatMap(list -> applyTools(upstream, list))
+				: Mono.empty();
+
+		Mono<Void> resources = local.resources() != null && remote.resources() != null
+				? listAll(upstream.pool::listResources, McpSchema.ListResourcesResult::resources,
+						McpSchema.ListResourcesResult::nextCursor)
+					.flatMap(list -> applyResources(upstream, list))
+				: Mono.empty();
+
+		Mono<Void> prompts = local.prompts() != null && remote.prompts() != null
+				? listAll(upstream.pool::listPrompts, McpSchema.ListPromptsResult::prompts,
+						McpSchema.ListPromptsResult::nextCursor)
+					.flatMap(list -> applyPrompts(upstream, list))
+				: Mono.empty();
+
+		return Mono.when(tools, resources, prompts);
+	}
+
+	private static McpSchema.ServerCapabilities upstreamCapabilities(Upstream upstream) {
+		return upstream.pool.getEndpoints()
+			.stream()
+			.map(endpoint -> endpoint.client())
+			.filter(McpAsyncClient::isInitialized)
+			.map(McpAsyncClient::getServerCapabilities)
+			.findFirst()
+			.orElse(null);
+	}
+
+	private static <R, T> Mono<List<T>> listAll(Function<String, Mono<R>> page, Function<R, List<T>> items,
+			Function<R, String> nextCursor) {
+		return page.apply(McpSchema.FIRST_PAGE)
+			.expand(result -> nextCursor.apply(result) != null ? page.apply(nextCursor.apply(result)) : Mono.empty())
+			.flatMapIterable(result -> items.apply(result) != null ? items.apply(result) : List.of())
+			.collectList();
+	}
+
+	// ---------------------------------------
+	// Incremental catalog updates
+	// ---------------------------------------
+
+	private Mono<Void> applyTools(Upstream upstream, List<Tool> tools) {
+		if (this.server.getServerCapabilities().tools() == null) {
+			return Mono.empty();
+		}
+		return upstream.apply(() -> {
+			Map<String, Tool> next = new HashMap<>();
+			for (Tool tool : tools) {
+				next.put(namespaced(upstream, tool.name()), tool);
+			}
+			List<McpServerFeatures.AsyncToolSpecification> changed = new ArrayList<>();
+			next.forEach((name, tool) -> {
+				if (!tool.equals(upstream.tools.get(name))) {
+					changed.add(toolSpecification(upstream, name, tool));
+				}
+			});
+			List<String> removed = diffRemoved(upstream.tools, next);
+			upstream.tools = next;
+			return this.server.updateTools(removed, changed);
+		});
+	}
+
+	private Mono<Void> applyResources(Upstream upstream, List<Resource> resources) {
+		if (this.server.getServerCapabilities().resources() == null) {
+			return Mono.empty();
+		}
+		return upstream.apply(() -> {
+			Map<String, Resource> next = new HashMap<>();
+			for (Resource resource : resources) {
+				String owner = this.resourceOwners.putIfAbsent(resource.uri(), upstream.name);
+				if (owner != null && !owner.equals(upstream.name)) {
+					logger.warn("Resource {} of upstream {} is shadowed by upstream {}", resource.uri(), upstream.name,
+							owner);
+					continue;
+				}
+				next.put(resource.uri(), resource);
+			}
+			List<McpServerFeatures.AsyncResourceSpecification> changed = new ArrayList<>();
+			next.forEach((uri, resource) -> {
+				if (!resource.equals(upstream.resources.get(uri))) {
+					changed.add(new McpServerFeatures.AsyncResourceSpecification(resource,
+							(exchange, request) -> routed(upstream, exchange, upstream.pool.readResource(request))));
+				}
+			});
+			List<String> removed = diffRemoved(upstream.resources, next);
+			for (String uri : removed) {
+				this.resourceOwners.remove(uri, upstream.name);
+			}
+			upstream.resources = next;
+			return this.server.updateResources(removed, changed);
+		});
+	}
+
+	private Mono<Void> applyPrompts(Upstream upstream, List<Prompt> prompts) {
+		if (this.server.getServerCapabilities().prompts() == null) {
+			return Mono.empty();
+		}
+		return upstream.apply(() -> {
+			Map<String, Prompt> next = new HashMap<>();
+			for (Prompt prompt : prompts) {
+				next.put(namespaced(upstream, prompt.name()), prompt);
+			}
+			List<McpServerFeatures.AsyncPromptSpecification> changed = new ArrayList<>();
+			next.forEach((name, prompt) -> {
+				if (!prompt.equals(upstream.prompts.get(name))) {
+					changed.add(promptSpecification(upstream, name, prompt));
+				}
+			});
+			List<String> removed = diffRemoved(upstream.prompts, next);
+			upstream.prompts = next;
+			return this.server.updatePrompts(removed, changed);
+		});
+	}
+
+	private static List<String> diffRemoved(Map<String, ?> previous, Map<String, ?> next) {
+		List<String> removed = new ArrayList<>();
+		for (String key : previous.keySet()) {
+			if (!next.containsKey(key)) {
+				removed.add(key);
+			}
+		}
+		return removed;
+	}
+
+	private String namespaced(Upstream upstream, String name) {
+		return upstream.name + this.namespaceSeparator + name;
+	}
+
+	// ---------------------------------------
+	// Request routing
+	// ---------------------------------------
+
+	private McpServerFeatures.AsyncToolSpecification toolSpecification(Upstream upstream, String namespacedName,
+			Tool tool) {
+		Tool exposed = new Tool(namespacedName, tool.title(), tool.description(), tool.inputSchema(),
+				tool.outputSchema(), tool.annotations(), tool.meta());
+		return McpServerFeatures.AsyncToolSpecification.builder()
+			.tool(exposed)
+			.callHandler((exchange, request) -> callTool(upstream, tool.name(), exchange, request))
+			.build();
+	}
+
+	private Mono<CallToolResult> callTool(Upstream upstream, String upstreamToolName, McpAsyncServerExchange exchange,
+			CallToolRequest request) {
+		return Mono.defer(() -> {
+			Object downstreamToken = request.progressToken();
+			String upstreamToken = null;
+			Map<String, Object> meta = request.meta();
+			if (downstreamToken != null) {
+				upstreamToken = "gateway-" + this.progressTokenCounter.incrementAndGet();
+				this.progressRoutes.put(upstreamToken, new ProgressRoute(exchange, downstreamToken));
+				meta = new HashMap<>(meta);
+				meta.put(PROGRESS_TOKEN, upstreamToken);
+			}
+			CallToolRequest upstreamRequest = new CallToolRequest(upstreamToolName, request.arguments(), meta);
+			String routeToRemove = upstreamToken;
+			return routed(upstream, exchange, upstream.pool.callTool(upstreamRequest)).doFinally(signal -> {
+				if (routeToRemove != null) {
+					this.progressRoutes.remove(routeToRemove);
+				}
+			});
+		});
+	}
+
+	private McpServerFeatures.AsyncPromptSpecification promptSpecification(Upstream upstream, String namespacedName,
+			Prompt prompt) {
+		Prompt exposed = new Prompt(namespacedName, prompt.title(), prompt.description(), prompt.arguments(),
+				prompt.meta());
+		return new McpServerFeatures.AsyncPromptSpecification(exposed, (exchange, request) -> routed(upstream, exchange,
+				upstream.pool.getPrompt(new GetPromptRequest(prompt.name(), request.arguments(), request.meta()))));
+	}
+
+	/**
+	 * Tracks the downstream exchange as having a request in flight on the upstream for
+	 * the duration of the call, so that upstream logging can be forwarded to it.
+	 */
+	private <T> Mono<T> routed(Upstream upstream, McpAsyncServerExchange exchange, Mono<T> call) {
+		return Mono.defer(() -> {
+			upstream.inFlightExchanges.merge(exchange, 1, Integer::sum);
+			return call.doFinally(signal -> upstream.inFlightExchanges.computeIfPresent(exchange,
+					(key, count) -> count == 1 ? null : count - 1));
+		});
+	}
+
+	// ---------------------------------------
+	// Notification forwarding
+	// ---------------------------------------
+
+	private Mono<Void> forwardProgress(ProgressNotification notification) {
+		if (notification.progressToken() == null) {
+			return Mono.empty();
+		}
+		ProgressRoute route = this.progressRoutes.get(String.valueOf(notification.progressToken()));
+		if (route == null) {
+			logger.debug("Dropping upstream progress for unknown token {}", notification.progressToken());
+			return Mono.empty();
+		}
+		return route.exchange()
+			.progressNotification(new ProgressNotification(route.downstreamToken(), notification.progress(),
+					notification.total(), notification.message(), notification.meta()));
+	}
+
+	private Mono<Void> forwardLogging(Upstream upstream, LoggingMessageNotification notification) {
+		if (upstream.inFlightExchanges.isEmpty()) {
+			return Mono.empty();
+		}
+		String loggerName = notification.logger() != null ? notification.logger() : upstream.name;
+		LoggingMessageNotification forwarded = new LoggingMessageNotification(notification.level(), loggerName,
+				notification.data(), notification.meta());
+		return Flux.fromIterable(upstream.inFlightExchanges.keySet())
+			.flatMap(exchange -> exchange.loggingNotification(forwarded).onErrorResume(error -> {
+				logger.debug("Failed to forward upstream log to session {}: {}", exchange.sessionId(),
+						error.getMessage());
+				return Mono.empty();
+			}))
+			.then();
+	}
+
+	private record ProgressRoute(McpAsyncServerExchange exchange, Object downstreamToken) {
+	}
+
+	/**
+	 * Catalog state of a single upstream. The catalog maps are only read and replaced by
+	 * the changes of the upstream, which are applied one at a time and in the order the
+	 * upstream announced them.
+	 */
+	private static final class Upstream {
+
+		final String name;
+
+		McpAsyncClientPool pool;
+
+		final Map<McpAsyncServerExchange, Integer> inFlightExchanges = new ConcurrentHashMap<>();
+
+		Map<String, Tool> tools = Map.of();
+
+		Map<String, Resource> resources = Map.of();
+
+		Map<String, Prompt> prompts = Map.of();
+
+		private final Sinks.Many<Mono<Void>> changes = Sinks.many().unicast().onBackpressureBuffer();
+
+		Upstream(String name) {
+			this.name = name;
+			this.changes.asFlux().concatMap(change -> change).subscribe();
+		}
+
+		/**
+		 * Applies a catalog change once the changes queued before it have been applied.
+		 * @param change computes the change from the current catalog and applies it to
+		 * the downstream server
+		 * @return a Mono completing once the change was applied
+		 */
+		Mono<Void> apply(Supplier<Mono<Void>> change) {
+			return Mono.defer(() -> {
+				Sinks.Empty<Void> applied = Sinks.empty();
+				// Several replicas may announce changes at the same time
+				this.changes.emitNext(Mono.defer(change)
+					.doOnSuccess(v -> applied.tryEmitEmpty())
+					.doOnError(applied::tryEmitError)
+					.onErrorComplete(), Sinks.EmitFailureHandler.busyLooping(CHANGE_EMIT_TIMEOUT));
+				return applied.asMono();
+			});
+		}
+
+	}
+
+	/**
+	 * Builder for {@link McpGateway}.
+	 */
+	public static class Builder {
+
+		private final McpAsyncServer server;
+
+		private final Map<String, List<McpClient.AsyncSpec>> upstreams = new LinkedHashMap<>();
+
+		private String namespaceSeparator = DEFAULT_NAMESPACE_SEPARATOR;
+
+		private LoadBalancingStrategy loadBalancingStrategy;
+
+		private Duration hedgeDelay;
+
+		private Duration healthCheckInterval = Duration.ofSeconds(30);
+
+		Builder(McpAsyncServer server) {
+			Assert.notNull(server, "Server must not be null");
+			this.server = server;
+		}
+
+		/**
+		 * Adds an upstream server reachable through one or more equivalent replicas. The
+		 * gateway registers its own change, progress and logging consumers on the given
+		 * client specifications before building them.
+		 * @param name the upstream name, used as namespace prefix for tools and prompts
+		 * @param replicas client specifications for the upstream replicas
+		 * @return this builder
+		 */
+		public Builder upstream(String name, McpClient.AsyncSpec... replicas) {
+			Assert.hasText(name, "Upstream name must not be empty");
+			Assert.isTrue(replicas != null && replicas.length > 0, "At least one upstream replica must be provided");
+			Assert.isTrue(!this.upstreams.containsKey(name), "Duplicate upstream name: " + name);
+			this.upstreams.put(name, List.of(replicas));
+			return this;
+		}
+
+		/**
+		 * Sets the separator placed between the upstream name and tool or prompt names.
+		 * Defaults to {@value #DEFAULT_NAMESPACE_SEPARATOR}.
+		 * @param namespaceSeparator the separator
+		 * @return this builder
+		 */
+		public Builder namespaceSeparator(String namespaceSeparator) {
+			Assert.hasText(namespaceSeparator, "Namespace separator must not be empty");
+			this.namespaceSeparator = namespaceSeparator;
+			return this;
+		}
+
+		/**
+		 * Sets the load balancing strategy used across the replicas of every upstream.
+		 * @param loadBalancingStrategy the strategy
+		 * @return this builder
+		 */
+		public Builder loadBalancingStrategy(LoadBalancingStrategy loadBalancingStrategy) {
+			Assert.notNull(loadBalancingStrategy, "Load balancing strategy must not be null");
+			this.loadBalancingStrategy = loadBalancingStrategy;
+			return this;
+		}
+
+		/**
+		 * Enables hedging of idempotent upstream requests.
+		 * @param hedgeDelay the hedge delay, or null to disable hedging
+		 * @return this builder
+		 */
+		public Builder hedgeDelay(Duration hedgeDelay) {
+			this.hedgeDelay = hedgeDelay;
+			return this;
+		}
+
+		/**
+		 * Sets the interval of upstream health check pings.
+		 * @param healthCheckInterval the interval, or null to disable health checks
+		 * @return this builder
+		 */
+		public Builder healthCheckInterval(Duration healthCheckInterval) {
+			this.healthCheckInterval = healthCheckInterval;
+			return this;
+		}
+
+		/**
+		 * Builds the gateway. Upstream sessions are opened by {@link McpGateway#start()}.
+		 * @return a new gateway
+		 */
+		public McpGateway build() {
+			Assert.isTrue(!this.upstreams.isEmpty(), "At least one upstream must be configured");
+			return new McpGateway(this.server, this.namespaceSeparator, this.upstreams, name -> {
+				McpAsyncClientPool.Builder pool = McpAsyncClientPool.builder()
+					.hedgeDelay(this.hedgeDelay)
+					.healthCheckInterval(this.healthCheckInterval);
+				if (this.loadBalancingStrategy != null) {
+					pool.loadBalancingStrategy(this.loadBalancingStrategy);
+				}
+				return pool;
+			});
+		}
+
+	}
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.transport;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import io.modelcontextprotocol.spec.HttpCompression;
+import io.modelcontextprotocol.spec.HttpContentCoding;
+import io.modelcontextprotocol.spec.HttpHeaders;
+import io.modelcontextprotocol.util.Assert;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Utility methods reading and writing the bodies of servlet requests and responses,
+ * applying an {@link HttpCompression}. Without a compression, bodies are read and written
+ * as they are. For internal use only.
+ */
+final class HttpServletCompressionUtils {
+
+	private HttpServletCompressionUtils() {
+	}
+
+	/**
+	 * Checks that the body of a request is encoded with a supported coding, if any.
+	 * Otherwise responds with 415 Unsupported Media Type and the supported codings.
+	 * @param request the HTTP servlet request
+	 * @param response the HTTP servlet response
+	 * @param compression the compression, or null if compression is disabled
+	 * @return {@code true} if the body can be read
+	 * @throws IOException if the error response cannot be sent
+	 */
+	static boolean checkContentEncoding(HttpServletRequest request, HttpServletResponse response,
+			HttpCompression compression) throws IOException {
+		if (compression == null) {
+			return true;
+		}
+		try {
+			compression.coding(request.getHeader(HttpHeaders.CONTENT_ENCODING));
+			return true;
+		}
+		catch (IllegalArgumentException e) {
+			response.setHeader(HttpHeaders.ACCEPT_ENCODING, compression.acceptEncoding());
+			response.sendError(HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE, e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Returns a reader of the decoded body of a request.
+	 * @param request the HTTP servlet request
+	 * @param compression the compression, or null if compression is disabled
+	 * @return the reader, whose reads fail with a
+	 * {@link HttpCompression.BodyTooLargeException} past the maximum decoded size
+	 * @throws IOException if the body cannot be read
+	 */
+	static BufferedReader reader(HttpServletRequest request, HttpCompression compression) throws IOException {
+		Optional<HttpContentCoding> coding = compression != null
+				? compression.coding(request.getHeader(HttpHeaders.CONTENT_ENCODING)) : Optional.empty();
+		if (coding.isEmpty()) {
+			return request.getReader();
+		}
+		return new BufferedReader(new InputStreamReader(compression.decode(coding.get(), request.getInputStream()),
+				StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Reads the decoded body of a request as bytes.
+	 * @param request the HTTP servlet request
+	 * @param compression the compression, or null if compression is disabled
+	 * @return the body
+	 * @throws HttpCompression.BodyTooLargeException if the body decodes to more than the
+	 * maximum decoded size
+	 * @throws IOException if the body cannot be read
+	 */
+	static byte[] readAllBytes(HttpServletRequest request, HttpCompression compression) throws IOException {
+		Optional<HttpContentCoding> coding = compression != null
+				? compression.coding(request.getHeader(HttpHeaders.CONTENT_ENCODING)) : Optional.empty();
+		InputStream body = request.getInputStream();
+		return (coding.isPresent() ? compression.decode(coding.get(), body) : body).readAllBytes();
+	}
+
+	/**
+	 * Writes a JSON body, compressed if the client accepts a supported coding and the
+	 * body is at least the minimum size.
+	 * @param request the HTTP servlet request
+	 * @param response the HTTP servlet response, with its content type and status set
+	 * @param compression the compression, or null if compression is disabled
+	 * @param json the body
+	 * @throws IOException if the body cannot be written
+	 */
+	static void writeJson(HttpServletRequest request, HttpServletResponse response, HttpCompression compression,
+			String json) throws IOException {
+		Assert.notNull(json, "JSON must not be null");
+		if (compression != null) {
+			write(request, response, compression, json.getBytes(StandardCharsets.UTF_8));
+			return;
+		}
+		PrintWriter writer = response.getWriter();
+		writer.write(json);
+		writer.flush();
+	}
+
+	/**
+	 * Writes a body, compressed if the client accepts a supported coding and the body is
+	 * at least the minimum size.
+	 * @param request the HTTP servlet request
+	 * @param response the HTTP servlet response, with its content type and status set
+	 * @param compression the compression, or null if compression is disabled
+	 * @param content the body
+	 * @throws IOException if the body cannot be written
+	 */
+	static void write(HttpServletRequest request, HttpServletResponse response, HttpCompression compression,
+			byte[] content) throws IOException {
+		if (compression != null) {
+			response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+			Optional<HttpContentCoding> coding = content.length >= compression.minSize()
+					? compression.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING)) : Optional.empty();
+			if (coding.isPresent()) {
+				content = HttpCompression.encode(coding.get(), content);
+				response.setHeader(HttpHeaders.CONTENT_ENCODING, coding.get().name());
+			}
+		}
+		response.setContentLength(content.length);
+		response.getOutputStream().write(content);
+		response.flushBuffer();
+	}
+
+	/**
+	 * Returns the writer of an SSE stream, compressed as a whole if the client accepts a
+	 * supported coding. Flushing the writer sends the events written so far; closing it
+	 * finishes the compressed stream.
+	 * @param request the HTTP servlet request
+	 * @param response the HTTP servlet response, with its headers set
+	 * @param compression the compression, or null if compression is disabled
+	 * @return the writer
+	 * @throws IOException if the stream cannot be opened
+	 */
+	static PrintWriter eventStreamWriter(HttpServletRequest request, HttpServletResponse response,
+			HttpCompression compression) throws IOException {
+		if (compression != null) {
+			response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+			Optional<HttpContentCoding> coding = compression.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+			if (coding.isPresent()) {
+				response.setHeader(HttpHeaders.CONTENT_ENCODING, coding.get().name());
+				return new PrintWriter(new OutputStreamWriter(coding.get().encoder(response.getOutputStream()),
+						StandardCharsets.UTF_8));
+			}
+		}
+		return response.getWriter();
+	}
+
+}
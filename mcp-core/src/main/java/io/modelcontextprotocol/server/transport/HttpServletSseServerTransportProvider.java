@@ -483,7 +483,7 @@ public class HttpServletSseServerTransportProvider extends HttpServlet implement
 		public Mono<Void> sendMessage(McpSchema.JSONRPCMessage message) {
 			return Mono.fromRunnable(() -> {
 				try {
-					String jsonText = jsonMapper.writeValueAsString(message);
+					String jsonText = McpSchema.serializeJsonRpcMessage(jsonMapper, message);
 					sendEvent(writer, MESSAGE_EVENT_TYPE, jsonText);
 					logger.debug("Message sent to session {}", sessionId);
 				}
@@ -7,8 +7,10 @@ package io.modelcontextprotocol.server.transport;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,6 +21,8 @@ import io.modelcontextprotocol.json.McpJsonMapper;
 import io.modelcontextprotocol.common.McpTransportContext;
 import io.modelcontextprotocol.server.McpStatelessServerHandler;
 import io.modelcontextprotocol.server.McpTransportContextExtractor;
+import io.modelcontextprotocol.spec.HttpCompression;
+import io.modelcontextprotocol.spec.McpBinaryFormat;
 import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpStatelessServerTransport;
@@ -33,6 +37,13 @@ import reactor.core.publisher.Mono;
 /**
  * Implementation of an HttpServlet based {@link McpStatelessServerTransport}.
  *
+ * <p>
+ * {@link #closeGracefully()} drains the transport: new requests are refused with 503
+ * Service Unavailable and a Retry-After hint, while the requests in flight get until the
+ * {@link Builder#drainTimeout(Duration) drain timeout} to complete. Requests still in
+ * flight at the deadline are cancelled and answered with 503 as well, so that their
+ * clients may retry them on another node.
+ *
  * @author Christian Tzolov
  * @author Dariusz Jędrzejczyk
  */
@@ -66,9 +77,22 @@ public class HttpServletStatelessServerTransport extends HttpServlet implements
 	 */
 	private final ServerTransportSecurityValidator securityValidator;
 
+	/**
+	 * Compression of request and response bodies, or null if disabled.
+	 */
+	private final HttpCompression compression;
+
+	/**
+	 * Binary format accepted besides JSON, or null if only JSON is accepted.
+	 */
+	private final McpBinaryFormat binaryFormat;
+
+	private final RequestDrain requestDrain;
+
 	private HttpServletStatelessServerTransport(McpJsonMapper jsonMapper, String mcpEndpoint,
 			McpTransportContextExtractor<HttpServletRequest> contextExtractor,
-			ServerTransportSecurityValidator securityValidator) {
+			ServerTransportSecurityValidator securityValidator, HttpCompression compression,
+			McpBinaryFormat binaryFormat, Duration drainTimeout, Duration drainRetryAfter) {
 		Assert.notNull(jsonMapper, "jsonMapper must not be null");
 		Assert.notNull(mcpEndpoint, "mcpEndpoint must not be null");
 		Assert.notNull(contextExtractor, "contextExtractor must not be null");
@@ -78,6 +102,9 @@ public class HttpServletStatelessServerTransport extends HttpServlet implements
 		this.mcpEndpoint = mcpEndpoint;
 		this.contextExtractor = contextExtractor;
 		this.securityValidator = securityValidator;
+		this.compression = compression;
+		this.binaryFormat = binaryFormat;
+		this.requestDrain = new RequestDrain(drainTimeout, drainRetryAfter);
 	}
 
 	@Override
@@ -87,7 +114,16 @@ public class HttpServletStatelessServerTransport extends HttpServlet implements
 
 	@Override
 	public Mono<Void> closeGracefully() {
-		return Mono.fromRunnable(() -> this.isClosing = true);
+		return this.requestDrain.drain().then(Mono.fromRunnable(() -> this.isClosing = true));
+	}
+
+	/**
+	 * Returns the counts of the requests drained, aborted and refused while the transport
+	 * shuts down.
+	 * @return the current drain metrics
+	 */
+	public McpDrainMetrics drainMetrics() {
+		return this.requestDrain.metrics();
 	}
 
 	/**
@@ -129,7 +165,7 @@ public class HttpServletStatelessServerTransport extends HttpServlet implements
 		}
 
 		if (isClosing) {
-			response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Server is shutting down");
+			this.requestDrain.reject(response);
 			return;
 		}
 
@@ -151,31 +187,34 @@ public class HttpServletStatelessServerTransport extends HttpServlet implements
 			return;
 		}
 
-		try {
-			BufferedReader reader = request.getReader();
-			StringBuilder body = new StringBuilder();
-			String line;
-			while ((line = reader.readLine()) != null) {
-				body.append(line);
-			}
+		if (!HttpServletCompressionUtils.checkContentEncoding(request, response, this.compression)) {
+			return;
+		}
 
-			McpSchema.JSONRPCMessage message = McpSchema.deserializeJsonRpcMessage(jsonMapper, body.toString());
+		boolean inFlight = false;
+		try {
+			McpSchema.JSONRPCMessage message = readMessage(request);
 
 			if (message instanceof McpSchema.JSONRPCRequest jsonrpcRequest) {
+				if (!this.requestDrain.tryBegin()) {
+					this.requestDrain.reject(response);
+					return;
+				}
+				inFlight = true;
 				try {
-					McpSchema.JSONRPCResponse jsonrpcResponse = this.mcpHandler
+					Optional<McpSchema.JSONRPCResponse> jsonrpcResponse = this.mcpHandler
 						.handleRequest(transportContext, jsonrpcRequest)
 						.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))
-						.block();
+						.takeUntilOther(this.requestDrain.deadline())
+						.blockOptional();
+					if (jsonrpcResponse.isEmpty()) {
+						// Cancelled at the deadline of the drain
+						this.requestDrain.abort(response);
+						return;
+					}
 
-					response.setContentType(APPLICATION_JSON);
-					response.setCharacterEncoding(UTF_8);
 					response.setStatus(HttpServletResponse.SC_OK);
-
-					String jsonResponseText = jsonMapper.writeValueAsString(jsonrpcResponse);
-					PrintWriter writer = response.getWriter();
-					writer.write(jsonResponseText);
-					writer.flush();
+					writeMessage(request, response, jsonrpcResponse.get());
 				}
 				catch (Exception e) {
 					logger.error("Failed to handle request: {}", e.getMessage());
@@ -201,6 +240,10 @@ public class HttpServletStatelessServerTransport extends HttpServlet implements
 						new McpError("The server accepts either requests or notifications"));
 			}
 		}
+		catch (HttpCompression.BodyTooLargeException e) {
+			logger.warn("Refused request body: {}", e.getMessage());
+			this.responseError(response, HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, new McpError(e.getMessage()));
+		}
 		catch (IllegalArgumentException | IOException e) {
 			logger.error("Failed to deserialize message: {}", e.getMessage());
 			this.responseError(response, HttpServletResponse.SC_BAD_REQUEST, new McpError("Invalid message format"));
@@ -210,6 +253,56 @@ public class HttpServletStatelessServerTransport extends HttpServlet implements
 			this.responseError(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
 					new McpError("Unexpected error: " + e.getMessage()));
 		}
+		finally {
+			if (inFlight) {
+				this.requestDrain.end();
+			}
+		}
+	}
+
+	/**
+	 * Reads the message of a request, in the binary format if the request is sent in it
+	 * and JSON otherwise.
+	 * @param request The HTTP servlet request
+	 * @return the message
+	 * @throws IOException If the body cannot be read or is malformed
+	 */
+	private McpSchema.JSONRPCMessage readMessage(HttpServletRequest request) throws IOException {
+		String contentType = request.getContentType();
+		if (this.binaryFormat != null && contentType != null && contentType.contains(this.binaryFormat.contentType())) {
+			return this.binaryFormat.read(this.jsonMapper,
+					HttpServletCompressionUtils.readAllBytes(request, this.compression));
+		}
+		BufferedReader reader = HttpServletCompressionUtils.reader(request, this.compression);
+		StringBuilder body = new StringBuilder();
+		String line;
+		while ((line = reader.readLine()) != null) {
+			body.append(line);
+		}
+		return McpSchema.deserializeJsonRpcMessage(jsonMapper, body.toString());
+	}
+
+	/**
+	 * Writes a message as the body of the response, in the binary format if the request
+	 * accepts it and JSON otherwise.
+	 * @param request The HTTP servlet request
+	 * @param response The HTTP servlet response, with its status set
+	 * @param message The message
+	 * @throws IOException If the message cannot be written
+	 */
+	private void writeMessage(HttpServletRequest request, HttpServletResponse response,
+			McpSchema.JSONRPCMessage message) throws IOException {
+		String accept = request.getHeader(ACCEPT);
+		if (this.binaryFormat != null && accept != null && accept.contains(this.binaryFormat.contentType())) {
+			response.setContentType(this.binaryFormat.contentType());
+			HttpServletCompressionUtils.write(request, response, this.compression,
+					this.binaryFormat.write(this.jsonMapper, message));
+			return;
+		}
+		response.setContentType(APPLICATION_JSON);
+		response.setCharacterEncoding(UTF_8);
+		HttpServletCompressionUtils.writeJson(request, response, this.compression,
+				McpSchema.serializeJsonRpcMessage(jsonMapper, message));
 	}
 
 	/**
@@ -265,6 +358,14 @@ public class HttpServletStatelessServerTransport extends HttpServlet implements
 
 		private ServerTransportSecurityValidator securityValidator = ServerTransportSecurityValidator.NOOP;
 
+		private HttpCompression compression;
+
+		private McpBinaryFormat binaryFormat;
+
+		private Duration drainTimeout = Duration.ofSeconds(30);
+
+		private Duration drainRetryAfter = Duration.ofSeconds(5);
+
 		private Builder() {
 			// used by a static method
 		}
@@ -322,6 +423,62 @@ public class HttpServletStatelessServerTransport extends HttpServlet implements
 			return this;
 		}
 
+		/**
+		 * Enables compression of request and response bodies. Disabled by default.
+		 * @param compression The codings and thresholds to apply. Must not be null.
+		 * @return this builder instance
+		 * @throws IllegalArgumentException if compression is null
+		 */
+		public Builder compression(HttpCompression compression) {
+			Assert.notNull(compression, "Compression must not be null");
+			this.compression = compression;
+			return this;
+		}
+
+		/**
+		 * Accepts messages in a binary format besides JSON, and answers in that format
+		 * the requests that accept it. Clients sending JSON are answered in JSON.
+		 * @param binaryFormat The binary format. Must not be null.
+		 * @return this builder instance
+		 * @throws IllegalArgumentException if binaryFormat is null
+		 */
+		public Builder binaryFormat(McpBinaryFormat binaryFormat) {
+			Assert.notNull(binaryFormat, "Binary format must not be null");
+			this.binaryFormat = binaryFormat;
+			return this;
+		}
+
+		/**
+		 * Sets how long the requests in flight get to complete when the transport shuts
+		 * down, before they are cancelled and answered with 503 Service Unavailable.
+		 * Defaults to 30 seconds.
+		 * @param drainTimeout The drain timeout, zero to cancel the requests at once.
+		 * Must not be null.
+		 * @return this builder instance
+		 * @throws IllegalArgumentException if drainTimeout is null or negative
+		 */
+		public Builder drainTimeout(Duration drainTimeout) {
+			Assert.notNull(drainTimeout, "Drain timeout must not be null");
+			Assert.isTrue(!drainTimeout.isNegative(), "Drain timeout must not be negative");
+			this.drainTimeout = drainTimeout;
+			return this;
+		}
+
+		/**
+		 * Sets the delay sent in the Retry-After header of the 503 responses refusing
+		 * requests while the transport shuts down, rounded up to whole seconds. Defaults
+		 * to 5 seconds.
+		 * @param drainRetryAfter The retry delay. Must not be null.
+		 * @return this builder instance
+		 * @throws IllegalArgumentException if drainRetryAfter is null or negative
+		 */
+		public Builder drainRetryAfter(Duration drainRetryAfter) {
+			Assert.notNull(drainRetryAfter, "Drain retry delay must not be null");
+			Assert.isTrue(!drainRetryAfter.isNegative(), "Drain retry delay must not be negative");
+			this.drainRetryAfter = drainRetryAfter;
+			return this;
+		}
+
 		/**
 		 * Builds a new instance of {@link HttpServletStatelessServerTransport} with the
 		 * configured settings.
@@ -332,7 +489,7 @@ public class HttpServletStatelessServerTransport extends HttpServlet implements
 			Assert.notNull(mcpEndpoint, "Message endpoint must be set");
 			return new HttpServletStatelessServerTransport(
 					jsonMapper == null ? McpJsonDefaults.getMapper() : jsonMapper, mcpEndpoint, contextExtractor,
-					securityValidator);
+					securityValidator, compression, binaryFormat, drainTimeout, drainRetryAfter);
 		}
 
 	}
@@ -9,6 +9,7 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -21,13 +22,19 @@ import io.modelcontextprotocol.json.TypeRef;
 
 import io.modelcontextprotocol.common.McpTransportContext;
 import io.modelcontextprotocol.server.McpTransportContextExtractor;
+import io.modelcontextprotocol.spec.HttpCompression;
 import io.modelcontextprotocol.spec.HttpHeaders;
+import io.modelcontextprotocol.spec.McpBinaryFormat;
 import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpStreamableMessageBus;
 import io.modelcontextprotocol.spec.McpStreamableServerSession;
 import io.modelcontextprotocol.spec.McpStreamableServerTransport;
 import io.modelcontextprotocol.spec.McpStreamableServerTransportProvider;
+import io.modelcontextprotocol.spec.McpStreamableSessionState;
+import io.modelcontextprotocol.spec.McpStreamableSessionStore;
 import io.modelcontextprotocol.spec.ProtocolVersions;
+import io.modelcontextprotocol.spec.TransportExecutors;
 import io.modelcontextprotocol.util.Assert;
 import io.modelcontextprotocol.json.McpJsonDefaults;
 import io.modelcontextprotocol.json.McpJsonMapper;
@@ -38,8 +45,10 @@ import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * Server-side implementation of the Model Context Protocol (MCP) streamable transport
@@ -53,6 +62,22 @@ import reactor.core.publisher.Mono;
  * for the core MCP module, providing streamable HTTP transport functionality without
  * Spring dependencies.
  *
+ * <p>
+ * Sessions live in the memory of the node that initialized them unless a
+ * {@link McpStreamableSessionStore} is configured. With a store, a node receiving a
+ * request for a session it does not know restores the session from the store, so any node
+ * can serve any session. A {@link McpStreamableMessageBus} additionally routes the
+ * messages the server sends on the listening stream to the node holding that stream, and
+ * the client's responses to the node awaiting them.
+ *
+ * <p>
+ * {@link #closeGracefully()} drains the transport before closing it: new sessions and
+ * requests are refused with 503 Service Unavailable and a Retry-After hint, while the
+ * requests in flight get until the {@link Builder#drainTimeout(Duration) drain timeout}
+ * to complete. The listening streams are then closed once the messages queued for them
+ * have been written, or at the same deadline. {@link #drainMetrics()} counts the requests
+ * drained and aborted.
+ *
  * @author Zachary German
  * @author Christian Tzolov
  * @author Dariusz Jędrzejczyk
@@ -65,6 +90,15 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 
 	private static final Logger logger = LoggerFactory.getLogger(HttpServletStreamableServerTransportProvider.class);
 
+	private static final TypeRef<McpSchema.InitializeRequest> INITIALIZE_REQUEST_TYPE_REF = new TypeRef<>() {
+	};
+
+	/**
+	 * How long saving and flushing a session may take on shutdown, even once the drain
+	 * deadline has passed.
+	 */
+	private static final Duration MIN_SESSION_CLOSE_TIMEOUT = Duration.ofSeconds(1);
+
 	/**
 	 * Event type for JSON-RPC messages sent through the SSE connection.
 	 */
@@ -126,6 +160,33 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 	 */
 	private final ServerTransportSecurityValidator securityValidator;
 
+	private final McpOutboundQueue outboundQueue;
+
+	private final TransportExecutors transportExecutors;
+
+	private final McpStreamableSessionStore sessionStore;
+
+	private final McpStreamableMessageBus messageBus;
+
+	/**
+	 * Compression of request and response bodies, or null if disabled.
+	 */
+	private final HttpCompression compression;
+
+	/**
+	 * Binary format accepted besides JSON, or null if only JSON is accepted.
+	 */
+	private final McpBinaryFormat binaryFormat;
+
+	/**
+	 * Listening streams opened on this node, by session ID.
+	 */
+	private final ConcurrentHashMap<String, HttpServletStreamableMcpSessionTransport> listeningTransports = new ConcurrentHashMap<>();
+
+	private Disposable messageBusSubscription;
+
+	private final RequestDrain requestDrain;
+
 	/**
 	 * Constructs a new HttpServletStreamableServerTransportProvider instance.
 	 * @param jsonMapper The JsonMapper to use for JSON serialization/deserialization of
@@ -137,21 +198,48 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 	 * @param keepAliveInterval The interval for keep-alive pings. If null, no keep-alive
 	 * will be scheduled.
 	 * @param securityValidator The security validator for validating HTTP requests.
-	 * @throws IllegalArgumentException if any parameter is null
+	 * @param outboundQueue The queue bounding the messages waiting to be written to each
+	 * stream.
+	 * @param transportExecutors The executors writing the queued messages of each stream.
+	 * @param sessionStore The store sharing sessions with other nodes, or null to keep
+	 * them on this node.
+	 * @param messageBus The bus carrying session messages between nodes, or null.
+	 * @param compression The compression of request and response bodies, or null.
+	 * @param binaryFormat The binary format accepted besides JSON, or null.
+	 * @param drainTimeout How long requests in flight get to complete on shutdown.
+	 * @param drainRetryAfter The delay after which clients refused on shutdown are told
+	 * to retry.
+	 * @throws IllegalArgumentException if any required parameter is null
 	 */
 	private HttpServletStreamableServerTransportProvider(McpJsonMapper jsonMapper, String mcpEndpoint,
 			boolean disallowDelete, McpTransportContextExtractor<HttpServletRequest> contextExtractor,
-			Duration keepAliveInterval, ServerTransportSecurityValidator securityValidator) {
+			Duration keepAliveInterval, ServerTransportSecurityValidator securityValidator,
+			McpOutboundQueue outboundQueue, TransportExecutors transportExecutors,
+			McpStreamableSessionStore sessionStore, McpStreamableMessageBus messageBus, HttpCompression compression,
+			McpBinaryFormat binaryFormat, Duration drainTimeout, Duration drainRetryAfter) {
 		Assert.notNull(jsonMapper, "JsonMapper must not be null");
 		Assert.notNull(mcpEndpoint, "MCP endpoint must not be null");
 		Assert.notNull(contextExtractor, "Context extractor must not be null");
 		Assert.notNull(securityValidator, "Security validator must not be null");
+		Assert.notNull(outboundQueue, "Outbound queue must not be null");
+		Assert.notNull(transportExecutors, "Transport executors must not be null");
 
 		this.jsonMapper = jsonMapper;
 		this.mcpEndpoint = mcpEndpoint;
 		this.disallowDelete = disallowDelete;
 		this.contextExtractor = contextExtractor;
 		this.securityValidator = securityValidator;
+		this.outboundQueue = outboundQueue;
+		this.transportExecutors = transportExecutors;
+		this.sessionStore = sessionStore;
+		this.messageBus = messageBus;
+		this.compression = compression;
+		this.binaryFormat = binaryFormat;
+		this.requestDrain = new RequestDrain(drainTimeout, drainRetryAfter);
+
+		if (messageBus != null) {
+			this.messageBusSubscription = messageBus.subscribe(this::deliver);
+		}
 
 		if (keepAliveInterval != null) {
 
@@ -207,35 +295,157 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 	}
 
 	/**
-	 * Initiates a graceful shutdown of the transport.
+	 * Initiates a graceful shutdown of the transport: drains the requests in flight, then
+	 * closes the sessions.
 	 * @return A Mono that completes when all cleanup operations are finished
 	 */
 	@Override
 	public Mono<Void> closeGracefully() {
-		return Mono.fromRunnable(() -> {
+		return this.requestDrain.drain().then(Mono.defer(() -> {
 			this.isClosing = true;
 			logger.debug("Initiating graceful shutdown with {} active sessions", this.sessions.size());
-
-			this.sessions.values().parallelStream().forEach(session -> {
-				try {
-					session.closeGracefully().block();
-				}
-				catch (Exception e) {
-					logger.error("Failed to close session {}: {}", session.getId(), e.getMessage());
-				}
-			});
-
-			this.sessions.clear();
-			logger.debug("Graceful shutdown completed");
-		}).then().doOnSuccess(v -> {
+			return Flux.fromIterable(this.sessions.values()).flatMap(this::closeSession).then();
+		})).doOnSuccess(v -> {
 			sessions.clear();
 			logger.debug("Graceful shutdown completed");
 			if (this.keepAliveScheduler != null) {
 				this.keepAliveScheduler.shutdown();
 			}
+			if (this.messageBusSubscription != null) {
+				this.messageBusSubscription.dispose();
+			}
 		});
 	}
 
+	/**
+	 * Returns the counts of the requests drained, aborted and refused while the transport
+	 * shuts down.
+	 * @return the current drain metrics
+	 */
+	public McpDrainMetrics drainMetrics() {
+		return this.requestDrain.metrics();
+	}
+
+	/**
+	 * Closes a session once the messages queued for its listening stream have been
+	 * written, within what is left of the drain timeout but no less than
+	 * {@link #MIN_SESSION_CLOSE_TIMEOUT}, so that the errors answering the requests
+	 * aborted at the deadline are still written. With a session store, the latest state
+	 * of the session is saved first, so that its client can resume it on another node.
+	 * @param session the session
+	 * @return a Mono completing once the session is closed
+	 */
+	private Mono<Void> closeSession(McpStreamableServerSession session) {
+		Mono<Void> save = this.sessionStore != null ? this.sessionStore.save(session.getState()) : Mono.empty();
+		Mono<Void> close = save.then(session.closeGracefully());
+		return Mono.defer(() -> close.timeout(sessionCloseTimeout(), Mono.fromRunnable(session::close)))
+			.onErrorResume(e -> {
+				logger.error("Failed to close session {}: {}", session.getId(), e.getMessage());
+				return Mono.empty();
+			});
+	}
+
+	private Duration sessionCloseTimeout() {
+		Duration remaining = this.requestDrain.remaining();
+		return remaining.compareTo(MIN_SESSION_CLOSE_TIMEOUT) < 0 ? MIN_SESSION_CLOSE_TIMEOUT : remaining;
+	}
+
+	/**
+	 * Returns the session with the given ID, restoring it from the session store if it is
+	 * not known on this node.
+	 * @param sessionId the session ID
+	 * @return the session, or null if there is none with the ID
+	 */
+	private McpStreamableServerSession findSession(String sessionId) {
+		McpStreamableServerSession session = this.sessions.get(sessionId);
+		if (session != null || this.sessionStore == null) {
+			return session;
+		}
+		McpStreamableSessionState state = this.sessionStore.find(sessionId).block();
+		if (state == null) {
+			return null;
+		}
+		McpStreamableServerSession restored;
+		try {
+			restored = this.sessionFactory.restoreSession(state);
+		}
+		catch (UnsupportedOperationException e) {
+			logger.warn("Cannot restore session {}: {}", sessionId, e.getMessage());
+			return null;
+		}
+		session = this.sessions.putIfAbsent(sessionId, restored);
+		if (session != null) {
+			return session;
+		}
+		logger.debug("Restored session {} from the session store", sessionId);
+		connect(restored);
+		return restored;
+	}
+
+	/**
+	 * Connects a session to the session store and message bus, if configured.
+	 * @param session the session
+	 */
+	private void connect(McpStreamableServerSession session) {
+		if (this.sessionStore != null) {
+			session.setStateListener(state -> this.sessionStore.save(state)
+				.subscribe(null, e -> logger.error("Failed to save session {}: {}", state.id(), e.getMessage())));
+		}
+		if (this.messageBus != null) {
+			// Until the client opens its listening stream on this node
+			session.listeningStream(new MessageBusSessionTransport(session.getId()));
+		}
+	}
+
+	/**
+	 * Closes the listening stream opened on this node. Messages for the client are again
+	 * published on the message bus, in case the client reconnects to another node.
+	 */
+	private void closeListeningStream(McpStreamableServerSession session,
+			HttpServletStreamableMcpSessionTransport sessionTransport,
+			McpStreamableServerSession.McpStreamableServerSessionStream listeningStream) {
+		this.listeningTransports.remove(session.getId(), sessionTransport);
+		listeningStream.close();
+		if (this.messageBus != null && !this.isClosing && !this.listeningTransports.containsKey(session.getId())) {
+			session.listeningStream(new MessageBusSessionTransport(session.getId()));
+		}
+	}
+
+	/**
+	 * Handles a message published on the message bus by any node: writes messages for the
+	 * listening streams opened on this node, completes the requests of this node awaiting
+	 * a response, and drops the sessions deleted on other nodes.
+	 * @param sessionId the session ID
+	 * @param message the message
+	 */
+	private void deliver(String sessionId, McpSchema.JSONRPCMessage message) {
+		if (message instanceof McpSchema.JSONRPCNotification notification
+				&& McpStreamableMessageBus.METHOD_SESSION_DELETED.equals(notification.method())) {
+			McpStreamableServerSession session = this.sessions.remove(sessionId);
+			if (session != null) {
+				logger.debug("Session {} was deleted on another node", sessionId);
+				this.listeningTransports.remove(sessionId);
+				session.close();
+			}
+			return;
+		}
+		if (message instanceof McpSchema.JSONRPCResponse response) {
+			McpStreamableServerSession session = this.sessions.get(sessionId);
+			if (session != null && session.isAwaitingResponse(response.id())) {
+				session.accept(response)
+					.subscribe(null, e -> logger.error("Failed to accept response for session {}: {}", sessionId,
+							e.getMessage()));
+			}
+			return;
+		}
+		HttpServletStreamableMcpSessionTransport listeningTransport = this.listeningTransports.get(sessionId);
+		if (listeningTransport != null) {
+			listeningTransport.sendMessage(message)
+				.subscribe(null,
+						e -> logger.error("Failed to send message to session {}: {}", sessionId, e.getMessage()));
+		}
+	}
+
 	/**
 	 * Handles GET requests to establish SSE connections and message replay.
 	 * @param request The HTTP servlet request
@@ -253,8 +463,8 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 			return;
 		}
 
-		if (this.isClosing) {
-			response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Server is shutting down");
+		if (this.requestDrain.isDraining()) {
+			this.requestDrain.reject(response);
 			return;
 		}
 
@@ -286,7 +496,7 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 			return;
 		}
 
-		McpStreamableServerSession session = this.sessions.get(sessionId);
+		McpStreamableServerSession session = findSession(sessionId);
 
 		if (session == null) {
 			response.sendError(HttpServletResponse.SC_NOT_FOUND);
@@ -308,7 +518,8 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 			asyncContext.setTimeout(0);
 
 			HttpServletStreamableMcpSessionTransport sessionTransport = new HttpServletStreamableMcpSessionTransport(
-					sessionId, asyncContext, response.getWriter());
+					sessionId, asyncContext,
+					HttpServletCompressionUtils.eventStreamWriter(request, response, this.compression));
 
 			// Check if this is a replay request
 			if (request.getHeader(HttpHeaders.LAST_EVENT_ID) != null) {
@@ -339,24 +550,25 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 				// Establish new listening stream
 				McpStreamableServerSession.McpStreamableServerSessionStream listeningStream = session
 					.listeningStream(sessionTransport);
+				this.listeningTransports.put(sessionId, sessionTransport);
 
 				asyncContext.addListener(new jakarta.servlet.AsyncListener() {
 					@Override
 					public void onComplete(jakarta.servlet.AsyncEvent event) throws IOException {
 						logger.debug("SSE connection completed for session: {}", sessionId);
-						listeningStream.close();
+						closeListeningStream(session, sessionTransport, listeningStream);
 					}
 
 					@Override
 					public void onTimeout(jakarta.servlet.AsyncEvent event) throws IOException {
 						logger.debug("SSE connection timed out for session: {}", sessionId);
-						listeningStream.close();
+						closeListeningStream(session, sessionTransport, listeningStream);
 					}
 
 					@Override
 					public void onError(jakarta.servlet.AsyncEvent event) throws IOException {
 						logger.debug("SSE connection error for session: {}", sessionId);
-						listeningStream.close();
+						closeListeningStream(session, sessionTransport, listeningStream);
 					}
 
 					@Override
@@ -390,7 +602,7 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 		}
 
 		if (this.isClosing) {
-			response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Server is shutting down");
+			this.requestDrain.reject(response);
 			return;
 		}
 
@@ -413,17 +625,25 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 			badRequestErrors.add("application/json required in Accept header");
 		}
 
+		if (!HttpServletCompressionUtils.checkContentEncoding(request, response, this.compression)) {
+			return;
+		}
+
 		McpTransportContext transportContext = this.contextExtractor.extract(request);
 
+		boolean inFlight = false;
 		try {
-			BufferedReader reader = request.getReader();
-			StringBuilder body = new StringBuilder();
-			String line;
-			while ((line = reader.readLine()) != null) {
-				body.append(line);
-			}
+			McpSchema.JSONRPCMessage message = readMessage(request);
 
-			McpSchema.JSONRPCMessage message = McpSchema.deserializeJsonRpcMessage(jsonMapper, body.toString());
+			// While draining, the responses and notifications of clients are still
+			// accepted, as requests in flight may be waiting for them
+			if (message instanceof McpSchema.JSONRPCRequest) {
+				if (!this.requestDrain.tryBegin()) {
+					this.requestDrain.reject(response);
+					return;
+				}
+				inFlight = true;
+			}
 
 			// Handle initialization request
 			if (message instanceof McpSchema.JSONRPCRequest jsonrpcRequest
@@ -435,26 +655,24 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 				}
 
 				McpSchema.InitializeRequest initializeRequest = jsonMapper.convertValue(jsonrpcRequest.params(),
-						new TypeRef<McpSchema.InitializeRequest>() {
-						});
+						INITIALIZE_REQUEST_TYPE_REF);
 				McpStreamableServerSession.McpStreamableServerSessionInit init = this.sessionFactory
 					.startSession(initializeRequest);
 				this.sessions.put(init.session().getId(), init.session());
 
 				try {
 					McpSchema.InitializeResult initResult = init.initResult().block();
+					init.session().setProtocolVersion(initResult.protocolVersion());
+					connect(init.session());
+					if (this.sessionStore != null) {
+						this.sessionStore.save(init.session().getState()).block();
+					}
 
-					response.setContentType(APPLICATION_JSON);
-					response.setCharacterEncoding(UTF_8);
 					response.setHeader(HttpHeaders.MCP_SESSION_ID, init.session().getId());
 					response.setStatus(HttpServletResponse.SC_OK);
 
-					String jsonResponse = jsonMapper.writeValueAsString(new McpSchema.JSONRPCResponse(
-							McpSchema.JSONRPC_VERSION, jsonrpcRequest.id(), initResult, null));
-
-					PrintWriter writer = response.getWriter();
-					writer.write(jsonResponse);
-					writer.flush();
+					writeMessage(request, response, new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION,
+							jsonrpcRequest.id(), initResult, null));
 					return;
 				}
 				catch (Exception e) {
@@ -477,7 +695,7 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 				return;
 			}
 
-			McpStreamableServerSession session = this.sessions.get(sessionId);
+			McpStreamableServerSession session = findSession(sessionId);
 
 			if (session == null) {
 				this.responseError(response, HttpServletResponse.SC_NOT_FOUND,
@@ -486,9 +704,15 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 			}
 
 			if (message instanceof McpSchema.JSONRPCResponse jsonrpcResponse) {
-				session.accept(jsonrpcResponse)
-					.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))
-					.block();
+				if (this.messageBus != null && !session.isAwaitingResponse(jsonrpcResponse.id())) {
+					// The request was sent by another node
+					this.messageBus.publish(sessionId, jsonrpcResponse).block();
+				}
+				else {
+					session.accept(jsonrpcResponse)
+						.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))
+						.block();
+				}
 				response.setStatus(HttpServletResponse.SC_ACCEPTED);
 			}
 			else if (message instanceof McpSchema.JSONRPCNotification jsonrpcNotification) {
@@ -509,12 +733,26 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 				asyncContext.setTimeout(0);
 
 				HttpServletStreamableMcpSessionTransport sessionTransport = new HttpServletStreamableMcpSessionTransport(
-						sessionId, asyncContext, response.getWriter());
+						sessionId, asyncContext,
+						HttpServletCompressionUtils.eventStreamWriter(request, response, this.compression));
 
 				try {
-					session.responseStream(jsonrpcRequest, sessionTransport)
+					boolean completed = session.responseStream(jsonrpcRequest, sessionTransport)
 						.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))
-						.block();
+						.thenReturn(Boolean.TRUE)
+						.takeUntilOther(this.requestDrain.deadline())
+						.blockOptional()
+						.isPresent();
+					if (!completed) {
+						// Cancelled at the deadline of the drain
+						sessionTransport
+							.sendMessage(new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, jsonrpcRequest.id(),
+									null,
+									new McpSchema.JSONRPCResponse.JSONRPCError(McpSchema.ErrorCodes.INTERNAL_ERROR,
+											"Server shut down before the request completed", null)))
+							.then(sessionTransport.closeGracefully())
+							.block();
+					}
 				}
 				catch (Exception e) {
 					logger.error("Failed to handle request stream: {}", e.getMessage());
@@ -526,6 +764,10 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 						new McpError("Unknown message type"));
 			}
 		}
+		catch (HttpCompression.BodyTooLargeException e) {
+			logger.warn("Refused request body: {}", e.getMessage());
+			this.responseError(response, HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, new McpError(e.getMessage()));
+		}
 		catch (IllegalArgumentException | IOException e) {
 			logger.error("Failed to deserialize message: {}", e.getMessage());
 			this.responseError(response, HttpServletResponse.SC_BAD_REQUEST,
@@ -542,6 +784,11 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 				response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Error processing message");
 			}
 		}
+		finally {
+			if (inFlight) {
+				this.requestDrain.end();
+			}
+		}
 	}
 
 	/**
@@ -562,7 +809,7 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 		}
 
 		if (this.isClosing) {
-			response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Server is shutting down");
+			this.requestDrain.reject(response);
 			return;
 		}
 
@@ -589,7 +836,7 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 		}
 
 		String sessionId = request.getHeader(HttpHeaders.MCP_SESSION_ID);
-		McpStreamableServerSession session = this.sessions.get(sessionId);
+		McpStreamableServerSession session = findSession(sessionId);
 
 		if (session == null) {
 			response.sendError(HttpServletResponse.SC_NOT_FOUND);
@@ -599,6 +846,16 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 		try {
 			session.delete().contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext)).block();
 			this.sessions.remove(sessionId);
+			if (this.sessionStore != null) {
+				this.sessionStore.remove(sessionId).block();
+			}
+			if (this.messageBus != null) {
+				this.messageBus
+					.publish(sessionId,
+							new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
+									McpStreamableMessageBus.METHOD_SESSION_DELETED, null))
+					.block();
+			}
 			response.setStatus(HttpServletResponse.SC_OK);
 		}
 		catch (Exception e) {
@@ -614,6 +871,51 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 		}
 	}
 
+	/**
+	 * Reads the message of a request, in the binary format if the request is sent in it
+	 * and JSON otherwise.
+	 * @param request The HTTP servlet request
+	 * @return the message
+	 * @throws IOException If the body cannot be read or is malformed
+	 */
+	private McpSchema.JSONRPCMessage readMessage(HttpServletRequest request) throws IOException {
+		String contentType = request.getContentType();
+		if (this.binaryFormat != null && contentType != null && contentType.contains(this.binaryFormat.contentType())) {
+			return this.binaryFormat.read(this.jsonMapper,
+					HttpServletCompressionUtils.readAllBytes(request, this.compression));
+		}
+		BufferedReader reader = HttpServletCompressionUtils.reader(request, this.compression);
+		StringBuilder body = new StringBuilder();
+		String line;
+		while ((line = reader.readLine()) != null) {
+			body.append(line);
+		}
+		return McpSchema.deserializeJsonRpcMessage(jsonMapper, body.toString());
+	}
+
+	/**
+	 * Writes a message as the body of the response, in the binary format if the request
+	 * accepts it and JSON otherwise.
+	 * @param request The HTTP servlet request
+	 * @param response The HTTP servlet response, with its status set
+	 * @param message The message
+	 * @throws IOException If the message cannot be written
+	 */
+	private void writeMessage(HttpServletRequest request, HttpServletResponse response,
+			McpSchema.JSONRPCMessage message) throws IOException {
+		String accept = request.getHeader(ACCEPT);
+		if (this.binaryFormat != null && accept != null && accept.contains(this.binaryFormat.contentType())) {
+			response.setContentType(this.binaryFormat.contentType());
+			HttpServletCompressionUtils.write(request, response, this.compression,
+					this.binaryFormat.write(this.jsonMapper, message));
+			return;
+		}
+		response.setContentType(APPLICATION_JSON);
+		response.setCharacterEncoding(UTF_8);
+		HttpServletCompressionUtils.writeJson(request, response, this.compression,
+				McpSchema.serializeJsonRpcMessage(jsonMapper, message));
+	}
+
 	public void responseError(HttpServletResponse response, int httpCode, McpError mcpError) throws IOException {
 		response.setContentType(APPLICATION_JSON);
 		response.setCharacterEncoding(UTF_8);
@@ -634,11 +936,19 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 	 * @throws IOException If an error occurs while writing the event
 	 */
 	private void sendEvent(PrintWriter writer, String eventType, String data, String id) throws IOException {
+		writeEvent(writer, eventType, data, id);
+		flushEvents(writer);
+	}
+
+	private void writeEvent(PrintWriter writer, String eventType, String data, String id) {
 		if (id != null) {
 			writer.write("id: " + id + "\n");
 		}
 		writer.write("event: " + eventType + "\n");
 		writer.write("data: " + data + "\n\n");
+	}
+
+	private void flushEvents(PrintWriter writer) throws IOException {
 		writer.flush();
 
 		if (writer.checkError()) {
@@ -665,7 +975,10 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 	 * <p>
 	 * This class is thread-safe and uses a ReentrantLock to synchronize access to the
 	 * underlying PrintWriter to prevent race conditions when multiple threads attempt to
-	 * send messages concurrently.
+	 * send messages concurrently. Messages wait in the stream's {@link McpOutboundQueue}
+	 * and are written one at a time on a blocking serial scheduler of the
+	 * {@link TransportExecutors}, so that the threads sending them never block on a
+	 * client that reads slowly.
 	 */
 
 	private class HttpServletStreamableMcpSessionTransport implements McpStreamableServerTransport {
@@ -680,6 +993,10 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 
 		private final ReentrantLock lock = new ReentrantLock();
 
+		private final Scheduler outboundScheduler;
+
+		private final McpOutboundQueue.Session outbound;
+
 		/**
 		 * Creates a new session transport with the specified ID and SSE writer.
 		 * @param sessionId The unique identifier for this session
@@ -690,6 +1007,8 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 			this.sessionId = sessionId;
 			this.asyncContext = asyncContext;
 			this.writer = writer;
+			this.outboundScheduler = transportExecutors.newBlockingSerialScheduler();
+			this.outbound = outboundQueue.newSession(this.outboundScheduler::schedule, this::disconnect);
 			logger.debug("Streamable session transport {} initialized with SSE writer", sessionId);
 		}
 
@@ -712,33 +1031,80 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 		 */
 		@Override
 		public Mono<Void> sendMessage(McpSchema.JSONRPCMessage message, String messageId) {
-			return Mono.fromRunnable(() -> {
+			return Mono.defer(() -> {
 				if (this.closed) {
 					logger.debug("Attempted to send message to closed session: {}", this.sessionId);
-					return;
+					return Mono.empty();
 				}
+				return this.outbound.enqueue(message, () -> write(message, messageId));
+			});
+		}
 
-				lock.lock();
-				try {
-					if (this.closed) {
-						logger.debug("Session {} was closed during message send attempt", this.sessionId);
-						return;
-					}
-
-					String jsonText = jsonMapper.writeValueAsString(message);
-					HttpServletStreamableServerTransportProvider.this.sendEvent(writer, MESSAGE_EVENT_TYPE, jsonText,
-							messageId != null ? messageId : this.sessionId);
-					logger.debug("Message sent to session {} with ID {}", this.sessionId, messageId);
+		/**
+		 * Sends JSON-RPC messages to the client as consecutive SSE events, which wait in
+		 * the outbound queue as one entry and are flushed together.
+		 * @param messages The JSON-RPC messages to send
+		 * @param messageIds The message IDs for SSE event identification
+		 * @return A Mono that completes when the messages have been sent
+		 */
+		@Override
+		public Mono<Void> sendMessages(List<? extends McpSchema.JSONRPCMessage> messages, List<String> messageIds) {
+			Assert.isTrue(messages.size() == messageIds.size(), "Each message must have a message ID");
+			return Mono.defer(() -> {
+				if (this.closed || messages.isEmpty()) {
+					return Mono.empty();
 				}
-				catch (Exception e) {
-					logger.error("Failed to send message to session {}: {}", this.sessionId, e.getMessage());
-					HttpServletStreamableServerTransportProvider.this.sessions.remove(this.sessionId);
-					this.asyncContext.complete();
+				return this.outbound.enqueue(messages.get(0), () -> write(messages, messageIds));
+			});
+		}
+
+		private void write(McpSchema.JSONRPCMessage message, String messageId) {
+			write(List.of(message), Collections.singletonList(messageId));
+		}
+
+		private void write(List<? extends McpSchema.JSONRPCMessage> messages, List<String> messageIds) {
+			lock.lock();
+			try {
+				if (this.closed) {
+					logger.debug("Session {} was closed during message send attempt", this.sessionId);
+					return;
 				}
-				finally {
-					lock.unlock();
+
+				for (int i = 0; i < messages.size(); i++) {
+					String jsonText = McpSchema.serializeJsonRpcMessage(jsonMapper, messages.get(i));
+					String messageId = messageIds.get(i);
+					HttpServletStreamableServerTransportProvider.this.writeEvent(writer, MESSAGE_EVENT_TYPE, jsonText,
+							messageId != null ? messageId : this.sessionId);
 				}
-			});
+				HttpServletStreamableServerTransportProvider.this.flushEvents(writer);
+				logger.debug("{} message(s) sent to session {} with IDs {}", messages.size(), this.sessionId,
+						messageIds);
+			}
+			catch (Exception e) {
+				logger.error("Failed to send message to session {}: {}", this.sessionId, e.getMessage());
+				HttpServletStreamableServerTransportProvider.this.sessions.remove(this.sessionId);
+				this.asyncContext.complete();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Closes the stream of a client that does not keep up with the messages sent to
+		 * it. The lock may be held by a write blocked on that client, so the stream is
+		 * completed without it, which fails the blocked write.
+		 */
+		private void disconnect() {
+			logger.warn("Session {} is not reading the messages sent to it, closing the stream", this.sessionId);
+			this.closed = true;
+			HttpServletStreamableServerTransportProvider.this.sessions.remove(this.sessionId);
+			try {
+				this.asyncContext.complete();
+			}
+			catch (Exception e) {
+				logger.debug("Failed to complete async context for session {}: {}", this.sessionId, e.getMessage());
+			}
 		}
 
 		/**
@@ -754,14 +1120,15 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 		}
 
 		/**
-		 * Initiates a graceful shutdown of the transport.
+		 * Initiates a graceful shutdown of the transport, once the messages queued for
+		 * the stream have been written.
 		 * @return A Mono that completes when the shutdown is complete
 		 */
 		@Override
 		public Mono<Void> closeGracefully() {
-			return Mono.fromRunnable(() -> {
+			return this.outbound.flush().then(Mono.fromRunnable(() -> {
 				HttpServletStreamableMcpSessionTransport.this.close();
-			});
+			}));
 		}
 
 		/**
@@ -777,8 +1144,12 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 				}
 
 				this.closed = true;
+				this.outbound.close();
+				this.outboundScheduler.dispose();
 
 				// HttpServletStreamableServerTransportProvider.this.sessions.remove(this.sessionId);
+				// Finishes the stream when it is compressed
+				this.writer.close();
 				this.asyncContext.complete();
 				logger.debug("Successfully completed async context for session {}", sessionId);
 			}
@@ -792,6 +1163,40 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 
 	}
 
+	/**
+	 * The listening stream of a session whose client listens on another node: messages
+	 * are published on the message bus for that node to write.
+	 */
+	private class MessageBusSessionTransport implements McpStreamableServerTransport {
+
+		private final String sessionId;
+
+		MessageBusSessionTransport(String sessionId) {
+			this.sessionId = sessionId;
+		}
+
+		@Override
+		public Mono<Void> sendMessage(McpSchema.JSONRPCMessage message) {
+			return messageBus.publish(this.sessionId, message);
+		}
+
+		@Override
+		public Mono<Void> sendMessage(McpSchema.JSONRPCMessage message, String messageId) {
+			return sendMessage(message);
+		}
+
+		@Override
+		public <T> T unmarshalFrom(Object data, TypeRef<T> typeRef) {
+			return jsonMapper.convertValue(data, typeRef);
+		}
+
+		@Override
+		public Mono<Void> closeGracefully() {
+			return Mono.empty();
+		}
+
+	}
+
 	public static Builder builder() {
 		return new Builder();
 	}
@@ -815,6 +1220,22 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 
 		private ServerTransportSecurityValidator securityValidator = ServerTransportSecurityValidator.NOOP;
 
+		private McpOutboundQueue outboundQueue;
+
+		private TransportExecutors transportExecutors = TransportExecutors.shared();
+
+		private McpStreamableSessionStore sessionStore;
+
+		private McpStreamableMessageBus messageBus;
+
+		private HttpCompression compression;
+
+		private McpBinaryFormat binaryFormat;
+
+		private Duration drainTimeout = Duration.ofSeconds(30);
+
+		private Duration drainRetryAfter = Duration.ofSeconds(5);
+
 		/**
 		 * Sets the JsonMapper to use for JSON serialization/deserialization of MCP
 		 * messages.
@@ -886,6 +1307,120 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 			return this;
 		}
 
+		/**
+		 * Sets the queue bounding the messages waiting to be written to each stream of a
+		 * client that reads slowly. By default the messages are not bounded.
+		 * @param outboundQueue The outbound queue. Must not be null.
+		 * @return this builder instance
+		 * @throws IllegalArgumentException if outboundQueue is null
+		 */
+		public Builder outboundQueue(McpOutboundQueue outboundQueue) {
+			Assert.notNull(outboundQueue, "Outbound queue must not be null");
+			this.outboundQueue = outboundQueue;
+			return this;
+		}
+
+		/**
+		 * Sets the executors writing the queued messages of each stream. By default the
+		 * executors are shared with the other transports.
+		 * @param transportExecutors The transport executors. Must not be null.
+		 * @return this builder instance
+		 * @throws IllegalArgumentException if transportExecutors is null
+		 */
+		public Builder transportExecutors(TransportExecutors transportExecutors) {
+			Assert.notNull(transportExecutors, "Transport executors must not be null");
+			this.transportExecutors = transportExecutors;
+			return this;
+		}
+
+		/**
+		 * Sets the store sharing sessions between the nodes of a server, so that any node
+		 * can serve any session. By default sessions are kept on the node that
+		 * initialized them. Sessions are restored by the session factory of the server;
+		 * requests for sessions it cannot restore are answered with 404 Not Found.
+		 * @param sessionStore The session store. Must not be null.
+		 * @return this builder instance
+		 * @throws IllegalArgumentException if sessionStore is null
+		 */
+		public Builder sessionStore(McpStreamableSessionStore sessionStore) {
+			Assert.notNull(sessionStore, "Session store must not be null");
+			this.sessionStore = sessionStore;
+			return this;
+		}
+
+		/**
+		 * Sets the bus carrying session messages between the nodes of a server, so that
+		 * messages reach the node holding a client's listening stream and deleted
+		 * sessions are dropped by every node. Used together with a
+		 * {@link #sessionStore(McpStreamableSessionStore) session store}.
+		 * @param messageBus The message bus. Must not be null.
+		 * @return this builder instance
+		 * @throws IllegalArgumentException if messageBus is null
+		 */
+		public Builder messageBus(McpStreamableMessageBus messageBus) {
+			Assert.notNull(messageBus, "Message bus must not be null");
+			this.messageBus = messageBus;
+			return this;
+		}
+
+		/**
+		 * Enables compression of request bodies, JSON responses and SSE streams. Disabled
+		 * by default.
+		 * @param compression The codings and thresholds to apply. Must not be null.
+		 * @return this builder instance
+		 * @throws IllegalArgumentException if compression is null
+		 */
+		public Builder compression(HttpCompression compression) {
+			Assert.notNull(compression, "Compression must not be null");
+			this.compression = compression;
+			return this;
+		}
+
+		/**
+		 * Accepts messages in a binary format besides JSON, and answers in that format
+		 * the initialize requests that accept it. Responses streamed over SSE remain
+		 * JSON. Clients sending JSON are answered in JSON.
+		 * @param binaryFormat The binary format. Must not be null.
+		 * @return this builder instance
+		 * @throws IllegalArgumentException if binaryFormat is null
+		 */
+		public Builder binaryFormat(McpBinaryFormat binaryFormat) {
+			Assert.notNull(binaryFormat, "Binary format must not be null");
+			this.binaryFormat = binaryFormat;
+			return this;
+		}
+
+		/**
+		 * Sets how long the requests in flight get to complete when the transport shuts
+		 * down, before they are cancelled and their clients answered with an error.
+		 * Defaults to 30 seconds.
+		 * @param drainTimeout The drain timeout, zero to cancel the requests at once.
+		 * Must not be null.
+		 * @return this builder instance
+		 * @throws IllegalArgumentException if drainTimeout is null or negative
+		 */
+		public Builder drainTimeout(Duration drainTimeout) {
+			Assert.notNull(drainTimeout, "Drain timeout must not be null");
+			Assert.isTrue(!drainTimeout.isNegative(), "Drain timeout must not be negative");
+			this.drainTimeout = drainTimeout;
+			return this;
+		}
+
+		/**
+		 * Sets the delay sent in the Retry-After header of the 503 responses refusing new
+		 * sessions and requests while the transport shuts down, rounded up to whole
+		 * seconds. Defaults to 5 seconds.
+		 * @param drainRetryAfter The retry delay. Must not be null.
+		 * @return this builder instance
+		 * @throws IllegalArgumentException if drainRetryAfter is null or negative
+		 */
+		public Builder drainRetryAfter(Duration drainRetryAfter) {
+			Assert.notNull(drainRetryAfter, "Drain retry delay must not be null");
+			Assert.isTrue(!drainRetryAfter.isNegative(), "Drain retry delay must not be negative");
+			this.drainRetryAfter = drainRetryAfter;
+			return this;
+		}
+
 		/**
 		 * Builds a new instance of {@link HttpServletStreamableServerTransportProvider}
 		 * with the configured settings.
@@ -896,7 +1431,9 @@ public class HttpServletStreamableServerTransportProvider extends HttpServlet
 			Assert.notNull(this.mcpEndpoint, "MCP endpoint must be set");
 			return new HttpServletStreamableServerTransportProvider(
 					jsonMapper == null ? McpJsonDefaults.getMapper() : jsonMapper, mcpEndpoint, disallowDelete,
-					contextExtractor, keepAliveInterval, securityValidator);
+					contextExtractor, keepAliveInterval, securityValidator,
+					outboundQueue == null ? McpOutboundQueue.unbounded() : outboundQueue, transportExecutors,
+					sessionStore, messageBus, compression, binaryFormat, drainTimeout, drainRetryAfter);
 		}
 
 	}
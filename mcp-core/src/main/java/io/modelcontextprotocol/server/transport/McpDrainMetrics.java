@@ -0,0 +1,20 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.transport;
+
+/**
+ * Point-in-time counters of the drain of a server transport shutting down. All counters
+ * except {@code inFlight} are cumulative since the transport was created.
+ *
+ * @param drained requests in flight when the drain began that completed before its
+ * deadline
+ * @param aborted requests still in flight at the deadline, which were cancelled
+ * @param rejected requests refused with 503 Service Unavailable because the transport was
+ * draining or closed
+ * @param inFlight requests currently being handled
+ */
+public record McpDrainMetrics(long drained, long aborted, long rejected, int inFlight) {
+
+}
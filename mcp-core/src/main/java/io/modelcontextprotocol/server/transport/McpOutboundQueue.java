@@ -0,0 +1,490 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.transport;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.modelcontextprotocol.instrumentation.McpInstrumentation;
+import io.modelcontextprotocol.instrumentation.McpInstrumentations;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpTransportException;
+import io.modelcontextprotocol.util.Assert;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * Bounds the messages a server transport holds for each session while they wait to be
+ * written to a client that reads slowly.
+ *
+ * <p>
+ * Every session of a transport gets its own queue of at most {@link Builder#capacity(int)
+ * capacity} messages, written one at a time in the order they were sent. The Mono
+ * returned for a message completes once the message has been written. When the queue of a
+ * session is full, the {@link OverflowStrategy} decides what happens to the next message:
+ * <ul>
+ * <li>{@link OverflowStrategy#BLOCK} holds the sender until a message has been written,
+ * and fails it with an {@link McpTransportException} if no room is made within the
+ * {@link Builder#blockTimeout(Duration) block timeout};</li>
+ * <li>{@link OverflowStrategy#DROP_NOTIFICATIONS} discards notifications, while requests
+ * and responses are still queued beyond the capacity, so that no exchange is left without
+ * its answer;</li>
+ * <li>{@link OverflowStrategy#DISCONNECT} closes the session of the slow client and fails
+ * the message.</li>
+ * </ul>
+ * A queue may be shared by the transports of many servers; its {@link #metrics() metrics}
+ * cover all of their sessions. The installed {@link McpInstrumentation} is told about
+ * every message joining or leaving a queue and about every overflow.
+ *
+ * <pre>{@code
+ * McpOutboundQueue outboundQueue = McpOutboundQueue.builder()
+ *     .capacity(256)
+ *     .overflowStrategy(McpOutboundQueue.OverflowStrategy.DROP_NOTIFICATIONS)
+ *     .build();
+ *
+ * HttpServletStreamableServerTransportProvider.builder().outboundQueue(outboundQueue)...
+ * }</pre>
+ */
+public final class McpOutboundQueue {
+
+	/**
+	 * The number of messages a drain writes before handing its thread back, so that one
+	 * session with a long backlog does not hold a thread shared with other sessions.
+	 */
+	static final int DRAIN_BATCH_SIZE = 64;
+
+	/**
+	 * What to do with a message sent to a session whose queue is full.
+	 */
+	public enum OverflowStrategy {
+
+		/**
+		 * Wait until there is room, up to the block timeout.
+		 */
+		BLOCK,
+
+		/**
+		 * Discard notifications; queue requests and responses regardless of capacity.
+		 */
+		DROP_NOTIFICATIONS,
+
+		/**
+		 * Close the session.
+		 */
+		DISCONNECT
+
+	}
+
+	private final int capacity;
+
+	private final OverflowStrategy overflowStrategy;
+
+	private final Duration blockTimeout;
+
+	private final AtomicInteger queued = new AtomicInteger();
+
+	private final AtomicInteger maxQueued = new AtomicInteger();
+
+	private final LongAdder written = new LongAdder();
+
+	private final LongAdder dropped = new LongAdder();
+
+	private final LongAdder timedOut = new LongAdder();
+
+	private final LongAdder disconnected = new LongAdder();
+
+	private McpOutboundQueue(Builder builder) {
+		this.capacity = builder.capacity;
+		this.overflowStrategy = builder.overflowStrategy;
+		this.blockTimeout = builder.blockTimeout;
+	}
+
+	/**
+	 * Creates a new builder.
+	 * @return a new builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Creates a queue without a capacity limit, which transports use unless configured
+	 * otherwise.
+	 * @return a new unbounded queue
+	 */
+	public static McpOutboundQueue unbounded() {
+		return builder().build();
+	}
+
+	/**
+	 * Returns a snapshot of the queue's counters.
+	 * @return the current metrics
+	 */
+	public Metrics metrics() {
+		return new Metrics(this.written.sum(), this.dropped.sum(), this.timedOut.sum(), this.disconnected.sum(),
+				this.queued.get(), this.maxQueued.get());
+	}
+
+	/**
+	 * Creates the queue of one session.
+	 * @param drainExecutor runs the writes; the session's writes never run concurrently
+	 * @param onSlowConsumer closes the session when its client is disconnected for
+	 * reading too slowly
+	 * @return the queue of the session
+	 */
+	Session newSession(Executor drainExecutor, Runnable onSlowConsumer) {
+		Assert.notNull(drainExecutor, "Drain executor must not be null");
+		Assert.notNull(onSlowConsumer, "Slow consumer handler must not be null");
+		return new Session(drainExecutor, onSlowConsumer);
+	}
+
+	/**
+	 * Writes one message to the client.
+	 */
+	@FunctionalInterface
+	interface Write {
+
+		void run() throws Exception;
+
+	}
+
+	/**
+	 * The queue of one session.
+	 */
+	final class Session {
+
+		private final Executor drainExecutor;
+
+		private final Runnable onSlowConsumer;
+
+		private final ArrayDeque<Pending> pending = new ArrayDeque<>();
+
+		// Senders waiting for room under OverflowStrategy.BLOCK
+		private final ArrayDeque<Pending> blocked = new ArrayDeque<>();
+
+		// Callers of flush() waiting for the queue to empty
+		private final List<MonoSink<Void>> flushes = new ArrayList<>();
+
+		private boolean draining;
+
+		private boolean closed;
+
+		private Session(Executor drainExecutor, Runnable onSlowConsumer) {
+			this.drainExecutor = drainExecutor;
+			this.onSlowConsumer = onSlowConsumer;
+		}
+
+		/**
+		 * Queues a message.
+		 * @param message the message, which decides whether it may be dropped
+		 * @param write writes the message
+		 * @return a Mono completing once the message has been written, or discarded
+		 * because it was dropped or the session was closed
+		 */
+		Mono<Void> enqueue(McpSchema.JSONRPCMessage message, Write write) {
+			return Mono.create(sink -> {
+				Pending entry = new Pending(write, sink);
+				boolean startDrain = false;
+				boolean disconnect = false;
+				synchronized (this) {
+					if (this.closed) {
+						sink.success();
+						return;
+					}
+					if (this.pending.size() < capacity || (overflowStrategy == OverflowStrategy.DROP_NOTIFICATIONS
+							&& !(message instanceof McpSchema.JSONRPCNotification))) {
+						add(entry);
+						startDrain = startDrain();
+					}
+					else if (overflowStrategy == OverflowStrategy.DROP_NOTIFICATIONS) {
+						dropped.increment();
+						McpInstrumentations.get().outboundOverflow(McpInstrumentation.Overflow.DROPPED);
+						sink.success();
+						return;
+					}
+					else if (overflowStrategy == OverflowStrategy.BLOCK) {
+						this.blocked.add(entry);
+						sink.onCancel(() -> unblock(entry));
+						entry.timeout = Mono.delay(blockTimeout).subscribe(tick -> {
+							if (unblock(entry)) {
+								timedOut.increment();
+								McpInstrumentations.get().outboundOverflow(McpInstrumentation.Overflow.TIMED_OUT);
+								sink.error(new McpTransportException(
+										"Client did not read within " + blockTimeout + "; outbound queue is full"));
+							}
+						});
+					}
+					else {
+						disconnect = true;
+					}
+				}
+				if (disconnect) {
+					disconnected.increment();
+					McpInstrumentations.get().outboundOverflow(McpInstrumentation.Overflow.DISCONNECTED);
+					close();
+					this.onSlowConsumer.run();
+					sink.error(new McpTransportException(
+							"Client disconnected for reading too slowly; outbound queue is full"));
+				}
+				else if (startDrain) {
+					scheduleDrain();
+				}
+			});
+		}
+
+		/**
+		 * Waits for the queue to empty, every message queued having been written,
+		 * including those of senders blocked for room.
+		 * @return a Mono completing once the queue is empty or closed
+		 */
+		Mono<Void> flush() {
+			return Mono.create(sink -> {
+				synchronized (this) {
+					if (!this.closed && this.draining) {
+						this.flushes.add(sink);
+						return;
+					}
+				}
+				sink.success();
+			});
+		}
+
+		/**
+		 * Discards the queued messages and completes the Monos of their senders. Messages
+		 * sent afterwards are discarded as well.
+		 */
+		void close() {
+			ArrayDeque<Pending> discarded = new ArrayDeque<>();
+			List<MonoSink<Void>> flushed;
+			synchronized (this) {
+				if (this.closed) {
+					return;
+				}
+				this.closed = true;
+				queued.addAndGet(-this.pending.size());
+				discarded.addAll(this.pending);
+				discarded.addAll(this.blocked);
+				this.pending.clear();
+				this.blocked.clear();
+				flushed = takeFlushes();
+			}
+			for (Pending entry : discarded) {
+				entry.cancelTimeout();
+				entry.dequeued();
+				entry.sink.success();
+			}
+			flushed.forEach(MonoSink::success);
+		}
+
+		private List<MonoSink<Void>> takeFlushes() {
+			if (this.flushes.isEmpty()) {
+				return List.of();
+			}
+			List<MonoSink<Void>> flushed = new ArrayList<>(this.flushes);
+			this.flushes.clear();
+			return flushed;
+		}
+
+		private void add(Pending entry) {
+			this.pending.add(entry);
+			entry.queued();
+			queued.incrementAndGet();
+			maxQueued.accumulateAndGet(this.pending.size(), Math::max);
+		}
+
+		private boolean startDrain() {
+			if (this.draining) {
+				return false;
+			}
+			this.draining = true;
+			return true;
+		}
+
+		private synchronized boolean unblock(Pending entry) {
+			for (Iterator<Pending> it = this.blocked.iterator(); it.hasNext();) {
+				if (it.next() == entry) {
+					it.remove();
+					entry.cancelTimeout();
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private void scheduleDrain() {
+			try {
+				this.drainExecutor.execute(this::drain);
+			}
+			catch (RuntimeException e) {
+				// The executor was shut down with the transport
+				close();
+			}
+		}
+
+		private void drain() {
+			for (int i = 0;; i++) {
+				if (i == DRAIN_BATCH_SIZE) {
+					// Still draining; resume in a new task behind those of other sessions
+					scheduleDrain();
+					return;
+				}
+				Pending next;
+				List<MonoSink<Void>> flushed = null;
+				synchronized (this) {
+					next = this.pending.poll();
+					if (next == null) {
+						this.draining = false;
+						flushed = takeFlushes();
+					}
+					else {
+						queued.decrementAndGet();
+						Pending admitted = this.blocked.poll();
+						if (admitted != null) {
+							admitted.cancelTimeout();
+							add(admitted);
+						}
+					}
+				}
+				if (next == null) {
+					flushed.forEach(MonoSink::success);
+					return;
+				}
+				next.dequeued();
+				try {
+					next.write.run();
+					written.increment();
+					next.sink.success();
+				}
+				catch (Exception e) {
+					next.sink.error(e);
+				}
+			}
+		}
+
+	}
+
+	private static final class Pending {
+
+		private final Write write;
+
+		private final MonoSink<Void> sink;
+
+		private Disposable timeout;
+
+		// The instrumentation told about the entry joining the queue, which is told
+		// about it leaving even if another one was installed in between
+		private McpInstrumentation instrumentation;
+
+		Pending(Write write, MonoSink<Void> sink) {
+			this.write = write;
+			this.sink = sink;
+		}
+
+		void queued() {
+			this.instrumentation = McpInstrumentations.get();
+			if (this.instrumentation != McpInstrumentation.NOOP) {
+				this.instrumentation.outboundQueueChanged(1);
+			}
+		}
+
+		void dequeued() {
+			if (this.instrumentation != null && this.instrumentation != McpInstrumentation.NOOP) {
+				this.instrumentation.outboundQueueChanged(-1);
+			}
+		}
+
+		void cancelTimeout() {
+			if (this.timeout != null) {
+				this.timeout.dispose();
+			}
+		}
+
+	}
+
+	/**
+	 * A snapshot of the counters of a {@link McpOutboundQueue}.
+	 *
+	 * @param written the number of messages written to clients
+	 * @param dropped the number of notifications dropped because a queue was full
+	 * @param timedOut the number of messages whose senders gave up waiting for room
+	 * @param disconnected the number of sessions closed for reading too slowly
+	 * @param currentlyQueued the number of messages waiting to be written, across all
+	 * sessions
+	 * @param maxQueued the largest number of messages that waited in the queue of one
+	 * session
+	 */
+	public record Metrics(long written, long dropped, long timedOut, long disconnected, int currentlyQueued,
+			int maxQueued) {
+
+	}
+
+	/**
+	 * Builder for {@link McpOutboundQueue}.
+	 */
+	public static final class Builder {
+
+		private int capacity = Integer.MAX_VALUE;
+
+		private OverflowStrategy overflowStrategy = OverflowStrategy.BLOCK;
+
+		private Duration blockTimeout = Duration.ofSeconds(30);
+
+		private Builder() {
+		}
+
+		/**
+		 * Sets the number of messages each session may hold. Defaults to no limit.
+		 * @param capacity the capacity, at least 1
+		 * @return this builder
+		 */
+		public Builder capacity(int capacity) {
+			Assert.isTrue(capacity > 0, "Capacity must be positive");
+			this.capacity = capacity;
+			return this;
+		}
+
+		/**
+		 * Sets what happens to a message sent to a full queue. Defaults to
+		 * {@link OverflowStrategy#BLOCK}.
+		 * @param overflowStrategy the overflow strategy
+		 * @return this builder
+		 */
+		public Builder overflowStrategy(OverflowStrategy overflowStrategy) {
+			Assert.notNull(overflowStrategy, "Overflow strategy must not be null");
+			this.overflowStrategy = overflowStrategy;
+			return this;
+		}
+
+		/**
+		 * Sets how long a sender waits for room under {@link OverflowStrategy#BLOCK}.
+		 * Defaults to 30 seconds.
+		 * @param blockTimeout the block timeout
+		 * @return this builder
+		 */
+		public Builder blockTimeout(Duration blockTimeout) {
+			Assert.notNull(blockTimeout, "Block timeout must not be null");
+			Assert.isTrue(!blockTimeout.isNegative() && !blockTimeout.isZero(), "Block timeout must be positive");
+			this.blockTimeout = blockTimeout;
+			return this;
+		}
+
+		/**
+		 * Builds the queue.
+		 * @return a new queue
+		 */
+		public McpOutboundQueue build() {
+			return new McpOutboundQueue(this);
+		}
+
+	}
+
+}
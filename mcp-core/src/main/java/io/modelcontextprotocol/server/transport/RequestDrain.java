@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.transport;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.modelcontextprotocol.spec.HttpHeaders;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tracks the requests a server transport is handling, so that the transport can drain
+ * them before it closes: once draining, new requests are refused with 503 Service
+ * Unavailable and a Retry-After hint, while the requests in flight get until a deadline
+ * to complete, after which they are cancelled. For internal use only.
+ */
+final class RequestDrain {
+
+	private static final Logger logger = LoggerFactory.getLogger(RequestDrain.class);
+
+	private final Duration timeout;
+
+	private final String retryAfter;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final LongAdder drained = new LongAdder();
+
+	private final LongAdder aborted = new LongAdder();
+
+	private final LongAdder rejected = new LongAdder();
+
+	private volatile boolean draining;
+
+	private volatile boolean deadlinePassed;
+
+	private volatile long deadlineNanos;
+
+	// Completed once no request is in flight after the drain began
+	private final CompletableFuture<Void> idle = new CompletableFuture<>();
+
+	// Completed at the deadline, cancelling the requests still in flight
+	private final CompletableFuture<Boolean> deadline = new CompletableFuture<>();
+
+	/**
+	 * Creates a drain.
+	 * @param timeout how long the requests in flight get to complete
+	 * @param retryAfter the delay after which refused clients are told to retry, rounded
+	 * up to whole seconds
+	 */
+	RequestDrain(Duration timeout, Duration retryAfter) {
+		this.timeout = timeout;
+		long seconds = retryAfter.toSeconds() + (retryAfter.toNanosPart() > 0 ? 1 : 0);
+		this.retryAfter = String.valueOf(seconds);
+	}
+
+	/**
+	 * Returns the time left until the deadline of the drain, so that the work following
+	 * the drain shares its timeout rather than starting another one.
+	 * @return the remaining time, the whole timeout before the drain has begun
+	 */
+	Duration remaining() {
+		if (!this.draining) {
+			return this.timeout;
+		}
+		return Duration.ofNanos(Math.max(0, this.deadlineNanos - System.nanoTime()));
+	}
+
+	/**
+	 * Registers a request about to be handled. Every successful call must be followed by
+	 * a call to {@link #end()}.
+	 * @return {@code false} if the transport is draining and the request must be refused
+	 */
+	boolean tryBegin() {
+		if (this.draining) {
+			return false;
+		}
+		this.inFlight.incrementAndGet();
+		if (this.draining) {
+			// The drain began meanwhile and may be waiting for this request
+			if (this.inFlight.decrementAndGet() == 0) {
+				this.idle.complete(null);
+			}
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Registers the end of a request, completed or cancelled.
+	 */
+	void end() {
+		if (this.draining) {
+			(this.deadlinePassed ? this.aborted : this.drained).increment();
+		}
+		if (this.inFlight.decrementAndGet() == 0 && this.draining) {
+			this.idle.complete(null);
+		}
+	}
+
+	/**
+	 * Returns whether the transport is draining or closed.
+	 * @return {@code true} once the drain has begun
+	 */
+	boolean isDraining() {
+		return this.draining;
+	}
+
+	/**
+	 * Returns a Mono emitting at the deadline of the drain, to cancel a request in flight
+	 * with {@link Mono#takeUntilOther}.
+	 * @return the deadline signal
+	 */
+	Mono<Boolean> deadline() {
+		return Mono.fromFuture(this.deadline, true);
+	}
+
+	/**
+	 * Refuses a request with 503 Service Unavailable and a Retry-After hint.
+	 * @param response the HTTP servlet response
+	 * @throws IOException if the error response cannot be sent
+	 */
+	void reject(HttpServletResponse response) throws IOException {
+		this.rejected.increment();
+		response.setHeader(HttpHeaders.RETRY_AFTER, this.retryAfter);
+		response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Server is shutting down");
+	}
+
+	/**
+	 * Answers a request cancelled at the deadline with 503 Service Unavailable and a
+	 * Retry-After hint, so that its client may retry it on another node.
+	 * @param response the HTTP servlet response
+	 * @throws IOException if the error response cannot be sent
+	 */
+	void abort(HttpServletResponse response) throws IOException {
+		response.setHeader(HttpHeaders.RETRY_AFTER, this.retryAfter);
+		response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Server shut down before the request completed");
+	}
+
+	/**
+	 * Begins to refuse new requests and waits for those in flight to complete. The
+	 * requests still in flight after the timeout are cancelled.
+	 * @return a Mono completing once no request is in flight, or at the deadline
+	 */
+	Mono<Void> drain() {
+		return Mono.defer(() -> {
+			if (!this.draining) {
+				this.deadlineNanos = System.nanoTime() + this.timeout.toNanos();
+			}
+			this.draining = true;
+			int count = this.inFlight.get();
+			if (count == 0) {
+				this.idle.complete(null);
+			}
+			else {
+				logger.info("Draining {} requests in flight, for up to {}", count, this.timeout);
+			}
+			return Mono.fromFuture(this.idle, true).timeout(this.timeout, Mono.fromRunnable(() -> {
+				logger.warn("Cancelling {} requests still in flight after {}", this.inFlight.get(), this.timeout);
+				this.deadlinePassed = true;
+				this.deadline.complete(Boolean.TRUE);
+			}));
+		});
+	}
+
+	/**
+	 * Returns the counters of the drain.
+	 * @return the current metrics
+	 */
+	McpDrainMetrics metrics() {
+		return new McpDrainMetrics(this.drained.sum(), this.aborted.sum(), this.rejected.sum(), this.inFlight.get());
+	}
+
+}
@@ -4,18 +4,16 @@
 
 package io.modelcontextprotocol.server.transport;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Function;
 
 import io.modelcontextprotocol.json.TypeRef;
+import io.modelcontextprotocol.spec.JsonLineReader;
+import io.modelcontextprotocol.spec.JsonLineWriter;
 import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpSchema.JSONRPCMessage;
@@ -23,11 +21,11 @@ import io.modelcontextprotocol.spec.McpServerSession;
 import io.modelcontextprotocol.spec.McpServerTransport;
 import io.modelcontextprotocol.spec.McpServerTransportProvider;
 import io.modelcontextprotocol.spec.ProtocolVersions;
+import io.modelcontextprotocol.spec.TransportExecutors;
 import io.modelcontextprotocol.util.Assert;
 import io.modelcontextprotocol.json.McpJsonMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
 import reactor.core.scheduler.Scheduler;
@@ -37,6 +35,17 @@ import reactor.core.scheduler.Schedulers;
  * Implementation of the MCP Stdio transport provider for servers that communicates using
  * standard input/output streams. Messages are exchanged as newline-delimited JSON-RPC
  * messages over stdin/stdout, with errors and debug information sent to stderr.
+ * <p>
+ * Messages are framed at the byte level with {@link JsonLineReader} and
+ * {@link JsonLineWriter}. Outbound messages queued while the outbound thread is busy are
+ * written to stdout with a single write and flush. Writing runs on the blocking executor
+ * of {@link TransportExecutors}, shared with other transports unless configured
+ * otherwise, since a write blocks while the client does not read. Stdin is read on a
+ * dedicated non-daemon thread, which keeps the JVM running for as long as the client is
+ * connected.
+ * <p>
+ * Messages waiting to be written are held in a {@link McpOutboundQueue}, which may bound
+ * them for a client that reads slowly.
  *
  * @author Christian Tzolov
  */
@@ -50,6 +59,10 @@ public class StdioServerTransportProvider implements McpServerTransportProvider
 
 	private final OutputStream outputStream;
 
+	private final TransportExecutors transportExecutors;
+
+	private final McpOutboundQueue outboundQueue;
+
 	private McpServerSession session;
 
 	private final AtomicBoolean isClosing = new AtomicBoolean(false);
@@ -73,13 +86,43 @@ public class StdioServerTransportProvider implements McpServerTransportProvider
 	 * @param outputStream The output stream to write to
 	 */
 	public StdioServerTransportProvider(McpJsonMapper jsonMapper, InputStream inputStream, OutputStream outputStream) {
+		this(jsonMapper, inputStream, outputStream, TransportExecutors.shared());
+	}
+
+	/**
+	 * Creates a new StdioServerTransportProvider writing on the given executors.
+	 * @param jsonMapper The JsonMapper to use for JSON serialization/deserialization
+	 * @param inputStream The input stream to read from
+	 * @param outputStream The output stream to write to
+	 * @param transportExecutors The executors to write the output stream on
+	 */
+	public StdioServerTransportProvider(McpJsonMapper jsonMapper, InputStream inputStream, OutputStream outputStream,
+			TransportExecutors transportExecutors) {
+		this(jsonMapper, inputStream, outputStream, transportExecutors, McpOutboundQueue.unbounded());
+	}
+
+	/**
+	 * Creates a new StdioServerTransportProvider writing on the given executors and
+	 * holding the messages waiting to be written in the given queue.
+	 * @param jsonMapper The JsonMapper to use for JSON serialization/deserialization
+	 * @param inputStream The input stream to read from
+	 * @param outputStream The output stream to write to
+	 * @param transportExecutors The executors to write the output stream on
+	 * @param outboundQueue The queue bounding the messages waiting to be written
+	 */
+	public StdioServerTransportProvider(McpJsonMapper jsonMapper, InputStream inputStream, OutputStream outputStream,
+			TransportExecutors transportExecutors, McpOutboundQueue outboundQueue) {
 		Assert.notNull(jsonMapper, "The JsonMapper can not be null");
 		Assert.notNull(inputStream, "The InputStream can not be null");
 		Assert.notNull(outputStream, "The OutputStream can not be null");
+		Assert.notNull(transportExecutors, "The TransportExecutors can not be null");
+		Assert.notNull(outboundQueue, "The McpOutboundQueue can not be null");
 
 		this.jsonMapper = jsonMapper;
 		this.inputStream = inputStream;
 		this.outputStream = outputStream;
+		this.transportExecutors = transportExecutors;
+		this.outboundQueue = outboundQueue;
 	}
 
 	@Override
@@ -119,7 +162,7 @@ public class StdioServerTransportProvider implements McpServerTransportProvider
 
 		private final Sinks.Many<JSONRPCMessage> inboundSink;
 
-		private final Sinks.Many<JSONRPCMessage> outboundSink;
+		private final McpOutboundQueue.Session outbound;
 
 		private final AtomicBoolean isStarted = new AtomicBoolean(false);
 
@@ -131,29 +174,28 @@ public class StdioServerTransportProvider implements McpServerTransportProvider
 
 		private final Sinks.One<Void> outboundReady = Sinks.one();
 
+		/** Written and flushed on the outbound scheduler only */
+		private final JsonLineWriter outboundWriter = new JsonLineWriter(outputStream);
+
+		private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
 		public StdioMcpSessionTransport() {
 
 			this.inboundSink = Sinks.many().unicast().onBackpressureBuffer();
-			this.outboundSink = Sinks.many().unicast().onBackpressureBuffer();
 
-			// Use bounded schedulers for better resource management
+			// A non-daemon thread, so that the server outlives a main method that returns
 			this.inboundScheduler = Schedulers.fromExecutorService(Executors.newSingleThreadExecutor(),
 					"stdio-inbound");
-			this.outboundScheduler = Schedulers.fromExecutorService(Executors.newSingleThreadExecutor(),
-					"stdio-outbound");
+			// Stdout writes block while the client does not read them
+			this.outboundScheduler = transportExecutors.newBlockingSerialScheduler();
+			this.outbound = outboundQueue.newSession(this.outboundScheduler::schedule, this::disconnect);
 		}
 
 		@Override
 		public Mono<Void> sendMessage(McpSchema.JSONRPCMessage message) {
 
-			return Mono.zip(inboundReady.asMono(), outboundReady.asMono()).then(Mono.defer(() -> {
-				if (outboundSink.tryEmitNext(message).isSuccess()) {
-					return Mono.empty();
-				}
-				else {
-					return Mono.error(new RuntimeException("Failed to enqueue message"));
-				}
-			}));
+			return Mono.zip(inboundReady.asMono(), outboundReady.asMono())
+				.then(this.outbound.enqueue(message, () -> write(message)));
 		}
 
 		@Override
@@ -184,8 +226,7 @@ public class StdioServerTransportProvider implements McpServerTransportProvider
 
 		private void handleIncomingMessages() {
 			this.inboundSink.asFlux().flatMap(message -> session.handle(message)).doOnTerminate(() -> {
-				// The outbound processing will dispose its scheduler upon completion
-				this.outboundSink.tryEmitComplete();
+				completeOutboundProcessing();
 				this.inboundScheduler.dispose();
 			}).subscribe();
 		}
@@ -198,18 +239,15 @@ public class StdioServerTransportProvider implements McpServerTransportProvider
 			if (isStarted.compareAndSet(false, true)) {
 				this.inboundScheduler.schedule(() -> {
 					inboundReady.tryEmitValue(null);
-					BufferedReader reader = null;
 					try {
-						reader = new BufferedReader(new InputStreamReader(inputStream));
+						JsonLineReader reader = new JsonLineReader(inputStream);
 						while (!isClosing.get()) {
 							try {
-								String line = reader.readLine();
+								byte[] line = reader.readLine();
 								if (line == null || isClosing.get()) {
 									break;
 								}
 
-								logger.debug("Received JSON message: {}", line);
-
 								try {
 									McpSchema.JSONRPCMessage message = McpSchema.deserializeJsonRpcMessage(jsonMapper,
 											line);
@@ -245,56 +283,92 @@ public class StdioServerTransportProvider implements McpServerTransportProvider
 		}
 
 		/**
-		 * Starts the outbound processing thread that writes JSON-RPC messages to stdout.
-		 * Messages are serialized to JSON and written with a newline delimiter.
+		 * Starts accepting outbound messages. They are written to stdout on the outbound
+		 * thread, drained from the outbound queue of the session. Each message is
+		 * serialized to JSON and buffered with a newline delimiter; a flush is scheduled
+		 * behind the messages being drained.
 		 */
 		private void startOutboundProcessing() {
-			Function<Flux<JSONRPCMessage>, Flux<JSONRPCMessage>> outboundConsumer = messages -> messages // @formatter:off
-				 .doOnSubscribe(subscription -> outboundReady.tryEmitValue(null))
-				 .publishOn(outboundScheduler)
-				 .handle((message, sink) -> {
-					 if (message != null && !isClosing.get()) {
-						 try {
-							 String jsonMessage = jsonMapper.writeValueAsString(message);
-							 // Escape any embedded newlines in the JSON message as per spec
-							 jsonMessage = jsonMessage.replace("\r\n", "\\n").replace("\n", "\\n").replace("\r", "\\n");
-	
-							 synchronized (outputStream) {
-								 outputStream.write(jsonMessage.getBytes(StandardCharsets.UTF_8));
-								 outputStream.write("\n".getBytes(StandardCharsets.UTF_8));
-								 outputStream.flush();
-							 }
-							 sink.next(message);
-						 }
-						 catch (IOException e) {
-							 if (!isClosing.get()) {
-								 logger.error("Error writing message", e);
-								 sink.error(new RuntimeException(e));
-							 }
-							 else {
-								 logger.debug("Stream closed during shutdown", e);
-							 }
-						 }
-					 }
-					 else if (isClosing.get()) {
-						 sink.complete();
-					 }
-				 })
-				 .doOnComplete(() -> {
-					 isClosing.set(true);
-					 outboundScheduler.dispose();
-				 })
-				 .doOnError(e -> {
-					 if (!isClosing.get()) {
-						 logger.error("Error in outbound processing", e);
-						 isClosing.set(true);
-						 outboundScheduler.dispose();
-					 }
-				 })
-				 .map(msg -> (JSONRPCMessage) msg);
-	
-				 outboundConsumer.apply(outboundSink.asFlux()).subscribe();
-		 } // @formatter:on
+			this.outboundReady.tryEmitValue(null);
+		}
+
+		private void write(JSONRPCMessage message) throws IOException {
+			if (isClosing.get()) {
+				return;
+			}
+			try {
+				// The writer keeps each message on one line as per spec
+				this.outboundWriter.write(McpSchema.serializeJsonRpcMessageAsBytes(jsonMapper, message));
+				scheduleFlush();
+			}
+			catch (IOException e) {
+				if (!isClosing.getAndSet(true)) {
+					logger.error("Error writing message", e);
+					this.outbound.close();
+					this.outboundScheduler.dispose();
+					throw e;
+				}
+				logger.debug("Stream closed during shutdown", e);
+			}
+		}
+
+		/**
+		 * Writes the messages still queued, flushes them and releases the outbound
+		 * thread.
+		 */
+		private void completeOutboundProcessing() {
+			try {
+				this.outboundScheduler.schedule(() -> {
+					isClosing.set(true);
+					this.outbound.close();
+					flushOutbound();
+					this.outboundScheduler.dispose();
+				});
+			}
+			catch (RuntimeException e) {
+				// The outbound thread was already released after a write error
+				this.outbound.close();
+			}
+		}
+
+		/**
+		 * Closes the session of a client that does not keep up with the messages sent to
+		 * it.
+		 */
+		private void disconnect() {
+			logger.warn("Client is not reading the messages sent to it, closing the session");
+			isClosing.set(true);
+			this.inboundSink.tryEmitComplete();
+		}
+
+		/**
+		 * Schedules a flush on the outbound thread unless one is pending. The flush runs
+		 * after the drain in progress, so all messages written by that drain share one
+		 * flush.
+		 */
+		private void scheduleFlush() {
+			if (this.flushScheduled.compareAndSet(false, true)) {
+				this.outboundScheduler.schedule(this::flushOutbound);
+			}
+		}
+
+		private void flushOutbound() {
+			this.flushScheduled.set(false);
+			try {
+				this.outboundWriter.flush();
+			}
+			catch (IOException e) {
+				if (!isClosing.get()) {
+					logger.error("Error writing message", e);
+					isClosing.set(true);
+					this.outbound.close();
+					this.outboundScheduler.dispose();
+				}
+				else {
+					logger.debug("Stream closed during shutdown", e);
+				}
+			}
+		}
 
 		private void logIfNotClosing(String message, Exception e) {
 			if (!isClosing.get()) {
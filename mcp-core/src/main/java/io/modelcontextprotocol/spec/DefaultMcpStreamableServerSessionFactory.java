@@ -10,6 +10,7 @@ import io.modelcontextprotocol.server.McpRequestHandler;
 import java.time.Duration;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * A default implementation of {@link McpStreamableServerSession.Factory}.
@@ -26,6 +27,10 @@ public class DefaultMcpStreamableServerSessionFactory implements McpStreamableSe
 
 	Map<String, McpNotificationHandler> notificationHandlers;
 
+	int maxInFlightRequests;
+
+	PendingRequestTable.OverflowPolicy overflowPolicy;
+
 	/**
 	 * Constructs an instance
 	 * @param requestTimeout timeout for requests
@@ -37,10 +42,30 @@ public class DefaultMcpStreamableServerSessionFactory implements McpStreamableSe
 			McpStreamableServerSession.InitRequestHandler initRequestHandler,
 			Map<String, McpRequestHandler<?>> requestHandlers,
 			Map<String, McpNotificationHandler> notificationHandlers) {
+		this(requestTimeout, initRequestHandler, requestHandlers, notificationHandlers, PendingRequestTable.UNBOUNDED,
+				PendingRequestTable.OverflowPolicy.FAIL_FAST);
+	}
+
+	/**
+	 * Constructs an instance whose sessions bound the number of requests awaiting a
+	 * response from the client
+	 * @param requestTimeout timeout for requests
+	 * @param initRequestHandler initialization request handler
+	 * @param requestHandlers map of MCP request handlers keyed by method name
+	 * @param notificationHandlers map of MCP notification handlers keyed by method name
+	 * @param maxInFlightRequests maximum number of requests awaiting a response
+	 * @param overflowPolicy what to do with requests beyond {@code maxInFlightRequests}
+	 */
+	public DefaultMcpStreamableServerSessionFactory(Duration requestTimeout,
+			McpStreamableServerSession.InitRequestHandler initRequestHandler,
+			Map<String, McpRequestHandler<?>> requestHandlers, Map<String, McpNotificationHandler> notificationHandlers,
+			int maxInFlightRequests, PendingRequestTable.OverflowPolicy overflowPolicy) {
 		this.requestTimeout = requestTimeout;
 		this.initRequestHandler = initRequestHandler;
 		this.requestHandlers = requestHandlers;
 		this.notificationHandlers = notificationHandlers;
+		this.maxInFlightRequests = maxInFlightRequests;
+		this.overflowPolicy = overflowPolicy;
 	}
 
 	@Override
@@ -48,8 +73,26 @@ public class DefaultMcpStreamableServerSessionFactory implements McpStreamableSe
 			McpSchema.InitializeRequest initializeRequest) {
 		return new McpStreamableServerSession.McpStreamableServerSessionInit(
 				new McpStreamableServerSession(UUID.randomUUID().toString(), initializeRequest.capabilities(),
-						initializeRequest.clientInfo(), requestTimeout, requestHandlers, notificationHandlers),
+						initializeRequest.clientInfo(), requestTimeout, requestHandlers, notificationHandlers,
+						this.maxInFlightRequests, this.overflowPolicy),
 				this.initRequestHandler.handle(initializeRequest));
 	}
 
+	/**
+	 * Restores a session with the ID, client and logging level of the saved state. Its
+	 * requests to the client are numbered from a random offset, apart from the requests
+	 * sent by the copies of the session on other nodes.
+	 */
+	@Override
+	public McpStreamableServerSession restoreSession(McpStreamableSessionState state) {
+		McpStreamableServerSession session = new McpStreamableServerSession(state.id(), state.clientCapabilities(),
+				state.clientInfo(), requestTimeout, requestHandlers, notificationHandlers, this.maxInFlightRequests,
+				this.overflowPolicy);
+		session.setProtocolVersion(state.protocolVersion());
+		session.setMinLoggingLevel(state.minLoggingLevel());
+		// Below 2^53, so that clients in JavaScript read the ids exactly
+		session.startRequestIdsAt(ThreadLocalRandom.current().nextLong(1L << 32, 1L << 52));
+		return session;
+	}
+
 }
@@ -0,0 +1,372 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import io.modelcontextprotocol.util.Assert;
+
+/**
+ * Compression of the message bodies of an HTTP transport, negotiated with the peer
+ * through the Accept-Encoding and Content-Encoding headers.
+ *
+ * <p>
+ * A server transport compresses a JSON response, or an SSE stream, with the first of its
+ * {@link Builder#codings(HttpContentCoding...) codings} that the client accepts with the
+ * highest quality, and decodes request bodies sent with any of them, up to a
+ * {@link Builder#maxDecodedSize(long) maximum decoded size}. JSON responses smaller than
+ * the {@link Builder#minSize(int) minimum size} are sent as they are, since compressing
+ * them costs more CPU than the bytes it saves. An SSE stream is compressed as a whole,
+ * and every event is flushed through the coding as it is sent.
+ *
+ * <p>
+ * A client transport advertises its codings in the Accept-Encoding header and decodes the
+ * responses accordingly. It only compresses its request bodies when
+ * {@link Builder#compressRequests(boolean) asked to}, since a client cannot know in
+ * advance whether the server accepts compressed requests.
+ *
+ * <pre>{@code
+ * HttpCompression compression = HttpCompression.builder()
+ *     .codings(HttpContentCoding.GZIP)
+ *     .minSize(2048)
+ *     .build();
+ *
+ * HttpServletStreamableServerTransportProvider.builder().compression(compression)...
+ * }</pre>
+ */
+public final class HttpCompression {
+
+	private static final String IDENTITY = "identity";
+
+	private final List<HttpContentCoding> codings;
+
+	private final int minSize;
+
+	private final boolean compressRequests;
+
+	private final long maxDecodedSize;
+
+	private final String acceptEncoding;
+
+	private HttpCompression(Builder builder) {
+		this.codings = Collections.unmodifiableList(new ArrayList<>(builder.codings));
+		this.minSize = builder.minSize;
+		this.compressRequests = builder.compressRequests;
+		this.maxDecodedSize = builder.maxDecodedSize;
+		this.acceptEncoding = String.join(", ", this.codings.stream().map(HttpContentCoding::name).toList());
+	}
+
+	/**
+	 * Creates a new builder.
+	 * @return a new builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Creates a configuration with gzip and deflate and the default minimum size.
+	 * @return a new configuration
+	 */
+	public static HttpCompression defaults() {
+		return builder().build();
+	}
+
+	/**
+	 * Returns the supported codings, in order of preference.
+	 * @return the codings
+	 */
+	public List<HttpContentCoding> codings() {
+		return this.codings;
+	}
+
+	/**
+	 * Returns the size in bytes below which bodies are sent uncompressed.
+	 * @return the minimum size
+	 */
+	public int minSize() {
+		return this.minSize;
+	}
+
+	/**
+	 * Returns whether a client compresses its request bodies.
+	 * @return {@code true} if request bodies are compressed
+	 */
+	public boolean compressRequests() {
+		return this.compressRequests;
+	}
+
+	/**
+	 * Returns the size in bytes a server decodes a request body to at most.
+	 * @return the maximum decoded size
+	 */
+	public long maxDecodedSize() {
+		return this.maxDecodedSize;
+	}
+
+	/**
+	 * Returns the value of the Accept-Encoding header a client sends.
+	 * @return the names of the codings, separated by commas
+	 */
+	public String acceptEncoding() {
+		return this.acceptEncoding;
+	}
+
+	/**
+	 * Chooses the coding for a response from the Accept-Encoding header of the request.
+	 * Among the codings the header accepts with the highest quality, the first in order
+	 * of preference wins.
+	 * @param acceptEncoding the Accept-Encoding header, may be {@code null}
+	 * @return the coding, or empty if the response is to be sent as it is
+	 */
+	public Optional<HttpContentCoding> negotiate(String acceptEncoding) {
+		if (acceptEncoding == null || acceptEncoding.isBlank()) {
+			return Optional.empty();
+		}
+		HttpContentCoding best = null;
+		double bestQuality = 0;
+		for (HttpContentCoding coding : this.codings) {
+			double quality = quality(acceptEncoding, coding.name());
+			if (quality > bestQuality) {
+				best = coding;
+				bestQuality = quality;
+			}
+		}
+		return Optional.ofNullable(best);
+	}
+
+	/**
+	 * Finds the coding of a body from its Content-Encoding header.
+	 * @param contentEncoding the Content-Encoding header, may be {@code null}
+	 * @return the coding, or empty if the body is not encoded
+	 * @throws IllegalArgumentException if the body is encoded with a coding that is not
+	 * supported, or with more than one coding
+	 */
+	public Optional<HttpContentCoding> coding(String contentEncoding) {
+		if (contentEncoding == null || contentEncoding.isBlank() || IDENTITY.equalsIgnoreCase(contentEncoding.trim())) {
+			return Optional.empty();
+		}
+		String name = contentEncoding.trim().toLowerCase(Locale.ROOT);
+		for (HttpContentCoding coding : this.codings) {
+			if (coding.name().equals(name)) {
+				return Optional.of(coding);
+			}
+		}
+		throw new IllegalArgumentException("Unsupported content encoding: " + contentEncoding);
+	}
+
+	/**
+	 * Encodes a body in full.
+	 * @param coding the coding
+	 * @param content the body
+	 * @return the encoded body
+	 * @throws IOException if the body cannot be encoded
+	 */
+	public static byte[] encode(HttpContentCoding coding, byte[] content) throws IOException {
+		ByteArrayOutputStream encoded = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+		try (OutputStream out = coding.encoder(encoded)) {
+			out.write(content);
+		}
+		return encoded.toByteArray();
+	}
+
+	/**
+	 * Decodes a request body, which may not decode to more than the maximum decoded size,
+	 * so that a small compressed body cannot expand without bounds.
+	 * @param coding the coding of the body
+	 * @param body the encoded body
+	 * @return a stream of the decoded body, whose reads fail with a
+	 * {@link BodyTooLargeException} past the maximum decoded size
+	 * @throws IOException if the body cannot be decoded
+	 */
+	public InputStream decode(HttpContentCoding coding, InputStream body) throws IOException {
+		return new LimitedInputStream(coding.decoder(body), this.maxDecodedSize);
+	}
+
+	private static double quality(String acceptEncoding, String name) {
+		double wildcard = 0;
+		for (String element : acceptEncoding.split(",")) {
+			String[] parts = element.split(";");
+			String coding = parts[0].trim();
+			double quality = 1;
+			for (int i = 1; i < parts.length; i++) {
+				String parameter = parts[i].trim();
+				if (parameter.length() > 2 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q')
+						&& parameter.charAt(1) == '=') {
+					try {
+						quality = Double.parseDouble(parameter.substring(2).trim());
+					}
+					catch (NumberFormatException e) {
+						quality = 0;
+					}
+				}
+			}
+			if (coding.equalsIgnoreCase(name)) {
+				return quality;
+			}
+			if (coding.equals("*")) {
+				wildcard = quality;
+			}
+		}
+		return wildcard;
+	}
+
+	/**
+	 * Signals a request body that decodes to more than the maximum decoded size.
+	 */
+	public static final class BodyTooLargeException extends IOException {
+
+		private static final long serialVersionUID = 1L;
+
+		BodyTooLargeException(long maxDecodedSize) {
+			super("Decoded body exceeds " + maxDecodedSize + " bytes");
+		}
+
+	}
+
+	/**
+	 * Fails reads once more than a limit of bytes has been read.
+	 */
+	private static final class LimitedInputStream extends FilterInputStream {
+
+		private final long limit;
+
+		private long count;
+
+		LimitedInputStream(InputStream in, long limit) {
+			super(in);
+			this.limit = limit;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b != -1) {
+				count(1);
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = super.read(b, off, len);
+			if (n > 0) {
+				count(n);
+			}
+			return n;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			count(skipped);
+			return skipped;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		private void count(long n) throws BodyTooLargeException {
+			this.count += n;
+			if (this.count > this.limit) {
+				throw new BodyTooLargeException(this.limit);
+			}
+		}
+
+	}
+
+	/**
+	 * Builder for {@link HttpCompression}.
+	 */
+	public static final class Builder {
+
+		private List<HttpContentCoding> codings = List.of(HttpContentCoding.GZIP, HttpContentCoding.DEFLATE);
+
+		private int minSize = 1024;
+
+		private boolean compressRequests;
+
+		private long maxDecodedSize = 16 * 1024 * 1024;
+
+		private Builder() {
+		}
+
+		/**
+		 * Sets the supported codings, in order of preference. Defaults to gzip, then
+		 * deflate.
+		 * @param codings the codings
+		 * @return this builder
+		 */
+		public Builder codings(HttpContentCoding... codings) {
+			Assert.notNull(codings, "Codings must not be null");
+			Assert.isTrue(codings.length > 0, "At least one coding is required");
+			List<HttpContentCoding> list = new ArrayList<>();
+			for (HttpContentCoding coding : codings) {
+				Assert.notNull(coding, "Coding must not be null");
+				Assert.hasText(coding.name(), "Coding name must not be empty");
+				list.add(coding);
+			}
+			this.codings = list;
+			return this;
+		}
+
+		/**
+		 * Sets the size in bytes below which JSON bodies are sent uncompressed. Defaults
+		 * to 1024.
+		 * @param minSize the minimum size, 0 to compress every body
+		 * @return this builder
+		 */
+		public Builder minSize(int minSize) {
+			Assert.isTrue(minSize >= 0, "Minimum size must not be negative");
+			this.minSize = minSize;
+			return this;
+		}
+
+		/**
+		 * Sets whether a client compresses request bodies of at least the minimum size
+		 * with its preferred coding. The server must support that coding. Defaults to
+		 * {@code false}.
+		 * @param compressRequests whether to compress request bodies
+		 * @return this builder
+		 */
+		public Builder compressRequests(boolean compressRequests) {
+			this.compressRequests = compressRequests;
+			return this;
+		}
+
+		/**
+		 * Sets the size in bytes a server decodes a compressed request body to at most.
+		 * Larger bodies are refused with 413 Content Too Large. Defaults to 16 MiB.
+		 * @param maxDecodedSize the maximum decoded size
+		 * @return this builder
+		 */
+		public Builder maxDecodedSize(long maxDecodedSize) {
+			Assert.isTrue(maxDecodedSize > 0, "Maximum decoded size must be positive");
+			this.maxDecodedSize = maxDecodedSize;
+			return this;
+		}
+
+		/**
+		 * Builds the configuration.
+		 * @return a new configuration
+		 */
+		public HttpCompression build() {
+			return new HttpCompression(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * An HTTP content coding, such as gzip, that HTTP transports may apply to message bodies
+ * as negotiated through {@link HttpCompression}.
+ *
+ * <p>
+ * The JDK provides {@link #GZIP} and {@link #DEFLATE}. Other codings, such as zstd or
+ * brotli, can be plugged in by implementing this interface on top of a compression
+ * library.
+ *
+ * @see <a href=
+ * "https://httpwg.org/specs/rfc9110.html#field.content-encoding">RFC9110</a>
+ */
+public interface HttpContentCoding {
+
+	/**
+	 * The gzip coding.
+	 */
+	HttpContentCoding GZIP = new HttpContentCoding() {
+
+		@Override
+		public String name() {
+			return "gzip";
+		}
+
+		@Override
+		public OutputStream encoder(OutputStream out) throws IOException {
+			return new GZIPOutputStream(out, true);
+		}
+
+		@Override
+		public InputStream decoder(InputStream in) throws IOException {
+			return new GZIPInputStream(in);
+		}
+
+	};
+
+	/**
+	 * The deflate coding, a zlib stream.
+	 */
+	HttpContentCoding DEFLATE = new HttpContentCoding() {
+
+		@Override
+		public String name() {
+			return "deflate";
+		}
+
+		@Override
+		public OutputStream encoder(OutputStream out) {
+			return new DeflaterOutputStream(out, true);
+		}
+
+		@Override
+		public InputStream decoder(InputStream in) {
+			return new InflaterInputStream(in);
+		}
+
+	};
+
+	/**
+	 * Returns the name of the coding, as it appears in the Accept-Encoding and
+	 * Content-Encoding headers.
+	 * @return the lower-case name of the coding
+	 */
+	String name();
+
+	/**
+	 * Wraps a stream so that the bytes written to it are encoded. Flushing the returned
+	 * stream must write out everything written so far, so that each event of an SSE
+	 * stream reaches the client when it is sent. Closing it finishes the encoding and
+	 * closes the underlying stream.
+	 * @param out the stream receiving the encoded bytes
+	 * @return the encoding stream
+	 * @throws IOException if the encoding cannot be started
+	 */
+	OutputStream encoder(OutputStream out) throws IOException;
+
+	/**
+	 * Wraps a stream of encoded bytes so that it is read decoded.
+	 * @param in the stream of encoded bytes
+	 * @return the decoding stream
+	 * @throws IOException if the encoded stream is malformed
+	 */
+	InputStream decoder(InputStream in) throws IOException;
+
+}
@@ -53,4 +53,30 @@ public interface HttpHeaders {
 	 */
 	String CACHE_CONTROL = "Cache-Control";
 
+	/**
+	 * The HTTP Accept-Encoding header.
+	 * @see <a href=
+	 * "https://httpwg.org/specs/rfc9110.html#field.accept-encoding">RFC9110</a>
+	 */
+	String ACCEPT_ENCODING = "Accept-Encoding";
+
+	/**
+	 * The HTTP Content-Encoding header.
+	 * @see <a href=
+	 * "https://httpwg.org/specs/rfc9110.html#field.content-encoding">RFC9110</a>
+	 */
+	String CONTENT_ENCODING = "Content-Encoding";
+
+	/**
+	 * The HTTP Vary header.
+	 * @see <a href= "https://httpwg.org/specs/rfc9110.html#field.vary">RFC9110</a>
+	 */
+	String VARY = "Vary";
+
+	/**
+	 * The HTTP Retry-After header.
+	 * @see <a href= "https://httpwg.org/specs/rfc9110.html#field.retry-after">RFC9110</a>
+	 */
+	String RETRY_AFTER = "Retry-After";
+
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+import io.modelcontextprotocol.util.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/**
+ * A {@link McpStreamableMessageBus} delivering messages within one JVM. Transports
+ * sharing an instance, for example several servlets embedded in one test, behave like the
+ * nodes of a server connected by a message broker. Messages are delivered on the
+ * publishing thread.
+ */
+public class InMemoryMcpStreamableMessageBus implements McpStreamableMessageBus {
+
+	private static final Logger logger = LoggerFactory.getLogger(InMemoryMcpStreamableMessageBus.class);
+
+	private final List<BiConsumer<String, McpSchema.JSONRPCMessage>> handlers = new CopyOnWriteArrayList<>();
+
+	@Override
+	public Mono<Void> publish(String sessionId, McpSchema.JSONRPCMessage message) {
+		Assert.notNull(sessionId, "Session ID must not be null");
+		Assert.notNull(message, "Message must not be null");
+		return Mono.fromRunnable(() -> {
+			for (BiConsumer<String, McpSchema.JSONRPCMessage> handler : this.handlers) {
+				try {
+					handler.accept(sessionId, message);
+				}
+				catch (Exception e) {
+					logger.warn("Failed to deliver message of session {}: {}", sessionId, e.getMessage());
+				}
+			}
+		});
+	}
+
+	@Override
+	public Disposable subscribe(BiConsumer<String, McpSchema.JSONRPCMessage> handler) {
+		Assert.notNull(handler, "Handler must not be null");
+		this.handlers.add(handler);
+		return () -> this.handlers.remove(handler);
+	}
+
+}
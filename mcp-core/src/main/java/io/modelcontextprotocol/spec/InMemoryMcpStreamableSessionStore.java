@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.modelcontextprotocol.util.Assert;
+import reactor.core.publisher.Mono;
+
+/**
+ * A {@link McpStreamableSessionStore} keeping the session states in memory. Transports
+ * sharing an instance within one JVM, for example several servlets embedded in one test,
+ * behave like the nodes of a server sharing an external store.
+ */
+public class InMemoryMcpStreamableSessionStore implements McpStreamableSessionStore {
+
+	private final Map<String, McpStreamableSessionState> states = new ConcurrentHashMap<>();
+
+	@Override
+	public Mono<Void> save(McpStreamableSessionState state) {
+		Assert.notNull(state, "State must not be null");
+		return Mono.fromRunnable(() -> this.states.put(state.id(), state));
+	}
+
+	@Override
+	public Mono<McpStreamableSessionState> find(String sessionId) {
+		return Mono.fromSupplier(() -> this.states.get(sessionId));
+	}
+
+	@Override
+	public Mono<Void> remove(String sessionId) {
+		return Mono.fromRunnable(() -> this.states.remove(sessionId));
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import io.modelcontextprotocol.util.Assert;
+
+/**
+ * Reads newline-delimited JSON messages, as exchanged by the stdio transport, from a
+ * stream. Input is read into one reusable {@link ByteBuffer} and split on {@code \n} at
+ * the byte level, so a message is copied once into the array handed to the JSON mapper
+ * and never decoded into a String. A trailing {@code \r} is removed and blank lines are
+ * skipped.
+ * <p>
+ * The stream is read directly rather than through
+ * {@link java.nio.channels.Channels#newChannel(InputStream)}: such a channel closes the
+ * stream when the reading thread is interrupted, which would close {@code System.in} when
+ * a transport shuts its reader down.
+ * <p>
+ * Instances are not thread-safe and are meant to be used by a single reading thread.
+ */
+public final class JsonLineReader implements Closeable {
+
+	/**
+	 * The size of the read buffer used by default.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private static final byte NEWLINE = '\n';
+
+	private static final byte CARRIAGE_RETURN = '\r';
+
+	private final InputStream inputStream;
+
+	private final ByteBuffer buffer;
+
+	private byte[] partial = new byte[0];
+
+	private int partialLength;
+
+	private boolean endOfInput;
+
+	/**
+	 * Creates a reader over the given stream with the default buffer size.
+	 * @param inputStream the stream to read from
+	 */
+	public JsonLineReader(InputStream inputStream) {
+		this(inputStream, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Creates a reader over the given stream.
+	 * @param inputStream the stream to read from
+	 * @param bufferSize the size of the read buffer
+	 */
+	public JsonLineReader(InputStream inputStream, int bufferSize) {
+		Assert.notNull(inputStream, "InputStream must not be null");
+		Assert.isTrue(bufferSize > 0, "Buffer size must be positive");
+		this.inputStream = inputStream;
+		this.buffer = ByteBuffer.allocate(bufferSize).flip();
+	}
+
+	/**
+	 * Reads the next message.
+	 * @return the UTF-8 encoded message without its line terminator, or null once the
+	 * input is exhausted
+	 * @throws IOException if reading fails
+	 */
+	public byte[] readLine() throws IOException {
+		while (true) {
+			byte[] array = this.buffer.array();
+			int start = this.buffer.position();
+			int limit = this.buffer.limit();
+			for (int i = start; i < limit; i++) {
+				if (array[i] == NEWLINE) {
+					this.buffer.position(i + 1);
+					byte[] line = takeLine(array, start, i - start);
+					if (line.length > 0) {
+						return line;
+					}
+					start = i + 1;
+				}
+			}
+			append(array, start, limit - start);
+			if (this.endOfInput || !fill()) {
+				this.endOfInput = true;
+				byte[] line = takeLine(array, 0, 0);
+				return line.length > 0 ? line : null;
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.inputStream.close();
+	}
+
+	private boolean fill() throws IOException {
+		int read;
+		do {
+			read = this.inputStream.read(this.buffer.array(), 0, this.buffer.capacity());
+		}
+		while (read == 0);
+		this.buffer.position(0).limit(Math.max(read, 0));
+		return read > 0;
+	}
+
+	private void append(byte[] source, int offset, int length) {
+		if (length == 0) {
+			return;
+		}
+		if (this.partialLength + length > this.partial.length) {
+			this.partial = Arrays.copyOf(this.partial, Math.max(this.partial.length * 2, this.partialLength + length));
+		}
+		System.arraycopy(source, offset, this.partial, this.partialLength, length);
+		this.partialLength += length;
+	}
+
+	private byte[] takeLine(byte[] source, int offset, int length) {
+		byte[] line;
+		if (this.partialLength == 0) {
+			line = Arrays.copyOfRange(source, offset, offset + trimmed(source, offset, length));
+		}
+		else {
+			append(source, offset, length);
+			line = Arrays.copyOf(this.partial, trimmed(this.partial, 0, this.partialLength));
+			this.partialLength = 0;
+		}
+		return line;
+	}
+
+	private static int trimmed(byte[] source, int offset, int length) {
+		return length > 0 && source[offset + length - 1] == CARRIAGE_RETURN ? length - 1 : length;
+	}
+
+}
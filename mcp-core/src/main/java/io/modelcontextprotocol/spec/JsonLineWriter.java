@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import io.modelcontextprotocol.util.Assert;
+
+/**
+ * Writes newline-delimited JSON messages, as exchanged by the stdio transport, to an
+ * output stream. Messages are appended to one reusable {@link ByteBuffer} and reach the
+ * stream only when {@link #flush()} is called, or when the buffer fills up, so a burst of
+ * messages costs a single write and flush. As with {@link JsonLineReader}, the stream is
+ * written directly so that an interrupted writer never closes {@code System.out}.
+ * <p>
+ * JSON serializers escape line breaks inside strings, so a serialized message can only
+ * contain raw {@code \r} or {@code \n} as insignificant whitespace, for instance when the
+ * mapper pretty-prints. Those bytes are replaced with spaces, which keeps each message on
+ * one line without changing its meaning.
+ * <p>
+ * Instances are not thread-safe and are meant to be used by a single writing thread.
+ */
+public final class JsonLineWriter {
+
+	/**
+	 * The size of the write buffer used by default.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+	private static final byte NEWLINE = '\n';
+
+	private static final byte CARRIAGE_RETURN = '\r';
+
+	private static final byte SPACE = ' ';
+
+	private final OutputStream outputStream;
+
+	private final ByteBuffer buffer;
+
+	/**
+	 * Creates a writer over the given stream with the default buffer size.
+	 * @param outputStream the stream to write to
+	 */
+	public JsonLineWriter(OutputStream outputStream) {
+		this(outputStream, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Creates a writer over the given stream.
+	 * @param outputStream the stream to write to
+	 * @param bufferSize the size of the write buffer
+	 */
+	public JsonLineWriter(OutputStream outputStream, int bufferSize) {
+		Assert.notNull(outputStream, "OutputStream must not be null");
+		Assert.isTrue(bufferSize > 0, "Buffer size must be positive");
+		this.outputStream = outputStream;
+		this.buffer = ByteBuffer.allocate(bufferSize);
+	}
+
+	/**
+	 * Appends a message followed by a newline. The message is written to the stream right
+	 * away only if it does not fit into the buffer.
+	 * @param json the UTF-8 encoded message, which may be modified in place
+	 * @throws IOException if writing to the stream fails
+	 */
+	public void write(byte[] json) throws IOException {
+		for (int i = 0; i < json.length; i++) {
+			if (json[i] == NEWLINE || json[i] == CARRIAGE_RETURN) {
+				json[i] = SPACE;
+			}
+		}
+		if (json.length + 1 > this.buffer.remaining()) {
+			drain();
+		}
+		if (json.length + 1 > this.buffer.remaining()) {
+			this.outputStream.write(json);
+		}
+		else {
+			this.buffer.put(json);
+		}
+		this.buffer.put(NEWLINE);
+	}
+
+	/**
+	 * Writes the buffered messages to the stream and flushes it.
+	 * @throws IOException if writing to the stream fails
+	 */
+	public void flush() throws IOException {
+		drain();
+		this.outputStream.flush();
+	}
+
+	private void drain() throws IOException {
+		if (this.buffer.position() == 0) {
+			return;
+		}
+		try {
+			this.outputStream.write(this.buffer.array(), 0, this.buffer.position());
+		}
+		finally {
+			this.buffer.clear();
+		}
+	}
+
+}
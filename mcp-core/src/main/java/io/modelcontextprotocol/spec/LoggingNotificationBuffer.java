@@ -0,0 +1,278 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import io.modelcontextprotocol.util.Assert;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Bounded buffer of {@link McpSchema.LoggingMessageNotification logging notifications}
+ * for one session.
+ * <p>
+ * Producers enqueue without locking and never wait for a notification to be written.
+ * Whichever thread finds the buffer idle writes what is queued right away, so a lone
+ * notification is not delayed. While a write is in flight, notifications accumulate and
+ * the next write carries up to {@code maxBatchSize} of them, so a burst is written back
+ * to back instead of interleaving with other traffic. Once {@code capacity} notifications
+ * are waiting, further notifications are dropped and counted until the writes catch up.
+ * <p>
+ * The buffer must be closed with its session, which releases the notifications still
+ * waiting.
+ */
+public final class LoggingNotificationBuffer {
+
+	/**
+	 * The number of notifications a session buffer holds by default.
+	 */
+	public static final int DEFAULT_CAPACITY = 256;
+
+	/**
+	 * The number of notifications written together at most by default.
+	 */
+	public static final int DEFAULT_MAX_BATCH_SIZE = 32;
+
+	private final int capacity;
+
+	private final int maxBatchSize;
+
+	private final Function<List<McpSchema.LoggingMessageNotification>, Mono<Void>> delivery;
+
+	private final Counters counters;
+
+	private final Queue<Entry> entries = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger queued = new AtomicInteger();
+
+	/** Calls to {@link #drain()} not yet handled by the thread draining */
+	private final AtomicInteger wip = new AtomicInteger();
+
+	private final Sinks.Empty<Void> terminated = Sinks.empty();
+
+	/** The write in flight, if any */
+	private volatile Disposable inFlight;
+
+	private volatile boolean closed;
+
+	private volatile boolean cancelled;
+
+	/**
+	 * Creates a buffer with the default batch size, recording into the given counters,
+	 * which may be shared between buffers.
+	 * @param capacity the maximum number of notifications waiting for delivery
+	 * @param delivery writes a batch of notifications
+	 * @param counters the counters to record into
+	 */
+	public LoggingNotificationBuffer(int capacity,
+			Function<List<McpSchema.LoggingMessageNotification>, Mono<Void>> delivery, Counters counters) {
+		this(capacity, DEFAULT_MAX_BATCH_SIZE, delivery, counters);
+	}
+
+	/**
+	 * Creates a buffer recording into the given counters, which may be shared between
+	 * buffers.
+	 * @param capacity the maximum number of notifications waiting for delivery
+	 * @param maxBatchSize the maximum number of notifications written together
+	 * @param delivery writes a batch of notifications
+	 * @param counters the counters to record into
+	 */
+	public LoggingNotificationBuffer(int capacity, int maxBatchSize,
+			Function<List<McpSchema.LoggingMessageNotification>, Mono<Void>> delivery, Counters counters) {
+		Assert.isTrue(capacity > 0, "Capacity must be positive");
+		Assert.isTrue(maxBatchSize > 0, "Max batch size must be positive");
+		Assert.notNull(delivery, "Delivery must not be null");
+		Assert.notNull(counters, "Counters must not be null");
+		this.capacity = capacity;
+		this.maxBatchSize = maxBatchSize;
+		this.delivery = delivery;
+		this.counters = counters;
+	}
+
+	/**
+	 * Offers a notification for delivery.
+	 * @param notification the notification
+	 * @return a Mono that completes once the notification has been written, or right away
+	 * if it was dropped because the buffer is full or closed
+	 */
+	public Mono<Void> offer(McpSchema.LoggingMessageNotification notification) {
+		Assert.notNull(notification, "Logging notification must not be null");
+		return Mono.create(sink -> {
+			if (this.closed) {
+				sink.success();
+				return;
+			}
+			if (this.queued.incrementAndGet() > this.capacity) {
+				this.queued.decrementAndGet();
+				this.counters.dropped.increment();
+				sink.success();
+				return;
+			}
+			this.entries.offer(new Entry(notification, sink));
+			drain();
+		});
+	}
+
+	/**
+	 * Writes the notifications already queued and stops accepting new ones, which are
+	 * then discarded.
+	 * @return a Mono that completes once the queued notifications have been written
+	 */
+	public Mono<Void> closeGracefully() {
+		return Mono.defer(() -> {
+			this.closed = true;
+			drain();
+			return this.terminated.asMono();
+		});
+	}
+
+	/**
+	 * Stops delivering right away. The notifications still queued are discarded.
+	 */
+	public void close() {
+		this.closed = true;
+		this.cancelled = true;
+		drain();
+	}
+
+	/**
+	 * Returns the number of notifications waiting for delivery.
+	 * @return the queued count
+	 */
+	public int queued() {
+		return this.queued.get();
+	}
+
+	/**
+	 * Returns the counters this buffer records into.
+	 * @return the counters
+	 */
+	public Counters getCounters() {
+		return this.counters;
+	}
+
+	/**
+	 * Starts the next write if none is in flight. Only one thread at a time runs the
+	 * loop; calls made meanwhile make it go around once more.
+	 */
+	private void drain() {
+		if (this.wip.getAndIncrement() != 0) {
+			return;
+		}
+		int missed = 1;
+		do {
+			if (this.cancelled) {
+				Disposable inFlight = this.inFlight;
+				if (inFlight != null) {
+					inFlight.dispose();
+				}
+				discardQueued();
+				this.terminated.tryEmitEmpty();
+			}
+			else if (this.inFlight == null) {
+				List<Entry> batch = pollBatch();
+				if (!batch.isEmpty()) {
+					deliver(batch);
+				}
+				else if (this.closed) {
+					this.terminated.tryEmitEmpty();
+				}
+			}
+			missed = this.wip.addAndGet(-missed);
+		}
+		while (missed != 0);
+	}
+
+	private List<Entry> pollBatch() {
+		List<Entry> batch = new ArrayList<>();
+		Entry entry;
+		while (batch.size() < this.maxBatchSize && (entry = this.entries.poll()) != null) {
+			batch.add(entry);
+		}
+		this.queued.addAndGet(-batch.size());
+		return batch;
+	}
+
+	private void discardQueued() {
+		Entry entry;
+		while ((entry = this.entries.poll()) != null) {
+			this.queued.decrementAndGet();
+			entry.discard();
+		}
+	}
+
+	private void deliver(List<Entry> batch) {
+		List<McpSchema.LoggingMessageNotification> notifications = new ArrayList<>(batch.size());
+		for (Entry entry : batch) {
+			notifications.add(entry.notification());
+		}
+		// Set before subscribing, as the write may complete right away
+		Disposable.Swap write = Disposables.swap();
+		this.inFlight = write;
+		write.update(Mono.defer(() -> this.delivery.apply(notifications))
+			.contextWrite(batch.get(0).sink().contextView())
+			// A write cancelled by close() completes its offers without delivery
+			.doOnCancel(() -> batch.forEach(Entry::discard))
+			.subscribe(null, error -> {
+				batch.forEach(entry -> entry.sink().error(error));
+				written();
+			}, () -> {
+				this.counters.delivered.add(batch.size());
+				batch.forEach(entry -> entry.sink().success());
+				written();
+			}));
+	}
+
+	private void written() {
+		this.inFlight = null;
+		drain();
+	}
+
+	private record Entry(McpSchema.LoggingMessageNotification notification, MonoSink<Void> sink) {
+
+		void discard() {
+			this.sink.success();
+		}
+
+	}
+
+	/**
+	 * Cumulative counts of delivered and dropped notifications.
+	 */
+	public static final class Counters {
+
+		private final LongAdder delivered = new LongAdder();
+
+		private final LongAdder dropped = new LongAdder();
+
+		/**
+		 * Returns the number of notifications written.
+		 * @return the delivered count
+		 */
+		public long delivered() {
+			return this.delivered.sum();
+		}
+
+		/**
+		 * Returns the number of notifications dropped because the buffer was full.
+		 * @return the dropped count
+		 */
+		public long dropped() {
+			return this.dropped.sum();
+		}
+
+	}
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.io.IOException;
+
+import io.modelcontextprotocol.json.McpJsonMapper;
+
+/**
+ * A binary encoding of JSON-RPC messages that HTTP transports may use instead of JSON
+ * when both peers support it, such as for traffic between services of the same
+ * deployment.
+ *
+ * <p>
+ * A client configured with a format sends its messages in that format, under its
+ * {@link #contentType() content type}, and lists the content type first in its Accept
+ * header. A server configured with the same format reads such messages and answers in the
+ * format when the request accepts it; other clients keep exchanging JSON. SSE streams,
+ * being text, always carry JSON.
+ *
+ * <p>
+ * The JSON modules provide CBOR, such as the {@code JacksonCborFormat} of
+ * {@code mcp-json-jackson2} and {@code mcp-json-jackson3}. A format backed by another
+ * encoding, such as Jackson Smile, can be plugged in by implementing this interface.
+ */
+public interface McpBinaryFormat {
+
+	/**
+	 * Returns the media type of messages in this format.
+	 * @return the content type
+	 */
+	String contentType();
+
+	/**
+	 * Encodes a message.
+	 * @param jsonMapper the mapper turning the params and results of the message into
+	 * plain objects
+	 * @param message the message
+	 * @return the encoded message
+	 * @throws IOException if the message cannot be encoded
+	 */
+	byte[] write(McpJsonMapper jsonMapper, McpSchema.JSONRPCMessage message) throws IOException;
+
+	/**
+	 * Decodes a message. Its params and results are read as plain maps, lists and values,
+	 * as from JSON.
+	 * @param jsonMapper the mapper of the transport
+	 * @param content the encoded message
+	 * @return the message
+	 * @throws IOException if the content is malformed
+	 * @throws IllegalArgumentException if the content is not a JSON-RPC message
+	 */
+	McpSchema.JSONRPCMessage read(McpJsonMapper jsonMapper, byte[] content) throws IOException;
+
+}
@@ -4,19 +4,18 @@
 
 package io.modelcontextprotocol.spec;
 
+import io.modelcontextprotocol.instrumentation.McpInstrumentation;
+import io.modelcontextprotocol.instrumentation.McpInstrumentations;
 import io.modelcontextprotocol.json.TypeRef;
 import io.modelcontextprotocol.util.Assert;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.MonoSink;
 
 import java.time.Duration;
 import java.util.Map;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 /**
@@ -41,14 +40,11 @@ public class McpClientSession implements McpSession {
 
 	private static final Logger logger = LoggerFactory.getLogger(McpClientSession.class);
 
-	/** Duration to wait for request responses before timing out */
-	private final Duration requestTimeout;
-
 	/** Transport layer implementation for message exchange */
 	private final McpClientTransport transport;
 
-	/** Map of pending responses keyed by request ID */
-	private final ConcurrentHashMap<Object, MonoSink<McpSchema.JSONRPCResponse>> pendingResponses = new ConcurrentHashMap<>();
+	/** Requests awaiting a response, keyed by request ID */
+	private final PendingRequestTable pendingRequests;
 
 	/** Map of request handlers keyed by method name */
 	private final ConcurrentHashMap<String, RequestHandler<?>> requestHandlers = new ConcurrentHashMap<>();
@@ -56,12 +52,6 @@ public class McpClientSession implements McpSession {
 	/** Map of notification handlers keyed by method name */
 	private final ConcurrentHashMap<String, NotificationHandler> notificationHandlers = new ConcurrentHashMap<>();
 
-	/** Session-specific prefix for request IDs */
-	private final String sessionPrefix = UUID.randomUUID().toString().substring(0, 8);
-
-	/** Atomic counter for generating unique request IDs */
-	private final AtomicLong requestCounter = new AtomicLong(0);
-
 	/**
 	 * Functional interface for handling incoming JSON-RPC requests. Implementations
 	 * should process the request parameters and return a response.
@@ -123,13 +113,32 @@ public class McpClientSession implements McpSession {
 	public McpClientSession(Duration requestTimeout, McpClientTransport transport,
 			Map<String, RequestHandler<?>> requestHandlers, Map<String, NotificationHandler> notificationHandlers,
 			Function<? super Mono<Void>, ? extends Publisher<Void>> connectHook) {
+		this(requestTimeout, transport, requestHandlers, notificationHandlers, connectHook,
+				PendingRequestTable.UNBOUNDED, PendingRequestTable.OverflowPolicy.FAIL_FAST);
+	}
+
+	/**
+	 * Creates a new McpClientSession with the specified configuration and handlers.
+	 * @param requestTimeout Duration to wait for responses
+	 * @param transport Transport implementation for message exchange
+	 * @param requestHandlers Map of method names to request handlers
+	 * @param notificationHandlers Map of method names to notification handlers
+	 * @param connectHook Hook that allows transforming the connection Publisher prior to
+	 * subscribing
+	 * @param maxInFlightRequests maximum number of requests awaiting a response
+	 * @param overflowPolicy what to do with requests beyond {@code maxInFlightRequests}
+	 */
+	public McpClientSession(Duration requestTimeout, McpClientTransport transport,
+			Map<String, RequestHandler<?>> requestHandlers, Map<String, NotificationHandler> notificationHandlers,
+			Function<? super Mono<Void>, ? extends Publisher<Void>> connectHook, int maxInFlightRequests,
+			PendingRequestTable.OverflowPolicy overflowPolicy) {
 
 		Assert.notNull(requestTimeout, "The requestTimeout can not be null");
 		Assert.notNull(transport, "The transport can not be null");
 		Assert.notNull(requestHandlers, "The requestHandlers can not be null");
 		Assert.notNull(notificationHandlers, "The notificationHandlers can not be null");
 
-		this.requestTimeout = requestTimeout;
+		this.pendingRequests = new PendingRequestTable(requestTimeout, maxInFlightRequests, overflowPolicy);
 		this.transport = transport;
 		this.requestHandlers.putAll(requestHandlers);
 		this.notificationHandlers.putAll(notificationHandlers);
@@ -138,24 +147,16 @@ public class McpClientSession implements McpSession {
 	}
 
 	private void dismissPendingResponses() {
-		this.pendingResponses.forEach((id, sink) -> {
-			logger.warn("Abruptly terminating exchange for request {}", id);
-			sink.error(new RuntimeException("MCP session with server terminated"));
-		});
-		this.pendingResponses.clear();
+		this.pendingRequests.failAll(new RuntimeException("MCP session with server terminated"));
 	}
 
 	private void handle(McpSchema.JSONRPCMessage message) {
 		if (message instanceof McpSchema.JSONRPCResponse response) {
 			logger.debug("Received response: {}", response);
 			if (response.id() != null) {
-				var sink = pendingResponses.remove(response.id());
-				if (sink == null) {
+				if (!this.pendingRequests.complete(response)) {
 					logger.warn("Unexpected response for unknown id {}", response.id());
 				}
-				else {
-					sink.success(response);
-				}
 			}
 			else {
 				logger.error("Discarded MCP request response without session id. "
@@ -199,7 +200,7 @@ public class McpClientSession implements McpSession {
 	 * @return A Mono containing the JSON-RPC response
 	 */
 	private Mono<McpSchema.JSONRPCResponse> handleIncomingRequest(McpSchema.JSONRPCRequest request) {
-		return Mono.defer(() -> {
+		return McpInstrumentations.observeInbound(McpInstrumentation.Side.CLIENT, request, Mono.defer(() -> {
 			var handler = this.requestHandlers.get(request.method());
 			if (handler == null) {
 				MethodNotFoundError error = getMethodNotFoundError(request.method());
@@ -210,7 +211,7 @@ public class McpClientSession implements McpSession {
 
 			return handler.handle(request.params())
 				.map(result -> new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, request.id(), result, null));
-		});
+		}));
 	}
 
 	record MethodNotFoundError(String method, String message, Object data) {
@@ -242,15 +243,6 @@ public class McpClientSession implements McpSession {
 		});
 	}
 
-	/**
-	 * Generates a unique request ID in a non-blocking way. Combines a session-specific
-	 * prefix with an atomic counter to ensure uniqueness.
-	 * @return A unique request ID string
-	 */
-	private String generateRequestId() {
-		return this.sessionPrefix + "-" + this.requestCounter.getAndIncrement();
-	}
-
 	/**
 	 * Sends a JSON-RPC request and returns the response.
 	 * @param <T> The expected response type
@@ -261,19 +253,12 @@ public class McpClientSession implements McpSession {
 	 */
 	@Override
 	public <T> Mono<T> sendRequest(String method, Object requestParams, TypeRef<T> typeRef) {
-		String requestId = this.generateRequestId();
-
-		return Mono.deferContextual(ctx -> Mono.<McpSchema.JSONRPCResponse>create(pendingResponseSink -> {
+		Mono<T> response = Mono.deferContextual(ctx -> this.pendingRequests.send(requestId -> {
 			logger.debug("Sending message for method {}", method);
-			this.pendingResponses.put(requestId, pendingResponseSink);
 			McpSchema.JSONRPCRequest jsonrpcRequest = new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION, method,
 					requestId, requestParams);
-			this.transport.sendMessage(jsonrpcRequest).contextWrite(ctx).subscribe(v -> {
-			}, error -> {
-				this.pendingResponses.remove(requestId);
-				pendingResponseSink.error(error);
-			});
-		})).timeout(this.requestTimeout).handle((jsonRpcResponse, deliveredResponseSink) -> {
+			return this.transport.sendMessage(jsonrpcRequest).contextWrite(ctx);
+		})).handle((jsonRpcResponse, deliveredResponseSink) -> {
 			if (jsonRpcResponse.error() != null) {
 				logger.error("Error handling request: {}", jsonRpcResponse.error());
 				deliveredResponseSink.error(new McpError(jsonRpcResponse.error()));
@@ -287,6 +272,7 @@ public class McpClientSession implements McpSession {
 				}
 			}
 		});
+		return McpInstrumentations.observeOutbound(McpInstrumentation.Side.CLIENT, method, requestParams, response);
 	}
 
 	/**
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import io.modelcontextprotocol.util.Assert;
+import reactor.core.publisher.Mono;
+
+/**
+ * The roots of the client of one server session, fetched once and kept until the client
+ * announces a change with {@code notifications/roots/list_changed}.
+ * <p>
+ * Concurrent lookups while the roots are being fetched share that fetch. A failed fetch
+ * is not cached, so the next lookup tries again. A fetch still in flight when the cache
+ * is {@link #invalidate() invalidated} completes for the callers already waiting on it,
+ * but its result is not kept.
+ */
+public final class McpRootsCache {
+
+	private final AtomicReference<Entry> entry = new AtomicReference<>();
+
+	/**
+	 * Returns the cached roots, fetching them if they are not cached.
+	 * @param fetch fetches the complete list of roots from the client
+	 * @return a Mono emitting the roots
+	 */
+	public Mono<List<McpSchema.Root>> get(Supplier<Mono<List<McpSchema.Root>>> fetch) {
+		Assert.notNull(fetch, "Fetch must not be null");
+		Entry current = this.entry.get();
+		if (current == null) {
+			Entry created = new Entry(fetch);
+			current = this.entry.compareAndExchange(null, created);
+			if (current == null) {
+				current = created;
+			}
+		}
+		return current.roots;
+	}
+
+	/**
+	 * Returns the roots if they have been fetched and not invalidated since, without
+	 * contacting the client.
+	 * @return the cached roots, or empty if none are cached
+	 */
+	public Optional<List<McpSchema.Root>> current() {
+		Entry current = this.entry.get();
+		return current != null ? Optional.ofNullable(current.resolved) : Optional.empty();
+	}
+
+	/**
+	 * Discards the cached roots, so that the next lookup fetches them again.
+	 */
+	public void invalidate() {
+		this.entry.set(null);
+	}
+
+	private final class Entry {
+
+		private final Mono<List<McpSchema.Root>> roots;
+
+		private volatile List<McpSchema.Root> resolved;
+
+		Entry(Supplier<Mono<List<McpSchema.Root>>> fetch) {
+			this.roots = Mono.defer(fetch)
+				.doOnNext(roots -> this.resolved = roots)
+				.doOnError(error -> entry.compareAndSet(this, null))
+				.cache(roots -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO, () -> Duration.ZERO);
+		}
+
+	}
+
+}
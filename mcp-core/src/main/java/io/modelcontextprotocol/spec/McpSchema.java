@@ -5,6 +5,7 @@
 package io.modelcontextprotocol.spec;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -17,6 +18,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import io.modelcontextprotocol.instrumentation.McpInstrumentation;
+import io.modelcontextprotocol.instrumentation.McpInstrumentations;
 import io.modelcontextprotocol.json.McpJsonMapper;
 import io.modelcontextprotocol.json.TypeRef;
 import io.modelcontextprotocol.util.Assert;
@@ -146,6 +149,12 @@ public final class McpSchema {
 		 */
 		public static final int RESOURCE_NOT_FOUND = -32002;
 
+		/**
+		 * The server rejected the request because a concurrency or rate limit was
+		 * exceeded. The request may be retried later.
+		 */
+		public static final int SERVER_OVERLOADED = -32000;
+
 	}
 
 	/**
@@ -205,20 +214,158 @@ public final class McpSchema {
 
 		logger.debug("Received JSON message: {}", jsonText);
 
-		var map = jsonMapper.readValue(jsonText, MAP_TYPE_REF);
+		McpInstrumentation instrumentation = McpInstrumentations.get();
+		if (instrumentation == McpInstrumentation.NOOP) {
+			return readJsonRpcMessage(jsonMapper, jsonText);
+		}
+		long start = System.nanoTime();
+		try {
+			JSONRPCMessage message = readJsonRpcMessage(jsonMapper, jsonText);
+			instrumentation.messageDecoded(McpInstrumentations.utf8Length(jsonText), System.nanoTime() - start, null);
+			return message;
+		}
+		catch (IOException | RuntimeException e) {
+			instrumentation.messageDecoded(McpInstrumentations.utf8Length(jsonText), System.nanoTime() - start, e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Serializes a JSONRPCMessage into its JSON string representation, reporting the
+	 * message size and encoding time to the installed {@link McpInstrumentation}.
+	 * @param jsonMapper The JsonMapper instance to use for serialization
+	 * @param message The message to serialize
+	 * @return the JSON text
+	 * @throws IOException If there's an error during serialization
+	 */
+	public static String serializeJsonRpcMessage(McpJsonMapper jsonMapper, JSONRPCMessage message) throws IOException {
+		McpInstrumentation instrumentation = McpInstrumentations.get();
+		if (instrumentation == McpInstrumentation.NOOP) {
+			return jsonMapper.writeValueAsString(message);
+		}
+		long start = System.nanoTime();
+		try {
+			String jsonText = jsonMapper.writeValueAsString(message);
+			instrumentation.messageEncoded(McpInstrumentations.utf8Length(jsonText), System.nanoTime() - start, null);
+			return jsonText;
+		}
+		catch (IOException | RuntimeException e) {
+			instrumentation.messageEncoded(0, System.nanoTime() - start, e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Deserializes UTF-8 encoded JSON into a JSONRPCMessage object without decoding it to
+	 * a string first.
+	 * @param jsonMapper The JsonMapper instance to use for deserialization
+	 * @param json The UTF-8 encoded JSON to deserialize
+	 * @return A JSONRPCMessage instance using either the {@link JSONRPCRequest},
+	 * {@link JSONRPCNotification}, or {@link JSONRPCResponse} classes.
+	 * @throws IOException If there's an error during deserialization
+	 * @throws IllegalArgumentException If the JSON structure doesn't match any known
+	 * message type
+	 */
+	public static JSONRPCMessage deserializeJsonRpcMessage(McpJsonMapper jsonMapper, byte[] json) throws IOException {
+
+		if (logger.isDebugEnabled()) {
+			logger.debug("Received JSON message: {}", new String(json, StandardCharsets.UTF_8));
+		}
+
+		McpInstrumentation instrumentation = McpInstrumentations.get();
+		if (instrumentation == McpInstrumentation.NOOP) {
+			return readJsonRpcMessage(jsonMapper, json);
+		}
+		long start = System.nanoTime();
+		try {
+			JSONRPCMessage message = readJsonRpcMessage(jsonMapper, json);
+			instrumentation.messageDecoded(json.length, System.nanoTime() - start, null);
+			return message;
+		}
+		catch (IOException | RuntimeException e) {
+			instrumentation.messageDecoded(json.length, System.nanoTime() - start, e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Serializes a JSONRPCMessage into UTF-8 encoded JSON, reporting the message size and
+	 * encoding time to the installed {@link McpInstrumentation}.
+	 * @param jsonMapper The JsonMapper instance to use for serialization
+	 * @param message The message to serialize
+	 * @return the UTF-8 encoded JSON
+	 * @throws IOException If there's an error during serialization
+	 */
+	public static byte[] serializeJsonRpcMessageAsBytes(McpJsonMapper jsonMapper, JSONRPCMessage message)
+			throws IOException {
+		McpInstrumentation instrumentation = McpInstrumentations.get();
+		if (instrumentation == McpInstrumentation.NOOP) {
+			return jsonMapper.writeValueAsBytes(message);
+		}
+		long start = System.nanoTime();
+		try {
+			byte[] json = jsonMapper.writeValueAsBytes(message);
+			instrumentation.messageEncoded(json.length, System.nanoTime() - start, null);
+			return json;
+		}
+		catch (IOException | RuntimeException e) {
+			instrumentation.messageEncoded(0, System.nanoTime() - start, e);
+			throw e;
+		}
+	}
 
+	private static JSONRPCMessage readJsonRpcMessage(McpJsonMapper jsonMapper, String jsonText) throws IOException {
+		return toJsonRpcMessage(jsonMapper.readValue(jsonText, MAP_TYPE_REF), jsonText);
+	}
+
+	private static JSONRPCMessage readJsonRpcMessage(McpJsonMapper jsonMapper, byte[] json) throws IOException {
+		return toJsonRpcMessage(jsonMapper.readValue(json, MAP_TYPE_REF), json);
+	}
+
+	/**
+	 * Builds the message from a parsed message object, such as one decoded by a
+	 * {@link McpBinaryFormat}.
+	 * @param map the message object
+	 * @return the message
+	 * @throws IllegalArgumentException If the object doesn't match any known message type
+	 */
+	public static JSONRPCMessage toJsonRpcMessage(Map<String, Object> map) {
+		return toJsonRpcMessage(map, map);
+	}
+
+	/**
+	 * Builds the message from the parsed JSON object. The envelope records only hold the
+	 * JSON-RPC fields, with params and results kept as parsed, so they are constructed
+	 * directly rather than bound by the mapper.
+	 */
+	private static JSONRPCMessage toJsonRpcMessage(Map<String, Object> map, Object json) {
 		// Determine message type based on specific JSON structure
 		if (map.containsKey("method") && map.containsKey("id")) {
-			return jsonMapper.convertValue(map, JSONRPCRequest.class);
+			return new JSONRPCRequest(asString(map.get("jsonrpc")), asString(map.get("method")), map.get("id"),
+					map.get("params"));
 		}
 		else if (map.containsKey("method") && !map.containsKey("id")) {
-			return jsonMapper.convertValue(map, JSONRPCNotification.class);
+			return new JSONRPCNotification(asString(map.get("jsonrpc")), asString(map.get("method")),
+					map.get("params"));
 		}
 		else if (map.containsKey("result") || map.containsKey("error")) {
-			return jsonMapper.convertValue(map, JSONRPCResponse.class);
+			JSONRPCResponse.JSONRPCError error = map.get("error") instanceof Map<?, ?> errorMap
+					? toJsonRpcError(errorMap) : null;
+			return new JSONRPCResponse(asString(map.get("jsonrpc")), map.get("id"), map.get("result"), error);
 		}
 
-		throw new IllegalArgumentException("Cannot deserialize JSONRPCMessage: " + jsonText);
+		throw new IllegalArgumentException("Cannot deserialize JSONRPCMessage: "
+				+ (json instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : json));
+	}
+
+	private static JSONRPCResponse.JSONRPCError toJsonRpcError(Map<?, ?> error) {
+		Object code = error.get("code");
+		return new JSONRPCResponse.JSONRPCError(code instanceof Number number ? number.intValue() : null,
+				asString(error.get("message")), error.get("data"));
+	}
+
+	private static String asString(Object value) {
+		return value != null ? value.toString() : null;
 	}
 
 	// ---------------------------
@@ -5,13 +5,15 @@
 package io.modelcontextprotocol.spec;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.modelcontextprotocol.common.McpTransportContext;
+import io.modelcontextprotocol.instrumentation.McpInstrumentation;
+import io.modelcontextprotocol.instrumentation.McpInstrumentations;
 import io.modelcontextprotocol.server.McpAsyncServerExchange;
 import io.modelcontextprotocol.server.McpInitRequestHandler;
 import io.modelcontextprotocol.server.McpNotificationHandler;
@@ -21,7 +23,6 @@ import io.modelcontextprotocol.util.Assert;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.MonoSink;
 import reactor.core.publisher.Sinks;
 
 /**
@@ -32,14 +33,12 @@ public class McpServerSession implements McpLoggableSession {
 
 	private static final Logger logger = LoggerFactory.getLogger(McpServerSession.class);
 
-	private final ConcurrentHashMap<Object, MonoSink<McpSchema.JSONRPCResponse>> pendingResponses = new ConcurrentHashMap<>();
+	private static final TypeRef<McpSchema.InitializeRequest> INITIALIZE_REQUEST_TYPE_REF = new TypeRef<>() {
+	};
 
-	private final String id;
-
-	/** Duration to wait for request responses before timing out */
-	private final Duration requestTimeout;
+	private final PendingRequestTable pendingRequests;
 
-	private final AtomicLong requestCounter = new AtomicLong(0);
+	private final String id;
 
 	private final McpInitRequestHandler initRequestHandler;
 
@@ -55,6 +54,8 @@ public class McpServerSession implements McpLoggableSession {
 
 	private final AtomicReference<McpSchema.Implementation> clientInfo = new AtomicReference<>();
 
+	private final McpRootsCache rootsCache = new McpRootsCache();
+
 	private static final int STATE_UNINITIALIZED = 0;
 
 	private static final int STATE_INITIALIZING = 1;
@@ -65,6 +66,16 @@ public class McpServerSession implements McpLoggableSession {
 
 	private volatile McpSchema.LoggingLevel minLoggingLevel = McpSchema.LoggingLevel.INFO;
 
+	private final LoggingNotificationBuffer.Counters loggingCounters = new LoggingNotificationBuffer.Counters();
+
+	private volatile LoggingNotificationBuffer loggingBuffer;
+
+	/** Guarded by this; no logging buffer is created once set */
+	private boolean closed;
+
+	private volatile Runnable closeListener = () -> {
+	};
+
 	/**
 	 * Creates a new server session with the given parameters and the transport to use.
 	 * @param id session id
@@ -78,8 +89,30 @@ public class McpServerSession implements McpLoggableSession {
 	public McpServerSession(String id, Duration requestTimeout, McpServerTransport transport,
 			McpInitRequestHandler initHandler, Map<String, McpRequestHandler<?>> requestHandlers,
 			Map<String, McpNotificationHandler> notificationHandlers) {
+		this(id, requestTimeout, transport, initHandler, requestHandlers, notificationHandlers,
+				PendingRequestTable.UNBOUNDED, PendingRequestTable.OverflowPolicy.FAIL_FAST);
+	}
+
+	/**
+	 * Creates a new server session with a bound on the number of server-initiated
+	 * requests awaiting a response from the client.
+	 * @param id session id
+	 * @param requestTimeout time to wait for the client to respond
+	 * @param transport the transport to use
+	 * @param initHandler called when a
+	 * {@link io.modelcontextprotocol.spec.McpSchema.InitializeRequest} is received by the
+	 * server
+	 * @param requestHandlers map of request handlers to use
+	 * @param notificationHandlers map of notification handlers to use
+	 * @param maxInFlightRequests maximum number of requests awaiting a response
+	 * @param overflowPolicy what to do with requests beyond {@code maxInFlightRequests}
+	 */
+	public McpServerSession(String id, Duration requestTimeout, McpServerTransport transport,
+			McpInitRequestHandler initHandler, Map<String, McpRequestHandler<?>> requestHandlers,
+			Map<String, McpNotificationHandler> notificationHandlers, int maxInFlightRequests,
+			PendingRequestTable.OverflowPolicy overflowPolicy) {
 		this.id = id;
-		this.requestTimeout = requestTimeout;
+		this.pendingRequests = new PendingRequestTable(requestTimeout, maxInFlightRequests, overflowPolicy);
 		this.transport = transport;
 		this.initRequestHandler = initHandler;
 		this.requestHandlers = requestHandlers;
@@ -107,7 +140,7 @@ public class McpServerSession implements McpLoggableSession {
 			Map<String, McpRequestHandler<?>> requestHandlers,
 			Map<String, McpNotificationHandler> notificationHandlers) {
 		this.id = id;
-		this.requestTimeout = requestTimeout;
+		this.pendingRequests = new PendingRequestTable(requestTimeout);
 		this.transport = transport;
 		this.initRequestHandler = initHandler;
 		this.requestHandlers = requestHandlers;
@@ -137,10 +170,6 @@ public class McpServerSession implements McpLoggableSession {
 		this.clientInfo.lazySet(clientInfo);
 	}
 
-	private String generateRequestId() {
-		return this.id + "-" + this.requestCounter.getAndIncrement();
-	}
-
 	@Override
 	public void setMinLoggingLevel(McpSchema.LoggingLevel minLoggingLevel) {
 		Assert.notNull(minLoggingLevel, "minLoggingLevel must not be null");
@@ -152,20 +181,31 @@ public class McpServerSession implements McpLoggableSession {
 		return loggingLevel.level() >= this.minLoggingLevel.level();
 	}
 
+	/**
+	 * Returns the counts of logging notifications delivered and dropped by this session.
+	 * @return the logging counters
+	 */
+	public LoggingNotificationBuffer.Counters getLoggingCounters() {
+		return this.loggingCounters;
+	}
+
+	/**
+	 * Sets the listener notified when this session is closed, for example to forget it in
+	 * a server-wide index.
+	 * @param closeListener the close listener
+	 */
+	public void setCloseListener(Runnable closeListener) {
+		Assert.notNull(closeListener, "Close listener must not be null");
+		this.closeListener = closeListener;
+	}
+
 	@Override
 	public <T> Mono<T> sendRequest(String method, Object requestParams, TypeRef<T> typeRef) {
-		String requestId = this.generateRequestId();
-
-		return Mono.<McpSchema.JSONRPCResponse>create(sink -> {
-			this.pendingResponses.put(requestId, sink);
+		Mono<T> response = this.pendingRequests.send(requestId -> {
 			McpSchema.JSONRPCRequest jsonrpcRequest = new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION, method,
 					requestId, requestParams);
-			this.transport.sendMessage(jsonrpcRequest).subscribe(v -> {
-			}, error -> {
-				this.pendingResponses.remove(requestId);
-				sink.error(error);
-			});
-		}).timeout(requestTimeout).handle((jsonRpcResponse, sink) -> {
+			return this.transport.sendMessage(jsonrpcRequest);
+		}).handle((jsonRpcResponse, sink) -> {
 			if (jsonRpcResponse.error() != null) {
 				sink.error(new McpError(jsonRpcResponse.error()));
 			}
@@ -178,15 +218,42 @@ public class McpServerSession implements McpLoggableSession {
 				}
 			}
 		});
+		return McpInstrumentations.observeOutbound(McpInstrumentation.Side.SERVER, method, requestParams, response);
 	}
 
+	/**
+	 * Sends a notification to the client. Logging notifications are queued in a bounded
+	 * per-session buffer, created on first use, and dropped while the client does not
+	 * keep up.
+	 * @see #getLoggingCounters()
+	 */
 	@Override
 	public Mono<Void> sendNotification(String method, Object params) {
+		if (McpSchema.METHOD_NOTIFICATION_MESSAGE.equals(method)
+				&& params instanceof McpSchema.LoggingMessageNotification loggingMessageNotification) {
+			LoggingNotificationBuffer buffer = loggingBuffer();
+			if (buffer != null) {
+				return buffer.offer(loggingMessageNotification);
+			}
+		}
+		return send(method, params);
+	}
+
+	private Mono<Void> send(String method, Object params) {
 		McpSchema.JSONRPCNotification jsonrpcNotification = new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
 				method, params);
 		return this.transport.sendMessage(jsonrpcNotification);
 	}
 
+	private Mono<Void> sendLoggingNotifications(List<McpSchema.LoggingMessageNotification> notifications) {
+		List<McpSchema.JSONRPCNotification> messages = new ArrayList<>(notifications.size());
+		for (McpSchema.LoggingMessageNotification notification : notifications) {
+			messages.add(new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
+					McpSchema.METHOD_NOTIFICATION_MESSAGE, notification));
+		}
+		return this.transport.sendMessages(messages);
+	}
+
 	/**
 	 * Called by the {@link McpServerTransportProvider} once the session is determined.
 	 * The purpose of this method is to dispatch the message to an appropriate handler as
@@ -206,13 +273,9 @@ public class McpServerSession implements McpLoggableSession {
 			if (message instanceof McpSchema.JSONRPCResponse response) {
 				logger.debug("Received response: {}", response);
 				if (response.id() != null) {
-					var sink = pendingResponses.remove(response.id());
-					if (sink == null) {
+					if (!this.pendingRequests.complete(response)) {
 						logger.warn("Unexpected response for unknown id {}", response.id());
 					}
-					else {
-						sink.success(response);
-					}
 				}
 				else {
 					logger.error("Discarded MCP request response without session id. "
@@ -257,13 +320,12 @@ public class McpServerSession implements McpLoggableSession {
 	 */
 	private Mono<McpSchema.JSONRPCResponse> handleIncomingRequest(McpSchema.JSONRPCRequest request,
 			McpTransportContext transportContext) {
-		return Mono.defer(() -> {
+		return McpInstrumentations.observeInbound(McpInstrumentation.Side.SERVER, request, Mono.defer(() -> {
 			Mono<?> resultMono;
 			if (McpSchema.METHOD_INITIALIZE.equals(request.method())) {
 				// TODO handle situation where already initialized!
 				McpSchema.InitializeRequest initializeRequest = transport.unmarshalFrom(request.params(),
-						new TypeRef<McpSchema.InitializeRequest>() {
-						});
+						INITIALIZE_REQUEST_TYPE_REF);
 
 				this.state.lazySet(STATE_INITIALIZING);
 				this.init(initializeRequest.capabilities(), initializeRequest.clientInfo());
@@ -294,7 +356,7 @@ public class McpServerSession implements McpLoggableSession {
 					return Mono.just(
 							new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, request.id(), null, jsonRpcError));
 				});
-		});
+		}));
 	}
 
 	/**
@@ -311,7 +373,7 @@ public class McpServerSession implements McpLoggableSession {
 				// FIXME: The session ID passed here is not the same as the one in the
 				// legacy SSE transport.
 				exchangeSink.tryEmitValue(new McpAsyncServerExchange(this.id, this, clientCapabilities.get(),
-						clientInfo.get(), transportContext));
+						clientInfo.get(), transportContext, this.rootsCache));
 			}
 
 			var handler = notificationHandlers.get(notification.method());
@@ -333,7 +395,7 @@ public class McpServerSession implements McpLoggableSession {
 	 */
 	private McpAsyncServerExchange copyExchange(McpAsyncServerExchange exchange, McpTransportContext transportContext) {
 		return new McpAsyncServerExchange(exchange.sessionId(), this, exchange.getClientCapabilities(),
-				exchange.getClientInfo(), transportContext);
+				exchange.getClientInfo(), transportContext, this.rootsCache);
 	}
 
 	record MethodNotFoundError(String method, String message, Object data) {
@@ -343,18 +405,59 @@ public class McpServerSession implements McpLoggableSession {
 		return new MethodNotFoundError(method, "Method not found: " + method, null);
 	}
 
+	private void dismissPendingResponses() {
+		this.pendingRequests.failAll(new RuntimeException("MCP session with client terminated"));
+	}
+
 	@Override
 	public Mono<Void> closeGracefully() {
-		// TODO: clear pendingResponses and emit errors?
-		return this.transport.closeGracefully();
+		return Mono.defer(() -> {
+			dismissPendingResponses();
+			LoggingNotificationBuffer buffer = takeLoggingBuffer();
+			Mono<Void> flushLogs = (buffer != null) ? buffer.closeGracefully() : Mono.empty();
+			return flushLogs.then(this.transport.closeGracefully());
+		});
 	}
 
 	@Override
 	public void close() {
-		// TODO: clear pendingResponses and emit errors?
+		dismissPendingResponses();
+		LoggingNotificationBuffer buffer = takeLoggingBuffer();
+		if (buffer != null) {
+			buffer.close();
+		}
 		this.transport.close();
 	}
 
+	private LoggingNotificationBuffer loggingBuffer() {
+		LoggingNotificationBuffer buffer = this.loggingBuffer;
+		if (buffer == null) {
+			synchronized (this) {
+				buffer = this.loggingBuffer;
+				if (buffer == null && !this.closed) {
+					buffer = new LoggingNotificationBuffer(LoggingNotificationBuffer.DEFAULT_CAPACITY,
+							this::sendLoggingNotifications, this.loggingCounters);
+					this.loggingBuffer = buffer;
+				}
+			}
+		}
+		return buffer;
+	}
+
+	/**
+	 * Returns the logging buffer, if one was created, prevents creating another one once
+	 * the session is closed and notifies the close listener.
+	 */
+	private LoggingNotificationBuffer takeLoggingBuffer() {
+		LoggingNotificationBuffer buffer;
+		synchronized (this) {
+			this.closed = true;
+			buffer = this.loggingBuffer;
+		}
+		this.closeListener.run();
+		return buffer;
+	}
+
 	/**
 	 * Request handler for the initialization request.
 	 *
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.util.function.BiConsumer;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Carries the messages of Streamable HTTP sessions between the nodes of a server.
+ * <p>
+ * The listening stream a client opens with an HTTP GET is held by one node, while its
+ * POST requests may reach any node. A node sends the messages the server initiates
+ * outside of a request, such as notifications, over the bus; the node holding the
+ * session's listening stream writes them to the client. A response from the client to a
+ * request sent by another node travels the same way back to the node awaiting it.
+ * <p>
+ * Every message published is delivered to every subscribed node, including the one
+ * publishing it. Delivery is best effort: a message published while no node holds the
+ * session's listening stream is lost, as it would be on a single node.
+ * <p>
+ * When a client deletes its session, the node handling the deletion publishes a
+ * {@link #METHOD_SESSION_DELETED} notification, upon which the other nodes drop their
+ * copy of the session. That notification is never sent to clients.
+ *
+ * @see InMemoryMcpStreamableMessageBus
+ * @see McpStreamableSessionStore
+ */
+public interface McpStreamableMessageBus {
+
+	/**
+	 * The method of the notification announcing that a session was deleted.
+	 */
+	String METHOD_SESSION_DELETED = "$/sessionDeleted";
+
+	/**
+	 * Publishes a message of a session to all nodes.
+	 * @param sessionId the session ID
+	 * @param message the message
+	 * @return a Mono completing once the message is published
+	 */
+	Mono<Void> publish(String sessionId, McpSchema.JSONRPCMessage message);
+
+	/**
+	 * Subscribes a node to the messages published by all nodes.
+	 * @param handler receives the session ID and the message
+	 * @return disposes the subscription
+	 */
+	Disposable subscribe(BiConsumer<String, McpSchema.JSONRPCMessage> handler);
+
+}
@@ -5,16 +5,21 @@
 package io.modelcontextprotocol.spec;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.modelcontextprotocol.instrumentation.McpInstrumentation;
+import io.modelcontextprotocol.instrumentation.McpInstrumentations;
 import io.modelcontextprotocol.json.TypeRef;
 
 import io.modelcontextprotocol.common.McpTransportContext;
@@ -25,7 +30,6 @@ import io.modelcontextprotocol.spec.McpSchema.ErrorCodes;
 import io.modelcontextprotocol.util.Assert;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.MonoSink;
 
 /**
  * Representation of a Streamable HTTP server session that keeps track of mapping
@@ -40,14 +44,10 @@ public class McpStreamableServerSession implements McpLoggableSession {
 
 	private static final Logger logger = LoggerFactory.getLogger(McpStreamableServerSession.class);
 
-	private final ConcurrentHashMap<Object, McpStreamableServerSessionStream> requestIdToStream = new ConcurrentHashMap<>();
+	private final PendingRequestTable pendingRequests;
 
 	private final String id;
 
-	private final Duration requestTimeout;
-
-	private final AtomicLong requestCounter = new AtomicLong(0);
-
 	private final Map<String, McpRequestHandler<?>> requestHandlers;
 
 	private final Map<String, McpNotificationHandler> notificationHandlers;
@@ -56,12 +56,24 @@ public class McpStreamableServerSession implements McpLoggableSession {
 
 	private final AtomicReference<McpSchema.Implementation> clientInfo = new AtomicReference<>();
 
+	private final McpRootsCache rootsCache = new McpRootsCache();
+
 	private final AtomicReference<McpLoggableSession> listeningStreamRef;
 
 	private final MissingMcpTransportSession missingMcpTransportSession;
 
 	private volatile McpSchema.LoggingLevel minLoggingLevel = McpSchema.LoggingLevel.INFO;
 
+	private volatile String protocolVersion;
+
+	private volatile Consumer<McpStreamableSessionState> stateListener = state -> {
+	};
+
+	private final LoggingNotificationBuffer.Counters loggingCounters = new LoggingNotificationBuffer.Counters();
+
+	private volatile Runnable closeListener = () -> {
+	};
+
 	/**
 	 * Create an instance of the streamable session.
 	 * @param id session ID
@@ -76,12 +88,33 @@ public class McpStreamableServerSession implements McpLoggableSession {
 			McpSchema.Implementation clientInfo, Duration requestTimeout,
 			Map<String, McpRequestHandler<?>> requestHandlers,
 			Map<String, McpNotificationHandler> notificationHandlers) {
+		this(id, clientCapabilities, clientInfo, requestTimeout, requestHandlers, notificationHandlers,
+				PendingRequestTable.UNBOUNDED, PendingRequestTable.OverflowPolicy.FAIL_FAST);
+	}
+
+	/**
+	 * Create an instance of the streamable session with a bound on the number of
+	 * server-initiated requests awaiting a response from the client.
+	 * @param id session ID
+	 * @param clientCapabilities client capabilities
+	 * @param clientInfo client info
+	 * @param requestTimeout timeout to use for requests
+	 * @param requestHandlers the map of MCP request handlers keyed by method name
+	 * @param notificationHandlers the map of MCP notification handlers keyed by method
+	 * name
+	 * @param maxInFlightRequests maximum number of requests awaiting a response
+	 * @param overflowPolicy what to do with requests beyond {@code maxInFlightRequests}
+	 */
+	public McpStreamableServerSession(String id, McpSchema.ClientCapabilities clientCapabilities,
+			McpSchema.Implementation clientInfo, Duration requestTimeout,
+			Map<String, McpRequestHandler<?>> requestHandlers, Map<String, McpNotificationHandler> notificationHandlers,
+			int maxInFlightRequests, PendingRequestTable.OverflowPolicy overflowPolicy) {
 		this.id = id;
+		this.pendingRequests = new PendingRequestTable(requestTimeout, maxInFlightRequests, overflowPolicy);
 		this.missingMcpTransportSession = new MissingMcpTransportSession(id);
 		this.listeningStreamRef = new AtomicReference<>(this.missingMcpTransportSession);
 		this.clientCapabilities.lazySet(clientCapabilities);
 		this.clientInfo.lazySet(clientInfo);
-		this.requestTimeout = requestTimeout;
 		this.requestHandlers = requestHandlers;
 		this.notificationHandlers = notificationHandlers;
 	}
@@ -89,7 +122,11 @@ public class McpStreamableServerSession implements McpLoggableSession {
 	@Override
 	public void setMinLoggingLevel(McpSchema.LoggingLevel minLoggingLevel) {
 		Assert.notNull(minLoggingLevel, "minLoggingLevel must not be null");
+		McpSchema.LoggingLevel previous = this.minLoggingLevel;
 		this.minLoggingLevel = minLoggingLevel;
+		if (previous != minLoggingLevel) {
+			this.stateListener.accept(getState());
+		}
 	}
 
 	@Override
@@ -97,6 +134,75 @@ public class McpStreamableServerSession implements McpLoggableSession {
 		return loggingLevel.level() >= this.minLoggingLevel.level();
 	}
 
+	/**
+	 * Records the protocol version negotiated at initialization.
+	 * @param protocolVersion the protocol version
+	 */
+	public void setProtocolVersion(String protocolVersion) {
+		this.protocolVersion = protocolVersion;
+	}
+
+	/**
+	 * Returns a snapshot of the state of this session that another node can restore it
+	 * from.
+	 * @return the session state
+	 * @see Factory#restoreSession(McpStreamableSessionState)
+	 */
+	public McpStreamableSessionState getState() {
+		return new McpStreamableSessionState(this.id, this.protocolVersion, this.clientCapabilities.get(),
+				this.clientInfo.get(), this.minLoggingLevel);
+	}
+
+	/**
+	 * Sets the listener notified with the new state whenever the state of this session
+	 * changes after initialization, for example to save it in a
+	 * {@link McpStreamableSessionStore}.
+	 * @param stateListener the state listener
+	 */
+	public void setStateListener(Consumer<McpStreamableSessionState> stateListener) {
+		Assert.notNull(stateListener, "State listener must not be null");
+		this.stateListener = stateListener;
+	}
+
+	/**
+	 * Sets the listener notified when this session is closed, for example to forget it in
+	 * a server-wide index.
+	 * @param closeListener the close listener
+	 */
+	public void setCloseListener(Runnable closeListener) {
+		Assert.notNull(closeListener, "Close listener must not be null");
+		this.closeListener = closeListener;
+	}
+
+	/**
+	 * Tells whether a request this session sent to the client awaits the response with
+	 * the given id.
+	 * @param id the response id
+	 * @return true if the response is awaited by this session
+	 */
+	public boolean isAwaitingResponse(Object id) {
+		return this.pendingRequests.isPending(id);
+	}
+
+	/**
+	 * Makes the ids of the requests this session sends from now on start at the given
+	 * value, so that copies of the session restored on other nodes do not send requests
+	 * with the same ids.
+	 * @param firstId the id of the next request
+	 */
+	void startRequestIdsAt(long firstId) {
+		this.pendingRequests.startIdsAt(firstId);
+	}
+
+	/**
+	 * Returns the counts of logging notifications delivered and dropped across the
+	 * streams of this session.
+	 * @return the logging counters
+	 */
+	public LoggingNotificationBuffer.Counters getLoggingCounters() {
+		return this.loggingCounters;
+	}
+
 	/**
 	 * Return the Session ID.
 	 * @return session ID
@@ -105,10 +211,6 @@ public class McpStreamableServerSession implements McpLoggableSession {
 		return this.id;
 	}
 
-	private String generateRequestId() {
-		return this.id + "-" + this.requestCounter.getAndIncrement();
-	}
-
 	@Override
 	public <T> Mono<T> sendRequest(String method, Object requestParams, TypeRef<T> typeRef) {
 		return Mono.defer(() -> {
@@ -173,9 +275,9 @@ public class McpStreamableServerSession implements McpLoggableSession {
 							new McpSchema.JSONRPCResponse.JSONRPCError(McpSchema.ErrorCodes.METHOD_NOT_FOUND,
 									error.message(), error.data())));
 			}
-			return requestHandler
+			Mono<McpSchema.JSONRPCResponse> response = requestHandler
 				.handle(new McpAsyncServerExchange(this.id, stream, clientCapabilities.get(), clientInfo.get(),
-						transportContext), jsonrpcRequest.params())
+						transportContext, this.rootsCache), jsonrpcRequest.params())
 				.map(result -> new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, jsonrpcRequest.id(), result,
 						null))
 				.onErrorResume(e -> {
@@ -187,7 +289,8 @@ public class McpStreamableServerSession implements McpLoggableSession {
 					var errorResponse = new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, jsonrpcRequest.id(),
 							null, jsonRpcError);
 					return Mono.just(errorResponse);
-				})
+				});
+			return McpInstrumentations.observeInbound(McpInstrumentation.Side.SERVER, jsonrpcRequest, response)
 				.flatMap(transport::sendMessage)
 				.then(transport.closeGracefully());
 		});
@@ -208,7 +311,8 @@ public class McpStreamableServerSession implements McpLoggableSession {
 			}
 			McpLoggableSession listeningStream = this.listeningStreamRef.get();
 			return notificationHandler.handle(new McpAsyncServerExchange(this.id, listeningStream,
-					this.clientCapabilities.get(), this.clientInfo.get(), transportContext), notification.params());
+					this.clientCapabilities.get(), this.clientInfo.get(), transportContext, this.rootsCache),
+					notification.params());
 		});
 
 	}
@@ -223,22 +327,11 @@ public class McpStreamableServerSession implements McpLoggableSession {
 			logger.debug("Received response: {}", response);
 
 			if (response.id() != null) {
-				var stream = this.requestIdToStream.get(response.id());
-				if (stream == null) {
-					return Mono.error(McpError.builder(ErrorCodes.INTERNAL_ERROR)
-						.message("Unexpected response for unknown id " + response.id())
-						.build());
-				}
-				// TODO: encapsulate this inside the stream itself
-				var sink = stream.pendingResponses.remove(response.id());
-				if (sink == null) {
+				if (!this.pendingRequests.complete(response)) {
 					return Mono.error(McpError.builder(ErrorCodes.INTERNAL_ERROR)
 						.message("Unexpected response for unknown id " + response.id())
 						.build());
 				}
-				else {
-					sink.success(response);
-				}
 			}
 			else {
 				logger.error("Discarded MCP request response without session id. "
@@ -259,6 +352,7 @@ public class McpStreamableServerSession implements McpLoggableSession {
 	@Override
 	public Mono<Void> closeGracefully() {
 		return Mono.defer(() -> {
+			this.closeListener.run();
 			McpLoggableSession listeningStream = this.listeningStreamRef.getAndSet(missingMcpTransportSession);
 			return listeningStream.closeGracefully();
 			// TODO: Also close all the open streams
@@ -267,6 +361,7 @@ public class McpStreamableServerSession implements McpLoggableSession {
 
 	@Override
 	public void close() {
+		this.closeListener.run();
 		McpLoggableSession listeningStream = this.listeningStreamRef.getAndSet(missingMcpTransportSession);
 		if (listeningStream != null) {
 			listeningStream.close();
@@ -300,6 +395,17 @@ public class McpStreamableServerSession implements McpLoggableSession {
 		 */
 		McpStreamableServerSessionInit startSession(McpSchema.InitializeRequest initializeRequest);
 
+		/**
+		 * Restores a session initialized before, possibly on another node, from its saved
+		 * state.
+		 * @param state the state of the session
+		 * @return the restored session
+		 * @throws UnsupportedOperationException if the factory cannot restore sessions
+		 */
+		default McpStreamableServerSession restoreSession(McpStreamableSessionState state) {
+			throw new UnsupportedOperationException(getClass().getName() + " cannot restore sessions");
+		}
+
 	}
 
 	/**
@@ -319,7 +425,8 @@ public class McpStreamableServerSession implements McpLoggableSession {
 	 */
 	public final class McpStreamableServerSessionStream implements McpLoggableSession {
 
-		private final ConcurrentHashMap<Object, MonoSink<McpSchema.JSONRPCResponse>> pendingResponses = new ConcurrentHashMap<>();
+		/** Ids of the requests sent on this stream that still await a response */
+		private final Set<Long> pendingRequestIds = ConcurrentHashMap.newKeySet();
 
 		private final McpStreamableServerTransport transport;
 
@@ -327,6 +434,11 @@ public class McpStreamableServerSession implements McpLoggableSession {
 
 		private final Supplier<String> uuidGenerator;
 
+		private volatile LoggingNotificationBuffer loggingBuffer;
+
+		/** Guarded by this; no logging buffer is created once set */
+		private boolean closed;
+
 		/**
 		 * Constructor accepting the dedicated transport representing the SSE stream.
 		 * @param transport request-specific SSE transport stream
@@ -350,24 +462,23 @@ public class McpStreamableServerSession implements McpLoggableSession {
 			return McpStreamableServerSession.this.isNotificationForLevelAllowed(loggingLevel);
 		}
 
+		/**
+		 * Returns the session this stream belongs to.
+		 * @return the session
+		 */
+		public McpStreamableServerSession getSession() {
+			return McpStreamableServerSession.this;
+		}
+
 		@Override
 		public <T> Mono<T> sendRequest(String method, Object requestParams, TypeRef<T> typeRef) {
-			String requestId = McpStreamableServerSession.this.generateRequestId();
-
-			McpStreamableServerSession.this.requestIdToStream.put(requestId, this);
-
-			return Mono.<McpSchema.JSONRPCResponse>create(sink -> {
-				this.pendingResponses.put(requestId, sink);
+			Mono<T> response = McpStreamableServerSession.this.pendingRequests.send(requestId -> {
 				McpSchema.JSONRPCRequest jsonrpcRequest = new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
 						method, requestId, requestParams);
 				String messageId = this.uuidGenerator.get();
 				// TODO: store message in history
-				this.transport.sendMessage(jsonrpcRequest, messageId).subscribe(v -> {
-				}, sink::error);
-			}).timeout(requestTimeout).doOnError(e -> {
-				this.pendingResponses.remove(requestId);
-				McpStreamableServerSession.this.requestIdToStream.remove(requestId);
-			}).handle((jsonRpcResponse, sink) -> {
+				return this.transport.sendMessage(jsonrpcRequest, messageId);
+			}, this.pendingRequestIds).handle((jsonRpcResponse, sink) -> {
 				if (jsonRpcResponse.error() != null) {
 					sink.error(new McpError(jsonRpcResponse.error()));
 				}
@@ -380,10 +491,27 @@ public class McpStreamableServerSession implements McpLoggableSession {
 					}
 				}
 			});
+			return McpInstrumentations.observeOutbound(McpInstrumentation.Side.SERVER, method, requestParams, response);
 		}
 
+		/**
+		 * Sends a notification on this stream. Logging notifications are queued in a
+		 * bounded buffer, created on first use, and dropped while the client does not
+		 * keep up. The buffer is closed with the stream.
+		 */
 		@Override
 		public Mono<Void> sendNotification(String method, Object params) {
+			if (McpSchema.METHOD_NOTIFICATION_MESSAGE.equals(method)
+					&& params instanceof McpSchema.LoggingMessageNotification loggingMessageNotification) {
+				LoggingNotificationBuffer buffer = loggingBuffer();
+				if (buffer != null) {
+					return buffer.offer(loggingMessageNotification);
+				}
+			}
+			return send(method, params);
+		}
+
+		private Mono<Void> send(String method, Object params) {
 			McpSchema.JSONRPCNotification jsonrpcNotification = new McpSchema.JSONRPCNotification(
 					McpSchema.JSONRPC_VERSION, method, params);
 			String messageId = this.uuidGenerator.get();
@@ -391,30 +519,73 @@ public class McpStreamableServerSession implements McpLoggableSession {
 			return this.transport.sendMessage(jsonrpcNotification, messageId);
 		}
 
+		private Mono<Void> sendLoggingNotifications(List<McpSchema.LoggingMessageNotification> notifications) {
+			List<McpSchema.JSONRPCNotification> messages = new ArrayList<>(notifications.size());
+			List<String> messageIds = new ArrayList<>(notifications.size());
+			for (McpSchema.LoggingMessageNotification notification : notifications) {
+				messages.add(new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
+						McpSchema.METHOD_NOTIFICATION_MESSAGE, notification));
+				// TODO: store message in history
+				messageIds.add(this.uuidGenerator.get());
+			}
+			return this.transport.sendMessages(messages, messageIds);
+		}
+
 		@Override
 		public Mono<Void> closeGracefully() {
 			return Mono.defer(() -> {
-				this.pendingResponses.values().forEach(s -> s.error(new RuntimeException("Stream closed")));
-				this.pendingResponses.clear();
+				failPendingRequests();
 				// If this was the generic stream, reset it
 				McpStreamableServerSession.this.listeningStreamRef.compareAndExchange(this,
 						McpStreamableServerSession.this.missingMcpTransportSession);
-				McpStreamableServerSession.this.requestIdToStream.values().removeIf(this::equals);
-				return this.transport.closeGracefully();
+				LoggingNotificationBuffer buffer = takeLoggingBuffer();
+				Mono<Void> flushLogs = (buffer != null) ? buffer.closeGracefully() : Mono.empty();
+				return flushLogs.then(this.transport.closeGracefully());
 			});
 		}
 
 		@Override
 		public void close() {
-			this.pendingResponses.values().forEach(s -> s.error(new RuntimeException("Stream closed")));
-			this.pendingResponses.clear();
+			failPendingRequests();
 			// If this was the generic stream, reset it
 			McpStreamableServerSession.this.listeningStreamRef.compareAndExchange(this,
 					McpStreamableServerSession.this.missingMcpTransportSession);
-			McpStreamableServerSession.this.requestIdToStream.values().removeIf(this::equals);
+			LoggingNotificationBuffer buffer = takeLoggingBuffer();
+			if (buffer != null) {
+				buffer.close();
+			}
 			this.transport.close();
 		}
 
+		private LoggingNotificationBuffer loggingBuffer() {
+			LoggingNotificationBuffer buffer = this.loggingBuffer;
+			if (buffer == null) {
+				synchronized (this) {
+					buffer = this.loggingBuffer;
+					if (buffer == null && !this.closed) {
+						buffer = new LoggingNotificationBuffer(LoggingNotificationBuffer.DEFAULT_CAPACITY,
+								this::sendLoggingNotifications, McpStreamableServerSession.this.loggingCounters);
+						this.loggingBuffer = buffer;
+					}
+				}
+			}
+			return buffer;
+		}
+
+		/**
+		 * Returns the logging buffer, if one was created, and prevents creating another
+		 * one once the stream is closed.
+		 */
+		private synchronized LoggingNotificationBuffer takeLoggingBuffer() {
+			this.closed = true;
+			return this.loggingBuffer;
+		}
+
+		private void failPendingRequests() {
+			McpStreamableServerSession.this.pendingRequests.failAll(this.pendingRequestIds,
+					new RuntimeException("Stream closed"));
+		}
+
 	}
 
 }
@@ -4,6 +4,10 @@
 
 package io.modelcontextprotocol.spec;
 
+import java.util.List;
+
+import io.modelcontextprotocol.util.Assert;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -21,4 +25,17 @@ public interface McpStreamableServerTransport extends McpServerTransport {
 	 */
 	Mono<Void> sendMessage(McpSchema.JSONRPCMessage message, String messageId);
 
+	/**
+	 * Send messages to the client in order, each with its message ID. Transports that can
+	 * write several events at once override this to do so; by default the messages are
+	 * sent one after another.
+	 * @param messages the JSON-RPC payloads
+	 * @param messageIds message ids for SSE events, one per message
+	 * @return Mono which completes when all messages are sent
+	 */
+	default Mono<Void> sendMessages(List<? extends McpSchema.JSONRPCMessage> messages, List<String> messageIds) {
+		Assert.isTrue(messages.size() == messageIds.size(), "Each message must have a message ID");
+		return Flux.range(0, messages.size()).concatMap(i -> sendMessage(messages.get(i), messageIds.get(i))).then();
+	}
+
 }
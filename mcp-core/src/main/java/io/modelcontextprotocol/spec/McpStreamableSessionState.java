@@ -0,0 +1,31 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import io.modelcontextprotocol.util.Assert;
+
+/**
+ * The state of a {@link McpStreamableServerSession} that outlives the node serving it:
+ * what any node needs to continue the session without the client initializing it again.
+ *
+ * @param id the session ID
+ * @param protocolVersion the protocol version negotiated at initialization, or
+ * {@code null} if not known
+ * @param clientCapabilities the capabilities the client announced
+ * @param clientInfo the client implementation
+ * @param minLoggingLevel the minimum level of the logging notifications sent to the
+ * client
+ * @see McpStreamableSessionStore
+ */
+public record McpStreamableSessionState(String id, String protocolVersion,
+		McpSchema.ClientCapabilities clientCapabilities, McpSchema.Implementation clientInfo,
+		McpSchema.LoggingLevel minLoggingLevel) {
+
+	public McpStreamableSessionState {
+		Assert.hasText(id, "Session ID must not be empty");
+		Assert.notNull(minLoggingLevel, "minLoggingLevel must not be null");
+	}
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Keeps the {@link McpStreamableSessionState state} of Streamable HTTP sessions where
+ * every node of a server can find it. A node receiving a request for a session it does
+ * not know restores the session from its stored state, so clients need neither sticky
+ * routing nor to initialize again when they reach another node.
+ * <p>
+ * Transports save the state when a session is initialized and whenever it changes, and
+ * remove it when the client deletes the session.
+ *
+ * @see InMemoryMcpStreamableSessionStore
+ * @see McpStreamableMessageBus
+ */
+public interface McpStreamableSessionStore {
+
+	/**
+	 * Saves the state of a session, replacing any state saved for it before.
+	 * @param state the session state
+	 * @return a Mono completing once the state is saved
+	 */
+	Mono<Void> save(McpStreamableSessionState state);
+
+	/**
+	 * Looks up the state of a session.
+	 * @param sessionId the session ID
+	 * @return a Mono emitting the state, or completing empty if the session is unknown
+	 */
+	Mono<McpStreamableSessionState> find(String sessionId);
+
+	/**
+	 * Removes the state of a session.
+	 * @param sessionId the session ID
+	 * @return a Mono completing once the state is removed
+	 */
+	Mono<Void> remove(String sessionId);
+
+}
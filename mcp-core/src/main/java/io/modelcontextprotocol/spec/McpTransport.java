@@ -8,6 +8,7 @@ import java.util.List;
 
 import io.modelcontextprotocol.spec.McpSchema.JSONRPCMessage;
 import io.modelcontextprotocol.json.TypeRef;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -70,6 +71,17 @@ public interface McpTransport {
 	 */
 	Mono<Void> sendMessage(JSONRPCMessage message);
 
+	/**
+	 * Sends messages to the peer in order, as separate JSON-RPC messages. Transports that
+	 * can write several messages at once override this to do so; by default the messages
+	 * are sent one after another.
+	 * @param messages the messages to send
+	 * @return a {@link Mono<Void>} that completes when all messages have been sent
+	 */
+	default Mono<Void> sendMessages(List<? extends JSONRPCMessage> messages) {
+		return Flux.fromIterable(messages).concatMap(this::sendMessage).then();
+	}
+
 	/**
 	 * Unmarshals the given data into an object of the specified type.
 	 * @param <T> the type of the object to unmarshal
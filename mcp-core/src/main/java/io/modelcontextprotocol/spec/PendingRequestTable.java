@@ -0,0 +1,365 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import io.modelcontextprotocol.util.Assert;
+import io.modelcontextprotocol.util.HashedWheelTimer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Table of outgoing JSON-RPC requests awaiting a response, shared by the client and
+ * server sessions.
+ *
+ * <p>
+ * Every request gets a numeric id unique within the table. Deadlines are tracked on a
+ * single {@link HashedWheelTimer} instead of one scheduled task per request, and an entry
+ * is removed from the table whenever its request terminates for any reason: response,
+ * timeout, transport error, cancellation or session close.
+ *
+ * <p>
+ * The number of requests in flight can be bounded. When the limit is reached new requests
+ * either fail immediately with an {@link McpError} or wait in a FIFO queue until a slot
+ * frees up, depending on the {@link OverflowPolicy}. Queued requests are subject to the
+ * same timeout as the ones in flight.
+ */
+public final class PendingRequestTable {
+
+	private static final Logger logger = LoggerFactory.getLogger(PendingRequestTable.class);
+
+	/**
+	 * Value for {@code maxInFlight} meaning that the number of requests in flight is not
+	 * bounded.
+	 */
+	public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+	/**
+	 * What to do with a request when the in-flight limit has been reached.
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Fail the request immediately.
+		 */
+		FAIL_FAST,
+
+		/**
+		 * Hold the request until another one completes.
+		 */
+		QUEUE
+
+	}
+
+	private static final int STATE_WAITING = 0;
+
+	private static final int STATE_ACTIVE = 1;
+
+	private static final int STATE_DONE = 2;
+
+	private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+	private final Queue<Entry> waiting = new ConcurrentLinkedQueue<>();
+
+	private final AtomicLong idCounter = new AtomicLong(0);
+
+	private final AtomicInteger inFlight = new AtomicInteger(0);
+
+	private final Duration requestTimeout;
+
+	private final int maxInFlight;
+
+	private final OverflowPolicy overflowPolicy;
+
+	private final HashedWheelTimer timer;
+
+	/**
+	 * Creates a table without an in-flight limit.
+	 * @param requestTimeout time to wait for a response
+	 */
+	public PendingRequestTable(Duration requestTimeout) {
+		this(requestTimeout, UNBOUNDED, OverflowPolicy.FAIL_FAST);
+	}
+
+	/**
+	 * Creates a table with an in-flight limit.
+	 * @param requestTimeout time to wait for a response, including time spent queued
+	 * @param maxInFlight maximum number of requests awaiting a response
+	 * @param overflowPolicy what to do with requests beyond the limit
+	 */
+	public PendingRequestTable(Duration requestTimeout, int maxInFlight, OverflowPolicy overflowPolicy) {
+		this(requestTimeout, maxInFlight, overflowPolicy, HashedWheelTimer.shared());
+	}
+
+	PendingRequestTable(Duration requestTimeout, int maxInFlight, OverflowPolicy overflowPolicy,
+			HashedWheelTimer timer) {
+		Assert.notNull(requestTimeout, "Request timeout must not be null");
+		Assert.isTrue(maxInFlight > 0, "Max in-flight requests must be positive");
+		Assert.notNull(overflowPolicy, "Overflow policy must not be null");
+		Assert.notNull(timer, "Timer must not be null");
+		this.requestTimeout = requestTimeout;
+		this.maxInFlight = maxInFlight;
+		this.overflowPolicy = overflowPolicy;
+		this.timer = timer;
+	}
+
+	/**
+	 * Registers a request and sends it once a slot is available.
+	 * @param sender sends the request with the given id; an error signalled by the
+	 * returned Mono fails the request
+	 * @return a Mono emitting the response
+	 */
+	public Mono<McpSchema.JSONRPCResponse> send(Function<Long, Mono<Void>> sender) {
+		return send(sender, null);
+	}
+
+	/**
+	 * Registers a request and sends it once a slot is available. The request id is kept
+	 * in {@code group} for as long as the request is pending, so that the owner can fail
+	 * its own requests with {@link #failAll(Collection, Throwable)} without scanning the
+	 * whole table.
+	 * @param sender sends the request with the given id; an error signalled by the
+	 * returned Mono fails the request
+	 * @param group optional set tracking the ids of pending requests of one owner
+	 * @return a Mono emitting the response
+	 */
+	public Mono<McpSchema.JSONRPCResponse> send(Function<Long, Mono<Void>> sender, Set<Long> group) {
+		Assert.notNull(sender, "Sender must not be null");
+		return Mono.create(sink -> {
+			Entry entry = new Entry(this.idCounter.getAndIncrement(), sink, sender, group);
+			this.entries.put(entry.id, entry);
+			if (group != null) {
+				group.add(entry.id);
+			}
+			sink.onDispose(() -> release(entry));
+			// Fails the request off the timer thread, which serves every table
+			entry.timeout = this.timer.newTimeout(() -> Schedulers.parallel().schedule(() -> expire(entry)),
+					this.requestTimeout);
+
+			if (tryAcquire()) {
+				activate(entry);
+			}
+			else if (this.overflowPolicy == OverflowPolicy.FAIL_FAST) {
+				sink.error(McpError.builder(McpSchema.ErrorCodes.INTERNAL_ERROR)
+					.message("Too many in-flight requests (limit " + this.maxInFlight + ")")
+					.build());
+			}
+			else {
+				this.waiting.add(entry);
+				drain();
+			}
+		});
+	}
+
+	/**
+	 * Completes the request matching the response id.
+	 * @param response the response received from the peer
+	 * @return false if no pending request matches the response id
+	 */
+	public boolean complete(McpSchema.JSONRPCResponse response) {
+		Long id = normalizeId(response.id());
+		Entry entry = (id != null) ? this.entries.remove(id) : null;
+		if (entry == null) {
+			return false;
+		}
+		entry.sink.success(response);
+		return true;
+	}
+
+	/**
+	 * Fails the request with the given id.
+	 * @param id the request id
+	 * @param error the error to signal
+	 * @return false if no pending request has the id
+	 */
+	public boolean fail(Object id, Throwable error) {
+		Long key = normalizeId(id);
+		Entry entry = (key != null) ? this.entries.remove(key) : null;
+		if (entry == null) {
+			return false;
+		}
+		entry.sink.error(error);
+		return true;
+	}
+
+	/**
+	 * Fails the pending requests with the given ids.
+	 * @param ids the request ids
+	 * @param error the error to signal
+	 */
+	public void failAll(Collection<Long> ids, Throwable error) {
+		for (Long id : ids.toArray(new Long[0])) {
+			fail(id, error);
+		}
+	}
+
+	/**
+	 * Fails all pending requests.
+	 * @param error the error to signal
+	 */
+	public void failAll(Throwable error) {
+		for (Entry entry : this.entries.values()) {
+			if (this.entries.remove(entry.id, entry)) {
+				logger.warn("Abruptly terminating exchange for request {}", entry.id);
+				entry.sink.error(error);
+			}
+		}
+	}
+
+	/**
+	 * Tells whether a request with the given id awaits a response.
+	 * @param id the request id
+	 * @return true if a request with the id is pending
+	 */
+	public boolean isPending(Object id) {
+		Long key = normalizeId(id);
+		return key != null && this.entries.containsKey(key);
+	}
+
+	/**
+	 * Makes the ids of the requests registered from now on start at the given value.
+	 * @param firstId the id of the next request
+	 */
+	void startIdsAt(long firstId) {
+		this.idCounter.set(firstId);
+	}
+
+	/**
+	 * Returns the number of pending requests, including queued ones.
+	 * @return the number of pending requests
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Returns the number of requests sent and awaiting a response.
+	 * @return the number of requests in flight
+	 */
+	public int inFlight() {
+		return this.inFlight.get();
+	}
+
+	/**
+	 * Maps a JSON-RPC id to the key used by this table. Ids generated here are longs, but
+	 * a response may carry them back as any numeric type depending on how it was
+	 * deserialized.
+	 */
+	static Long normalizeId(Object id) {
+		if (id instanceof Long l) {
+			return l;
+		}
+		if (id instanceof Number n) {
+			return n.longValue();
+		}
+		return null;
+	}
+
+	private void activate(Entry entry) {
+		if (!entry.state.compareAndSet(STATE_WAITING, STATE_ACTIVE)) {
+			releasePermit();
+			return;
+		}
+		Mono<Void> sent;
+		try {
+			sent = entry.sender.apply(entry.id);
+		}
+		catch (Throwable t) {
+			entry.sink.error(t);
+			return;
+		}
+		sent.subscribe(v -> {
+		}, entry.sink::error);
+	}
+
+	private void expire(Entry entry) {
+		entry.sink.error(new TimeoutException("Did not receive a response for request " + entry.id + " within "
+				+ this.requestTimeout.toMillis() + "ms"));
+	}
+
+	private void release(Entry entry) {
+		this.entries.remove(entry.id, entry);
+		if (entry.group != null) {
+			entry.group.remove(entry.id);
+		}
+		HashedWheelTimer.Timeout timeout = entry.timeout;
+		if (timeout != null) {
+			timeout.cancel();
+		}
+		int previous = entry.state.getAndSet(STATE_DONE);
+		if (previous == STATE_ACTIVE) {
+			releasePermit();
+		}
+	}
+
+	private boolean tryAcquire() {
+		for (;;) {
+			int current = this.inFlight.get();
+			if (current >= this.maxInFlight) {
+				return false;
+			}
+			if (this.inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	private void releasePermit() {
+		this.inFlight.decrementAndGet();
+		drain();
+	}
+
+	private void drain() {
+		while (!this.waiting.isEmpty() && tryAcquire()) {
+			Entry next = this.waiting.poll();
+			if (next == null) {
+				this.inFlight.decrementAndGet();
+				continue;
+			}
+			if (next.state.get() != STATE_WAITING) {
+				this.inFlight.decrementAndGet();
+				continue;
+			}
+			activate(next);
+		}
+	}
+
+	private static final class Entry {
+
+		final long id;
+
+		final MonoSink<McpSchema.JSONRPCResponse> sink;
+
+		final Function<Long, Mono<Void>> sender;
+
+		final Set<Long> group;
+
+		final AtomicInteger state = new AtomicInteger(STATE_WAITING);
+
+		volatile HashedWheelTimer.Timeout timeout;
+
+		Entry(long id, MonoSink<McpSchema.JSONRPCResponse> sink, Function<Long, Mono<Void>> sender, Set<Long> group) {
+			this.id = id;
+			this.sink = sink;
+			this.sender = sender;
+			this.group = group;
+		}
+
+	}
+
+}
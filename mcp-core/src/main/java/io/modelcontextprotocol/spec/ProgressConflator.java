@@ -0,0 +1,330 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import io.modelcontextprotocol.util.Assert;
+import io.modelcontextprotocol.util.HashedWheelTimer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Rate limits {@link McpSchema.ProgressNotification progress notifications} per progress
+ * token, keeping only the latest value.
+ * <p>
+ * The first notification for a token is delivered immediately. Notifications arriving
+ * within the interval that follows a delivery replace each other, and only the latest one
+ * is delivered once the interval elapses, so each token is delivered at most once per
+ * interval. Replaced notifications are counted as dropped. A final notification, one
+ * whose progress has reached its total, is delivered immediately and discards any pending
+ * value. Notifications without a progress token are delivered unchanged.
+ * <p>
+ * Deliveries for the same token run one at a time and in order, including the ones
+ * started by the interval timer, so a final or flushed notification is never overtaken by
+ * an earlier one. Delayed deliveries run on {@link Schedulers#boundedElastic()}.
+ */
+public final class ProgressConflator {
+
+	private static final Logger logger = LoggerFactory.getLogger(ProgressConflator.class);
+
+	private final Duration interval;
+
+	private final Function<McpSchema.ProgressNotification, Mono<Void>> delivery;
+
+	private final Counters counters;
+
+	private final HashedWheelTimer timer;
+
+	private final Map<Object, TokenState> tokens = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a conflator with its own counters.
+	 * @param interval the minimum time between two deliveries for the same token
+	 * @param delivery delivers a notification
+	 */
+	public ProgressConflator(Duration interval, Function<McpSchema.ProgressNotification, Mono<Void>> delivery) {
+		this(interval, delivery, new Counters());
+	}
+
+	/**
+	 * Creates a conflator recording into the given counters, which may be shared between
+	 * conflators.
+	 * @param interval the minimum time between two deliveries for the same token
+	 * @param delivery delivers a notification
+	 * @param counters the counters to record into
+	 */
+	public ProgressConflator(Duration interval, Function<McpSchema.ProgressNotification, Mono<Void>> delivery,
+			Counters counters) {
+		this(interval, delivery, counters, HashedWheelTimer.shared());
+	}
+
+	ProgressConflator(Duration interval, Function<McpSchema.ProgressNotification, Mono<Void>> delivery,
+			Counters counters, HashedWheelTimer timer) {
+		Assert.notNull(interval, "Interval must not be null");
+		Assert.isTrue(!interval.isNegative() && !interval.isZero(), "Interval must be positive");
+		Assert.notNull(delivery, "Delivery must not be null");
+		Assert.notNull(counters, "Counters must not be null");
+		this.interval = interval;
+		this.delivery = delivery;
+		this.counters = counters;
+		this.timer = timer;
+	}
+
+	/**
+	 * Wraps a progress consumer so that it receives conflated notifications.
+	 * @param interval the minimum time between two notifications for the same token
+	 * @param consumer the consumer to wrap
+	 * @return the conflating consumer
+	 */
+	public static Function<McpSchema.ProgressNotification, Mono<Void>> conflating(Duration interval,
+			Function<McpSchema.ProgressNotification, Mono<Void>> consumer) {
+		return conflating(interval, consumer, new Counters());
+	}
+
+	/**
+	 * Wraps a progress consumer so that it receives conflated notifications.
+	 * @param interval the minimum time between two notifications for the same token
+	 * @param consumer the consumer to wrap
+	 * @param counters the counters to record into
+	 * @return the conflating consumer
+	 */
+	public static Function<McpSchema.ProgressNotification, Mono<Void>> conflating(Duration interval,
+			Function<McpSchema.ProgressNotification, Mono<Void>> consumer, Counters counters) {
+		return new ProgressConflator(interval, consumer, counters)::offer;
+	}
+
+	/**
+	 * Offers a notification for delivery.
+	 * @param notification the notification
+	 * @return a Mono that completes once the notification has been delivered if it was
+	 * delivered immediately, or right away if it was held back
+	 */
+	public Mono<Void> offer(McpSchema.ProgressNotification notification) {
+		Assert.notNull(notification, "Progress notification must not be null");
+		if (notification.progressToken() == null) {
+			return Mono.defer(() -> {
+				this.counters.delivered.increment();
+				return this.delivery.apply(notification);
+			});
+		}
+		Object key = tokenKey(notification.progressToken());
+		return Mono.create(sink -> {
+			while (true) {
+				TokenState state = this.tokens.computeIfAbsent(key, k -> new TokenState());
+				synchronized (state) {
+					if (state.removed) {
+						continue;
+					}
+					if (isFinal(notification)) {
+						if (state.pending != null) {
+							this.counters.dropped.increment();
+						}
+						state.remove(key);
+						deliver(state.next(notification), sink);
+					}
+					else if (state.timeout == null) {
+						deliver(state.next(notification), sink);
+						state.schedule(key);
+					}
+					else {
+						if (state.pending != null) {
+							this.counters.dropped.increment();
+						}
+						state.pending = notification;
+						sink.success();
+					}
+					return;
+				}
+			}
+		});
+	}
+
+	/**
+	 * Delivers the pending notification of every token right away and forgets all tokens.
+	 * Used when the operations reporting progress have finished.
+	 * @return a Mono that completes once the pending notifications, and the deliveries
+	 * already in progress, have been delivered
+	 */
+	public Mono<Void> flush() {
+		return Flux.defer(() -> Flux.fromIterable(drain())).concatMap(drained -> {
+			if (drained.pending() == null) {
+				return drained.lastDelivery();
+			}
+			return drained.lastDelivery().then(Mono.defer(() -> {
+				this.counters.delivered.increment();
+				return this.delivery.apply(drained.pending());
+			}));
+		}).then();
+	}
+
+	/**
+	 * Forgets all tokens, counting their pending notifications as dropped.
+	 */
+	public void discard() {
+		for (Drained drained : drain()) {
+			if (drained.pending() != null) {
+				this.counters.dropped.increment();
+			}
+		}
+	}
+
+	/**
+	 * Returns the counters this conflator records into.
+	 * @return the counters
+	 */
+	public Counters getCounters() {
+		return this.counters;
+	}
+
+	private List<Drained> drain() {
+		List<Drained> drained = new ArrayList<>();
+		this.tokens.forEach((key, state) -> {
+			synchronized (state) {
+				drained.add(new Drained(state.pending, state.lastDelivery));
+				state.remove(key);
+			}
+		});
+		return drained;
+	}
+
+	private static void deliver(Mono<Void> delivery, MonoSink<Void> sink) {
+		delivery.contextWrite(sink.contextView()).subscribe(null, sink::error, sink::success);
+	}
+
+	private static boolean isFinal(McpSchema.ProgressNotification notification) {
+		return notification.progress() != null && notification.total() != null
+				&& notification.progress() >= notification.total();
+	}
+
+	private static Object tokenKey(Object progressToken) {
+		// Integer tokens may be deserialized as Integer, Long or Double
+		if (progressToken instanceof Number number && number.doubleValue() == number.longValue()) {
+			return number.longValue();
+		}
+		return progressToken;
+	}
+
+	/**
+	 * Cumulative counts of delivered and dropped notifications.
+	 */
+	public static final class Counters {
+
+		private final LongAdder delivered = new LongAdder();
+
+		private final LongAdder dropped = new LongAdder();
+
+		/**
+		 * Returns the number of notifications passed on for delivery.
+		 * @return the delivered count
+		 */
+		public long delivered() {
+			return this.delivered.sum();
+		}
+
+		/**
+		 * Returns the number of intermediate notifications replaced by a later one.
+		 * @return the dropped count
+		 */
+		public long dropped() {
+			return this.dropped.sum();
+		}
+
+	}
+
+	/**
+	 * The state of a token when it was forgotten.
+	 */
+	private record Drained(McpSchema.ProgressNotification pending, Mono<Void> lastDelivery) {
+	}
+
+	/**
+	 * Conflation state of one token. A token stays registered while its interval timer is
+	 * running; the timer delivers the pending notification, if any, and re-arms, or
+	 * unregisters the token once a whole interval passed without notifications and its
+	 * deliveries have completed.
+	 */
+	private final class TokenState {
+
+		private McpSchema.ProgressNotification pending;
+
+		private HashedWheelTimer.Timeout timeout;
+
+		private boolean removed;
+
+		/** Completes once the latest delivery started for this token has */
+		private Mono<Void> lastDelivery = Mono.empty();
+
+		private int deliveriesInProgress;
+
+		/**
+		 * Returns the delivery of a notification for this token, which starts once the
+		 * previous one has completed. Must be subscribed before the lock is released.
+		 */
+		Mono<Void> next(McpSchema.ProgressNotification notification) {
+			Mono<Void> previous = this.lastDelivery;
+			Sinks.Empty<Void> delivered = Sinks.empty();
+			this.lastDelivery = delivered.asMono();
+			this.deliveriesInProgress++;
+			counters.delivered.increment();
+			return previous.then(Mono.defer(() -> delivery.apply(notification))).doFinally(signal -> {
+				synchronized (this) {
+					this.deliveriesInProgress--;
+				}
+				delivered.tryEmitEmpty();
+			});
+		}
+
+		void schedule(Object key) {
+			this.timeout = timer.newTimeout(() -> Schedulers.boundedElastic().schedule(() -> expire(key)), interval);
+		}
+
+		void remove(Object key) {
+			if (this.timeout != null) {
+				this.timeout.cancel();
+				this.timeout = null;
+			}
+			this.pending = null;
+			this.removed = true;
+			tokens.remove(key, this);
+		}
+
+		private void expire(Object key) {
+			synchronized (this) {
+				if (this.removed) {
+					return;
+				}
+				McpSchema.ProgressNotification notification = this.pending;
+				if (notification == null) {
+					// Later deliveries of the token must wait for the ones in progress
+					if (this.deliveriesInProgress > 0) {
+						schedule(key);
+					}
+					else {
+						remove(key);
+					}
+					return;
+				}
+				this.pending = null;
+				next(notification).subscribe(null,
+						error -> logger.warn("Failed to deliver progress notification", error));
+				schedule(key);
+			}
+		}
+
+	}
+
+}
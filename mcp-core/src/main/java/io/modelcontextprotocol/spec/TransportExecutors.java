@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.modelcontextprotocol.util.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * The threads stream-based transports run their I/O on, shared between transports so that
+ * the number of threads does not grow with the number of connections.
+ *
+ * <p>
+ * Blocking reads, which hold a thread for as long as a connection is open, run on the
+ * <em>blocking executor</em>. Writes run on the <em>write executor</em>, through a
+ * {@link #newSerialScheduler() serial scheduler} per transport that keeps the writes of
+ * one transport ordered while a small pool of threads serves all of them. Writes that may
+ * block on a slow peer instead run on the blocking executor, through a
+ * {@link #newBlockingSerialScheduler() blocking serial scheduler}.
+ *
+ * <p>
+ * The {@link #shared() shared} instance uses virtual threads for blocking reads when the
+ * runtime supports them and a cached pool of daemon threads otherwise, and a fixed pool
+ * of daemon threads, one per available processor, for writes. None of these threads keep
+ * the JVM running. Disposing a scheduler obtained from this class never shuts the
+ * underlying executors down; executors passed to {@link #of(Executor, Executor)} remain
+ * owned by the caller.
+ */
+public final class TransportExecutors {
+
+	private static final Logger logger = LoggerFactory.getLogger(TransportExecutors.class);
+
+	private static final TransportExecutors SHARED = new TransportExecutors(defaultBlockingExecutor(), Executors
+		.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), daemonThreadFactory("mcp-transport-write-")));
+
+	private final Executor blockingExecutor;
+
+	private final Executor writeExecutor;
+
+	private TransportExecutors(Executor blockingExecutor, Executor writeExecutor) {
+		this.blockingExecutor = blockingExecutor;
+		this.writeExecutor = writeExecutor;
+	}
+
+	/**
+	 * Returns the instance used by transports that are not given one explicitly.
+	 * @return the shared transport executors
+	 */
+	public static TransportExecutors shared() {
+		return SHARED;
+	}
+
+	/**
+	 * Creates transport executors backed by the given executors, which must be able to
+	 * run many long blocking tasks concurrently in the case of the blocking executor.
+	 * @param blockingExecutor runs blocking reads
+	 * @param writeExecutor runs writes
+	 * @return the transport executors
+	 */
+	public static TransportExecutors of(Executor blockingExecutor, Executor writeExecutor) {
+		Assert.notNull(blockingExecutor, "Blocking executor must not be null");
+		Assert.notNull(writeExecutor, "Write executor must not be null");
+		return new TransportExecutors(blockingExecutor, writeExecutor);
+	}
+
+	/**
+	 * Returns a scheduler running tasks on the blocking executor.
+	 * @return a scheduler for blocking reads
+	 */
+	public Scheduler blockingScheduler() {
+		// A plain Executor, as Reactor shuts down an ExecutorService on dispose
+		return Schedulers.fromExecutor(this.blockingExecutor::execute);
+	}
+
+	/**
+	 * Returns a new scheduler running its tasks one at a time, in submission order, on
+	 * the write executor.
+	 * @return a serial scheduler for the writes of one transport
+	 */
+	public Scheduler newSerialScheduler() {
+		return Schedulers.fromExecutor(new SerialExecutor(this.writeExecutor));
+	}
+
+	/**
+	 * Returns a new scheduler running its tasks one at a time, in submission order, on
+	 * the blocking executor. Suited to writes that may block for as long as the peer
+	 * takes to read, such as those to an HTTP response, which must not hold the threads
+	 * of the write executor.
+	 * @return a serial scheduler for the blocking writes of one transport
+	 */
+	public Scheduler newBlockingSerialScheduler() {
+		return Schedulers.fromExecutor(new SerialExecutor(this.blockingExecutor));
+	}
+
+	private static Executor defaultBlockingExecutor() {
+		try {
+			Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) factory.invoke(null);
+		}
+		catch (ReflectiveOperationException e) {
+			logger.debug("Virtual threads are not available, using platform threads for blocking transport reads");
+			return Executors.newCachedThreadPool(daemonThreadFactory("mcp-transport-read-"));
+		}
+	}
+
+	private static ThreadFactory daemonThreadFactory(String prefix) {
+		AtomicInteger counter = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * Runs tasks one at a time, in submission order, on a shared executor.
+	 */
+	private static final class SerialExecutor implements Executor {
+
+		private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+
+		private final Executor executor;
+
+		private Runnable active;
+
+		SerialExecutor(Executor executor) {
+			this.executor = executor;
+		}
+
+		@Override
+		public synchronized void execute(Runnable task) {
+			this.tasks.add(() -> {
+				try {
+					task.run();
+				}
+				finally {
+					scheduleNext();
+				}
+			});
+			if (this.active == null) {
+				scheduleNext();
+			}
+		}
+
+		private synchronized void scheduleNext() {
+			if ((this.active = this.tasks.poll()) != null) {
+				this.executor.execute(this.active);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hashed timing wheel for large numbers of short-lived deadlines, such as request
+ * timeouts. Scheduling and cancelling are O(1) and lock-free; a single daemon thread
+ * advances the wheel every tick and runs the expired tasks.
+ *
+ * <p>
+ * Deadlines are approximate: a task runs within one tick after its deadline. Cancelled
+ * tasks are discarded the next time the wheel passes their bucket. Expiry tasks run on
+ * the timer thread and must be short and non-blocking.
+ *
+ * <p>
+ * {@link #shared()} returns a process-wide instance used by all MCP sessions so that the
+ * number of timer threads does not grow with the number of sessions. Its expiry tasks
+ * hand their work off to another scheduler, and it cannot be stopped.
+ */
+public final class HashedWheelTimer {
+
+	private static final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+	private static final int STATE_PENDING = 0;
+
+	private static final int STATE_CANCELLED = 1;
+
+	private static final int STATE_EXPIRED = 2;
+
+	private final long tickNanos;
+
+	private final List<WheelTimeout>[] wheel;
+
+	private final int mask;
+
+	private final Queue<WheelTimeout> newTimeouts = new ConcurrentLinkedQueue<>();
+
+	private final AtomicBoolean started = new AtomicBoolean(false);
+
+	private final String threadName;
+
+	private final boolean shared;
+
+	private volatile boolean stopped;
+
+	private volatile Thread workerThread;
+
+	private final long startTime;
+
+	private long tick;
+
+	/**
+	 * Creates a new timer. The worker thread is started lazily on the first
+	 * {@link #newTimeout(Runnable, Duration)} call.
+	 * @param threadName name of the worker thread
+	 * @param tickDuration the wheel resolution
+	 * @param ticksPerWheel the number of buckets, rounded up to a power of two
+	 */
+	public HashedWheelTimer(String threadName, Duration tickDuration, int ticksPerWheel) {
+		this(threadName, tickDuration, ticksPerWheel, false);
+	}
+
+	@SuppressWarnings("unchecked")
+	private HashedWheelTimer(String threadName, Duration tickDuration, int ticksPerWheel, boolean shared) {
+		Assert.hasText(threadName, "Thread name must not be empty");
+		Assert.notNull(tickDuration, "Tick duration must not be null");
+		Assert.isTrue(!tickDuration.isNegative() && !tickDuration.isZero(), "Tick duration must be positive");
+		Assert.isTrue(ticksPerWheel > 0 && ticksPerWheel <= (1 << 20), "Ticks per wheel must be in (0, 2^20]");
+		int size = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+		size = Math.max(size, 1);
+		this.threadName = threadName;
+		this.shared = shared;
+		this.tickNanos = tickDuration.toNanos();
+		this.wheel = new List[size];
+		for (int i = 0; i < size; i++) {
+			this.wheel[i] = new ArrayList<>();
+		}
+		this.mask = size - 1;
+		this.startTime = System.nanoTime();
+	}
+
+	/**
+	 * Returns the process-wide timer with a 10ms resolution shared by all MCP sessions.
+	 * @return the shared timer
+	 */
+	public static HashedWheelTimer shared() {
+		return SharedHolder.INSTANCE;
+	}
+
+	/**
+	 * Schedules a task to run once after the given delay.
+	 * @param task the task to run on expiry
+	 * @param delay the delay
+	 * @return a handle that can be used to cancel the task
+	 */
+	public Timeout newTimeout(Runnable task, Duration delay) {
+		Assert.notNull(task, "Task must not be null");
+		Assert.notNull(delay, "Delay must not be null");
+		if (this.stopped) {
+			throw new IllegalStateException("Timer " + this.threadName + " has been stopped");
+		}
+		start();
+		long deadline = System.nanoTime() - this.startTime + Math.max(0, delay.toNanos());
+		WheelTimeout timeout = new WheelTimeout(task, deadline);
+		this.newTimeouts.add(timeout);
+		return timeout;
+	}
+
+	/**
+	 * Stops the worker thread. Pending tasks are discarded.
+	 * @throws IllegalStateException if this is the {@link #shared() shared} timer
+	 */
+	public void stop() {
+		if (this.shared) {
+			throw new IllegalStateException("The shared timer " + this.threadName + " cannot be stopped");
+		}
+		this.stopped = true;
+		Thread worker = this.workerThread;
+		if (worker != null) {
+			LockSupport.unpark(worker);
+		}
+	}
+
+	private void start() {
+		if (this.started.compareAndSet(false, true)) {
+			Thread worker = new Thread(this::run, this.threadName);
+			worker.setDaemon(true);
+			this.workerThread = worker;
+			worker.start();
+		}
+	}
+
+	private void run() {
+		while (!this.stopped) {
+			long deadline = this.tickNanos * (this.tick + 1);
+			long now = System.nanoTime() - this.startTime;
+			if (now < deadline) {
+				LockSupport.parkNanos(deadline - now);
+				continue;
+			}
+			transferNewTimeouts();
+			expire(this.wheel[(int) (this.tick & this.mask)], now);
+			this.tick++;
+		}
+	}
+
+	private void transferNewTimeouts() {
+		WheelTimeout timeout;
+		while ((timeout = this.newTimeouts.poll()) != null) {
+			if (timeout.state.get() != STATE_PENDING) {
+				continue;
+			}
+			long calculated = timeout.deadline / this.tickNanos;
+			timeout.remainingRounds = (calculated - this.tick) / this.wheel.length;
+			long ticks = Math.max(calculated, this.tick);
+			this.wheel[(int) (ticks & this.mask)].add(timeout);
+		}
+	}
+
+	private void expire(List<WheelTimeout> bucket, long now) {
+		int kept = 0;
+		for (int i = 0; i < bucket.size(); i++) {
+			WheelTimeout timeout = bucket.get(i);
+			if (timeout.state.get() != STATE_PENDING) {
+				continue;
+			}
+			if (timeout.remainingRounds <= 0 && timeout.deadline <= now) {
+				timeout.expire();
+				continue;
+			}
+			timeout.remainingRounds--;
+			bucket.set(kept++, timeout);
+		}
+		bucket.subList(kept, bucket.size()).clear();
+	}
+
+	/**
+	 * Handle of a scheduled task.
+	 */
+	public interface Timeout {
+
+		/**
+		 * Cancels the task if it has not run yet.
+		 * @return true if the task was cancelled by this call
+		 */
+		boolean cancel();
+
+		/**
+		 * Returns whether the task has already run.
+		 * @return true if the task expired
+		 */
+		boolean isExpired();
+
+	}
+
+	private static final class WheelTimeout implements Timeout {
+
+		private final Runnable task;
+
+		private final long deadline;
+
+		private final AtomicInteger state = new AtomicInteger(STATE_PENDING);
+
+		private long remainingRounds;
+
+		WheelTimeout(Runnable task, long deadline) {
+			this.task = task;
+			this.deadline = deadline;
+		}
+
+		@Override
+		public boolean cancel() {
+			return this.state.compareAndSet(STATE_PENDING, STATE_CANCELLED);
+		}
+
+		@Override
+		public boolean isExpired() {
+			return this.state.get() == STATE_EXPIRED;
+		}
+
+		void expire() {
+			if (this.state.compareAndSet(STATE_PENDING, STATE_EXPIRED)) {
+				try {
+					this.task.run();
+				}
+				catch (Throwable t) {
+					logger.warn("Timer task threw an exception", t);
+				}
+			}
+		}
+
+	}
+
+	private static final class SharedHolder {
+
+		static final HashedWheelTimer INSTANCE = new HashedWheelTimer("mcp-request-timer", Duration.ofMillis(10), 512,
+				true);
+
+	}
+
+}
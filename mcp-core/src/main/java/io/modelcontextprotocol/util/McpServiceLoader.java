@@ -18,6 +18,9 @@ import java.util.function.Supplier;
  * In OSGi environments, the Service component runtime (scr) will call the setSupplier
  * method upon bundle activation (assuming one is present in the runtime), and subsequent
  * calls will use the given supplier instance rather than the ServiceLoader.load.
+ * <p>
+ * Once the supplier result has been created, {@link #getDefault()} returns it without
+ * taking a lock, so that the defaults can be read from any thread at no cost.
  *
  * @param <S> the type of the supplier
  * @param <R> the type of the supplier result/returned value
@@ -26,16 +29,16 @@ public class McpServiceLoader<S extends Supplier<R>, R> {
 
 	private Class<S> supplierType;
 
-	private S supplier;
+	private volatile S supplier;
 
-	private R supplierResult;
+	private volatile R supplierResult;
 
-	public void setSupplier(S supplier) {
+	public synchronized void setSupplier(S supplier) {
 		this.supplier = supplier;
 		this.supplierResult = null;
 	}
 
-	public void unsetSupplier(S supplier) {
+	public synchronized void unsetSupplier(S supplier) {
 		this.supplier = null;
 		this.supplierResult = null;
 	}
@@ -48,8 +51,13 @@ public class McpServiceLoader<S extends Supplier<R>, R> {
 		return ServiceLoader.load(type).findFirst();
 	}
 
+	public R getDefault() {
+		R result = this.supplierResult;
+		return (result != null) ? result : loadDefault();
+	}
+
 	@SuppressWarnings("unchecked")
-	public synchronized R getDefault() {
+	private synchronized R loadDefault() {
 		if (this.supplierResult == null) {
 			if (this.supplier == null) {
 				// Use serviceloader
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.modelcontextprotocol.spec.McpError;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ClientRequestScheduler}.
+ */
+class ClientRequestSchedulerTests {
+
+	private final List<String> dispatched = new ArrayList<>();
+
+	private final Map<String, Sinks.One<String>> pending = new ConcurrentHashMap<>();
+
+	private Mono<String> handle(String request) {
+		Sinks.One<String> sink = Sinks.one();
+		synchronized (this.dispatched) {
+			this.dispatched.add(request);
+		}
+		this.pending.put(request, sink);
+		return sink.asMono();
+	}
+
+	private void complete(String request) {
+		this.pending.remove(request).tryEmitValue(request);
+	}
+
+	@Test
+	void limitsConcurrencyAndRecordsQueueTime() {
+		ClientRequestScheduler<String> scheduler = ClientRequestScheduler.<String>builder().maxConcurrency(2).build();
+		Object server = new Object();
+		List<String> results = new ArrayList<>();
+
+		for (String request : List.of("r1", "r2", "r3", "r4")) {
+			scheduler.schedule(server, request, this::handle).subscribe(results::add);
+		}
+		assertThat(this.dispatched).containsExactly("r1", "r2");
+		assertThat(scheduler.metrics().inFlight()).isEqualTo(2);
+		assertThat(scheduler.metrics().currentlyQueued()).isEqualTo(2);
+
+		complete("r1");
+		assertThat(this.dispatched).containsExactly("r1", "r2", "r3");
+		complete("r2");
+		complete("r3");
+		complete("r4");
+
+		assertThat(results).containsExactly("r1", "r2", "r3", "r4");
+		ClientRequestScheduler.Metrics metrics = scheduler.metrics();
+		assertThat(metrics.dispatched()).isEqualTo(4);
+		assertThat(metrics.inFlight()).isZero();
+		assertThat(metrics.currentlyQueued()).isZero();
+		assertThat(metrics.maxQueueTime()).isPositive();
+	}
+
+	@Test
+	void dispatchesByPriorityThenTakesTurnsBetweenServers() {
+		ClientRequestScheduler<String> scheduler = ClientRequestScheduler.<String>builder()
+			.maxConcurrency(1)
+			.priority(request -> request.startsWith("urgent") ? 1 : 0)
+			.build();
+		Object serverA = new Object();
+		Object serverB = new Object();
+
+		scheduler.schedule(serverA, "a0", this::handle).subscribe();
+		for (String request : List.of("a1", "a2", "a3", "urgent-a4")) {
+			scheduler.schedule(serverA, request, this::handle).subscribe();
+		}
+		scheduler.schedule(serverB, "b1", this::handle).subscribe();
+		scheduler.schedule(serverB, "b2", this::handle).subscribe();
+
+		for (String request : List.of("a0", "urgent-a4", "b1", "a1", "b2", "a2", "a3")) {
+			complete(request);
+		}
+
+		assertThat(this.dispatched).containsExactly("a0", "urgent-a4", "b1", "a1", "b2", "a2", "a3");
+	}
+
+	@Test
+	void rejectsRequestsBeyondTheQueueSize() {
+		ClientRequestScheduler<String> scheduler = ClientRequestScheduler.<String>builder()
+			.maxConcurrency(1)
+			.maxQueueSize(1)
+			.build();
+		Object server = new Object();
+		List<Throwable> errors = new ArrayList<>();
+
+		scheduler.schedule(server, "r1", this::handle).subscribe();
+		scheduler.schedule(server, "r2", this::handle).subscribe();
+		scheduler.schedule(server, "r3", this::handle).subscribe(result -> {
+		}, errors::add);
+
+		assertThat(errors).singleElement()
+			.isInstanceOfSatisfying(McpError.class, error -> assertThat(error.getJsonRpcError().code())
+				.isEqualTo(McpSchema.ErrorCodes.SERVER_OVERLOADED));
+		assertThat(scheduler.metrics().rejected()).isEqualTo(1);
+	}
+
+	@Test
+	void cancelledRequestsLeaveTheQueueAndFreeTheirSlot() {
+		ClientRequestScheduler<String> scheduler = ClientRequestScheduler.<String>builder().maxConcurrency(1).build();
+		Object server = new Object();
+
+		Disposable first = scheduler.schedule(server, "r1", this::handle).subscribe();
+		Disposable second = scheduler.schedule(server, "r2", this::handle).subscribe();
+		scheduler.schedule(server, "r3", this::handle).subscribe();
+
+		second.dispose();
+		assertThat(scheduler.metrics().currentlyQueued()).isEqualTo(1);
+
+		first.dispose();
+		assertThat(this.dispatched).containsExactly("r1", "r3");
+		assertThat(scheduler.metrics().inFlight()).isEqualTo(1);
+	}
+
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.client.pool;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.modelcontextprotocol.MockMcpClientTransport;
+import io.modelcontextprotocol.client.McpAsyncClient;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.json.schema.JsonSchemaValidator;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+
+import static io.modelcontextprotocol.spec.McpSchema.METHOD_INITIALIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for {@link McpAsyncClientPool}.
+ */
+class McpAsyncClientPoolTests {
+
+	private static final McpSchema.InitializeResult INIT_RESULT = new McpSchema.InitializeResult(
+			McpSchema.LATEST_PROTOCOL_VERSION, McpSchema.ServerCapabilities.builder().tools(true).build(),
+			new McpSchema.Implementation("test-server", "1.0.0"), null);
+
+	/**
+	 * A fake server replica answering initialize, ping, tools/list and tools/call. A
+	 * replica can be told to stop answering, or to answer with errors, anything but
+	 * initialize.
+	 */
+	private static final class Replica {
+
+		final String name;
+
+		final AtomicInteger toolCalls = new AtomicInteger();
+
+		volatile boolean responsive = true;
+
+		volatile boolean failing;
+
+		final MockMcpClientTransport transport;
+
+		Replica(String name) {
+			this.name = name;
+			this.transport = new MockMcpClientTransport((t, message) -> {
+				if (!(message instanceof McpSchema.JSONRPCRequest request)) {
+					return;
+				}
+				Object result = null;
+				if (METHOD_INITIALIZE.equals(request.method())) {
+					result = INIT_RESULT;
+				}
+				else if (!this.responsive) {
+					return;
+				}
+				else if (this.failing) {
+					t.simulateIncomingMessage(new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, request.id(),
+							null, new McpSchema.JSONRPCResponse.JSONRPCError(McpSchema.ErrorCodes.INTERNAL_ERROR,
+									"Replica failed", null)));
+					return;
+				}
+				else if (McpSchema.METHOD_PING.equals(request.method())) {
+					result = Map.of();
+				}
+				else if (McpSchema.METHOD_TOOLS_LIST.equals(request.method())) {
+					result = new McpSchema.ListToolsResult(List.of(), this.name);
+				}
+				else if (McpSchema.METHOD_TOOLS_CALL.equals(request.method())) {
+					this.toolCalls.incrementAndGet();
+					result = McpSchema.CallToolResult.builder().addTextContent(this.name).build();
+				}
+				t.simulateIncomingMessage(
+						new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, request.id(), result, null));
+			});
+		}
+
+		McpAsyncClient client() {
+			return McpClient.async(this.transport)
+				.requestTimeout(Duration.ofSeconds(5))
+				.jsonSchemaValidator((schema, content) -> JsonSchemaValidator.ValidationResponse.asValid(null))
+				.build();
+		}
+
+	}
+
+	@Test
+	void builderRequiresEndpoints() {
+		assertThatThrownBy(() -> McpAsyncClientPool.builder().build()).isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("At least one endpoint must be configured");
+	}
+
+	@Test
+	void builderRejectsDuplicateEndpointNames() {
+		McpAsyncClient client = new Replica("a").client();
+		assertThatThrownBy(() -> McpAsyncClientPool.builder().endpoint("a", client).endpoint("a", client))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Duplicate endpoint name: a");
+	}
+
+	@Test
+	void leastOutstandingRequestsSpreadsCallsAcrossEndpoints() {
+		Replica a = new Replica("a");
+		Replica b = new Replica("b");
+		McpAsyncClientPool pool = McpAsyncClientPool.builder()
+			.endpoint("a", a.client())
+			.endpoint("b", b.client())
+			.healthCheckInterval(null)
+			.build();
+
+		pool.initialize().block();
+		for (int i = 0; i < 10; i++) {
+			pool.callTool(new McpSchema.CallToolRequest("echo", Map.of())).block();
+		}
+
+		assertThat(a.toolCalls.get()).isEqualTo(5);
+		assertThat(b.toolCalls.get()).isEqualTo(5);
+		assertThat(pool.getEndpoints()).allSatisfy(endpoint -> {
+			assertThat(endpoint.outstandingRequests()).isZero();
+			assertThat(endpoint.latencyHistogram().count()).isEqualTo(5);
+			assertThat(endpoint.ewmaLatency()).isPositive();
+		});
+
+		pool.close();
+	}
+
+	@Test
+	void idempotentRequestsAreHedgedToSecondEndpoint() {
+		Replica slow = new Replica("slow");
+		Replica fast = new Replica("fast");
+		McpAsyncClientPool pool = McpAsyncClientPool.builder()
+			.endpoint("slow", slow.client())
+			.endpoint("fast", fast.client())
+			.loadBalancingStrategy(candidates -> candidates.get(0))
+			.hedgeDelay(Duration.ofMillis(50))
+			.healthCheckInterval(null)
+			.build();
+
+		pool.initialize().block();
+		slow.responsive = false;
+
+		McpSchema.ListToolsResult result = pool.listTools().block(Duration.ofSeconds(5));
+
+		assertThat(result.nextCursor()).isEqualTo("fast");
+		assertThat(pool.getHedgedRequestCount()).isEqualTo(1);
+		assertThat(pool.getEndpoints().get(0).outstandingRequests()).isZero();
+
+		pool.close();
+	}
+
+	@Test
+	void failedPrimaryStartsTheHedgeWithoutWaitingForTheDelay() {
+		Replica failing = new Replica("failing");
+		Replica healthy = new Replica("healthy");
+		McpAsyncClientPool pool = McpAsyncClientPool.builder()
+			.endpoint("failing", failing.client())
+			.endpoint("healthy", healthy.client())
+			.loadBalancingStrategy(candidates -> candidates.get(0))
+			.hedgeDelay(Duration.ofMinutes(1))
+			.healthCheckInterval(null)
+			.build();
+
+		pool.initialize().block();
+		failing.failing = true;
+
+		McpSchema.ListToolsResult result = pool.listTools().block(Duration.ofSeconds(5));
+
+		assertThat(result.nextCursor()).isEqualTo("healthy");
+		assertThat(pool.getHedgedRequestCount()).isEqualTo(1);
+
+		pool.close();
+	}
+
+	@Test
+	void toolCallsAreNotHedged() {
+		Replica a = new Replica("a");
+		Replica b = new Replica("b");
+		McpAsyncClientPool pool = McpAsyncClientPool.builder()
+			.endpoint("a", a.client())
+			.endpoint("b", b.client())
+			.loadBalancingStrategy(candidates -> candidates.get(0))
+			.hedgeDelay(Duration.ofMillis(1))
+			.healthCheckInterval(null)
+			.build();
+
+		pool.initialize().block();
+		pool.callTool(new McpSchema.CallToolRequest("echo", Map.of())).block();
+
+		assertThat(a.toolCalls.get()).isEqualTo(1);
+		assertThat(b.toolCalls.get()).isZero();
+		assertThat(pool.getHedgedRequestCount()).isZero();
+
+		pool.close();
+	}
+
+	@Test
+	void unhealthyEndpointsAreExcludedUntilTheyRecover() {
+		Replica a = new Replica("a");
+		Replica b = new Replica("b");
+		McpAsyncClientPool pool = McpAsyncClientPool.builder()
+			.endpoint("a", a.client())
+			.endpoint("b", b.client())
+			.loadBalancingStrategy(candidates -> candidates.get(0))
+			.healthCheckInterval(Duration.ofMillis(20))
+			.healthCheckTimeout(Duration.ofMillis(50))
+			.unhealthyThreshold(1)
+			.build();
+
+		pool.initialize().block();
+		a.responsive = false;
+		await().atMost(Duration.ofSeconds(5)).until(() -> !pool.getEndpoints().get(0).isHealthy());
+
+		pool.callTool(new McpSchema.CallToolRequest("echo", Map.of())).block(Duration.ofSeconds(5));
+		assertThat(b.toolCalls.get()).isEqualTo(1);
+
+		a.responsive = true;
+		await().atMost(Duration.ofSeconds(5)).until(() -> pool.getEndpoints().get(0).isHealthy());
+
+		pool.close();
+	}
+
+	@Test
+	void latencyHistogramPercentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 0; i < 99; i++) {
+			histogram.record(Duration.ofMillis(1).toNanos());
+		}
+		histogram.record(Duration.ofSeconds(1).toNanos());
+
+		assertThat(histogram.count()).isEqualTo(100);
+		assertThat(histogram.percentile(0.5)).isEqualTo(Duration.ofNanos(1024 * 1000));
+		assertThat(histogram.percentile(1.0)).isGreaterThanOrEqualTo(Duration.ofSeconds(1));
+		assertThatThrownBy(() -> histogram.percentile(1.5)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
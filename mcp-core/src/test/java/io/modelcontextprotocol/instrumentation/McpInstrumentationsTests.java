@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.instrumentation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.json.gson.GsonMcpJsonMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link McpInstrumentations}.
+ */
+class McpInstrumentationsTests {
+
+	private static final GsonMcpJsonMapper JSON_MAPPER = new GsonMcpJsonMapper();
+
+	private final RecordingInstrumentation recording = new RecordingInstrumentation();
+
+	@AfterEach
+	void tearDown() {
+		McpInstrumentations.set(McpInstrumentation.NOOP);
+	}
+
+	@Test
+	void disabledInstrumentationLeavesPipelinesUntouched() {
+		Mono<String> request = Mono.just("result");
+
+		assertThat(McpInstrumentations.observeOutbound(McpInstrumentation.Side.CLIENT, McpSchema.METHOD_PING, null,
+				request))
+			.isSameAs(request);
+	}
+
+	@Test
+	void observesRequestOutcomesWithToolNames() {
+		McpInstrumentations.set(this.recording);
+		McpSchema.JSONRPCRequest toolCall = new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_TOOLS_CALL, "1", Map.of("name", "search"));
+		McpSchema.JSONRPCResponse errorResponse = new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, "1", null,
+				new McpSchema.JSONRPCResponse.JSONRPCError(McpSchema.ErrorCodes.INTERNAL_ERROR, "boom", null));
+
+		StepVerifier
+			.create(McpInstrumentations.observeInbound(McpInstrumentation.Side.SERVER, toolCall,
+					Mono.just(errorResponse)))
+			.expectNext(errorResponse)
+			.verifyComplete();
+		StepVerifier
+			.create(McpInstrumentations.observeOutbound(McpInstrumentation.Side.CLIENT, McpSchema.METHOD_TOOLS_CALL,
+					new McpSchema.CallToolRequest("echo", null), Mono.just("ok")))
+			.expectNext("ok")
+			.verifyComplete();
+		StepVerifier
+			.create(McpInstrumentations.observeOutbound(McpInstrumentation.Side.SERVER, McpSchema.METHOD_ROOTS_LIST,
+					null, Mono.error(new IllegalStateException("down"))))
+			.verifyError(IllegalStateException.class);
+
+		assertThat(this.recording.requests).containsExactly("SERVER INBOUND tools/call search McpError",
+				"CLIENT OUTBOUND tools/call echo ok", "SERVER OUTBOUND roots/list null IllegalStateException");
+	}
+
+	@Test
+	void codecReportsMessageSizesAndFailures() throws Exception {
+		McpInstrumentations.set(this.recording);
+		McpSchema.JSONRPCNotification notification = new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_NOTIFICATION_MESSAGE, Map.of("data", "héllo"));
+
+		String json = McpSchema.serializeJsonRpcMessage(JSON_MAPPER, notification);
+		McpSchema.deserializeJsonRpcMessage(JSON_MAPPER, json);
+		assertThatThrownBy(() -> McpSchema.deserializeJsonRpcMessage(JSON_MAPPER, "{\"jsonrpc\":\"2.0\"}"))
+			.isInstanceOf(IllegalArgumentException.class);
+
+		int size = json.getBytes(StandardCharsets.UTF_8).length;
+		assertThat(this.recording.codec).containsExactly("encoded " + size + " ok", "decoded " + size + " ok",
+				"decoded 17 IllegalArgumentException");
+	}
+
+	@Test
+	void computesUtf8Length() {
+		for (String text : List.of("", "ascii", "héllo", "€", "😀 smile")) {
+			assertThat(McpInstrumentations.utf8Length(text)).as(text)
+				.isEqualTo(text.getBytes(StandardCharsets.UTF_8).length);
+		}
+	}
+
+	static class RecordingInstrumentation implements McpInstrumentation {
+
+		final List<String> requests = new CopyOnWriteArrayList<>();
+
+		final List<String> codec = new CopyOnWriteArrayList<>();
+
+		@Override
+		public RequestObservation requestStarted(Side side, Direction direction, String method, String toolName) {
+			return error -> this.requests.add(side + " " + direction + " " + method + " " + toolName + " "
+					+ (error != null ? error.getClass().getSimpleName() : "ok"));
+		}
+
+		@Override
+		public void messageDecoded(int bytes, long nanos, Throwable error) {
+			this.codec.add("decoded " + bytes + " " + outcome(error));
+		}
+
+		@Override
+		public void messageEncoded(int bytes, long nanos, Throwable error) {
+			this.codec.add("encoded " + bytes + " " + outcome(error));
+		}
+
+		private static String outcome(Throwable error) {
+			return error != null ? error.getClass().getSimpleName() : "ok";
+		}
+
+	}
+
+}
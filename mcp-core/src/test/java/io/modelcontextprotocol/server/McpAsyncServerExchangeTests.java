@@ -5,12 +5,15 @@
 package io.modelcontextprotocol.server;
 
 import io.modelcontextprotocol.common.McpTransportContext;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.modelcontextprotocol.spec.McpError;
+import io.modelcontextprotocol.spec.McpRootsCache;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpServerSession;
 import io.modelcontextprotocol.json.TypeRef;
@@ -83,6 +86,51 @@ class McpAsyncServerExchangeTests {
 		}).verifyComplete();
 	}
 
+	@Test
+	void testListRootsIsCachedUntilInvalidated() {
+
+		McpAsyncServerExchange cachingExchange = new McpAsyncServerExchange("testSessionId", mockSession,
+				clientCapabilities, clientInfo, McpTransportContext.EMPTY, new McpRootsCache());
+
+		McpSchema.ListRootsResult first = new McpSchema.ListRootsResult(
+				List.of(new McpSchema.Root("file:///home/user/project1", "Project 1")), null);
+		McpSchema.ListRootsResult second = new McpSchema.ListRootsResult(
+				List.of(new McpSchema.Root("file:///home/user/project2", "Project 2")), null);
+
+		when(mockSession.sendRequest(eq(McpSchema.METHOD_ROOTS_LIST), any(McpSchema.PaginatedRequest.class),
+				any(TypeRef.class)))
+			.thenReturn(Mono.just(first), Mono.just(second));
+
+		assertThat(cachingExchange.cachedRoots()).isEmpty();
+		assertThat(cachingExchange.listRoots().block().roots()).isEqualTo(first.roots());
+		assertThat(cachingExchange.listRoots().block().roots()).isEqualTo(first.roots());
+		assertThat(cachingExchange.cachedRoots()).contains(first.roots());
+		verify(mockSession, times(1)).sendRequest(eq(McpSchema.METHOD_ROOTS_LIST), any(), any(TypeRef.class));
+
+		cachingExchange.invalidateRoots();
+		assertThat(cachingExchange.cachedRoots()).isEmpty();
+		assertThat(cachingExchange.listRoots().block().roots()).isEqualTo(second.roots());
+		verify(mockSession, times(2)).sendRequest(eq(McpSchema.METHOD_ROOTS_LIST), any(), any(TypeRef.class));
+	}
+
+	@Test
+	void testListRootsIsNotCachedWithoutListChangedCapability() {
+
+		McpAsyncServerExchange cachingExchange = new McpAsyncServerExchange("testSessionId", mockSession,
+				McpSchema.ClientCapabilities.builder().roots(false).build(), clientInfo, McpTransportContext.EMPTY,
+				new McpRootsCache());
+
+		when(mockSession.sendRequest(eq(McpSchema.METHOD_ROOTS_LIST), any(McpSchema.PaginatedRequest.class),
+				any(TypeRef.class)))
+			.thenReturn(Mono.just(new McpSchema.ListRootsResult(List.of(), null)));
+
+		cachingExchange.listRoots().block();
+		cachingExchange.listRoots().block();
+
+		assertThat(cachingExchange.cachedRoots()).isEmpty();
+		verify(mockSession, times(2)).sendRequest(eq(McpSchema.METHOD_ROOTS_LIST), any(), any(TypeRef.class));
+	}
+
 	@Test
 	void testListRootsWithMultiplePages() {
 
@@ -546,6 +594,50 @@ class McpAsyncServerExchangeTests {
 		}).verifyComplete();
 	}
 
+	@Test
+	void testCreateMessagesBoundsConcurrencyAndKeepsOrder() {
+
+		McpSchema.ClientCapabilities capabilitiesWithSampling = McpSchema.ClientCapabilities.builder()
+			.sampling()
+			.build();
+
+		McpAsyncServerExchange exchangeWithSampling = new McpAsyncServerExchange(mockSession, capabilitiesWithSampling,
+				clientInfo);
+
+		List<McpSchema.CreateMessageRequest> requests = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			requests.add(McpSchema.CreateMessageRequest.builder()
+				.messages(
+						List.of(new McpSchema.SamplingMessage(McpSchema.Role.USER, new McpSchema.TextContent("m" + i))))
+				.build());
+		}
+
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		when(mockSession.sendRequest(eq(McpSchema.METHOD_SAMPLING_CREATE_MESSAGE), any(), any(TypeRef.class)))
+			.thenAnswer(invocation -> {
+				McpSchema.CreateMessageRequest request = invocation.getArgument(1);
+				String text = ((McpSchema.TextContent) request.messages().get(0).content()).text();
+				// Later requests complete first
+				return Mono.delay(Duration.ofMillis(60 - 10L * Integer.parseInt(text.substring(1))))
+					.doOnSubscribe(s -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+					.doOnTerminate(inFlight::decrementAndGet)
+					.thenReturn(McpSchema.CreateMessageResult.builder()
+						.role(McpSchema.Role.ASSISTANT)
+						.content(new McpSchema.TextContent(text))
+						.model("test")
+						.build());
+			});
+
+		StepVerifier
+			.create(exchangeWithSampling.createMessages(requests, 2)
+				.map(result -> ((McpSchema.TextContent) result.content()).text()))
+			.expectNext("m0", "m1", "m2", "m3", "m4", "m5")
+			.verifyComplete();
+
+		assertThat(maxInFlight.get()).isEqualTo(2);
+	}
+
 	@Test
 	void testCreateMessageWithImageContent() {
 
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.admission;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.modelcontextprotocol.spec.McpError;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
+
+/**
+ * Tests for {@link DefaultMcpAdmissionController}.
+ */
+class DefaultMcpAdmissionControllerTests {
+
+	private static McpAdmissionRequest toolCall(String sessionId, String toolName) {
+		return McpAdmissionRequest.of(sessionId, McpSchema.METHOD_TOOLS_CALL, Map.of("name", toolName));
+	}
+
+	private static void assertOverloaded(Throwable error, String reason) {
+		assertThat(error).isInstanceOf(McpError.class);
+		McpSchema.JSONRPCResponse.JSONRPCError jsonRpcError = ((McpError) error).getJsonRpcError();
+		assertThat(jsonRpcError.code()).isEqualTo(McpSchema.ErrorCodes.SERVER_OVERLOADED);
+		assertThat(jsonRpcError.data()).asInstanceOf(MAP).containsEntry("reason", reason);
+	}
+
+	@Test
+	void extractsToolNameFromToolCalls() {
+		assertThat(toolCall("s", "search").toolName()).isEqualTo("search");
+		assertThat(McpAdmissionRequest.of("s", McpSchema.METHOD_TOOLS_CALL, new McpSchema.CallToolRequest("echo", null))
+			.toolName()).isEqualTo("echo");
+		assertThat(McpAdmissionRequest.of("s", McpSchema.METHOD_TOOLS_LIST, Map.of("name", "x")).toolName()).isNull();
+	}
+
+	@Test
+	void sessionLimitIsPerSessionAndReleasedWithPermit() {
+		DefaultMcpAdmissionController controller = DefaultMcpAdmissionController.builder()
+			.maxInFlightPerSession(1)
+			.build();
+
+		McpAdmissionController.Permit permit = controller.acquire(toolCall("a", "echo")).block();
+
+		StepVerifier.create(controller.acquire(toolCall("a", "echo")))
+			.expectErrorSatisfies(error -> assertOverloaded(error, "session-limit"))
+			.verify();
+		StepVerifier.create(controller.acquire(toolCall("b", "echo"))).expectNextCount(1).verifyComplete();
+		// Stateless requests carry no session and are not limited
+		StepVerifier.create(controller.acquire(toolCall(null, "echo"))).expectNextCount(1).verifyComplete();
+
+		permit.release();
+		permit.release();
+		StepVerifier.create(controller.acquire(toolCall("a", "echo"))).expectNextCount(1).verifyComplete();
+		assertThat(controller.getMetrics().rejectedSessionLimit()).isEqualTo(1);
+	}
+
+	@Test
+	void rateLimitRejectsBeyondBurstWithRetryHint() {
+		DefaultMcpAdmissionController controller = DefaultMcpAdmissionController.builder()
+			.toolRateLimit("search", 0.001, 2)
+			.build();
+
+		controller.acquire(toolCall("a", "search")).block();
+		controller.acquire(toolCall("b", "search")).block();
+
+		StepVerifier.create(controller.acquire(toolCall("c", "search"))).expectErrorSatisfies(error -> {
+			assertOverloaded(error, "rate-limit");
+			assertThat(((McpError) error).getJsonRpcError().data()).asInstanceOf(MAP).containsKey("retryAfterMs");
+		}).verify();
+		StepVerifier.create(controller.acquire(toolCall("c", "echo"))).expectNextCount(1).verifyComplete();
+		assertThat(controller.getMetrics().rejectedRateLimit()).isEqualTo(1);
+	}
+
+	@Test
+	void concurrencyLimitQueuesThenRejects() {
+		DefaultMcpAdmissionController controller = DefaultMcpAdmissionController.builder()
+			.toolConcurrencyLimit("search", 1, 1)
+			.build();
+
+		McpAdmissionController.Permit first = controller.acquire(toolCall("a", "search")).block();
+		Mono<McpAdmissionController.Permit> second = controller.acquire(toolCall("b", "search")).cache();
+		second.subscribe();
+
+		assertThat(controller.getMetrics().currentlyQueued()).isEqualTo(1);
+		StepVerifier.create(controller.acquire(toolCall("c", "search")))
+			.expectErrorSatisfies(error -> assertOverloaded(error, "concurrency-limit"))
+			.verify();
+
+		first.release();
+		StepVerifier.create(second).expectNextCount(1).verifyComplete();
+
+		McpAdmissionMetrics metrics = controller.getMetrics();
+		assertThat(metrics.admitted()).isEqualTo(2);
+		assertThat(metrics.queued()).isEqualTo(1);
+		assertThat(metrics.currentlyQueued()).isZero();
+		assertThat(metrics.rejected()).isEqualTo(1);
+	}
+
+	@Test
+	void cancelledWaiterReleasesItsSessionSlot() {
+		DefaultMcpAdmissionController controller = DefaultMcpAdmissionController.builder()
+			.maxInFlightPerSession(1)
+			.toolConcurrencyLimit("search", 1, 4)
+			.build();
+
+		controller.acquire(toolCall("a", "search")).block();
+		controller.acquire(toolCall("b", "search")).subscribe().dispose();
+
+		assertThat(controller.getMetrics().currentlyQueued()).isZero();
+		StepVerifier.create(controller.acquire(toolCall("b", "echo"))).expectNextCount(1).verifyComplete();
+	}
+
+	@Test
+	void slotHandedToACancellingWaiterIsNotLost() throws Exception {
+		DefaultMcpAdmissionController controller = DefaultMcpAdmissionController.builder()
+			.toolConcurrencyLimit("search", 1, 4)
+			.build();
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			for (int i = 0; i < 1000; i++) {
+				McpAdmissionController.Permit first = controller.acquire(toolCall("a", "search")).block();
+				Disposable waiter = controller.acquire(toolCall("b", "search"))
+					.subscribe(McpAdmissionController.Permit::release);
+				CyclicBarrier barrier = new CyclicBarrier(2);
+				Future<?> release = executor.submit(() -> {
+					barrier.await();
+					first.release();
+					return null;
+				});
+				Future<?> cancel = executor.submit(() -> {
+					barrier.await();
+					waiter.dispose();
+					return null;
+				});
+				release.get(5, TimeUnit.SECONDS);
+				cancel.get(5, TimeUnit.SECONDS);
+
+				controller.acquire(toolCall("c", "search")).block(Duration.ofSeconds(5)).release();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertThat(controller.getMetrics().currentlyQueued()).isZero();
+	}
+
+	@Test
+	void admitReleasesPermitWhenExecutionTerminates() {
+		DefaultMcpAdmissionController controller = DefaultMcpAdmissionController.builder()
+			.toolConcurrencyLimit("search", 1)
+			.build();
+		Sinks.One<String> result = Sinks.one();
+
+		Mono<String> running = controller.admit(toolCall("a", "search"), result::asMono).cache();
+		running.subscribe();
+		StepVerifier.create(controller.admit(toolCall("b", "search"), () -> Mono.just("second")))
+			.expectError(McpError.class)
+			.verify();
+
+		result.tryEmitValue("first");
+		StepVerifier.create(running).expectNext("first").verifyComplete();
+		StepVerifier.create(controller.admit(toolCall("b", "search"), () -> Mono.just("second")))
+			.expectNext("second")
+			.expectComplete()
+			.verify(Duration.ofSeconds(5));
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for {@link McpToolResultCache}.
+ */
+class McpToolResultCacheTests {
+
+	private final AtomicInteger calls = new AtomicInteger();
+
+	private Mono<McpSchema.CallToolResult> call(String text) {
+		return Mono.fromSupplier(() -> {
+			this.calls.incrementAndGet();
+			return McpSchema.CallToolResult.builder().addTextContent(text).build();
+		});
+	}
+
+	@Test
+	void onlyReadOnlyIdempotentToolsAreCacheable() {
+		assertThat(McpToolResultCache.isCacheable(tool(true, true))).isTrue();
+		assertThat(McpToolResultCache.isCacheable(tool(true, false))).isFalse();
+		assertThat(McpToolResultCache.isCacheable(tool(false, true))).isFalse();
+		assertThat(McpToolResultCache
+			.isCacheable(McpSchema.Tool.builder().name("lookup").inputSchema(emptySchema()).build())).isFalse();
+	}
+
+	@Test
+	void argumentsDifferingOnlyInKeyOrderShareAnEntry() {
+		McpToolResultCache cache = McpToolResultCache.builder().build();
+		Map<String, Object> first = new LinkedHashMap<>();
+		first.put("query", "cache");
+		first.put("options", Map.of("limit", 10, "exact", true));
+		Map<String, Object> second = new LinkedHashMap<>();
+		second.put("options", new LinkedHashMap<>(Map.of("exact", true, "limit", 10)));
+		second.put("query", "cache");
+
+		cache.get("search", first, () -> call("result")).block();
+		cache.get("search", second, () -> call("other")).block();
+		cache.get("search", Map.of("query", "other"), () -> call("other")).block();
+
+		assertThat(this.calls).hasValue(2);
+		McpToolResultCacheMetrics metrics = cache.getMetrics();
+		assertThat(metrics.hits()).isEqualTo(1);
+		assertThat(metrics.misses()).isEqualTo(2);
+		assertThat(metrics.hitRatio()).isEqualTo(1.0 / 3);
+	}
+
+	@Test
+	void concurrentCallsShareOneCallToTheTool() {
+		McpToolResultCache cache = McpToolResultCache.builder().build();
+		Sinks.One<McpSchema.CallToolResult> result = Sinks.one();
+		AtomicInteger received = new AtomicInteger();
+
+		for (int i = 0; i < 3; i++) {
+			cache.get("search", Map.of("query", "x"), () -> {
+				this.calls.incrementAndGet();
+				return result.asMono();
+			}).subscribe(value -> received.incrementAndGet());
+		}
+		result.tryEmitValue(McpSchema.CallToolResult.builder().addTextContent("done").build());
+
+		assertThat(received).hasValue(3);
+		assertThat(this.calls).hasValue(1);
+	}
+
+	@Test
+	void errorsAndFailedCallsAreNotCached() {
+		McpToolResultCache cache = McpToolResultCache.builder().build();
+		McpSchema.CallToolResult error = McpSchema.CallToolResult.builder().addTextContent("bad").isError(true).build();
+
+		cache.get("search", Map.of(), () -> {
+			this.calls.incrementAndGet();
+			return Mono.just(error);
+		}).block();
+		assertThatThrownBy(() -> cache.get("search", Map.of(), () -> {
+			this.calls.incrementAndGet();
+			return Mono.error(new IllegalStateException("down"));
+		}).block()).isInstanceOf(IllegalStateException.class);
+		cache.get("search", Map.of(), () -> call("ok")).block();
+
+		assertThat(this.calls).hasValue(3);
+		assertThat(cache.getMetrics().size()).isEqualTo(1);
+	}
+
+	@Test
+	void entriesExpireAndAreEvictedPerTool() {
+		McpToolResultCache cache = McpToolResultCache.builder()
+			.tool("clock", Duration.ofMillis(50), 10)
+			.tool("search", Duration.ofMinutes(1), 2)
+			.build();
+
+		cache.get("clock", Map.of(), () -> call("now")).block();
+		await().pollDelay(Duration.ofMillis(60))
+			.atMost(Duration.ofSeconds(1))
+			.untilAsserted(() -> assertThat(cache.get("clock", Map.of(), () -> call("later")).block()).isNotNull());
+		assertThat(this.calls).hasValue(2);
+
+		for (String query : List.of("a", "b", "c")) {
+			cache.get("search", Map.of("q", query), () -> call(query)).block();
+		}
+		cache.get("search", Map.of("q", "a"), () -> call("a")).block();
+
+		assertThat(this.calls).hasValue(6);
+		assertThat(cache.getMetrics().evictions()).isEqualTo(2);
+	}
+
+	@Test
+	void invalidationDiscardsTheEntriesOfATool() {
+		McpToolResultCache cache = McpToolResultCache.builder().build();
+		cache.get("search", Map.of(), () -> call("a")).block();
+		cache.get("lookup", Map.of(), () -> call("b")).block();
+
+		cache.invalidate("search");
+		cache.get("search", Map.of(), () -> call("a")).block();
+		cache.get("lookup", Map.of(), () -> call("b")).block();
+		assertThat(this.calls).hasValue(3);
+
+		cache.invalidateAll();
+		assertThat(cache.getMetrics().size()).isZero();
+	}
+
+	private static McpSchema.Tool tool(boolean readOnly, boolean idempotent) {
+		return McpSchema.Tool.builder()
+			.name("lookup")
+			.inputSchema(emptySchema())
+			.annotations(new McpSchema.ToolAnnotations(null, readOnly, false, idempotent, false, null))
+			.build();
+	}
+
+	private static McpSchema.JsonSchema emptySchema() {
+		return new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+	}
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.transport;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.modelcontextprotocol.instrumentation.McpInstrumentation;
+import io.modelcontextprotocol.instrumentation.McpInstrumentations;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpTransportException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link McpOutboundQueue}. The first message of each test is written to a
+ * client that stops reading until it is released, so that the messages after it queue up.
+ */
+class McpOutboundQueueTests {
+
+	private final ExecutorService drainExecutor = Executors.newSingleThreadExecutor();
+
+	private final CountDownLatch writing = new CountDownLatch(1);
+
+	private final CountDownLatch reading = new CountDownLatch(1);
+
+	private final List<String> written = new CopyOnWriteArrayList<>();
+
+	private final AtomicInteger disconnects = new AtomicInteger();
+
+	@AfterEach
+	void tearDown() {
+		this.reading.countDown();
+		this.drainExecutor.shutdownNow();
+		McpInstrumentations.set(McpInstrumentation.NOOP);
+	}
+
+	@Test
+	void blockedSenderGivesUpAfterTimeoutAndOthersAreWrittenInOrder() throws Exception {
+		McpOutboundQueue queue = McpOutboundQueue.builder().capacity(1).blockTimeout(Duration.ofMillis(500)).build();
+		McpOutboundQueue.Session session = stalledSession(queue);
+
+		Mono<Void> queued = send(session, notification("queued"));
+		queued.subscribe();
+		StepVerifier.create(send(session, notification("blocked")))
+			.expectError(McpTransportException.class)
+			.verify(Duration.ofSeconds(5));
+
+		Mono<Void> admitted = send(session, notification("admitted")).cache();
+		admitted.subscribe();
+		this.reading.countDown();
+		StepVerifier.create(admitted).expectComplete().verify(Duration.ofSeconds(5));
+
+		assertThat(this.written).containsExactly("stalled", "queued", "admitted");
+		McpOutboundQueue.Metrics metrics = queue.metrics();
+		assertThat(metrics.timedOut()).isEqualTo(1);
+		assertThat(metrics.written()).isEqualTo(3);
+		assertThat(metrics.currentlyQueued()).isZero();
+		assertThat(metrics.maxQueued()).isEqualTo(1);
+	}
+
+	@Test
+	void dropsNotificationsButNeverResponses() throws Exception {
+		McpOutboundQueue queue = McpOutboundQueue.builder()
+			.capacity(1)
+			.overflowStrategy(McpOutboundQueue.OverflowStrategy.DROP_NOTIFICATIONS)
+			.build();
+		McpOutboundQueue.Session session = stalledSession(queue);
+
+		send(session, notification("progress-1")).subscribe();
+		StepVerifier.create(send(session, notification("progress-2"))).verifyComplete();
+		Mono<Void> response = send(session, new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, 1, "done", null))
+			.cache();
+		assertThat(queue.metrics().currentlyQueued()).isEqualTo(1);
+
+		response.subscribe();
+		assertThat(queue.metrics().currentlyQueued()).isEqualTo(2);
+		this.reading.countDown();
+		StepVerifier.create(response).expectComplete().verify(Duration.ofSeconds(5));
+
+		assertThat(this.written).containsExactly("stalled", "progress-1", "1");
+		assertThat(queue.metrics().dropped()).isEqualTo(1);
+	}
+
+	@Test
+	void disconnectsSlowConsumer() throws Exception {
+		McpOutboundQueue queue = McpOutboundQueue.builder()
+			.capacity(1)
+			.overflowStrategy(McpOutboundQueue.OverflowStrategy.DISCONNECT)
+			.build();
+		McpOutboundQueue.Session session = stalledSession(queue);
+		send(session, notification("queued")).subscribe();
+
+		StepVerifier.create(send(session, notification("overflow"))).expectError(McpTransportException.class).verify();
+		assertThat(this.disconnects).hasValue(1);
+		assertThat(queue.metrics().disconnected()).isEqualTo(1);
+		assertThat(queue.metrics().currentlyQueued()).isZero();
+
+		// The session is closed; later messages are discarded
+		StepVerifier.create(send(session, notification("late"))).verifyComplete();
+		this.reading.countDown();
+		this.drainExecutor.shutdown();
+		assertThat(this.drainExecutor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(this.written).containsExactly("stalled");
+	}
+
+	@Test
+	void flushWaitsForTheQueuedMessagesToBeWritten() throws Exception {
+		McpOutboundQueue queue = McpOutboundQueue.builder().capacity(4).build();
+		McpOutboundQueue.Session session = stalledSession(queue);
+		send(session, notification("queued")).subscribe();
+
+		Mono<Void> flush = session.flush().cache();
+		flush.subscribe();
+		assertThat(this.written).isEmpty();
+		this.reading.countDown();
+		StepVerifier.create(flush).expectComplete().verify(Duration.ofSeconds(5));
+		assertThat(this.written).containsExactly("stalled", "queued");
+
+		// Nothing is queued anymore, nor on a closed session
+		StepVerifier.create(session.flush()).verifyComplete();
+		session.close();
+		StepVerifier.create(session.flush()).verifyComplete();
+	}
+
+	@Test
+	void reportsQueueDepthAndOverflowsToTheInstrumentation() throws Exception {
+		AtomicInteger depth = new AtomicInteger();
+		List<McpInstrumentation.Overflow> overflows = new CopyOnWriteArrayList<>();
+		McpInstrumentations.set(new McpInstrumentation() {
+
+			@Override
+			public void outboundQueueChanged(int delta) {
+				depth.addAndGet(delta);
+			}
+
+			@Override
+			public void outboundOverflow(Overflow overflow) {
+				overflows.add(overflow);
+			}
+
+		});
+		McpOutboundQueue queue = McpOutboundQueue.builder()
+			.capacity(1)
+			.overflowStrategy(McpOutboundQueue.OverflowStrategy.DROP_NOTIFICATIONS)
+			.build();
+		McpOutboundQueue.Session session = stalledSession(queue);
+
+		Mono<Void> queued = send(session, notification("queued")).cache();
+		queued.subscribe();
+		send(session, notification("dropped")).subscribe();
+		send(session, new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, 1, "done", null)).subscribe();
+		assertThat(depth).hasValue(2);
+		assertThat(overflows).containsExactly(McpInstrumentation.Overflow.DROPPED);
+
+		this.reading.countDown();
+		StepVerifier.create(session.flush()).expectComplete().verify(Duration.ofSeconds(5));
+		assertThat(depth).hasValue(0);
+
+		// Messages discarded on close leave the queue as well
+		McpOutboundQueue.Session closing = queue.newSession(new ArrayDeque<Runnable>()::add,
+				this.disconnects::incrementAndGet);
+		send(closing, notification("discarded")).subscribe();
+		assertThat(depth).hasValue(1);
+		closing.close();
+		assertThat(depth).hasValue(0);
+	}
+
+	@Test
+	void drainHandsItsThreadBackAfterABatch() {
+		ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+		McpOutboundQueue.Session session = McpOutboundQueue.unbounded()
+			.newSession(tasks::add, this.disconnects::incrementAndGet);
+		int count = McpOutboundQueue.DRAIN_BATCH_SIZE + 1;
+		for (int i = 0; i < count; i++) {
+			send(session, notification("message-" + i)).subscribe();
+		}
+		assertThat(tasks).hasSize(1);
+
+		tasks.poll().run();
+		assertThat(this.written).hasSize(McpOutboundQueue.DRAIN_BATCH_SIZE);
+		assertThat(tasks).hasSize(1);
+
+		tasks.poll().run();
+		assertThat(this.written).hasSize(count).last().isEqualTo("message-" + (count - 1));
+		assertThat(tasks).isEmpty();
+	}
+
+	private McpOutboundQueue.Session stalledSession(McpOutboundQueue queue) throws InterruptedException {
+		McpOutboundQueue.Session session = queue.newSession(this.drainExecutor, this.disconnects::incrementAndGet);
+		session.enqueue(notification("stalled"), () -> {
+			this.writing.countDown();
+			this.reading.await();
+			this.written.add("stalled");
+		}).subscribe();
+		assertThat(this.writing.await(5, TimeUnit.SECONDS)).isTrue();
+		return session;
+	}
+
+	private Mono<Void> send(McpOutboundQueue.Session session, McpSchema.JSONRPCMessage message) {
+		String name = message instanceof McpSchema.JSONRPCNotification notification ? notification.method()
+				: String.valueOf(((McpSchema.JSONRPCResponse) message).id());
+		return session.enqueue(message, () -> this.written.add(name));
+	}
+
+	private static McpSchema.JSONRPCNotification notification(String method) {
+		return new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION, method, null);
+	}
+
+}
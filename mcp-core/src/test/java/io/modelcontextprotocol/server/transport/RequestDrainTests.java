@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.transport;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RequestDrain}.
+ */
+class RequestDrainTests {
+
+	@Test
+	void drainsTheRequestsInFlightAndRefusesNewOnes() {
+		RequestDrain drain = new RequestDrain(Duration.ofSeconds(5), Duration.ofSeconds(1));
+		assertThat(drain.tryBegin()).isTrue();
+		assertThat(drain.tryBegin()).isTrue();
+		drain.end();
+
+		Mono<Void> drained = drain.drain().cache();
+		drained.subscribe();
+		assertThat(drain.isDraining()).isTrue();
+		assertThat(drain.tryBegin()).isFalse();
+		assertThat(drain.metrics().inFlight()).isEqualTo(1);
+
+		drain.end();
+		StepVerifier.create(drained).expectComplete().verify(Duration.ofSeconds(1));
+		// The request that ended before the drain is not counted
+		assertThat(drain.metrics()).isEqualTo(new McpDrainMetrics(1, 0, 0, 0));
+	}
+
+	@Test
+	void cancelsTheRequestsStillInFlightAtTheDeadline() {
+		RequestDrain drain = new RequestDrain(Duration.ofMillis(100), Duration.ofSeconds(1));
+		assertThat(drain.tryBegin()).isTrue();
+		Mono<Boolean> request = Mono.<Boolean>never().takeUntilOther(drain.deadline()).doFinally(signal -> drain.end());
+
+		StepVerifier.create(request)
+			.then(() -> drain.drain().subscribe())
+			.expectComplete()
+			.verify(Duration.ofSeconds(5));
+
+		assertThat(drain.metrics()).isEqualTo(new McpDrainMetrics(0, 1, 0, 0));
+	}
+
+	@Test
+	void completesAtOnceWithoutRequestsInFlight() {
+		RequestDrain drain = new RequestDrain(Duration.ofHours(1), Duration.ofSeconds(1));
+
+		StepVerifier.create(drain.drain()).expectComplete().verify(Duration.ofSeconds(1));
+		// Draining again, as when the servlet is destroyed after the transport closed
+		StepVerifier.create(drain.drain()).expectComplete().verify(Duration.ofSeconds(1));
+		assertThat(drain.tryBegin()).isFalse();
+	}
+
+	@Test
+	void remainingTimeCountsDownFromTheBeginningOfTheDrain() throws InterruptedException {
+		RequestDrain drain = new RequestDrain(Duration.ofMillis(200), Duration.ofSeconds(1));
+		assertThat(drain.remaining()).isEqualTo(Duration.ofMillis(200));
+		assertThat(drain.tryBegin()).isTrue();
+
+		drain.drain().subscribe();
+		Thread.sleep(50);
+		assertThat(drain.remaining()).isLessThanOrEqualTo(Duration.ofMillis(150));
+
+		drain.end();
+		Thread.sleep(200);
+		assertThat(drain.remaining()).isZero();
+	}
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link HttpCompression} and the {@link HttpContentCoding codings} of the JDK.
+ */
+class HttpCompressionTests {
+
+	private static final Logger logger = LoggerFactory.getLogger(HttpCompressionTests.class);
+
+	private final HttpCompression compression = HttpCompression.defaults();
+
+	@Test
+	void negotiatesTheAcceptedCodingWithTheHighestQuality() {
+		assertThat(this.compression.negotiate("gzip, deflate, br")).contains(HttpContentCoding.GZIP);
+		assertThat(this.compression.negotiate("deflate, gzip")).contains(HttpContentCoding.GZIP);
+		assertThat(this.compression.negotiate("gzip;q=0.5, deflate")).contains(HttpContentCoding.DEFLATE);
+		assertThat(this.compression.negotiate("br, *;q=0.1")).contains(HttpContentCoding.GZIP);
+		assertThat(this.compression.negotiate("GZIP;Q=1")).contains(HttpContentCoding.GZIP);
+	}
+
+	@Test
+	void sendsBodiesAsTheyAreUnlessACodingIsAccepted() {
+		assertThat(this.compression.negotiate(null)).isEmpty();
+		assertThat(this.compression.negotiate("identity")).isEmpty();
+		assertThat(this.compression.negotiate("br, zstd")).isEmpty();
+		assertThat(this.compression.negotiate("gzip;q=0, deflate;q=0")).isEmpty();
+		assertThat(this.compression.negotiate("*;q=0")).isEmpty();
+	}
+
+	@Test
+	void findsTheCodingOfABody() {
+		assertThat(this.compression.coding(null)).isEmpty();
+		assertThat(this.compression.coding("identity")).isEmpty();
+		assertThat(this.compression.coding(" Deflate ")).contains(HttpContentCoding.DEFLATE);
+		assertThatIllegalArgumentException().isThrownBy(() -> this.compression.coding("br"))
+			.withMessageContaining("br");
+
+		HttpCompression gzipOnly = HttpCompression.builder().codings(HttpContentCoding.GZIP).build();
+		assertThat(gzipOnly.acceptEncoding()).isEqualTo("gzip");
+		assertThatIllegalArgumentException().isThrownBy(() -> gzipOnly.coding("deflate"));
+	}
+
+	@Test
+	void encodedBodiesDecodeToTheOriginal() throws IOException {
+		byte[] content = toolsListJson(50).getBytes(StandardCharsets.UTF_8);
+		for (HttpContentCoding coding : this.compression.codings()) {
+			byte[] encoded = HttpCompression.encode(coding, content);
+			assertThat(encoded.length).as(coding.name()).isLessThan(content.length / 4);
+			try (InputStream decoded = coding.decoder(new ByteArrayInputStream(encoded))) {
+				assertThat(decoded.readAllBytes()).as(coding.name()).isEqualTo(content);
+			}
+		}
+	}
+
+	@Test
+	void decodingStopsPastTheMaximumDecodedSize() throws IOException {
+		// A megabyte of zeros compresses to about a kilobyte
+		byte[] bomb = new byte[1024 * 1024];
+		HttpCompression limited = HttpCompression.builder().maxDecodedSize(64 * 1024).build();
+		for (HttpContentCoding coding : limited.codings()) {
+			byte[] encoded = HttpCompression.encode(coding, bomb);
+			try (InputStream decoded = limited.decode(coding, new ByteArrayInputStream(encoded))) {
+				assertThatExceptionOfType(HttpCompression.BodyTooLargeException.class).as(coding.name())
+					.isThrownBy(decoded::readAllBytes);
+			}
+			try (InputStream decoded = this.compression.decode(coding, new ByteArrayInputStream(encoded))) {
+				assertThat(decoded.readAllBytes()).as(coding.name()).hasSize(bomb.length);
+			}
+		}
+	}
+
+	@Test
+	void flushingTheEncoderMakesEverythingWrittenSoFarDecodable() throws IOException {
+		for (HttpContentCoding coding : this.compression.codings()) {
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			OutputStream encoder = coding.encoder(stream);
+			encoder.write("event: message\ndata: {}\n\n".getBytes(StandardCharsets.UTF_8));
+			encoder.flush();
+
+			// The stream is not finished, as an SSE stream waiting for its next event
+			InputStream decoder = coding.decoder(new ByteArrayInputStream(stream.toByteArray()));
+			byte[] buffer = new byte[1024];
+			int read = decoder.read(buffer);
+			assertThat(new String(buffer, 0, read, StandardCharsets.UTF_8)).as(coding.name())
+				.isEqualTo("event: message\ndata: {}\n\n");
+		}
+	}
+
+	/**
+	 * Logs the bytes saved and the CPU spent by each coding on bodies of increasing size,
+	 * from a small result to a large tools/list response, to guide the choice of
+	 * {@link HttpCompression.Builder#minSize(int)}.
+	 */
+	@Test
+	void measuresBytesSavedAgainstCpuTime() throws IOException {
+		for (int tools : new int[] { 1, 10, 100 }) {
+			byte[] content = toolsListJson(tools).getBytes(StandardCharsets.UTF_8);
+			for (HttpContentCoding coding : this.compression.codings()) {
+				int iterations = Math.max(10, 200_000 / content.length);
+				byte[] encoded = null;
+				long start = System.nanoTime();
+				for (int i = 0; i < iterations; i++) {
+					encoded = HttpCompression.encode(coding, content);
+				}
+				long encodeNanos = (System.nanoTime() - start) / iterations;
+				start = System.nanoTime();
+				for (int i = 0; i < iterations; i++) {
+					try (InputStream decoder = coding.decoder(new ByteArrayInputStream(encoded))) {
+						decoder.readAllBytes();
+					}
+				}
+				long decodeNanos = (System.nanoTime() - start) / iterations;
+				logger.info("{} bytes with {}: {} bytes ({}%), encode {} us, decode {} us", content.length,
+						coding.name(), encoded.length, 100 * encoded.length / content.length, encodeNanos / 1000,
+						decodeNanos / 1000);
+				assertThat(encoded).isNotEmpty();
+			}
+		}
+	}
+
+	/**
+	 * The JSON of a tools/list response, written by hand since this module has no JSON
+	 * mapper.
+	 */
+	private static String toolsListJson(int count) {
+		StringBuilder json = new StringBuilder("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{\"tools\":[");
+		for (int i = 0; i < count; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append("{\"name\":\"tool-")
+				.append(i)
+				.append("\",\"description\":\"Looks up the records of the catalog matching a query, page by page\",")
+				.append("\"inputSchema\":{\"type\":\"object\",\"properties\":{")
+				.append("\"query\":{\"type\":\"string\",\"description\":\"The query\"},")
+				.append("\"page\":{\"type\":\"integer\",\"description\":\"The page, starting at 1\"}},")
+				.append("\"required\":[\"query\"]}}");
+		}
+		return json.append("]}}").toString();
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JsonLineReader} and {@link JsonLineWriter}.
+ */
+class JsonLineReaderWriterTests {
+
+	private static List<String> readAll(String input, int bufferSize) throws IOException {
+		List<String> lines = new ArrayList<>();
+		try (JsonLineReader reader = new JsonLineReader(
+				new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), bufferSize)) {
+			byte[] line;
+			while ((line = reader.readLine()) != null) {
+				lines.add(new String(line, StandardCharsets.UTF_8));
+			}
+		}
+		return lines;
+	}
+
+	@Test
+	void readsLinesSpanningBufferBoundaries() throws IOException {
+		String input = "{\"a\":\"ü\"}\r\n\n{\"b\":\"a longer message than the buffer\"}\n{\"c\":3}";
+
+		assertThat(readAll(input, 4)).containsExactly("{\"a\":\"ü\"}", "{\"b\":\"a longer message than the buffer\"}",
+				"{\"c\":3}");
+		assertThat(readAll(input, 8192)).containsExactly("{\"a\":\"ü\"}",
+				"{\"b\":\"a longer message than the buffer\"}", "{\"c\":3}");
+	}
+
+	@Test
+	void returnsNullOnEmptyInput() throws IOException {
+		assertThat(readAll("", 16)).isEmpty();
+		assertThat(readAll("\r\n\n", 16)).isEmpty();
+	}
+
+	@Test
+	void buffersUntilFlushAndKeepsMessagesOnOneLine() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		JsonLineWriter writer = new JsonLineWriter(out, 64);
+
+		writer.write("{\"a\":1}".getBytes(StandardCharsets.UTF_8));
+		writer.write("{\r\n  \"b\": \"x\\ny\"\n}".getBytes(StandardCharsets.UTF_8));
+		assertThat(out.size()).isZero();
+
+		writer.flush();
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("{\"a\":1}\n{    \"b\": \"x\\ny\" }\n");
+	}
+
+	@Test
+	void writesMessagesLargerThanTheBuffer() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		JsonLineWriter writer = new JsonLineWriter(out, 8);
+
+		writer.write("{\"a\":1}".getBytes(StandardCharsets.UTF_8));
+		writer.write("{\"message\":\"larger than the buffer\"}".getBytes(StandardCharsets.UTF_8));
+		writer.flush();
+
+		assertThat(out.toString(StandardCharsets.UTF_8))
+			.isEqualTo("{\"a\":1}\n{\"message\":\"larger than the buffer\"}\n");
+	}
+
+}
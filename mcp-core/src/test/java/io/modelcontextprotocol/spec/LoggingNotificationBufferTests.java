@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for {@link LoggingNotificationBuffer}.
+ */
+class LoggingNotificationBufferTests {
+
+	private final List<Object> delivered = new CopyOnWriteArrayList<>();
+
+	private final LoggingNotificationBuffer.Counters counters = new LoggingNotificationBuffer.Counters();
+
+	private static McpSchema.LoggingMessageNotification log(String data) {
+		return McpSchema.LoggingMessageNotification.builder()
+			.level(McpSchema.LoggingLevel.INFO)
+			.logger("test")
+			.data(data)
+			.build();
+	}
+
+	@Test
+	void deliversInOrderAndCompletesOnceWritten() {
+		LoggingNotificationBuffer buffer = new LoggingNotificationBuffer(16, this::record, this.counters);
+
+		Flux.range(1, 10).concatMap(i -> buffer.offer(log("m" + i))).blockLast(Duration.ofSeconds(5));
+
+		assertThat(this.delivered).containsExactly("m1", "m2", "m3", "m4", "m5", "m6", "m7", "m8", "m9", "m10");
+		assertThat(this.counters.delivered()).isEqualTo(10);
+		assertThat(this.counters.dropped()).isZero();
+		assertThat(buffer.queued()).isZero();
+	}
+
+	@Test
+	void dropsWhileFullAndResumesAfterDraining() {
+		Sinks.Empty<Void> gate = Sinks.empty();
+		LoggingNotificationBuffer buffer = new LoggingNotificationBuffer(2, 1,
+				notifications -> gate.asMono().then(record(notifications)), this.counters);
+
+		// The first notification is taken by the consumer, two more fill the buffer
+		buffer.offer(log("in-flight")).subscribe();
+		await().atMost(Duration.ofSeconds(5)).until(() -> buffer.queued() == 0);
+		buffer.offer(log("queued-1")).subscribe();
+		buffer.offer(log("queued-2")).subscribe();
+		buffer.offer(log("dropped")).block(Duration.ofSeconds(5));
+
+		assertThat(this.counters.dropped()).isEqualTo(1);
+		assertThat(this.counters.delivered()).isZero();
+		assertThat(this.delivered).isEmpty();
+
+		gate.tryEmitEmpty();
+		buffer.offer(log("after")).block(Duration.ofSeconds(5));
+
+		assertThat(this.delivered).containsExactly("in-flight", "queued-1", "queued-2", "after");
+		assertThat(this.counters.delivered()).isEqualTo(4);
+	}
+
+	@Test
+	void deliveryErrorFailsOnlyThatBatch() {
+		LoggingNotificationBuffer buffer = new LoggingNotificationBuffer(16, notifications -> {
+			if ("bad".equals(notifications.get(0).data())) {
+				return Mono.error(new IllegalStateException("closed"));
+			}
+			return record(notifications);
+		}, this.counters);
+
+		assertThatThrownBy(() -> buffer.offer(log("bad")).block(Duration.ofSeconds(5)))
+			.isInstanceOf(IllegalStateException.class);
+		buffer.offer(log("good")).block(Duration.ofSeconds(5));
+
+		assertThat(this.delivered).containsExactly("good");
+		assertThat(this.counters.delivered()).isEqualTo(1);
+	}
+
+	@Test
+	void writesRightAwayWhenIdleAndBatchesWhileAWriteIsInFlight() {
+		List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+		Sinks.Empty<Void> gate = Sinks.empty();
+		LoggingNotificationBuffer buffer = new LoggingNotificationBuffer(16, 4, notifications -> {
+			batchSizes.add(notifications.size());
+			return gate.asMono().then(record(notifications));
+		}, this.counters);
+
+		buffer.offer(log("first")).subscribe();
+		assertThat(batchSizes).containsExactly(1);
+		Mono<Void> burst = Flux.range(1, 8).flatMap(i -> buffer.offer(log("m" + i))).then().cache();
+		burst.subscribe();
+		assertThat(buffer.queued()).isEqualTo(8);
+
+		gate.tryEmitEmpty();
+		burst.block(Duration.ofSeconds(5));
+
+		assertThat(batchSizes).containsExactly(1, 4, 4);
+		assertThat(this.delivered).hasSize(9);
+		assertThat(this.counters.delivered()).isEqualTo(9);
+	}
+
+	@Test
+	void closeGracefullyWritesQueuedNotifications() {
+		Sinks.Empty<Void> gate = Sinks.empty();
+		LoggingNotificationBuffer buffer = new LoggingNotificationBuffer(16, 4,
+				notifications -> gate.asMono().then(record(notifications)), this.counters);
+
+		buffer.offer(log("in-flight")).subscribe();
+		Mono<Void> queued = buffer.offer(log("queued")).cache();
+		queued.subscribe();
+		Mono<Void> closed = buffer.closeGracefully().cache();
+		closed.subscribe();
+		buffer.offer(log("late")).block(Duration.ofSeconds(5));
+
+		gate.tryEmitEmpty();
+		closed.block(Duration.ofSeconds(5));
+
+		assertThat(this.delivered).containsExactly("in-flight", "queued");
+		queued.block(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void closeReleasesPendingOffers() {
+		LoggingNotificationBuffer buffer = new LoggingNotificationBuffer(16, 4,
+				notifications -> Mono.never().then(record(notifications)), this.counters);
+
+		Mono<Void> inFlight = buffer.offer(log("in-flight")).cache();
+		inFlight.subscribe();
+		Mono<Void> queued = buffer.offer(log("queued")).cache();
+		queued.subscribe();
+		buffer.close();
+
+		inFlight.block(Duration.ofSeconds(5));
+		queued.block(Duration.ofSeconds(5));
+		assertThat(this.delivered).isEmpty();
+		assertThat(this.counters.delivered()).isZero();
+		assertThat(buffer.queued()).isZero();
+	}
+
+	private Mono<Void> record(List<McpSchema.LoggingMessageNotification> notifications) {
+		return Mono.fromRunnable(() -> notifications.forEach(notification -> this.delivered.add(notification.data())));
+	}
+
+}
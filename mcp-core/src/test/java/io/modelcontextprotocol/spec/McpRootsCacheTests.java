@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link McpRootsCache}.
+ */
+class McpRootsCacheTests {
+
+	private static final List<McpSchema.Root> ROOTS = List.of(new McpSchema.Root("file:///project", "Project"));
+
+	private final McpRootsCache cache = new McpRootsCache();
+
+	private final AtomicInteger fetches = new AtomicInteger();
+
+	@Test
+	void concurrentLookupsShareOneFetch() {
+		Sinks.One<List<McpSchema.Root>> response = Sinks.one();
+		Mono<List<McpSchema.Root>> first = this.cache.get(() -> {
+			this.fetches.incrementAndGet();
+			return response.asMono();
+		});
+		Mono<List<McpSchema.Root>> second = this.cache.get(() -> Mono.error(new AssertionError("Not shared")));
+
+		AtomicInteger received = new AtomicInteger();
+		first.subscribe(roots -> received.incrementAndGet());
+		second.subscribe(roots -> received.incrementAndGet());
+		assertThat(this.cache.current()).isEmpty();
+
+		response.tryEmitValue(ROOTS);
+
+		assertThat(received).hasValue(2);
+		assertThat(this.fetches).hasValue(1);
+		assertThat(this.cache.current()).contains(ROOTS);
+	}
+
+	@Test
+	void failedFetchIsNotCached() {
+		assertThatThrownBy(() -> this.cache.get(() -> Mono.error(new McpError("unavailable"))).block())
+			.isInstanceOf(McpError.class);
+		assertThat(this.cache.current()).isEmpty();
+
+		assertThat(this.cache.get(() -> Mono.just(ROOTS)).block()).isEqualTo(ROOTS);
+		assertThat(this.cache.current()).contains(ROOTS);
+	}
+
+	@Test
+	void invalidationDiscardsResultOfFetchInFlight() {
+		Sinks.One<List<McpSchema.Root>> stale = Sinks.one();
+		Mono<List<McpSchema.Root>> inFlight = this.cache.get(() -> stale.asMono());
+		inFlight.subscribe();
+
+		this.cache.invalidate();
+		stale.tryEmitValue(List.of());
+
+		assertThat(this.cache.current()).isEmpty();
+		assertThat(this.cache.get(() -> Mono.just(ROOTS)).block()).isEqualTo(ROOTS);
+	}
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the native-image reachability metadata shipped with mcp-core registers every
+ * schema type that is bound by reflection.
+ */
+class NativeImageMetadataTests {
+
+	private static final String REFLECT_CONFIG = "/META-INF/native-image/io.modelcontextprotocol.sdk/mcp-core/reflect-config.json";
+
+	@Test
+	void everySchemaTypeIsRegisteredForReflection() throws Exception {
+		List<Map<String, Object>> entries;
+		try (InputStream in = NativeImageMetadataTests.class.getResourceAsStream(REFLECT_CONFIG)) {
+			assertThat(in).isNotNull();
+			entries = new Gson().fromJson(new InputStreamReader(in, StandardCharsets.UTF_8),
+					new TypeToken<List<Map<String, Object>>>() {
+					}.getType());
+		}
+		Set<String> registered = entries.stream().map(entry -> (String) entry.get("name")).collect(Collectors.toSet());
+
+		List<Class<?>> schemaTypes = new ArrayList<>();
+		collectSchemaTypes(McpSchema.class, schemaTypes);
+
+		assertThat(schemaTypes).isNotEmpty();
+		assertThat(registered).containsAll(schemaTypes.stream().map(Class::getName).toList());
+	}
+
+	private static void collectSchemaTypes(Class<?> type, List<Class<?>> schemaTypes) {
+		for (Class<?> nested : type.getDeclaredClasses()) {
+			if (nested.isRecord() || nested.isEnum() || nested.isInterface()) {
+				schemaTypes.add(nested);
+			}
+			collectSchemaTypes(nested, schemaTypes);
+		}
+	}
+
+}
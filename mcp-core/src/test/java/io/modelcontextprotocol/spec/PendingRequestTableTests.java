@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+
+import io.modelcontextprotocol.util.HashedWheelTimer;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for {@link PendingRequestTable}.
+ */
+class PendingRequestTableTests {
+
+	private final List<Long> sentIds = new CopyOnWriteArrayList<>();
+
+	private Mono<Void> record(Long id) {
+		this.sentIds.add(id);
+		return Mono.empty();
+	}
+
+	private static McpSchema.JSONRPCResponse response(Object id) {
+		return new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, id, "ok", null);
+	}
+
+	@Test
+	void responseCompletesRequestAndRemovesEntry() {
+		PendingRequestTable table = new PendingRequestTable(Duration.ofSeconds(5));
+
+		StepVerifier.create(table.send(this::record)).then(() -> {
+			assertThat(table.size()).isEqualTo(1);
+			// Deserializers commonly produce an Integer for small numeric ids
+			assertThat(table.complete(response(this.sentIds.get(0).intValue()))).isTrue();
+		}).assertNext(response -> assertThat(response.result()).isEqualTo("ok")).verifyComplete();
+
+		assertThat(table.size()).isZero();
+		assertThat(table.inFlight()).isZero();
+		assertThat(table.complete(response(this.sentIds.get(0)))).isFalse();
+		assertThat(table.complete(response("not-a-number"))).isFalse();
+	}
+
+	@Test
+	void timeoutRemovesEntry() {
+		PendingRequestTable table = new PendingRequestTable(Duration.ofMillis(50));
+
+		StepVerifier.create(table.send(this::record)).expectError(TimeoutException.class).verify(Duration.ofSeconds(5));
+
+		assertThat(table.size()).isZero();
+		assertThat(table.inFlight()).isZero();
+	}
+
+	@Test
+	void timeoutIsSignalledOffTheTimerThread() {
+		PendingRequestTable table = new PendingRequestTable(Duration.ofMillis(50));
+
+		StepVerifier.create(table.send(this::record))
+			.consumeErrorWith(error -> assertThat(Thread.currentThread().getName()).isNotEqualTo("mcp-request-timer"))
+			.verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void sharedTimerCannotBeStopped() {
+		assertThatIllegalStateException().isThrownBy(() -> HashedWheelTimer.shared().stop());
+	}
+
+	@Test
+	void sendErrorRemovesEntry() {
+		PendingRequestTable table = new PendingRequestTable(Duration.ofSeconds(5));
+
+		StepVerifier.create(table.send(id -> Mono.error(new IllegalStateException("broken pipe"))))
+			.expectErrorMessage("broken pipe")
+			.verify(Duration.ofSeconds(5));
+
+		assertThat(table.size()).isZero();
+	}
+
+	@Test
+	void failFastRejectsRequestsBeyondLimit() {
+		PendingRequestTable table = new PendingRequestTable(Duration.ofSeconds(5), 1,
+				PendingRequestTable.OverflowPolicy.FAIL_FAST);
+
+		Mono<McpSchema.JSONRPCResponse> first = table.send(this::record).cache();
+		first.subscribe();
+
+		StepVerifier.create(table.send(this::record))
+			.expectErrorSatisfies(error -> assertThat(error).isInstanceOf(McpError.class)
+				.hasMessageContaining("Too many in-flight requests"))
+			.verify(Duration.ofSeconds(5));
+
+		assertThat(this.sentIds).hasSize(1);
+		table.complete(response(this.sentIds.get(0)));
+		StepVerifier.create(first).expectNextCount(1).verifyComplete();
+	}
+
+	@Test
+	void queuedRequestIsSentOnceSlotFrees() {
+		PendingRequestTable table = new PendingRequestTable(Duration.ofSeconds(5), 1,
+				PendingRequestTable.OverflowPolicy.QUEUE);
+
+		Mono<McpSchema.JSONRPCResponse> first = table.send(this::record).cache();
+		Mono<McpSchema.JSONRPCResponse> second = table.send(this::record).cache();
+		first.subscribe();
+		second.subscribe();
+
+		assertThat(this.sentIds).hasSize(1);
+		assertThat(table.size()).isEqualTo(2);
+		assertThat(table.inFlight()).isEqualTo(1);
+
+		table.complete(response(this.sentIds.get(0)));
+		await().atMost(Duration.ofSeconds(5)).until(() -> this.sentIds.size() == 2);
+
+		table.complete(response(this.sentIds.get(1)));
+		StepVerifier.create(second).expectNextCount(1).verifyComplete();
+		assertThat(table.size()).isZero();
+		assertThat(table.inFlight()).isZero();
+	}
+
+	@Test
+	void cancelledQueuedRequestDoesNotHoldSlot() {
+		PendingRequestTable table = new PendingRequestTable(Duration.ofSeconds(5), 1,
+				PendingRequestTable.OverflowPolicy.QUEUE);
+
+		table.send(this::record).subscribe();
+		table.send(this::record).subscribe().dispose();
+		Mono<McpSchema.JSONRPCResponse> third = table.send(this::record).cache();
+		third.subscribe();
+
+		table.complete(response(this.sentIds.get(0)));
+		await().atMost(Duration.ofSeconds(5)).until(() -> this.sentIds.size() == 2);
+		table.complete(response(this.sentIds.get(1)));
+
+		StepVerifier.create(third).expectNextCount(1).verifyComplete();
+		assertThat(table.size()).isZero();
+	}
+
+	@Test
+	void failAllForGroupOnlyFailsItsRequests() {
+		PendingRequestTable table = new PendingRequestTable(Duration.ofSeconds(5));
+		Set<Long> group = ConcurrentHashMap.newKeySet();
+
+		Mono<McpSchema.JSONRPCResponse> grouped = table.send(this::record, group).cache();
+		Mono<McpSchema.JSONRPCResponse> other = table.send(this::record).cache();
+		grouped.subscribe(r -> {
+		}, e -> {
+		});
+		other.subscribe();
+		assertThat(group).hasSize(1);
+
+		table.failAll(group, new RuntimeException("Stream closed"));
+
+		StepVerifier.create(grouped).expectErrorMessage("Stream closed").verify(Duration.ofSeconds(5));
+		assertThat(group).isEmpty();
+		assertThat(table.size()).isEqualTo(1);
+
+		table.failAll(new RuntimeException("terminated"));
+		StepVerifier.create(other).expectErrorMessage("terminated").verify(Duration.ofSeconds(5));
+		assertThat(table.size()).isZero();
+	}
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import io.modelcontextprotocol.util.HashedWheelTimer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for {@link ProgressConflator}.
+ */
+class ProgressConflatorTests {
+
+	private final HashedWheelTimer timer = new HashedWheelTimer("progress-test-timer", Duration.ofMillis(1), 64);
+
+	private final List<McpSchema.ProgressNotification> delivered = new CopyOnWriteArrayList<>();
+
+	private final ProgressConflator.Counters counters = new ProgressConflator.Counters();
+
+	@AfterEach
+	void tearDown() {
+		this.timer.stop();
+	}
+
+	private ProgressConflator conflator(Duration interval) {
+		return new ProgressConflator(interval,
+				notification -> Mono.fromRunnable(() -> this.delivered.add(notification)), this.counters, this.timer);
+	}
+
+	private static McpSchema.ProgressNotification progress(Object token, double progress) {
+		return new McpSchema.ProgressNotification(token, progress, 100.0, null);
+	}
+
+	@Test
+	void keepsOnlyLatestNotificationPerInterval() {
+		ProgressConflator conflator = conflator(Duration.ofMillis(100));
+
+		for (int i = 1; i <= 10; i++) {
+			conflator.offer(progress("t", i)).block();
+		}
+		assertThat(this.delivered).extracting(McpSchema.ProgressNotification::progress).containsExactly(1.0);
+
+		await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(this.delivered).hasSize(2));
+		assertThat(this.delivered.get(1).progress()).isEqualTo(10.0);
+		assertThat(this.counters.delivered()).isEqualTo(2);
+		assertThat(this.counters.dropped()).isEqualTo(8);
+	}
+
+	@Test
+	void tokensAreConflatedIndependently() {
+		ProgressConflator conflator = conflator(Duration.ofSeconds(10));
+
+		conflator.offer(progress(1, 1)).block();
+		conflator.offer(progress(1L, 2)).block();
+		conflator.offer(progress("other", 1)).block();
+
+		assertThat(this.delivered).extracting(McpSchema.ProgressNotification::progressToken)
+			.containsExactly(1, "other");
+	}
+
+	@Test
+	void finalNotificationIsDeliveredImmediately() {
+		ProgressConflator conflator = conflator(Duration.ofSeconds(10));
+
+		conflator.offer(progress("t", 10)).block();
+		conflator.offer(progress("t", 50)).block();
+		conflator.offer(progress("t", 100)).block();
+
+		assertThat(this.delivered).extracting(McpSchema.ProgressNotification::progress).containsExactly(10.0, 100.0);
+		assertThat(this.counters.dropped()).isEqualTo(1);
+
+		// The token starts over once its final notification was delivered
+		conflator.offer(progress("t", 1)).block();
+		assertThat(this.delivered).hasSize(3);
+	}
+
+	@Test
+	void flushDeliversPendingAndDiscardDropsIt() {
+		ProgressConflator conflator = conflator(Duration.ofSeconds(10));
+
+		conflator.offer(progress("a", 1)).block();
+		conflator.offer(progress("a", 2)).block();
+		conflator.flush().block();
+		assertThat(this.delivered).extracting(McpSchema.ProgressNotification::progress).containsExactly(1.0, 2.0);
+
+		conflator.offer(progress("b", 1)).block();
+		conflator.offer(progress("b", 2)).block();
+		conflator.discard();
+		assertThat(this.delivered).hasSize(3);
+		assertThat(this.counters.dropped()).isEqualTo(1);
+	}
+
+	@Test
+	void flushAndFinalNotificationsWaitForTheTimerDelivery() {
+		Sinks.Empty<Void> gate = Sinks.empty();
+		CountDownLatch timerDelivery = new CountDownLatch(1);
+		ProgressConflator conflator = new ProgressConflator(Duration.ofMillis(50), notification -> {
+			if (notification.progress() == 20.0) {
+				timerDelivery.countDown();
+				return gate.asMono().then(Mono.fromRunnable(() -> this.delivered.add(notification)));
+			}
+			return Mono.fromRunnable(() -> this.delivered.add(notification));
+		}, this.counters, this.timer);
+
+		conflator.offer(progress("a", 10)).block();
+		conflator.offer(progress("a", 20)).block();
+		conflator.offer(progress("b", 10)).block();
+		await().atMost(Duration.ofSeconds(5)).until(() -> timerDelivery.getCount() == 0);
+
+		Mono<Void> finalNotification = conflator.offer(progress("a", 100)).cache();
+		finalNotification.subscribe();
+		Mono<Void> flushed = conflator.flush().cache();
+		flushed.subscribe();
+		assertThat(this.delivered).extracting(McpSchema.ProgressNotification::progress).containsExactly(10.0, 10.0);
+
+		gate.tryEmitEmpty();
+		finalNotification.block(Duration.ofSeconds(5));
+		flushed.block(Duration.ofSeconds(5));
+		assertThat(this.delivered).filteredOn(notification -> "a".equals(notification.progressToken()))
+			.extracting(McpSchema.ProgressNotification::progress)
+			.containsExactly(10.0, 20.0, 100.0);
+	}
+
+	@Test
+	void notificationsWithoutTokenAreNotConflated() {
+		ProgressConflator conflator = conflator(Duration.ofSeconds(10));
+
+		conflator.offer(progress(null, 1)).block();
+		conflator.offer(progress(null, 2)).block();
+
+		assertThat(this.delivered).hasSize(2);
+		assertThat(this.counters.dropped()).isZero();
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.spec;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TransportExecutors}.
+ */
+class TransportExecutorsTests {
+
+	private final ExecutorService blocking = Executors.newCachedThreadPool();
+
+	private final ExecutorService write = Executors.newFixedThreadPool(4);
+
+	private final TransportExecutors executors = TransportExecutors.of(this.blocking, this.write);
+
+	@AfterEach
+	void tearDown() {
+		this.blocking.shutdownNow();
+		this.write.shutdownNow();
+	}
+
+	@Test
+	void serialSchedulerRunsTasksInOrderOneAtATime() throws InterruptedException {
+		Scheduler scheduler = this.executors.newSerialScheduler();
+		List<Integer> order = new CopyOnWriteArrayList<>();
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		CountDownLatch done = new CountDownLatch(100);
+
+		IntStream.range(0, 100).forEach(i -> scheduler.schedule(() -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			order.add(i);
+			running.decrementAndGet();
+			done.countDown();
+		}));
+
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(order).containsExactlyElementsOf(IntStream.range(0, 100).boxed().toList());
+		assertThat(maxRunning).hasValue(1);
+	}
+
+	@Test
+	void disposingSchedulersLeavesExecutorsRunning() throws InterruptedException {
+		this.executors.blockingScheduler().dispose();
+		this.executors.newSerialScheduler().dispose();
+
+		assertThat(this.blocking.isShutdown()).isFalse();
+		assertThat(this.write.isShutdown()).isFalse();
+
+		CountDownLatch ran = new CountDownLatch(1);
+		this.executors.blockingScheduler().schedule(ran::countDown);
+		assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+}
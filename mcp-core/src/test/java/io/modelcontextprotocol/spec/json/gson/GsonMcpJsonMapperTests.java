@@ -100,6 +100,21 @@ class GsonMcpJsonMapperTests {
 		assertEquals("z", params.get("y"));
 	}
 
+	@Test
+	void jsonRpcMessageRoundTripsThroughBytes() throws IOException {
+		var mapper = new GsonMcpJsonMapper();
+
+		var notification = new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION, "notifications/message",
+				Map.of("data", "héllo"));
+
+		byte[] json = McpSchema.serializeJsonRpcMessageAsBytes(mapper, notification);
+		var msg = McpSchema.deserializeJsonRpcMessage(mapper, json);
+
+		assertInstanceOf(McpSchema.JSONRPCNotification.class, msg);
+		assertEquals("notifications/message", ((McpSchema.JSONRPCNotification) msg).method());
+		assertEquals(Map.of("data", "héllo"), ((McpSchema.JSONRPCNotification) msg).params());
+	}
+
 	@Test
 	void integrateWithMcpSchemaStaticMapperForStringParsing() {
 		var gsonMapper = new GsonMcpJsonMapper();
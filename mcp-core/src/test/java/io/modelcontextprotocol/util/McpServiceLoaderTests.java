@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.util;
+
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link McpServiceLoader}.
+ */
+class McpServiceLoaderTests {
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	private final AtomicInteger created = new AtomicInteger();
+
+	@Test
+	void loadsTheSupplierOnceAndCachesItsResult() {
+		McpServiceLoader<NameSupplier, String> loader = new CountingLoader(Optional.of(new NameSupplier("loaded")));
+
+		assertThat(loader.getDefault()).isEqualTo("loaded-1");
+		assertThat(loader.getDefault()).isEqualTo("loaded-1");
+		assertThat(this.loads).hasValue(1);
+		assertThat(this.created).hasValue(1);
+	}
+
+	@Test
+	void explicitSupplierReplacesTheCachedResult() {
+		McpServiceLoader<NameSupplier, String> loader = new CountingLoader(Optional.of(new NameSupplier("loaded")));
+		assertThat(loader.getDefault()).isEqualTo("loaded-1");
+
+		NameSupplier explicit = new NameSupplier("explicit");
+		loader.setSupplier(explicit);
+		assertThat(loader.getDefault()).isEqualTo("explicit-2");
+
+		loader.unsetSupplier(explicit);
+		assertThat(loader.getDefault()).isEqualTo("loaded-3");
+		assertThat(this.loads).hasValue(2);
+	}
+
+	@Test
+	void missingSupplierFailsEveryLookup() {
+		McpServiceLoader<NameSupplier, String> loader = new CountingLoader(Optional.empty());
+
+		assertThatThrownBy(loader::getDefault).isInstanceOf(ServiceConfigurationError.class);
+		assertThatThrownBy(loader::getDefault).isInstanceOf(ServiceConfigurationError.class);
+		assertThat(this.loads).hasValue(2);
+	}
+
+	private final class NameSupplier implements Supplier<String> {
+
+		private final String name;
+
+		NameSupplier(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String get() {
+			return this.name + "-" + created.incrementAndGet();
+		}
+
+	}
+
+	private final class CountingLoader extends McpServiceLoader<NameSupplier, String> {
+
+		private final Optional<NameSupplier> found;
+
+		CountingLoader(Optional<NameSupplier> found) {
+			super(NameSupplier.class);
+			this.found = found;
+		}
+
+		@Override
+		protected Optional<NameSupplier> serviceLoad(Class<NameSupplier> type) {
+			loads.incrementAndGet();
+			return this.found;
+		}
+
+	}
+
+}
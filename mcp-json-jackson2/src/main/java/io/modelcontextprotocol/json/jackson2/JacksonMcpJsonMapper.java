@@ -5,21 +5,34 @@
 package io.modelcontextprotocol.json.jackson2;
 
 import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
+import io.modelcontextprotocol.json.McpJsonCodec;
 import io.modelcontextprotocol.json.McpJsonMapper;
 import io.modelcontextprotocol.json.TypeRef;
 
 /**
  * Jackson-based implementation of JsonMapper. Wraps a Jackson ObjectMapper but keeps the
  * SDK decoupled from Jackson at the API level.
+ * <p>
+ * The resolved {@link JavaType} and an {@link ObjectReader} are cached per
+ * {@link TypeRef#getType() type}, so reading the same parameterized type again does not
+ * resolve it again. {@link #codec(TypeRef) Codecs} hold a reader and writer prepared for
+ * their type.
  */
 public final class JacksonMcpJsonMapper implements McpJsonMapper {
 
 	private final ObjectMapper objectMapper;
 
+	private final ConcurrentMap<Type, JacksonCodec<?>> codecs = new ConcurrentHashMap<>();
+
 	/**
 	 * Constructs a new JacksonMcpJsonMapper instance with the given ObjectMapper.
 	 * @param objectMapper the ObjectMapper to be used for JSON serialization and
@@ -54,14 +67,12 @@ public final class JacksonMcpJsonMapper implements McpJsonMapper {
 
 	@Override
 	public <T> T readValue(String content, TypeRef<T> type) throws IOException {
-		JavaType javaType = objectMapper.getTypeFactory().constructType(type.getType());
-		return objectMapper.readValue(content, javaType);
+		return codecFor(type).read(content);
 	}
 
 	@Override
 	public <T> T readValue(byte[] content, TypeRef<T> type) throws IOException {
-		JavaType javaType = objectMapper.getTypeFactory().constructType(type.getType());
-		return objectMapper.readValue(content, javaType);
+		return codecFor(type).read(content);
 	}
 
 	@Override
@@ -71,8 +82,7 @@ public final class JacksonMcpJsonMapper implements McpJsonMapper {
 
 	@Override
 	public <T> T convertValue(Object fromValue, TypeRef<T> type) {
-		JavaType javaType = objectMapper.getTypeFactory().constructType(type.getType());
-		return objectMapper.convertValue(fromValue, javaType);
+		return codecFor(type).convert(fromValue);
 	}
 
 	@Override
@@ -85,4 +95,59 @@ public final class JacksonMcpJsonMapper implements McpJsonMapper {
 		return objectMapper.writeValueAsBytes(value);
 	}
 
+	@Override
+	public <T> McpJsonCodec<T> codec(TypeRef<T> type) {
+		return codecFor(type);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> JacksonCodec<T> codecFor(TypeRef<T> type) {
+		return (JacksonCodec<T>) this.codecs.computeIfAbsent(type.getType(),
+				key -> new JacksonCodec<>(this.objectMapper, this.objectMapper.getTypeFactory().constructType(key)));
+	}
+
+	private static final class JacksonCodec<T> implements McpJsonCodec<T> {
+
+		private final ObjectMapper objectMapper;
+
+		private final JavaType javaType;
+
+		private final ObjectReader reader;
+
+		private final ObjectWriter writer;
+
+		JacksonCodec(ObjectMapper objectMapper, JavaType javaType) {
+			this.objectMapper = objectMapper;
+			this.javaType = javaType;
+			this.reader = objectMapper.readerFor(javaType);
+			this.writer = objectMapper.writerFor(javaType);
+		}
+
+		@Override
+		public T read(String content) throws IOException {
+			return this.reader.readValue(content);
+		}
+
+		@Override
+		public T read(byte[] content) throws IOException {
+			return this.reader.readValue(content);
+		}
+
+		@Override
+		public T convert(Object fromValue) {
+			return this.objectMapper.convertValue(fromValue, this.javaType);
+		}
+
+		@Override
+		public String writeAsString(T value) throws IOException {
+			return this.writer.writeValueAsString(value);
+		}
+
+		@Override
+		public byte[] writeAsBytes(T value) throws IOException {
+			return this.writer.writeValueAsBytes(value);
+		}
+
+	}
+
 }
@@ -12,7 +12,8 @@ import io.modelcontextprotocol.json.McpJsonMapperSupplier;
  * serialization and deserialization.
  * <p>
  * This implementation provides a {@link McpJsonMapper} backed by a Jackson
- * {@link com.fasterxml.jackson.databind.ObjectMapper}.
+ * {@link com.fasterxml.jackson.databind.ObjectMapper} with the {@link McpSchemaModule}
+ * registered.
  */
 public class JacksonMcpJsonMapperSupplier implements McpJsonMapperSupplier {
 
@@ -21,12 +22,14 @@ public class JacksonMcpJsonMapperSupplier implements McpJsonMapperSupplier {
 	 * JSON serialization and deserialization.
 	 * <p>
 	 * The returned {@link McpJsonMapper} is backed by a new instance of
-	 * {@link com.fasterxml.jackson.databind.ObjectMapper}.
+	 * {@link com.fasterxml.jackson.databind.ObjectMapper} with the
+	 * {@link McpSchemaModule} registered.
 	 * @return a new {@link McpJsonMapper} instance
 	 */
 	@Override
 	public McpJsonMapper get() {
-		return new JacksonMcpJsonMapper(new com.fasterxml.jackson.databind.ObjectMapper());
+		return new JacksonMcpJsonMapper(
+				new com.fasterxml.jackson.databind.ObjectMapper().registerModule(new McpSchemaModule()));
 	}
 
 }
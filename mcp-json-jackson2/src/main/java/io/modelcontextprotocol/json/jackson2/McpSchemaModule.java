@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.json.jackson2;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCNotification;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCRequest;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCResponse;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCResponse.JSONRPCError;
+
+/**
+ * Jackson module with hand-written streaming serializers for the JSON-RPC envelope of
+ * every MCP message: {@link JSONRPCRequest}, {@link JSONRPCNotification},
+ * {@link JSONRPCResponse} and {@link JSONRPCError}. They write the same JSON as the
+ * annotations on these records, omitting absent fields, without introspecting the
+ * records. Params and results are written by the mapper as before.
+ * <p>
+ * The mapper returned by {@link JacksonMcpJsonMapperSupplier} registers this module. To
+ * use it with an existing {@link com.fasterxml.jackson.databind.ObjectMapper}, register
+ * it before wrapping the mapper in a {@link JacksonMcpJsonMapper}.
+ */
+public class McpSchemaModule extends SimpleModule {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Creates the module.
+	 */
+	public McpSchemaModule() {
+		super(McpSchemaModule.class.getSimpleName());
+		addSerializer(JSONRPCRequest.class, new JsonRpcRequestSerializer());
+		addSerializer(JSONRPCNotification.class, new JsonRpcNotificationSerializer());
+		addSerializer(JSONRPCResponse.class, new JsonRpcResponseSerializer());
+		addSerializer(JSONRPCError.class, new JsonRpcErrorSerializer());
+	}
+
+	private static void writeOptionalField(String name, Object value, JsonGenerator generator,
+			SerializerProvider provider) throws IOException {
+		if (value != null) {
+			generator.writeFieldName(name);
+			provider.defaultSerializeValue(value, generator);
+		}
+	}
+
+	private static void writeOptionalString(String name, String value, JsonGenerator generator) throws IOException {
+		if (value != null) {
+			generator.writeStringField(name, value);
+		}
+	}
+
+	private static final class JsonRpcRequestSerializer extends StdSerializer<JSONRPCRequest> {
+
+		JsonRpcRequestSerializer() {
+			super(JSONRPCRequest.class);
+		}
+
+		@Override
+		public void serialize(JSONRPCRequest request, JsonGenerator generator, SerializerProvider provider)
+				throws IOException {
+			generator.writeStartObject(request);
+			writeOptionalString("jsonrpc", request.jsonrpc(), generator);
+			writeOptionalString("method", request.method(), generator);
+			writeOptionalField("id", request.id(), generator, provider);
+			writeOptionalField("params", request.params(), generator, provider);
+			generator.writeEndObject();
+		}
+
+	}
+
+	private static final class JsonRpcNotificationSerializer extends StdSerializer<JSONRPCNotification> {
+
+		JsonRpcNotificationSerializer() {
+			super(JSONRPCNotification.class);
+		}
+
+		@Override
+		public void serialize(JSONRPCNotification notification, JsonGenerator generator, SerializerProvider provider)
+				throws IOException {
+			generator.writeStartObject(notification);
+			writeOptionalString("jsonrpc", notification.jsonrpc(), generator);
+			writeOptionalString("method", notification.method(), generator);
+			writeOptionalField("params", notification.params(), generator, provider);
+			generator.writeEndObject();
+		}
+
+	}
+
+	private static final class JsonRpcResponseSerializer extends StdSerializer<JSONRPCResponse> {
+
+		JsonRpcResponseSerializer() {
+			super(JSONRPCResponse.class);
+		}
+
+		@Override
+		public void serialize(JSONRPCResponse response, JsonGenerator generator, SerializerProvider provider)
+				throws IOException {
+			generator.writeStartObject(response);
+			writeOptionalString("jsonrpc", response.jsonrpc(), generator);
+			writeOptionalField("id", response.id(), generator, provider);
+			writeOptionalField("result", response.result(), generator, provider);
+			writeOptionalField("error", response.error(), generator, provider);
+			generator.writeEndObject();
+		}
+
+	}
+
+	private static final class JsonRpcErrorSerializer extends StdSerializer<JSONRPCError> {
+
+		JsonRpcErrorSerializer() {
+			super(JSONRPCError.class);
+		}
+
+		@Override
+		public void serialize(JSONRPCError error, JsonGenerator generator, SerializerProvider provider)
+				throws IOException {
+			generator.writeStartObject(error);
+			if (error.code() != null) {
+				generator.writeNumberField("code", error.code());
+			}
+			writeOptionalString("message", error.message(), generator);
+			writeOptionalField("data", error.data(), generator, provider);
+			generator.writeEndObject();
+		}
+
+	}
+
+}
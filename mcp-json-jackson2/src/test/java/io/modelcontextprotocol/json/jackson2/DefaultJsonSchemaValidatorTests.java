@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -28,6 +29,7 @@ import org.mockito.MockitoAnnotations;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.modelcontextprotocol.json.schema.JsonSchemaValidator;
 import io.modelcontextprotocol.json.schema.JsonSchemaValidator.ValidationResponse;
 import io.modelcontextprotocol.json.schema.jackson2.DefaultJsonSchemaValidator;
 
@@ -768,6 +770,35 @@ class DefaultJsonSchemaValidatorTests {
 						""")));
 	}
 
+	@Test
+	void testCompiledSchemaValidatesManyValues() {
+		String schemaJson = """
+				{
+					"type": "object",
+					"properties": {
+						"name": {"type": "string"},
+						"age": {"type": "integer"}
+					},
+					"required": ["name"]
+				}
+				""";
+
+		JsonSchemaValidator.CompiledSchema compiled = validator.compile(toMap(schemaJson));
+
+		assertEquals(1, validator.getCacheSize());
+		assertTrue(compiled.validate(toMap("{\"name\": \"John\", \"age\": 30}")).valid());
+		assertTrue(compiled.validate("{\"name\": \"Jane\"}").valid());
+		ValidationResponse invalid = compiled.validate(toMap("{\"age\": \"thirty\"}"));
+		assertFalse(invalid.valid());
+		assertTrue(invalid.errorMessage().contains("Validation failed"));
+		assertEquals(1, validator.getCacheSize());
+	}
+
+	@Test
+	void testCompileRejectsNullSchema() {
+		assertThrows(IllegalArgumentException.class, () -> validator.compile(null));
+	}
+
 	@Test
 	void testValidationResponseToValid() {
 		String jsonOutput = "{\"test\":\"value\"}";
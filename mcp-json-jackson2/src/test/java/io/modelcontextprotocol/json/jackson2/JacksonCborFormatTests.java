@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.json.jackson2;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+/**
+ * Tests for {@link JacksonCborFormat}.
+ */
+class JacksonCborFormatTests {
+
+	private final JacksonMcpJsonMapper jsonMapper = new JacksonMcpJsonMapper(new ObjectMapper());
+
+	private final JacksonCborFormat cbor = new JacksonCborFormat();
+
+	@Test
+	void roundTripsRequestsNotificationsAndResponses() throws IOException {
+		McpSchema.JSONRPCRequest request = new McpSchema.JSONRPCRequest("2.0", "tools/call", "request-1",
+				Map.of("name", "search", "arguments", Map.of("query", "café ☕", "tags", List.of("a", "b"))));
+		assertThat(roundTrip(request)).isEqualTo(request);
+
+		McpSchema.JSONRPCNotification notification = new McpSchema.JSONRPCNotification("2.0",
+				"notifications/initialized", null);
+		assertThat(roundTrip(notification)).isEqualTo(notification);
+
+		McpSchema.JSONRPCResponse response = (McpSchema.JSONRPCResponse) roundTrip(new McpSchema.JSONRPCResponse("2.0",
+				"request-1", Map.of("isError", false, "structuredContent", Map.of("empty", List.of())), null));
+		assertThat(response.id()).isEqualTo("request-1");
+		assertThat(response.result())
+			.isEqualTo(Map.of("isError", false, "structuredContent", Map.of("empty", List.of())));
+		assertThat(response.error()).isNull();
+
+		McpSchema.JSONRPCResponse error = (McpSchema.JSONRPCResponse) roundTrip(new McpSchema.JSONRPCResponse("2.0",
+				"request-2", null, new McpSchema.JSONRPCResponse.JSONRPCError(-32601, "Method not found", null)));
+		assertThat(error.error().code()).isEqualTo(-32601);
+		assertThat(error.error().message()).isEqualTo("Method not found");
+	}
+
+	@Test
+	void roundTripsNumbers() throws IOException {
+		Map<String, Object> values = new HashMap<>();
+		values.put("small", 23);
+		values.put("negative", -1_000_000);
+		values.put("long", Long.MAX_VALUE);
+		values.put("minLong", Long.MIN_VALUE);
+		values.put("half", 0.5);
+		values.put("pi", Math.PI);
+
+		Map<?, ?> read = (Map<?, ?>) ((McpSchema.JSONRPCNotification) roundTrip(
+				new McpSchema.JSONRPCNotification("2.0", "notifications/values", values)))
+			.params();
+
+		assertThat(((Number) read.get("small")).longValue()).isEqualTo(23);
+		assertThat(((Number) read.get("negative")).longValue()).isEqualTo(-1_000_000);
+		assertThat(((Number) read.get("long")).longValue()).isEqualTo(Long.MAX_VALUE);
+		assertThat(((Number) read.get("minLong")).longValue()).isEqualTo(Long.MIN_VALUE);
+		assertThat(((Number) read.get("half")).doubleValue()).isEqualTo(0.5);
+		assertThat(((Number) read.get("pi")).doubleValue()).isEqualTo(Math.PI);
+	}
+
+	@Test
+	void carriesBase64DataAsRawBytes() throws IOException {
+		byte[] image = new byte[4096];
+		new Random(42).nextBytes(image);
+		String data = Base64.getEncoder().encodeToString(image);
+		McpSchema.JSONRPCResponse response = new McpSchema.JSONRPCResponse("2.0", "request-1",
+				Map.of("content", List.of(Map.of("type", "image", "data", data, "mimeType", "image/png")), "resources",
+						List.of(Map.of("uri", "file:///image.png", "blob", data))),
+				null);
+
+		byte[] encoded = this.cbor.write(this.jsonMapper, response);
+		// Twice the raw image, rather than twice its base64 text
+		assertThat(encoded.length).isLessThan(2 * image.length + 256);
+
+		Map<?, ?> result = (Map<?, ?>) ((McpSchema.JSONRPCResponse) this.cbor.read(this.jsonMapper, encoded)).result();
+		assertThat(((Map<?, ?>) ((List<?>) result.get("content")).get(0)).get("data")).isEqualTo(data);
+		assertThat(((Map<?, ?>) ((List<?>) result.get("resources")).get(0)).get("blob")).isEqualTo(data);
+	}
+
+	@Test
+	void keepsValuesThatAreNotCanonicalBase64AsText() throws IOException {
+		Map<String, Object> arguments = Map.of("type", "image", "data", "abc");
+		Map<String, Object> structuredContent = Map.of("uri", "file:///notes.txt", "blob", "YR==");
+		McpSchema.JSONRPCRequest request = new McpSchema.JSONRPCRequest("2.0", McpSchema.METHOD_TOOLS_CALL, "request-1",
+				Map.of("name", "echo", "arguments", arguments));
+		McpSchema.JSONRPCResponse response = new McpSchema.JSONRPCResponse("2.0", "request-1",
+				Map.of("content", List.of(), "structuredContent", structuredContent), null);
+
+		Map<?, ?> params = (Map<?, ?>) ((McpSchema.JSONRPCRequest) roundTrip(request)).params();
+		Map<?, ?> result = (Map<?, ?>) ((McpSchema.JSONRPCResponse) roundTrip(response)).result();
+		assertThat(params.get("arguments")).isEqualTo(arguments);
+		assertThat(result.get("structuredContent")).isEqualTo(structuredContent);
+	}
+
+	@Test
+	void isSmallerThanJson() throws IOException {
+		McpSchema.JSONRPCResponse response = new McpSchema.JSONRPCResponse("2.0", 1, Map.of("tools", tools(100)), null);
+
+		assertThat(this.cbor.write(this.jsonMapper, response).length)
+			.isLessThan(this.jsonMapper.writeValueAsBytes(response).length);
+	}
+
+	@Test
+	void rejectsMalformedContent() throws IOException {
+		byte[] ping = this.cbor.write(this.jsonMapper, new McpSchema.JSONRPCRequest("2.0", "ping", 1, null));
+
+		byte[] truncated = new byte[ping.length - 1];
+		System.arraycopy(ping, 0, truncated, 0, truncated.length);
+		assertThatIOException().isThrownBy(() -> this.cbor.read(this.jsonMapper, truncated));
+
+		byte[] trailing = new byte[ping.length + 1];
+		System.arraycopy(ping, 0, trailing, 0, ping.length);
+		assertThatIOException().isThrownBy(() -> this.cbor.read(this.jsonMapper, trailing));
+
+		// A string, then a map without method, result or error
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.cbor.read(this.jsonMapper, new byte[] { 0x64, 'p', 'i', 'n', 'g' }));
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.cbor.read(this.jsonMapper, new byte[] { (byte) 0xa0 }));
+	}
+
+	private static List<Map<String, Object>> tools(int count) {
+		List<Map<String, Object>> tools = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			tools.add(Map.of("name", "tool-" + i, "description",
+					"Looks up the records of the catalog matching a query, page by page", "inputSchema",
+					Map.of("type", "object", "properties",
+							Map.of("query", Map.of("type", "string", "description", "The query"), "page",
+									Map.of("type", "integer", "description", "The page, starting at 1")),
+							"required", List.of("query"))));
+		}
+		return tools;
+	}
+
+	private McpSchema.JSONRPCMessage roundTrip(McpSchema.JSONRPCMessage message) throws IOException {
+		return this.cbor.read(this.jsonMapper, this.cbor.write(this.jsonMapper, message));
+	}
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.json.jackson2;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.json.McpJsonCodec;
+import io.modelcontextprotocol.json.TypeRef;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the codecs of {@link JacksonMcpJsonMapper}.
+ */
+class JacksonMcpJsonMapperTests {
+
+	private final JacksonMcpJsonMapper mapper = new JacksonMcpJsonMapper(new ObjectMapper());
+
+	@Test
+	void codecsAreResolvedOncePerType() {
+		McpJsonCodec<List<McpSchema.Root>> first = this.mapper.codec(new TypeRef<List<McpSchema.Root>>() {
+		});
+		McpJsonCodec<List<McpSchema.Root>> second = this.mapper.codec(new TypeRef<List<McpSchema.Root>>() {
+		});
+
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	void codecReadsWritesAndConverts() throws IOException {
+		McpJsonCodec<McpSchema.CallToolRequest> codec = this.mapper.codec(new TypeRef<>() {
+		});
+		McpSchema.CallToolRequest request = new McpSchema.CallToolRequest("echo", Map.of("text", "hi"));
+
+		byte[] json = codec.writeAsBytes(request);
+		assertThat(codec.read(json)).isEqualTo(request);
+		assertThat(codec.read(new String(json, StandardCharsets.UTF_8))).isEqualTo(request);
+		assertThat(codec.writeAsString(request)).isEqualTo(new String(json, StandardCharsets.UTF_8));
+		assertThat(codec.convert(Map.of("name", "echo", "arguments", Map.of("text", "hi")))).isEqualTo(request);
+	}
+
+	@Test
+	void typeRefReadsUseTheCachedCodec() throws IOException {
+		TypeRef<Map<String, List<Integer>>> type = new TypeRef<>() {
+		};
+
+		assertThat(this.mapper.readValue("{\"a\":[1,2]}", type)).containsEntry("a", List.of(1, 2));
+		assertThat(this.mapper.convertValue(Map.of("b", List.of(3)), type)).containsEntry("b", List.of(3));
+		assertThat(this.mapper.codec(type).read("{\"c\":[]}".getBytes(StandardCharsets.UTF_8))).containsEntry("c",
+				List.of());
+	}
+
+}
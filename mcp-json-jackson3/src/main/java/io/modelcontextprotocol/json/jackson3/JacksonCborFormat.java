@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.json.jackson3;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.json.TypeRef;
+import io.modelcontextprotocol.spec.McpBinaryFormat;
+import io.modelcontextprotocol.spec.McpSchema;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+/**
+ * CBOR (RFC 8949) {@link McpBinaryFormat}, under the {@code application/cbor} content
+ * type, backed by {@code jackson-dataformat-cbor}, which has to be added to the
+ * application.
+ * <p>
+ * Messages are turned into maps, lists and values by the JSON mapper of the transport,
+ * then written with the CBOR types matching JSON. The base64 {@code data} of image and
+ * audio content and the {@code blob} of resource contents are written as byte strings,
+ * and turned back into base64 when read. Values that would not read back as the same
+ * text, such as unpadded base64, are written as text strings.
+ */
+public final class JacksonCborFormat implements McpBinaryFormat {
+
+	/**
+	 * The content type of CBOR messages.
+	 */
+	public static final String CONTENT_TYPE = "application/cbor";
+
+	private static final TypeRef<LinkedHashMap<String, Object>> MAP_TYPE_REF = new TypeRef<>() {
+	};
+
+	private final CBORMapper cborMapper;
+
+	/**
+	 * Creates a format with a default {@link CBORMapper}.
+	 */
+	public JacksonCborFormat() {
+		this(CBORMapper.builder().enable(DeserializationFeature.FAIL_ON_TRAILING_TOKENS).build());
+	}
+
+	/**
+	 * Creates a format writing and reading with the given mapper.
+	 * @param cborMapper the CBOR mapper. Must not be null.
+	 * @throws IllegalArgumentException if the provided CBORMapper is null.
+	 */
+	public JacksonCborFormat(CBORMapper cborMapper) {
+		if (cborMapper == null) {
+			throw new IllegalArgumentException("CBORMapper must not be null");
+		}
+		this.cborMapper = cborMapper;
+	}
+
+	@Override
+	public String contentType() {
+		return CONTENT_TYPE;
+	}
+
+	@Override
+	public byte[] write(McpJsonMapper jsonMapper, McpSchema.JSONRPCMessage message) throws IOException {
+		LinkedHashMap<String, Object> map = jsonMapper.convertValue(message, MAP_TYPE_REF);
+		encodeBase64Fields(map);
+		try {
+			return this.cborMapper.writeValueAsBytes(map);
+		}
+		catch (JacksonException ex) {
+			throw new IOException("Failed to write value as CBOR", ex);
+		}
+	}
+
+	@Override
+	public McpSchema.JSONRPCMessage read(McpJsonMapper jsonMapper, byte[] content) throws IOException {
+		Object value;
+		try {
+			value = this.cborMapper.readValue(content, Object.class);
+		}
+		catch (JacksonException ex) {
+			throw new IOException("Failed to read value as CBOR", ex);
+		}
+		if (!(value instanceof Map<?, ?>)) {
+			throw new IllegalArgumentException("Cannot deserialize JSONRPCMessage: " + value);
+		}
+		@SuppressWarnings("unchecked")
+		Map<String, Object> map = (Map<String, Object>) value;
+		decodeByteStrings(map);
+		return McpSchema.toJsonRpcMessage(map);
+	}
+
+	/**
+	 * Replaces the canonical base64 fields of the objects of a converted message with
+	 * their bytes.
+	 */
+	@SuppressWarnings("unchecked")
+	private static void encodeBase64Fields(Object value) {
+		if (value instanceof Map<?, ?> map) {
+			String base64Field = base64Field(map);
+			for (Map.Entry<?, Object> entry : ((Map<?, Object>) map).entrySet()) {
+				if (entry.getKey().equals(base64Field)) {
+					byte[] bytes = decodeCanonicalBase64((String) entry.getValue());
+					if (bytes != null) {
+						entry.setValue(bytes);
+					}
+				}
+				else {
+					encodeBase64Fields(entry.getValue());
+				}
+			}
+		}
+		else if (value instanceof List<?> list) {
+			for (Object element : list) {
+				encodeBase64Fields(element);
+			}
+		}
+	}
+
+	/**
+	 * Replaces the byte strings of a read message with their base64 text, since messages
+	 * have no other representation for them.
+	 */
+	@SuppressWarnings("unchecked")
+	private static void decodeByteStrings(Object value) {
+		if (value instanceof Map<?, ?> map) {
+			for (Map.Entry<?, Object> entry : ((Map<?, Object>) map).entrySet()) {
+				if (entry.getValue() instanceof byte[] bytes) {
+					entry.setValue(Base64.getEncoder().encodeToString(bytes));
+				}
+				else {
+					decodeByteStrings(entry.getValue());
+				}
+			}
+		}
+		else if (value instanceof List<?> list) {
+			for (ListIterator<Object> iterator = ((List<Object>) list).listIterator(); iterator.hasNext();) {
+				Object element = iterator.next();
+				if (element instanceof byte[] bytes) {
+					iterator.set(Base64.getEncoder().encodeToString(bytes));
+				}
+				else {
+					decodeByteStrings(element);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the key of the base64 field of an object, if it has one.
+	 */
+	private static String base64Field(Map<?, ?> map) {
+		Object type = map.get("type");
+		if (("image".equals(type) || "audio".equals(type)) && map.get("data") instanceof String) {
+			return "data";
+		}
+		if (map.get("blob") instanceof String && map.containsKey("uri")) {
+			return "blob";
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the bytes of a base64 value, or null if it is not canonical base64 and so
+	 * would not read back as the same text.
+	 */
+	private static byte[] decodeCanonicalBase64(String base64) {
+		byte[] bytes;
+		try {
+			bytes = Base64.getDecoder().decode(base64);
+		}
+		catch (IllegalArgumentException e) {
+			return null;
+		}
+		return Base64.getEncoder().encodeToString(bytes).equals(base64) ? bytes : null;
+	}
+
+}
@@ -5,22 +5,35 @@
 package io.modelcontextprotocol.json.jackson3;
 
 import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import io.modelcontextprotocol.json.McpJsonCodec;
 import io.modelcontextprotocol.json.McpJsonMapper;
 import io.modelcontextprotocol.json.TypeRef;
 
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
 import tools.jackson.databind.json.JsonMapper;
 
 /**
  * Jackson-based implementation of JsonMapper. Wraps a Jackson JsonMapper but keeps the
  * SDK decoupled from Jackson at the API level.
+ * <p>
+ * The resolved {@link JavaType} and an {@link ObjectReader} are cached per
+ * {@link TypeRef#getType() type}, so reading the same parameterized type again does not
+ * resolve it again. {@link #codec(TypeRef) Codecs} hold a reader and writer prepared for
+ * their type.
  */
 public final class JacksonMcpJsonMapper implements McpJsonMapper {
 
 	private final JsonMapper jsonMapper;
 
+	private final ConcurrentMap<Type, JacksonCodec<?>> codecs = new ConcurrentHashMap<>();
+
 	/**
 	 * Constructs a new JacksonMcpJsonMapper instance with the given JsonMapper.
 	 * @param jsonMapper the JsonMapper to be used for JSON serialization and
@@ -65,24 +78,12 @@ public final class JacksonMcpJsonMapper implements McpJsonMapper {
 
 	@Override
 	public <T> T readValue(String content, TypeRef<T> type) throws IOException {
-		JavaType javaType = jsonMapper.getTypeFactory().constructType(type.getType());
-		try {
-			return jsonMapper.readValue(content, javaType);
-		}
-		catch (JacksonException ex) {
-			throw new IOException("Failed to read value", ex);
-		}
+		return codecFor(type).read(content);
 	}
 
 	@Override
 	public <T> T readValue(byte[] content, TypeRef<T> type) throws IOException {
-		JavaType javaType = jsonMapper.getTypeFactory().constructType(type.getType());
-		try {
-			return jsonMapper.readValue(content, javaType);
-		}
-		catch (JacksonException ex) {
-			throw new IOException("Failed to read value", ex);
-		}
+		return codecFor(type).read(content);
 	}
 
 	@Override
@@ -92,8 +93,7 @@ public final class JacksonMcpJsonMapper implements McpJsonMapper {
 
 	@Override
 	public <T> T convertValue(Object fromValue, TypeRef<T> type) {
-		JavaType javaType = jsonMapper.getTypeFactory().constructType(type.getType());
-		return jsonMapper.convertValue(fromValue, javaType);
+		return codecFor(type).convert(fromValue);
 	}
 
 	@Override
@@ -116,4 +116,79 @@ public final class JacksonMcpJsonMapper implements McpJsonMapper {
 		}
 	}
 
+	@Override
+	public <T> McpJsonCodec<T> codec(TypeRef<T> type) {
+		return codecFor(type);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> JacksonCodec<T> codecFor(TypeRef<T> type) {
+		return (JacksonCodec<T>) this.codecs.computeIfAbsent(type.getType(),
+				key -> new JacksonCodec<>(this.jsonMapper, this.jsonMapper.getTypeFactory().constructType(key)));
+	}
+
+	private static final class JacksonCodec<T> implements McpJsonCodec<T> {
+
+		private final JsonMapper jsonMapper;
+
+		private final JavaType javaType;
+
+		private final ObjectReader reader;
+
+		private final ObjectWriter writer;
+
+		JacksonCodec(JsonMapper jsonMapper, JavaType javaType) {
+			this.jsonMapper = jsonMapper;
+			this.javaType = javaType;
+			this.reader = jsonMapper.readerFor(javaType);
+			this.writer = jsonMapper.writerFor(javaType);
+		}
+
+		@Override
+		public T read(String content) throws IOException {
+			try {
+				return this.reader.readValue(content);
+			}
+			catch (JacksonException ex) {
+				throw new IOException("Failed to read value", ex);
+			}
+		}
+
+		@Override
+		public T read(byte[] content) throws IOException {
+			try {
+				return this.reader.readValue(content);
+			}
+			catch (JacksonException ex) {
+				throw new IOException("Failed to read value", ex);
+			}
+		}
+
+		@Override
+		public T convert(Object fromValue) {
+			return this.jsonMapper.convertValue(fromValue, this.javaType);
+		}
+
+		@Override
+		public String writeAsString(T value) throws IOException {
+			try {
+				return this.writer.writeValueAsString(value);
+			}
+			catch (JacksonException ex) {
+				throw new IOException("Failed to write value as string", ex);
+			}
+		}
+
+		@Override
+		public byte[] writeAsBytes(T value) throws IOException {
+			try {
+				return this.writer.writeValueAsBytes(value);
+			}
+			catch (JacksonException ex) {
+				throw new IOException("Failed to write value as bytes", ex);
+			}
+		}
+
+	}
+
 }
@@ -13,22 +13,24 @@ import io.modelcontextprotocol.json.McpJsonMapperSupplier;
  * A supplier of {@link McpJsonMapper} instances that uses the Jackson library for JSON
  * serialization and deserialization.
  * <p>
- * This implementation provides a {@link McpJsonMapper} backed by
- * {@link JsonMapper#shared() JsonMapper shared instance}.
+ * This implementation provides a {@link McpJsonMapper} backed by a shared
+ * {@link JsonMapper} with default settings and the {@link McpSchemaModule} registered.
  */
 public class JacksonMcpJsonMapperSupplier implements McpJsonMapperSupplier {
 
+	private static final JsonMapper JSON_MAPPER = JsonMapper.builder().addModule(new McpSchemaModule()).build();
+
 	/**
 	 * Returns a new instance of {@link McpJsonMapper} that uses the Jackson library for
 	 * JSON serialization and deserialization.
 	 * <p>
-	 * The returned {@link McpJsonMapper} is backed by {@link JsonMapper#shared()
-	 * JsonMapper shared instance}.
+	 * The returned {@link McpJsonMapper} is backed by a shared {@link JsonMapper} with
+	 * the {@link McpSchemaModule} registered.
 	 * @return a new {@link McpJsonMapper} instance
 	 */
 	@Override
 	public McpJsonMapper get() {
-		return new JacksonMcpJsonMapper(JsonMapper.shared());
+		return new JacksonMcpJsonMapper(JSON_MAPPER);
 	}
 
 }
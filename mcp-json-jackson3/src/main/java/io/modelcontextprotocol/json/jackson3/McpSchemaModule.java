@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.json.jackson3;
+
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCNotification;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCRequest;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCResponse;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCResponse.JSONRPCError;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson module with hand-written streaming serializers for the JSON-RPC envelope of
+ * every MCP message: {@link JSONRPCRequest}, {@link JSONRPCNotification},
+ * {@link JSONRPCResponse} and {@link JSONRPCError}. They write the same JSON as the
+ * annotations on these records, omitting absent fields, without introspecting the
+ * records. Params and results are written by the mapper as before.
+ * <p>
+ * The mapper returned by {@link JacksonMcpJsonMapperSupplier} registers this module. To
+ * use it with an existing {@link tools.jackson.databind.json.JsonMapper}, register it
+ * before wrapping the mapper in a {@link JacksonMcpJsonMapper}.
+ */
+public class McpSchemaModule extends SimpleModule {
+
+	/**
+	 * Creates the module.
+	 */
+	public McpSchemaModule() {
+		super(McpSchemaModule.class.getSimpleName());
+		addSerializer(JSONRPCRequest.class, new JsonRpcRequestSerializer());
+		addSerializer(JSONRPCNotification.class, new JsonRpcNotificationSerializer());
+		addSerializer(JSONRPCResponse.class, new JsonRpcResponseSerializer());
+		addSerializer(JSONRPCError.class, new JsonRpcErrorSerializer());
+	}
+
+	private static void writeOptionalField(String name, Object value, JsonGenerator generator,
+			SerializationContext context) {
+		if (value != null) {
+			generator.writeName(name);
+			context.writeValue(generator, value);
+		}
+	}
+
+	private static void writeOptionalString(String name, String value, JsonGenerator generator) {
+		if (value != null) {
+			generator.writeStringProperty(name, value);
+		}
+	}
+
+	private static final class JsonRpcRequestSerializer extends StdSerializer<JSONRPCRequest> {
+
+		JsonRpcRequestSerializer() {
+			super(JSONRPCRequest.class);
+		}
+
+		@Override
+		public void serialize(JSONRPCRequest request, JsonGenerator generator, SerializationContext context) {
+			generator.writeStartObject(request);
+			writeOptionalString("jsonrpc", request.jsonrpc(), generator);
+			writeOptionalString("method", request.method(), generator);
+			writeOptionalField("id", request.id(), generator, context);
+			writeOptionalField("params", request.params(), generator, context);
+			generator.writeEndObject();
+		}
+
+	}
+
+	private static final class JsonRpcNotificationSerializer extends StdSerializer<JSONRPCNotification> {
+
+		JsonRpcNotificationSerializer() {
+			super(JSONRPCNotification.class);
+		}
+
+		@Override
+		public void serialize(JSONRPCNotification notification, JsonGenerator generator, SerializationContext context) {
+			generator.writeStartObject(notification);
+			writeOptionalString("jsonrpc", notification.jsonrpc(), generator);
+			writeOptionalString("method", notification.method(), generator);
+			writeOptionalField("params", notification.params(), generator, context);
+			generator.writeEndObject();
+		}
+
+	}
+
+	private static final class JsonRpcResponseSerializer extends StdSerializer<JSONRPCResponse> {
+
+		JsonRpcResponseSerializer() {
+			super(JSONRPCResponse.class);
+		}
+
+		@Override
+		public void serialize(JSONRPCResponse response, JsonGenerator generator, SerializationContext context) {
+			generator.writeStartObject(response);
+			writeOptionalString("jsonrpc", response.jsonrpc(), generator);
+			writeOptionalField("id", response.id(), generator, context);
+			writeOptionalField("result", response.result(), generator, context);
+			writeOptionalField("error", response.error(), generator, context);
+			generator.writeEndObject();
+		}
+
+	}
+
+	private static final class JsonRpcErrorSerializer extends StdSerializer<JSONRPCError> {
+
+		JsonRpcErrorSerializer() {
+			super(JSONRPCError.class);
+		}
+
+		@Override
+		public void serialize(JSONRPCError error, JsonGenerator generator, SerializationContext context) {
+			generator.writeStartObject(error);
+			if (error.code() != null) {
+				generator.writeNumberProperty("code", error.code());
+			}
+			writeOptionalString("message", error.message(), generator);
+			writeOptionalField("data", error.data(), generator, context);
+			generator.writeEndObject();
+		}
+
+	}
+
+}
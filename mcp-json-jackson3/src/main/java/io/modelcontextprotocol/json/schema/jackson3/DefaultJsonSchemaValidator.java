@@ -57,22 +57,63 @@ public class DefaultJsonSchemaValidator implements JsonSchemaValidator {
 			throw new IllegalArgumentException("Structured content must not be null");
 		}
 
+		Schema compiledSchema;
+		try {
+			compiledSchema = this.getOrCreateJsonSchema(schema);
+		}
+		catch (JacksonException e) {
+			logger.error("Failed to validate CallToolResult: Error parsing schema: {}", e);
+			return ValidationResponse.asInvalid("Error parsing tool JSON Schema: " + e.getMessage());
+		}
+		catch (Exception e) {
+			logger.error("Failed to validate CallToolResult: Unexpected error: {}", e);
+			return ValidationResponse.asInvalid("Unexpected validation error: " + e.getMessage());
+		}
+		return validate(compiledSchema, structuredContent,
+				"Validation failed: structuredContent does not match tool outputSchema. ");
+	}
+
+	/**
+	 * Compiles the schema once, or takes it from the cache, so that validating values
+	 * against the returned schema does no schema processing.
+	 * @param schema the schema map to compile
+	 * @return the compiled schema
+	 * @throws IllegalArgumentException if the schema is null or cannot be compiled
+	 */
+	@Override
+	public CompiledSchema compile(Map<String, Object> schema) {
+		if (schema == null) {
+			throw new IllegalArgumentException("Schema must not be null");
+		}
+		Schema compiledSchema;
+		try {
+			compiledSchema = this.getOrCreateJsonSchema(schema);
+		}
+		catch (Exception e) {
+			throw new IllegalArgumentException("Invalid JSON Schema: " + e.getMessage(), e);
+		}
+		return content -> {
+			if (content == null) {
+				throw new IllegalArgumentException("Content must not be null");
+			}
+			return validate(compiledSchema, content, "Validation failed: content does not match schema. ");
+		};
+	}
+
+	private ValidationResponse validate(Schema schema, Object content, String mismatchMessage) {
 		try {
 
-			JsonNode jsonStructuredOutput = (structuredContent instanceof String)
-					? this.jsonMapper.readTree((String) structuredContent)
-					: this.jsonMapper.valueToTree(structuredContent);
+			JsonNode jsonContent = (content instanceof String) ? this.jsonMapper.readTree((String) content)
+					: this.jsonMapper.valueToTree(content);
 
-			List<Error> validationResult = this.getOrCreateJsonSchema(schema).validate(jsonStructuredOutput);
+			List<Error> validationResult = schema.validate(jsonContent);
 
 			// Check if validation passed
 			if (!validationResult.isEmpty()) {
-				return ValidationResponse
-					.asInvalid("Validation failed: structuredContent does not match tool outputSchema. "
-							+ "Validation errors: " + validationResult);
+				return ValidationResponse.asInvalid(mismatchMessage + "Validation errors: " + validationResult);
 			}
 
-			return ValidationResponse.asValid(jsonStructuredOutput.toString());
+			return ValidationResponse.asValid(jsonContent.toString());
 
 		}
 		catch (JacksonException e) {
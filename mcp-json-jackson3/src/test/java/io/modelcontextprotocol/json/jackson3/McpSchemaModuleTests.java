@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.json.jackson3;
+
+import java.util.List;
+import java.util.Map;
+
+import tools.jackson.databind.json.JsonMapper;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that {@link McpSchemaModule} writes the same JSON as the annotations on the
+ * JSON-RPC envelope records.
+ */
+class McpSchemaModuleTests {
+
+	private static final JsonMapper ANNOTATION_DRIVEN = JsonMapper.builder().build();
+
+	private static final JsonMapper WITH_MODULE = JsonMapper.builder().addModule(new McpSchemaModule()).build();
+
+	static List<McpSchema.JSONRPCMessage> messages() {
+		McpSchema.CallToolResult result = McpSchema.CallToolResult.builder()
+			.addTextContent("hello")
+			.isError(false)
+			.build();
+		return List.of(
+				new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION, McpSchema.METHOD_TOOLS_CALL, 7,
+						new McpSchema.CallToolRequest("echo", Map.of("text", "hi"))),
+				new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION, McpSchema.METHOD_PING, "id-1", null),
+				new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION, McpSchema.METHOD_NOTIFICATION_INITIALIZED,
+						null),
+				new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION, McpSchema.METHOD_NOTIFICATION_PROGRESS,
+						new McpSchema.ProgressNotification("token", 0.5, 1.0, "halfway")),
+				new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, 7, result, null),
+				new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, "id-1", null,
+						new McpSchema.JSONRPCResponse.JSONRPCError(McpSchema.ErrorCodes.INVALID_PARAMS, "Invalid",
+								Map.of("field", "name"))),
+				new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, null, null,
+						new McpSchema.JSONRPCResponse.JSONRPCError(null, "No code", null)));
+	}
+
+	@ParameterizedTest
+	@MethodSource("messages")
+	void writesTheSameJsonAsTheAnnotations(McpSchema.JSONRPCMessage message) throws Exception {
+		assertThat(WITH_MODULE.writeValueAsString(message)).isEqualTo(ANNOTATION_DRIVEN.writeValueAsString(message));
+	}
+
+	@ParameterizedTest
+	@MethodSource("messages")
+	void writesTheSameJsonThroughTheSupplier(McpSchema.JSONRPCMessage message) throws Exception {
+		assertThat(new JacksonMcpJsonMapperSupplier().get().writeValueAsString(message))
+			.isEqualTo(ANNOTATION_DRIVEN.writeValueAsString(message));
+	}
+
+}
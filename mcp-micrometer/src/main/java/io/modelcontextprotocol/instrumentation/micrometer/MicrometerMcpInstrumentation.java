@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.instrumentation.micrometer;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.modelcontextprotocol.instrumentation.McpInstrumentation;
+import io.modelcontextprotocol.instrumentation.McpInstrumentations;
+import io.modelcontextprotocol.spec.McpError;
+import io.modelcontextprotocol.util.Assert;
+
+/**
+ * {@link McpInstrumentation} that records MCP traffic as Micrometer meters:
+ * <ul>
+ * <li>{@code mcp.requests} - timer per request, tagged with {@code side},
+ * {@code direction}, {@code method}, {@code tool}, {@code outcome} and {@code error} (the
+ * JSON-RPC error code or exception type). Error counts are the timer counts with
+ * {@code outcome=error}.</li>
+ * <li>{@code mcp.requests.active} - gauge of in-flight requests per {@code side},
+ * {@code direction} and {@code method}.</li>
+ * <li>{@code mcp.messages.size} - distribution of UTF-8 message sizes in bytes, tagged
+ * with {@code direction} ({@code inbound} for decoded, {@code outbound} for encoded
+ * messages).</li>
+ * <li>{@code mcp.messages.codec} - timer of JSON encoding and decoding, tagged with
+ * {@code operation} and {@code outcome}.</li>
+ * <li>{@code mcp.outbound.queued} - gauge of the messages waiting in the outbound queues
+ * of server transports to be written to clients.</li>
+ * <li>{@code mcp.outbound.overflow} - counter of the messages sent to full outbound
+ * queues, tagged with {@code outcome} ({@code dropped}, {@code timed_out} or
+ * {@code disconnected}).</li>
+ * </ul>
+ * Install it with {@link McpInstrumentations#set(McpInstrumentation)}. Method and tool
+ * names come from the peer, so servers exposed to untrusted clients should bound their
+ * cardinality with a {@link io.micrometer.core.instrument.config.MeterFilter}.
+ */
+public class MicrometerMcpInstrumentation implements McpInstrumentation {
+
+	private static final String NONE = "none";
+
+	private final MeterRegistry registry;
+
+	private final Tags commonTags;
+
+	private final Meter.MeterProvider<Timer> requestTimer;
+
+	private final Meter.MeterProvider<Timer> codecTimer;
+
+	private final DistributionSummary inboundSize;
+
+	private final DistributionSummary outboundSize;
+
+	private final Map<ActiveKey, AtomicInteger> activeRequests = new ConcurrentHashMap<>();
+
+	private final AtomicInteger outboundQueued = new AtomicInteger();
+
+	private final Meter.MeterProvider<Counter> outboundOverflow;
+
+	/**
+	 * Creates an instrumentation recording into the given registry.
+	 * @param registry the meter registry
+	 */
+	public MicrometerMcpInstrumentation(MeterRegistry registry) {
+		this(registry, Tags.empty());
+	}
+
+	/**
+	 * Creates an instrumentation recording into the given registry.
+	 * @param registry the meter registry
+	 * @param commonTags tags added to every meter, for example to tell several clients or
+	 * servers in one process apart
+	 */
+	public MicrometerMcpInstrumentation(MeterRegistry registry, Iterable<Tag> commonTags) {
+		Assert.notNull(registry, "Registry must not be null");
+		Assert.notNull(commonTags, "Common tags must not be null");
+		this.registry = registry;
+		this.commonTags = Tags.of(commonTags);
+		this.requestTimer = Timer.builder("mcp.requests")
+			.description("Duration of MCP requests")
+			.tags(this.commonTags)
+			.withRegistry(registry);
+		this.codecTimer = Timer.builder("mcp.messages.codec")
+			.description("Time spent encoding and decoding MCP messages")
+			.tags(this.commonTags)
+			.withRegistry(registry);
+		this.inboundSize = messageSize("inbound");
+		this.outboundSize = messageSize("outbound");
+		this.registry.gauge("mcp.outbound.queued", this.commonTags, this.outboundQueued);
+		this.outboundOverflow = Counter.builder("mcp.outbound.overflow")
+			.description("Messages sent to full outbound queues")
+			.tags(this.commonTags)
+			.withRegistry(registry);
+	}
+
+	private DistributionSummary messageSize(String direction) {
+		return DistributionSummary.builder("mcp.messages.size")
+			.description("Size of MCP messages")
+			.baseUnit("bytes")
+			.tags(this.commonTags)
+			.tag("direction", direction)
+			.register(this.registry);
+	}
+
+	@Override
+	public RequestObservation requestStarted(Side side, Direction direction, String method, String toolName) {
+		AtomicInteger active = this.activeRequests.computeIfAbsent(new ActiveKey(side, direction, method),
+				this::registerActiveGauge);
+		active.incrementAndGet();
+		long start = System.nanoTime();
+		return error -> {
+			long duration = System.nanoTime() - start;
+			active.decrementAndGet();
+			this.requestTimer
+				.withTags("side", lowerCase(side), "direction", lowerCase(direction), "method", method, "tool",
+						toolName != null ? toolName : NONE, "outcome", outcome(error), "error", errorType(error))
+				.record(duration, TimeUnit.NANOSECONDS);
+		};
+	}
+
+	@Override
+	public void messageDecoded(int bytes, long nanos, Throwable error) {
+		this.inboundSize.record(bytes);
+		this.codecTimer.withTags("operation", "decode", "outcome", outcome(error)).record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void messageEncoded(int bytes, long nanos, Throwable error) {
+		if (error == null) {
+			this.outboundSize.record(bytes);
+		}
+		this.codecTimer.withTags("operation", "encode", "outcome", outcome(error)).record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void outboundQueueChanged(int delta) {
+		this.outboundQueued.addAndGet(delta);
+	}
+
+	@Override
+	public void outboundOverflow(Overflow overflow) {
+		this.outboundOverflow.withTags("outcome", lowerCase(overflow)).increment();
+	}
+
+	private AtomicInteger registerActiveGauge(ActiveKey key) {
+		AtomicInteger active = new AtomicInteger();
+		this.registry.gauge("mcp.requests.active", this.commonTags.and("side", lowerCase(key.side()), "direction",
+				lowerCase(key.direction()), "method", key.method()), active);
+		return active;
+	}
+
+	private static String outcome(Throwable error) {
+		if (error == null) {
+			return "success";
+		}
+		return error instanceof CancellationException ? "cancelled" : "error";
+	}
+
+	private static String errorType(Throwable error) {
+		if (error == null || error instanceof CancellationException) {
+			return NONE;
+		}
+		if (error instanceof McpError mcpError && mcpError.getJsonRpcError() != null) {
+			return String.valueOf(mcpError.getJsonRpcError().code());
+		}
+		return error.getClass().getSimpleName();
+	}
+
+	private static String lowerCase(Enum<?> value) {
+		return value.name().toLowerCase(Locale.ROOT);
+	}
+
+	private record ActiveKey(Side side, Direction direction, String method) {
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.instrumentation.micrometer;
+
+import java.util.concurrent.CancellationException;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.modelcontextprotocol.instrumentation.McpInstrumentation;
+import io.modelcontextprotocol.spec.McpError;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MicrometerMcpInstrumentation}.
+ */
+class MicrometerMcpInstrumentationTests {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private final MicrometerMcpInstrumentation instrumentation = new MicrometerMcpInstrumentation(this.registry,
+			Tags.of("application", "test"));
+
+	@Test
+	void recordsRequestTimersAndActiveGauge() {
+		McpInstrumentation.RequestObservation first = this.instrumentation.requestStarted(
+				McpInstrumentation.Side.SERVER, McpInstrumentation.Direction.INBOUND, McpSchema.METHOD_TOOLS_CALL,
+				"search");
+		McpInstrumentation.RequestObservation second = this.instrumentation.requestStarted(
+				McpInstrumentation.Side.SERVER, McpInstrumentation.Direction.INBOUND, McpSchema.METHOD_TOOLS_CALL,
+				"search");
+		McpInstrumentation.RequestObservation third = this.instrumentation.requestStarted(
+				McpInstrumentation.Side.SERVER, McpInstrumentation.Direction.INBOUND, McpSchema.METHOD_TOOLS_CALL,
+				"search");
+
+		assertThat(this.registry.get("mcp.requests.active").tag("method", "tools/call").gauge().value()).isEqualTo(3);
+
+		first.stop(null);
+		second.stop(McpError.builder(McpSchema.ErrorCodes.INVALID_PARAMS).message("bad").build());
+		third.stop(new CancellationException());
+
+		assertThat(this.registry.get("mcp.requests.active").tag("application", "test").gauge().value()).isZero();
+		assertThat(this.registry.get("mcp.requests")
+			.tags("side", "server", "direction", "inbound", "tool", "search", "outcome", "success", "error", "none")
+			.timer()
+			.count()).isEqualTo(1);
+		assertThat(this.registry.get("mcp.requests")
+			.tags("outcome", "error", "error", String.valueOf(McpSchema.ErrorCodes.INVALID_PARAMS))
+			.timer()
+			.count()).isEqualTo(1);
+		assertThat(this.registry.get("mcp.requests").tag("outcome", "cancelled").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void recordsMessageSizesAndCodecTimes() {
+		this.instrumentation.messageDecoded(120, 1_000, null);
+		this.instrumentation.messageDecoded(30, 1_000, new IllegalArgumentException());
+		this.instrumentation.messageEncoded(80, 2_000, null);
+
+		assertThat(this.registry.get("mcp.messages.size").tag("direction", "inbound").summary().totalAmount())
+			.isEqualTo(150);
+		assertThat(this.registry.get("mcp.messages.size").tag("direction", "outbound").summary().totalAmount())
+			.isEqualTo(80);
+		assertThat(
+				this.registry.get("mcp.messages.codec").tags("operation", "decode", "outcome", "error").timer().count())
+			.isEqualTo(1);
+		assertThat(this.registry.get("mcp.messages.codec")
+			.tags("operation", "encode", "outcome", "success")
+			.timer()
+			.count()).isEqualTo(1);
+	}
+
+	@Test
+	void recordsOutboundQueueDepthAndOverflows() {
+		this.instrumentation.outboundQueueChanged(1);
+		this.instrumentation.outboundQueueChanged(1);
+		this.instrumentation.outboundQueueChanged(-1);
+		this.instrumentation.outboundOverflow(McpInstrumentation.Overflow.DROPPED);
+		this.instrumentation.outboundOverflow(McpInstrumentation.Overflow.DROPPED);
+		this.instrumentation.outboundOverflow(McpInstrumentation.Overflow.TIMED_OUT);
+
+		assertThat(this.registry.get("mcp.outbound.queued").tag("application", "test").gauge().value()).isEqualTo(1);
+		assertThat(this.registry.get("mcp.outbound.overflow").tag("outcome", "dropped").counter().count()).isEqualTo(2);
+		assertThat(this.registry.get("mcp.outbound.overflow").tag("outcome", "timed_out").counter().count())
+			.isEqualTo(1);
+	}
+
+}
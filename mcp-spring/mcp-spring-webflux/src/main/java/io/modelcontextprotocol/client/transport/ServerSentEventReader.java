@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.client.transport;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+/**
+ * Reads Server-Sent Events directly from the response {@link DataBuffer}s. Lines are
+ * split on the raw bytes and each buffer is released as soon as it has been scanned. The
+ * event data is kept as UTF-8 bytes so it can be handed to the JSON mapper without
+ * building a String per event, unlike reading
+ * {@link org.springframework.http.codec.ServerSentEvent ServerSentEvent&lt;String&gt;}.
+ * <p>
+ * Only the {@code id}, {@code event} and {@code data} fields are interpreted. Comments
+ * and events without data are skipped, and an event left incomplete when the stream ends
+ * is discarded.
+ */
+final class ServerSentEventReader {
+
+	private static final byte NEWLINE = '\n';
+
+	private static final byte CARRIAGE_RETURN = '\r';
+
+	private final ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+
+	private final ByteArrayOutputStream data = new ByteArrayOutputStream(256);
+
+	private boolean hasData;
+
+	private boolean skipNewline;
+
+	private String id;
+
+	private String event;
+
+	private ServerSentEventReader() {
+	}
+
+	/**
+	 * Decodes the events of a response body.
+	 * @param body the response body
+	 * @return the events, in order
+	 */
+	static Flux<Event> read(Flux<DataBuffer> body) {
+		return Flux.defer(() -> {
+			ServerSentEventReader reader = new ServerSentEventReader();
+			// Buffers prefetched but not decoded yet are dropped on cancellation, such
+			// as on every reconnect
+			return body.concatMapIterable(reader::read).doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+		});
+	}
+
+	private List<Event> read(DataBuffer buffer) {
+		List<Event> events = new ArrayList<>(1);
+		try {
+			while (buffer.readableByteCount() > 0) {
+				byte b = buffer.read();
+				if (this.skipNewline) {
+					this.skipNewline = false;
+					if (b == NEWLINE) {
+						continue;
+					}
+				}
+				if (b == NEWLINE || b == CARRIAGE_RETURN) {
+					this.skipNewline = b == CARRIAGE_RETURN;
+					Event completed = endOfLine();
+					if (completed != null) {
+						events.add(completed);
+					}
+				}
+				else {
+					this.line.write(b);
+				}
+			}
+		}
+		finally {
+			DataBufferUtils.release(buffer);
+		}
+		return events;
+	}
+
+	private Event endOfLine() {
+		if (this.line.size() == 0) {
+			return dispatch();
+		}
+		byte[] bytes = this.line.toByteArray();
+		this.line.reset();
+		int colon = indexOf(bytes, (byte) ':');
+		if (colon == 0) {
+			// comment
+			return null;
+		}
+		int nameEnd = colon < 0 ? bytes.length : colon;
+		int valueStart = colon < 0 ? bytes.length : colon + 1;
+		if (valueStart < bytes.length && bytes[valueStart] == ' ') {
+			valueStart++;
+		}
+		String name = new String(bytes, 0, nameEnd, StandardCharsets.UTF_8);
+		switch (name) {
+			case "data" -> {
+				if (this.hasData) {
+					this.data.write(NEWLINE);
+				}
+				this.data.write(bytes, valueStart, bytes.length - valueStart);
+				this.hasData = true;
+			}
+			case "id" -> this.id = new String(bytes, valueStart, bytes.length - valueStart, StandardCharsets.UTF_8);
+			case "event" ->
+				this.event = new String(bytes, valueStart, bytes.length - valueStart, StandardCharsets.UTF_8);
+			default -> {
+				// retry and unknown fields are ignored
+			}
+		}
+		return null;
+	}
+
+	private Event dispatch() {
+		Event completed = this.hasData ? new Event(this.id, this.event, this.data.toByteArray()) : null;
+		this.data.reset();
+		this.hasData = false;
+		this.id = null;
+		this.event = null;
+		return completed;
+	}
+
+	private static int indexOf(byte[] bytes, byte value) {
+		for (int i = 0; i < bytes.length; i++) {
+			if (bytes[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * A decoded event.
+	 *
+	 * @param id the event id, or null
+	 * @param event the event type, or null
+	 * @param data the UTF-8 encoded event data
+	 */
+	record Event(String id, String event, byte[] data) {
+	}
+
+}
@@ -5,6 +5,7 @@
 package io.modelcontextprotocol.client.transport;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -16,10 +17,9 @@ import java.util.function.Function;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
@@ -61,6 +61,11 @@ import reactor.util.function.Tuples;
  * do not provide a session identifier and do not support SSE streams.
  * </p>
  * <p>
+ * Messages are written and read as UTF-8 bytes: request bodies are serialized straight to
+ * bytes and Server-Sent Events are decoded from the response {@code DataBuffer}s, so no
+ * intermediate String is built per message.
+ * </p>
+ * <p>
  * This implementation does not handle backwards compatibility with the <a href=
  * "https://modelcontextprotocol.io/specification/2024-11-05/basic/transports#http-with-sse">"HTTP
  * with SSE" transport</a>. In order to communicate over the phased-out
@@ -87,9 +92,6 @@ public class WebClientStreamableHttpTransport implements McpClientTransport {
 	 */
 	private static final String MESSAGE_EVENT_TYPE = "message";
 
-	private static final ParameterizedTypeReference<ServerSentEvent<String>> PARAMETERIZED_TYPE_REF = new ParameterizedTypeReference<>() {
-	};
-
 	private final McpJsonMapper jsonMapper;
 
 	private final WebClient webClient;
@@ -282,9 +284,9 @@ public class WebClientStreamableHttpTransport implements McpClientTransport {
 
 	@Override
 	public Mono<Void> sendMessage(McpSchema.JSONRPCMessage message) {
-		String jsonText;
+		byte[] json;
 		try {
-			jsonText = jsonMapper.writeValueAsString(message);
+			json = McpSchema.serializeJsonRpcMessageAsBytes(jsonMapper, message);
 		}
 		catch (IOException e) {
 			return Mono.error(new RuntimeException("Failed to serialize message", e));
@@ -309,7 +311,7 @@ public class WebClientStreamableHttpTransport implements McpClientTransport {
 				.headers(httpHeaders -> {
 					transportSession.sessionId().ifPresent(id -> httpHeaders.add(HttpHeaders.MCP_SESSION_ID, id));
 				})
-				.bodyValue(jsonText)
+				.bodyValue(json)
 				.exchangeToFlux(response -> {
 					if (transportSession
 						.markInitialized(response.headers().asHttpHeaders().getFirst(HttpHeaders.MCP_SESSION_ID))) {
@@ -430,7 +432,7 @@ public class WebClientStreamableHttpTransport implements McpClientTransport {
 				: new DefaultMcpTransportStream<>(this.resumableStreams, this::reconnect);
 		logger.debug("Connected stream {}", sessionStream.streamId());
 
-		var idWithMessages = response.bodyToFlux(PARAMETERIZED_TYPE_REF).map(this::parse);
+		var idWithMessages = ServerSentEventReader.read(response.bodyToFlux(DataBuffer.class)).map(this::parse);
 		return Flux.from(sessionStream.consumeSseStream(idWithMessages));
 	}
 
@@ -453,11 +455,12 @@ public class WebClientStreamableHttpTransport implements McpClientTransport {
 
 	private Flux<McpSchema.JSONRPCMessage> directResponseFlux(McpSchema.JSONRPCMessage sentMessage,
 			ClientResponse response) {
-		return response.bodyToMono(String.class).<Iterable<McpSchema.JSONRPCMessage>>handle((responseMessage, s) -> {
+		return response.bodyToMono(byte[].class).<Iterable<McpSchema.JSONRPCMessage>>handle((responseMessage, s) -> {
 			try {
 				if (sentMessage instanceof McpSchema.JSONRPCNotification) {
+					String text = new String(responseMessage, StandardCharsets.UTF_8);
 					logger.warn("Notification: {} received non-compliant response: {}", sentMessage,
-							Utils.hasText(responseMessage) ? responseMessage : "[empty]");
+							Utils.hasText(text) ? text : "[empty]");
 					s.complete();
 				}
 				else {
@@ -485,7 +488,7 @@ public class WebClientStreamableHttpTransport implements McpClientTransport {
 		return this.jsonMapper.convertValue(data, typeRef);
 	}
 
-	private Tuple2<Optional<String>, Iterable<McpSchema.JSONRPCMessage>> parse(ServerSentEvent<String> event) {
+	private Tuple2<Optional<String>, Iterable<McpSchema.JSONRPCMessage>> parse(ServerSentEventReader.Event event) {
 		if (MESSAGE_EVENT_TYPE.equals(event.event())) {
 			try {
 				// We don't support batching ATM and probably won't since the next version
@@ -494,11 +497,13 @@ public class WebClientStreamableHttpTransport implements McpClientTransport {
 				return Tuples.of(Optional.ofNullable(event.id()), List.of(message));
 			}
 			catch (IOException ioException) {
-				throw new McpTransportException("Error parsing JSON-RPC message: " + event.data(), ioException);
+				throw new McpTransportException(
+						"Error parsing JSON-RPC message: " + new String(event.data(), StandardCharsets.UTF_8),
+						ioException);
 			}
 		}
 		else {
-			logger.debug("Received SSE event with type: {}", event);
+			logger.debug("Received SSE event with type: {}", event.event());
 			return Tuples.of(Optional.empty(), List.of());
 		}
 	}
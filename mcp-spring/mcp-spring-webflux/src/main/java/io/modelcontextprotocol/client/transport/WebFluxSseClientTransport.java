@@ -244,7 +244,7 @@ public class WebFluxSseClientTransport implements McpClientTransport {
 				return Mono.empty();
 			}
 			try {
-				String jsonText = this.jsonMapper.writeValueAsString(message);
+				String jsonText = McpSchema.serializeJsonRpcMessage(this.jsonMapper, message);
 				return webClient.post()
 					.uri(messageEndpointUri)
 					.contentType(MediaType.APPLICATION_JSON)
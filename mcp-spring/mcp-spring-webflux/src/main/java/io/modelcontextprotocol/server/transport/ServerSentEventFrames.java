@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.transport;
+
+import java.nio.charset.StandardCharsets;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.web.reactive.function.BodyInserter;
+
+/**
+ * Encodes Server-Sent Events straight into {@link DataBuffer}s allocated from the
+ * response's buffer factory, which is pooled on Reactor Netty. The event data is written
+ * from its UTF-8 bytes, skipping the string round trip of
+ * {@link org.springframework.http.codec.ServerSentEvent} encoding. The frame layout
+ * matches {@link org.springframework.http.codec.ServerSentEventHttpMessageWriter}.
+ */
+final class ServerSentEventFrames {
+
+	private static final byte[] ID = "id:".getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] EVENT = "event:".getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] DATA = "data:".getBytes(StandardCharsets.UTF_8);
+
+	private static final byte NEWLINE = '\n';
+
+	private static final byte CARRIAGE_RETURN = '\r';
+
+	private ServerSentEventFrames() {
+	}
+
+	/**
+	 * Encodes one event. Line breaks in the data start a new {@code data:} line.
+	 * @param bufferFactory the factory to allocate the frame from
+	 * @param id the event id, or null
+	 * @param event the event type, or null
+	 * @param data the UTF-8 encoded event data
+	 * @return the encoded frame
+	 */
+	static DataBuffer encode(DataBufferFactory bufferFactory, String id, String event, byte[] data) {
+		byte[] idBytes = id != null ? id.getBytes(StandardCharsets.UTF_8) : null;
+		byte[] eventBytes = event != null ? event.getBytes(StandardCharsets.UTF_8) : null;
+		int capacity = DATA.length + data.length + 2;
+		if (idBytes != null) {
+			capacity += ID.length + idBytes.length + 1;
+		}
+		if (eventBytes != null) {
+			capacity += EVENT.length + eventBytes.length + 1;
+		}
+		DataBuffer buffer = bufferFactory.allocateBuffer(capacity);
+		if (idBytes != null) {
+			buffer.write(ID).write(idBytes).write(NEWLINE);
+		}
+		if (eventBytes != null) {
+			buffer.write(EVENT).write(eventBytes).write(NEWLINE);
+		}
+		int lineStart = 0;
+		for (int i = 0; i < data.length; i++) {
+			if (data[i] == NEWLINE || data[i] == CARRIAGE_RETURN) {
+				buffer.write(DATA).write(data, lineStart, i - lineStart).write(NEWLINE);
+				if (data[i] == CARRIAGE_RETURN && i + 1 < data.length && data[i + 1] == NEWLINE) {
+					i++;
+				}
+				lineStart = i + 1;
+			}
+		}
+		buffer.write(DATA).write(data, lineStart, data.length - lineStart).write(NEWLINE);
+		return buffer.write(NEWLINE);
+	}
+
+	/**
+	 * Returns an inserter writing the frames as the response body, flushing after each
+	 * frame. Frames still queued when the response is cancelled are released.
+	 * @param frames the encoded frames
+	 * @return the body inserter
+	 */
+	static BodyInserter<Flux<DataBuffer>, ReactiveHttpOutputMessage> body(Flux<DataBuffer> frames) {
+		return (outputMessage, context) -> outputMessage
+			.writeAndFlushWith(frames.doOnDiscard(DataBuffer.class, DataBufferUtils::release).map(Mono::just));
+	}
+
+}
@@ -5,6 +5,7 @@
 package io.modelcontextprotocol.server.transport;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
@@ -30,9 +31,10 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
 
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.RouterFunctions;
 import org.springframework.web.reactive.function.server.ServerRequest;
@@ -73,7 +75,7 @@ import org.springframework.web.util.UriComponentsBuilder;
  * @author Alexandros Pappas
  * @author Dariusz Jędrzejczyk
  * @see McpServerTransport
- * @see ServerSentEvent
+ * @see org.springframework.http.codec.ServerSentEvent
  */
 public class WebFluxSseServerTransportProvider implements McpServerTransportProvider {
 
@@ -294,10 +296,11 @@ public class WebFluxSseServerTransportProvider implements McpServerTransportProv
 
 		McpTransportContext transportContext = this.contextExtractor.extract(request);
 
+		DataBufferFactory bufferFactory = request.exchange().getResponse().bufferFactory();
 		return ServerResponse.ok()
 			.contentType(MediaType.TEXT_EVENT_STREAM)
-			.body(Flux.<ServerSentEvent<?>>create(sink -> {
-				WebFluxMcpSessionTransport sessionTransport = new WebFluxMcpSessionTransport(sink);
+			.body(ServerSentEventFrames.body(Flux.<DataBuffer>create(sink -> {
+				WebFluxMcpSessionTransport sessionTransport = new WebFluxMcpSessionTransport(sink, bufferFactory);
 
 				McpServerSession session = sessionFactory.create(sessionTransport);
 				String sessionId = session.getId();
@@ -307,13 +310,13 @@ public class WebFluxSseServerTransportProvider implements McpServerTransportProv
 
 				// Send initial endpoint event
 				logger.debug("Sending initial endpoint event to session: {}", sessionId);
-				sink.next(
-						ServerSentEvent.builder().event(ENDPOINT_EVENT_TYPE).data(buildEndpointUrl(sessionId)).build());
+				sink.next(ServerSentEventFrames.encode(bufferFactory, null, ENDPOINT_EVENT_TYPE,
+						buildEndpointUrl(sessionId).getBytes(StandardCharsets.UTF_8)));
 				sink.onCancel(() -> {
 					logger.debug("Session {} cancelled", sessionId);
 					sessions.remove(sessionId);
 				});
-			}).contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext)), ServerSentEvent.class);
+			}).contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))));
 	}
 
 	/**
@@ -372,7 +375,7 @@ public class WebFluxSseServerTransportProvider implements McpServerTransportProv
 
 		McpTransportContext transportContext = this.contextExtractor.extract(request);
 
-		return request.bodyToMono(String.class).flatMap(body -> {
+		return request.bodyToMono(byte[].class).flatMap(body -> {
 			try {
 				McpSchema.JSONRPCMessage message = McpSchema.deserializeJsonRpcMessage(jsonMapper, body);
 				return session.handle(message).flatMap(response -> ServerResponse.ok().build()).onErrorResume(error -> {
@@ -393,27 +396,26 @@ public class WebFluxSseServerTransportProvider implements McpServerTransportProv
 
 	private class WebFluxMcpSessionTransport implements McpServerTransport {
 
-		private final FluxSink<ServerSentEvent<?>> sink;
+		private final FluxSink<DataBuffer> sink;
 
-		public WebFluxMcpSessionTransport(FluxSink<ServerSentEvent<?>> sink) {
+		private final DataBufferFactory bufferFactory;
+
+		public WebFluxMcpSessionTransport(FluxSink<DataBuffer> sink, DataBufferFactory bufferFactory) {
 			this.sink = sink;
+			this.bufferFactory = bufferFactory;
 		}
 
 		@Override
 		public Mono<Void> sendMessage(McpSchema.JSONRPCMessage message) {
 			return Mono.fromSupplier(() -> {
 				try {
-					return jsonMapper.writeValueAsString(message);
+					return McpSchema.serializeJsonRpcMessageAsBytes(jsonMapper, message);
 				}
 				catch (IOException e) {
 					throw Exceptions.propagate(e);
 				}
-			}).doOnNext(jsonText -> {
-				ServerSentEvent<Object> event = ServerSentEvent.builder()
-					.event(MESSAGE_EVENT_TYPE)
-					.data(jsonText)
-					.build();
-				sink.next(event);
+			}).doOnNext(json -> {
+				sink.next(ServerSentEventFrames.encode(this.bufferFactory, null, MESSAGE_EVENT_TYPE, json));
 			}).doOnError(e -> {
 				// TODO log with sessionid
 				Throwable exception = Exceptions.unwrap(e);
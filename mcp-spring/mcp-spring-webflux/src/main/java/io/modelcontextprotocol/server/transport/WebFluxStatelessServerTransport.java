@@ -122,14 +122,14 @@ public class WebFluxStatelessServerTransport implements McpStatelessServerTransp
 			return ServerResponse.badRequest().build();
 		}
 
-		return request.bodyToMono(String.class).<ServerResponse>flatMap(body -> {
+		return request.bodyToMono(byte[].class).<ServerResponse>flatMap(body -> {
 			try {
 				McpSchema.JSONRPCMessage message = McpSchema.deserializeJsonRpcMessage(jsonMapper, body);
 
 				if (message instanceof McpSchema.JSONRPCRequest jsonrpcRequest) {
 					return this.mcpHandler.handleRequest(transportContext, jsonrpcRequest).flatMap(jsonrpcResponse -> {
 						try {
-							String json = jsonMapper.writeValueAsString(jsonrpcResponse);
+							byte[] json = McpSchema.serializeJsonRpcMessageAsBytes(jsonMapper, jsonrpcResponse);
 							return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(json);
 						}
 						catch (IOException e) {
@@ -21,6 +21,8 @@ import io.modelcontextprotocol.util.KeepAliveScheduler;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.ServerSentEvent;
@@ -49,6 +51,9 @@ public class WebFluxStreamableServerTransportProvider implements McpStreamableSe
 
 	private static final Logger logger = LoggerFactory.getLogger(WebFluxStreamableServerTransportProvider.class);
 
+	private static final TypeRef<McpSchema.InitializeRequest> INITIALIZE_REQUEST_TYPE_REF = new TypeRef<>() {
+	};
+
 	public static final String MESSAGE_EVENT_TYPE = "message";
 
 	private final McpJsonMapper jsonMapper;
@@ -213,17 +218,18 @@ public class WebFluxStreamableServerTransportProvider implements McpStreamableSe
 							ServerSentEvent.class);
 			}
 
+			DataBufferFactory bufferFactory = request.exchange().getResponse().bufferFactory();
 			return ServerResponse.ok()
 				.contentType(MediaType.TEXT_EVENT_STREAM)
-				.body(Flux.<ServerSentEvent<?>>create(sink -> {
+				.body(ServerSentEventFrames.body(Flux.<DataBuffer>create(sink -> {
 					WebFluxStreamableMcpSessionTransport sessionTransport = new WebFluxStreamableMcpSessionTransport(
-							sink);
+							sink, bufferFactory);
 					McpStreamableServerSession.McpStreamableServerSessionStream listeningStream = session
 						.listeningStream(sessionTransport);
 					sink.onDispose(listeningStream::close);
 					// TODO Clarify why the outer context is not present in the
 					// Flux.create sink?
-				}).contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext)), ServerSentEvent.class);
+				}).contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))));
 
 		}).contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext));
 	}
@@ -254,15 +260,13 @@ public class WebFluxStreamableServerTransportProvider implements McpStreamableSe
 			return ServerResponse.badRequest().build();
 		}
 
-		return request.bodyToMono(String.class).<ServerResponse>flatMap(body -> {
+		return request.bodyToMono(byte[].class).<ServerResponse>flatMap(body -> {
 			try {
 				McpSchema.JSONRPCMessage message = McpSchema.deserializeJsonRpcMessage(jsonMapper, body);
 				if (message instanceof McpSchema.JSONRPCRequest jsonrpcRequest
 						&& jsonrpcRequest.method().equals(McpSchema.METHOD_INITIALIZE)) {
-					var typeReference = new TypeRef<McpSchema.InitializeRequest>() {
-					};
 					McpSchema.InitializeRequest initializeRequest = jsonMapper.convertValue(jsonrpcRequest.params(),
-							typeReference);
+							INITIALIZE_REQUEST_TYPE_REF);
 					McpStreamableServerSession.McpStreamableServerSessionInit init = this.sessionFactory
 						.startSession(initializeRequest);
 					sessions.put(init.session().getId(), init.session());
@@ -270,7 +274,7 @@ public class WebFluxStreamableServerTransportProvider implements McpStreamableSe
 						McpSchema.JSONRPCResponse jsonrpcResponse = new McpSchema.JSONRPCResponse(
 								McpSchema.JSONRPC_VERSION, jsonrpcRequest.id(), initializeResult, null);
 						try {
-							return this.jsonMapper.writeValueAsString(jsonrpcResponse);
+							return McpSchema.serializeJsonRpcMessageAsBytes(this.jsonMapper, jsonrpcResponse);
 						}
 						catch (IOException e) {
 							logger.warn("Failed to serialize initResponse", e);
@@ -302,10 +306,12 @@ public class WebFluxStreamableServerTransportProvider implements McpStreamableSe
 					return session.accept(jsonrpcNotification).then(ServerResponse.accepted().build());
 				}
 				else if (message instanceof McpSchema.JSONRPCRequest jsonrpcRequest) {
+					DataBufferFactory bufferFactory = request.exchange().getResponse().bufferFactory();
 					return ServerResponse.ok()
 						.contentType(MediaType.TEXT_EVENT_STREAM)
-						.body(Flux.<ServerSentEvent<?>>create(sink -> {
-							WebFluxStreamableMcpSessionTransport st = new WebFluxStreamableMcpSessionTransport(sink);
+						.body(ServerSentEventFrames.body(Flux.<DataBuffer>create(sink -> {
+							WebFluxStreamableMcpSessionTransport st = new WebFluxStreamableMcpSessionTransport(sink,
+									bufferFactory);
 							Mono<Void> stream = session.responseStream(jsonrpcRequest, st);
 							Disposable streamSubscription = stream.onErrorComplete(err -> {
 								sink.error(err);
@@ -314,8 +320,7 @@ public class WebFluxStreamableServerTransportProvider implements McpStreamableSe
 							sink.onCancel(streamSubscription);
 							// TODO Clarify why the outer context is not present in the
 							// Flux.create sink?
-						}).contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext)),
-								ServerSentEvent.class);
+						}).contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))));
 				}
 				else {
 					return ServerResponse.badRequest().bodyValue(new McpError("Unknown message type"));
@@ -369,10 +374,13 @@ public class WebFluxStreamableServerTransportProvider implements McpStreamableSe
 
 	private class WebFluxStreamableMcpSessionTransport implements McpStreamableServerTransport {
 
-		private final FluxSink<ServerSentEvent<?>> sink;
+		private final FluxSink<DataBuffer> sink;
+
+		private final DataBufferFactory bufferFactory;
 
-		public WebFluxStreamableMcpSessionTransport(FluxSink<ServerSentEvent<?>> sink) {
+		public WebFluxStreamableMcpSessionTransport(FluxSink<DataBuffer> sink, DataBufferFactory bufferFactory) {
 			this.sink = sink;
+			this.bufferFactory = bufferFactory;
 		}
 
 		@Override
@@ -384,18 +392,13 @@ public class WebFluxStreamableServerTransportProvider implements McpStreamableSe
 		public Mono<Void> sendMessage(McpSchema.JSONRPCMessage message, String messageId) {
 			return Mono.fromSupplier(() -> {
 				try {
-					return jsonMapper.writeValueAsString(message);
+					return McpSchema.serializeJsonRpcMessageAsBytes(jsonMapper, message);
 				}
 				catch (IOException e) {
 					throw Exceptions.propagate(e);
 				}
-			}).doOnNext(jsonText -> {
-				ServerSentEvent<Object> event = ServerSentEvent.builder()
-					.id(messageId)
-					.event(MESSAGE_EVENT_TYPE)
-					.data(jsonText)
-					.build();
-				sink.next(event);
+			}).doOnNext(json -> {
+				sink.next(ServerSentEventFrames.encode(this.bufferFactory, messageId, MESSAGE_EVENT_TYPE, json));
 			}).doOnError(e -> {
 				// TODO log with sessionid
 				Throwable exception = Exceptions.unwrap(e);
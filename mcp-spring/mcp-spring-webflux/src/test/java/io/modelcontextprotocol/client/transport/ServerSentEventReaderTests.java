@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.client.transport;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ServerSentEventReader}.
+ */
+class ServerSentEventReaderTests {
+
+	private static List<ServerSentEventReader.Event> read(String... chunks) {
+		Flux<DataBuffer> body = Flux.fromArray(chunks)
+			.map(chunk -> DefaultDataBufferFactory.sharedInstance.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+		return ServerSentEventReader.read(body).collectList().block();
+	}
+
+	private static String data(ServerSentEventReader.Event event) {
+		return new String(event.data(), StandardCharsets.UTF_8);
+	}
+
+	@Test
+	void readsIdEventAndData() {
+		List<ServerSentEventReader.Event> events = read("id: 1\nevent: message\ndata: {\"a\":\"ü\"}\n\n",
+				"event:message\ndata:second\n\n");
+
+		assertThat(events).hasSize(2);
+		assertThat(events.get(0).id()).isEqualTo("1");
+		assertThat(events.get(0).event()).isEqualTo("message");
+		assertThat(data(events.get(0))).isEqualTo("{\"a\":\"ü\"}");
+		assertThat(events.get(1).id()).isNull();
+		assertThat(data(events.get(1))).isEqualTo("second");
+	}
+
+	@Test
+	void joinsDataLinesAndSkipsCommentsAndEmptyEvents() {
+		List<ServerSentEventReader.Event> events = read(": keep-alive\n\nevent: message\r\ndata: a\r\ndata: b\r\n\r\n");
+
+		assertThat(events).hasSize(1);
+		assertThat(data(events.get(0))).isEqualTo("a\nb");
+	}
+
+	@Test
+	void readsEventsSplitAcrossBuffers() {
+		byte[] bytes = "event: message\r\ndata: {\"x\":\"é\"}\r\n\r\n".getBytes(StandardCharsets.UTF_8);
+		Flux<DataBuffer> body = Flux.range(0, bytes.length)
+			.map(i -> DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, i, i + 1)));
+
+		List<ServerSentEventReader.Event> events = ServerSentEventReader.read(body).collectList().block();
+
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).event()).isEqualTo("message");
+		assertThat(data(events.get(0))).isEqualTo("{\"x\":\"é\"}");
+	}
+
+	@Test
+	void discardsIncompleteTrailingEvent() {
+		assertThat(read("event: message\ndata: partial")).isEmpty();
+	}
+
+	@Test
+	void releasesBuffersNotDecodedWhenCancelled() {
+		NettyDataBufferFactory factory = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+		List<NettyDataBuffer> buffers = IntStream.range(0, 4)
+			.mapToObj(i -> factory.wrap(("data: " + i + "\n\n").getBytes(StandardCharsets.UTF_8)))
+			.toList();
+
+		ServerSentEventReader.Event first = ServerSentEventReader.read(Flux.fromIterable(buffers)).blockFirst();
+
+		assertThat(data(first)).isEqualTo("0");
+		assertThat(buffers).allSatisfy(buffer -> assertThat(buffer.getNativeBuffer().refCnt()).isZero());
+	}
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.transport;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ServerSentEventFrames}.
+ */
+class ServerSentEventFramesTests {
+
+	private static String encode(String id, String event, String data) {
+		DataBuffer buffer = ServerSentEventFrames.encode(DefaultDataBufferFactory.sharedInstance, id, event,
+				data.getBytes(StandardCharsets.UTF_8));
+		return buffer.toString(StandardCharsets.UTF_8);
+	}
+
+	@Test
+	void encodesIdEventAndData() {
+		assertThat(encode("42", "message", "{\"jsonrpc\":\"2.0\",\"method\":\"ping\",\"id\":\"ü\"}"))
+			.isEqualTo("id:42\nevent:message\ndata:{\"jsonrpc\":\"2.0\",\"method\":\"ping\",\"id\":\"ü\"}\n\n");
+	}
+
+	@Test
+	void omitsMissingIdAndEvent() {
+		assertThat(encode(null, null, "x")).isEqualTo("data:x\n\n");
+	}
+
+	@Test
+	void splitsDataOnLineBreaks() {
+		assertThat(encode(null, "message", "a\nb\r\nc\rd"))
+			.isEqualTo("event:message\ndata:a\ndata:b\ndata:c\ndata:d\n\n");
+	}
+
+}
@@ -407,7 +407,7 @@ public class WebMvcSseServerTransportProvider implements McpServerTransportProvi
 			return Mono.fromRunnable(() -> {
 				sseBuilderLock.lock();
 				try {
-					String jsonText = jsonMapper.writeValueAsString(message);
+					String jsonText = McpSchema.serializeJsonRpcMessage(jsonMapper, message);
 					sseBuilder.event(MESSAGE_EVENT_TYPE).data(jsonText);
 				}
 				catch (Exception e) {
@@ -136,7 +136,7 @@ public class WebMvcStatelessServerTransport implements McpStatelessServerTranspo
 						.handleRequest(transportContext, jsonrpcRequest)
 						.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))
 						.block();
-					String json = jsonMapper.writeValueAsString(jsonrpcResponse);
+					String json = McpSchema.serializeJsonRpcMessage(jsonMapper, jsonrpcResponse);
 					return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).body(json);
 				}
 				catch (Exception e) {
@@ -34,10 +34,12 @@ import io.modelcontextprotocol.spec.McpStreamableServerSession;
 import io.modelcontextprotocol.spec.McpStreamableServerTransport;
 import io.modelcontextprotocol.spec.McpStreamableServerTransportProvider;
 import io.modelcontextprotocol.spec.ProtocolVersions;
+import io.modelcontextprotocol.spec.TransportExecutors;
 import io.modelcontextprotocol.util.Assert;
 import io.modelcontextprotocol.util.KeepAliveScheduler;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * Server-side implementation of the Model Context Protocol (MCP) streamable transport
@@ -46,6 +48,18 @@ import reactor.core.publisher.Mono;
  * programming patterns to maintain compatibility with the reactive transport interface.
  *
  * <p>
+ * Request handling never blocks a servlet thread on MCP processing: session
+ * initialization, notifications, responses and deletion are completed through
+ * {@link ServerResponse#async(Object)}, and request streams are driven by a subscription
+ * that completes the SSE response when the MCP response has been written. The number of
+ * in-flight requests is therefore not bounded by the servlet container's thread pool.
+ * Messages sent to a stream wait in its {@link McpOutboundQueue} and are written one at a
+ * time on a blocking serial scheduler of the {@link TransportExecutors}, so the threads
+ * sending them never block on a client that reads slowly. Writes are serialized with
+ * closing the stream by a {@link ReentrantLock} rather than {@code synchronized}, so they
+ * do not pin virtual threads.
+ *
+ * <p>
  * This is the non-reactive version of
  * {@link io.modelcontextprotocol.server.transport.WebFluxStreamableServerTransportProvider}
  *
@@ -58,6 +72,9 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 
 	private static final Logger logger = LoggerFactory.getLogger(WebMvcStreamableServerTransportProvider.class);
 
+	private static final TypeRef<McpSchema.InitializeRequest> INITIALIZE_REQUEST_TYPE_REF = new TypeRef<>() {
+	};
+
 	/**
 	 * Event type for JSON-RPC messages sent through the SSE connection.
 	 */
@@ -109,6 +126,10 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 	 */
 	private final ServerTransportSecurityValidator securityValidator;
 
+	private final McpOutboundQueue outboundQueue;
+
+	private final TransportExecutors transportExecutors;
+
 	/**
 	 * Constructs a new WebMvcStreamableServerTransportProvider instance.
 	 * @param jsonMapper The McpJsonMapper to use for JSON serialization/deserialization
@@ -121,21 +142,29 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 	 * @param keepAliveInterval The interval for keep-alive pings. If null, no keep-alive
 	 * will be scheduled.
 	 * @param securityValidator The security validator for validating HTTP requests.
+	 * @param outboundQueue The queue bounding the messages waiting to be written to each
+	 * stream.
+	 * @param transportExecutors The executors writing the queued messages of each stream.
 	 * @throws IllegalArgumentException if any parameter is null
 	 */
 	private WebMvcStreamableServerTransportProvider(McpJsonMapper jsonMapper, String mcpEndpoint,
 			boolean disallowDelete, McpTransportContextExtractor<ServerRequest> contextExtractor,
-			Duration keepAliveInterval, ServerTransportSecurityValidator securityValidator) {
+			Duration keepAliveInterval, ServerTransportSecurityValidator securityValidator,
+			McpOutboundQueue outboundQueue, TransportExecutors transportExecutors) {
 		Assert.notNull(jsonMapper, "McpJsonMapper must not be null");
 		Assert.notNull(mcpEndpoint, "MCP endpoint must not be null");
 		Assert.notNull(contextExtractor, "McpTransportContextExtractor must not be null");
 		Assert.notNull(securityValidator, "Security validator must not be null");
+		Assert.notNull(outboundQueue, "Outbound queue must not be null");
+		Assert.notNull(transportExecutors, "Transport executors must not be null");
 
 		this.jsonMapper = jsonMapper;
 		this.mcpEndpoint = mcpEndpoint;
 		this.disallowDelete = disallowDelete;
 		this.contextExtractor = contextExtractor;
 		this.securityValidator = securityValidator;
+		this.outboundQueue = outboundQueue;
+		this.transportExecutors = transportExecutors;
 		this.routerFunction = RouterFunctions.route()
 			.GET(this.mcpEndpoint, this::handleGet)
 			.POST(this.mcpEndpoint, this::handlePost)
@@ -181,16 +210,12 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 
 		logger.debug("Attempting to broadcast message to {} active sessions", this.sessions.size());
 
-		return Mono.fromRunnable(() -> {
-			this.sessions.values().parallelStream().forEach(session -> {
-				try {
-					session.sendNotification(method, params).block();
-				}
-				catch (Exception e) {
-					logger.error("Failed to send message to session {}: {}", session.getId(), e.getMessage());
-				}
-			});
-		});
+		return Flux.fromIterable(this.sessions.values())
+			.flatMap(session -> session.sendNotification(method, params)
+				.doOnError(
+						e -> logger.error("Failed to send message to session {}: {}", session.getId(), e.getMessage()))
+				.onErrorComplete())
+			.then();
 	}
 
 	/**
@@ -199,26 +224,24 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 	 */
 	@Override
 	public Mono<Void> closeGracefully() {
-		return Mono.fromRunnable(() -> {
+		return Flux.defer(() -> {
 			this.isClosing = true;
 			logger.debug("Initiating graceful shutdown with {} active sessions", this.sessions.size());
-
-			this.sessions.values().parallelStream().forEach(session -> {
-				try {
-					session.closeGracefully().block();
-				}
-				catch (Exception e) {
-					logger.error("Failed to close session {}: {}", session.getId(), e.getMessage());
+			return Flux.fromIterable(this.sessions.values());
+		})
+			.flatMap(session -> session.closeGracefully()
+				.doOnError(e -> logger.error("Failed to close session {}: {}", session.getId(), e.getMessage()))
+				.onErrorComplete())
+			.then(Mono.fromRunnable(() -> {
+				this.sessions.clear();
+				logger.debug("Graceful shutdown completed");
+			}))
+			.then()
+			.doOnSuccess(v -> {
+				if (this.keepAliveScheduler != null) {
+					this.keepAliveScheduler.shutdown();
 				}
 			});
-
-			this.sessions.clear();
-			logger.debug("Graceful shutdown completed");
-		}).then().doOnSuccess(v -> {
-			if (this.keepAliveScheduler != null) {
-				this.keepAliveScheduler.shutdown();
-			}
-		});
 	}
 
 	/**
@@ -286,26 +309,13 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 				if (!request.headers().header(HttpHeaders.LAST_EVENT_ID).isEmpty()) {
 					String lastId = request.headers().asHttpHeaders().getFirst(HttpHeaders.LAST_EVENT_ID);
 
-					try {
-						session.replay(lastId)
-							.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))
-							.toIterable()
-							.forEach(message -> {
-								try {
-									sessionTransport.sendMessage(message)
-										.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))
-										.block();
-								}
-								catch (Exception e) {
-									logger.error("Failed to replay message: {}", e.getMessage());
-									sseBuilder.error(e);
-								}
-							});
-					}
-					catch (Exception e) {
-						logger.error("Failed to replay messages: {}", e.getMessage());
-						sseBuilder.error(e);
-					}
+					session.replay(lastId)
+						.concatMap(sessionTransport::sendMessage)
+						.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))
+						.subscribe(null, e -> {
+							logger.error("Failed to replay messages: {}", e.getMessage());
+							sseBuilder.error(e);
+						});
 				}
 				else {
 					// Establish new listening stream
@@ -360,25 +370,22 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 			if (message instanceof McpSchema.JSONRPCRequest jsonrpcRequest
 					&& jsonrpcRequest.method().equals(McpSchema.METHOD_INITIALIZE)) {
 				McpSchema.InitializeRequest initializeRequest = jsonMapper.convertValue(jsonrpcRequest.params(),
-						new TypeRef<McpSchema.InitializeRequest>() {
-						});
+						INITIALIZE_REQUEST_TYPE_REF);
 				McpStreamableServerSession.McpStreamableServerSessionInit init = this.sessionFactory
 					.startSession(initializeRequest);
 				this.sessions.put(init.session().getId(), init.session());
 
-				try {
-					McpSchema.InitializeResult initResult = init.initResult().block();
-
-					return ServerResponse.ok()
+				return ServerResponse.async(init.initResult()
+					.map(initResult -> ServerResponse.ok()
 						.contentType(MediaType.APPLICATION_JSON)
 						.header(HttpHeaders.MCP_SESSION_ID, init.session().getId())
 						.body(new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, jsonrpcRequest.id(), initResult,
-								null));
-				}
-				catch (Exception e) {
-					logger.error("Failed to initialize session: {}", e.getMessage());
-					return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new McpError(e.getMessage()));
-				}
+								null)))
+					.onErrorResume(e -> {
+						logger.error("Failed to initialize session: {}", e.getMessage());
+						return Mono.just(ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
+							.body(new McpError(e.getMessage())));
+					}));
 			}
 
 			// Handle other messages that require a session
@@ -395,16 +402,10 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 			}
 
 			if (message instanceof McpSchema.JSONRPCResponse jsonrpcResponse) {
-				session.accept(jsonrpcResponse)
-					.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))
-					.block();
-				return ServerResponse.accepted().build();
+				return accepted(session.accept(jsonrpcResponse), transportContext);
 			}
 			else if (message instanceof McpSchema.JSONRPCNotification jsonrpcNotification) {
-				session.accept(jsonrpcNotification)
-					.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))
-					.block();
-				return ServerResponse.accepted().build();
+				return accepted(session.accept(jsonrpcNotification), transportContext);
 			}
 			else if (message instanceof McpSchema.JSONRPCRequest jsonrpcRequest) {
 				// For streaming responses, we need to return SSE
@@ -419,15 +420,14 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 					WebMvcStreamableMcpSessionTransport sessionTransport = new WebMvcStreamableMcpSessionTransport(
 							sessionId, sseBuilder);
 
-					try {
-						session.responseStream(jsonrpcRequest, sessionTransport)
-							.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))
-							.block();
-					}
-					catch (Exception e) {
-						logger.error("Failed to handle request stream: {}", e.getMessage());
-						sseBuilder.error(e);
-					}
+					// The stream completes the SSE response once the MCP response is
+					// written; the servlet thread is released right away
+					session.responseStream(jsonrpcRequest, sessionTransport)
+						.contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext))
+						.subscribe(null, e -> {
+							logger.error("Failed to handle request stream: {}", e.getMessage());
+							sseBuilder.error(e);
+						});
 				}, Duration.ZERO);
 			}
 			else {
@@ -480,15 +480,29 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 			return ServerResponse.notFound().build();
 		}
 
-		try {
-			session.delete().contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext)).block();
+		return ServerResponse.async(session.delete().then(Mono.fromSupplier(() -> {
 			this.sessions.remove(sessionId);
 			return ServerResponse.ok().build();
-		}
-		catch (Exception e) {
+		})).onErrorResume(e -> {
 			logger.error("Failed to delete session {}: {}", sessionId, e.getMessage());
-			return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new McpError(e.getMessage()));
-		}
+			return Mono
+				.just(ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new McpError(e.getMessage())));
+		}).contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext)));
+	}
+
+	/**
+	 * Completes with 202 Accepted once the session has processed a client message.
+	 * @param processing the session processing the message
+	 * @param transportContext the transport context of the request
+	 * @return an asynchronous ServerResponse
+	 */
+	private static ServerResponse accepted(Mono<Void> processing, McpTransportContext transportContext) {
+		return ServerResponse
+			.async(processing.then(Mono.fromSupplier(() -> ServerResponse.accepted().build())).onErrorResume(e -> {
+				logger.error("Error handling message: {}", e.getMessage());
+				return Mono
+					.just(ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new McpError(e.getMessage())));
+			}).contextWrite(ctx -> ctx.put(McpTransportContext.KEY, transportContext)));
 	}
 
 	/**
@@ -498,7 +512,10 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 	 * <p>
 	 * This class is thread-safe and uses a ReentrantLock to synchronize access to the
 	 * underlying SSE builder to prevent race conditions when multiple threads attempt to
-	 * send messages concurrently.
+	 * send messages concurrently. Messages wait in the stream's {@link McpOutboundQueue}
+	 * and are written one at a time on a blocking serial scheduler of the
+	 * {@link TransportExecutors}, so that the threads sending them never block on a
+	 * client that reads slowly.
 	 */
 	private class WebMvcStreamableMcpSessionTransport implements McpStreamableServerTransport {
 
@@ -510,6 +527,10 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 
 		private volatile boolean closed = false;
 
+		private final Scheduler outboundScheduler;
+
+		private final McpOutboundQueue.Session outbound;
+
 		/**
 		 * Creates a new session transport with the specified ID and SSE builder.
 		 * @param sessionId The unique identifier for this session
@@ -518,6 +539,8 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 		WebMvcStreamableMcpSessionTransport(String sessionId, SseBuilder sseBuilder) {
 			this.sessionId = sessionId;
 			this.sseBuilder = sseBuilder;
+			this.outboundScheduler = transportExecutors.newBlockingSerialScheduler();
+			this.outbound = outboundQueue.newSession(this.outboundScheduler::schedule, this::disconnect);
 			logger.debug("Streamable session transport {} initialized with SSE builder", sessionId);
 		}
 
@@ -540,39 +563,59 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 		 */
 		@Override
 		public Mono<Void> sendMessage(McpSchema.JSONRPCMessage message, String messageId) {
-			return Mono.fromRunnable(() -> {
+			return Mono.defer(() -> {
 				if (this.closed) {
 					logger.debug("Attempted to send message to closed session: {}", this.sessionId);
+					return Mono.empty();
+				}
+				return this.outbound.enqueue(message, () -> write(message, messageId));
+			});
+		}
+
+		private void write(McpSchema.JSONRPCMessage message, String messageId) {
+			this.lock.lock();
+			try {
+				if (this.closed) {
+					logger.debug("Session {} was closed during message send attempt", this.sessionId);
 					return;
 				}
 
-				this.lock.lock();
+				String jsonText = McpSchema.serializeJsonRpcMessage(jsonMapper, message);
+				this.sseBuilder.id(messageId != null ? messageId : this.sessionId)
+					.event(MESSAGE_EVENT_TYPE)
+					.data(jsonText);
+				logger.debug("Message sent to session {} with ID {}", this.sessionId, messageId);
+			}
+			catch (Exception e) {
+				logger.error("Failed to send message to session {}: {}", this.sessionId, e.getMessage());
 				try {
-					if (this.closed) {
-						logger.debug("Session {} was closed during message send attempt", this.sessionId);
-						return;
-					}
-
-					String jsonText = jsonMapper.writeValueAsString(message);
-					this.sseBuilder.id(messageId != null ? messageId : this.sessionId)
-						.event(MESSAGE_EVENT_TYPE)
-						.data(jsonText);
-					logger.debug("Message sent to session {} with ID {}", this.sessionId, messageId);
+					this.sseBuilder.error(e);
 				}
-				catch (Exception e) {
-					logger.error("Failed to send message to session {}: {}", this.sessionId, e.getMessage());
-					try {
-						this.sseBuilder.error(e);
-					}
-					catch (Exception errorException) {
-						logger.error("Failed to send error to SSE builder for session {}: {}", this.sessionId,
-								errorException.getMessage());
-					}
+				catch (Exception errorException) {
+					logger.error("Failed to send error to SSE builder for session {}: {}", this.sessionId,
+							errorException.getMessage());
 				}
-				finally {
-					this.lock.unlock();
-				}
-			});
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		/**
+		 * Closes the stream of a client that does not keep up with the messages sent to
+		 * it. The lock may be held by a write blocked on that client, so the stream is
+		 * completed without it, which fails the blocked write.
+		 */
+		private void disconnect() {
+			logger.warn("Session {} is not reading the messages sent to it, closing the stream", this.sessionId);
+			this.closed = true;
+			WebMvcStreamableServerTransportProvider.this.sessions.remove(this.sessionId);
+			try {
+				this.sseBuilder.complete();
+			}
+			catch (Exception e) {
+				logger.debug("Failed to complete SSE builder for session {}: {}", this.sessionId, e.getMessage());
+			}
 		}
 
 		/**
@@ -588,14 +631,15 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 		}
 
 		/**
-		 * Initiates a graceful shutdown of the transport.
+		 * Initiates a graceful shutdown of the transport, once the messages queued for
+		 * the stream have been written.
 		 * @return A Mono that completes when the shutdown is complete
 		 */
 		@Override
 		public Mono<Void> closeGracefully() {
-			return Mono.fromRunnable(() -> {
+			return this.outbound.flush().then(Mono.fromRunnable(() -> {
 				WebMvcStreamableMcpSessionTransport.this.close();
-			});
+			}));
 		}
 
 		/**
@@ -611,6 +655,8 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 				}
 
 				this.closed = true;
+				this.outbound.close();
+				this.outboundScheduler.dispose();
 
 				this.sseBuilder.complete();
 				logger.debug("Successfully completed SSE builder for session {}", sessionId);
@@ -647,6 +693,10 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 
 		private ServerTransportSecurityValidator securityValidator = ServerTransportSecurityValidator.NOOP;
 
+		private McpOutboundQueue outboundQueue;
+
+		private TransportExecutors transportExecutors = TransportExecutors.shared();
+
 		/**
 		 * Sets the McpJsonMapper to use for JSON serialization/deserialization of MCP
 		 * messages.
@@ -722,6 +772,32 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 			return this;
 		}
 
+		/**
+		 * Sets the queue bounding the messages waiting to be written to each stream of a
+		 * client that reads slowly. By default the messages are not bounded.
+		 * @param outboundQueue The outbound queue. Must not be null.
+		 * @return this builder instance
+		 * @throws IllegalArgumentException if outboundQueue is null
+		 */
+		public Builder outboundQueue(McpOutboundQueue outboundQueue) {
+			Assert.notNull(outboundQueue, "Outbound queue must not be null");
+			this.outboundQueue = outboundQueue;
+			return this;
+		}
+
+		/**
+		 * Sets the executors writing the queued messages of each stream. By default the
+		 * executors are shared with the other transports.
+		 * @param transportExecutors The transport executors. Must not be null.
+		 * @return this builder instance
+		 * @throws IllegalArgumentException if transportExecutors is null
+		 */
+		public Builder transportExecutors(TransportExecutors transportExecutors) {
+			Assert.notNull(transportExecutors, "Transport executors must not be null");
+			this.transportExecutors = transportExecutors;
+			return this;
+		}
+
 		/**
 		 * Builds a new instance of {@link WebMvcStreamableServerTransportProvider} with
 		 * the configured settings.
@@ -732,7 +808,8 @@ public class WebMvcStreamableServerTransportProvider implements McpStreamableSer
 			Assert.notNull(this.mcpEndpoint, "MCP endpoint must be set");
 			return new WebMvcStreamableServerTransportProvider(
 					jsonMapper == null ? McpJsonDefaults.getMapper() : jsonMapper, mcpEndpoint, disallowDelete,
-					contextExtractor, keepAliveInterval, securityValidator);
+					contextExtractor, keepAliveInterval, securityValidator,
+					outboundQueue == null ? McpOutboundQueue.unbounded() : outboundQueue, transportExecutors);
 		}
 
 	}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.modelcontextprotocol.client.McpAsyncClient;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.transport.HttpClientStreamableHttpTransport;
+import io.modelcontextprotocol.server.transport.WebMvcStreamableServerTransportProvider;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.apache.catalina.LifecycleException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Verifies that in-flight tool calls on the WebMvc streamable transport are not bounded
+ * by the number of servlet container threads.
+ */
+@Timeout(30)
+class WebMvcStreamableConcurrencyTests {
+
+	private static final int PORT = TestUtil.findAvailablePort();
+
+	private static final String MESSAGE_ENDPOINT = "/mcp/message";
+
+	private static final int CONTAINER_THREADS = 4;
+
+	private static final int CONCURRENT_CALLS = 5 * CONTAINER_THREADS;
+
+	@Configuration
+	@EnableWebMvc
+	static class TestConfig {
+
+		@Bean
+		public WebMvcStreamableServerTransportProvider webMvcStreamableServerTransportProvider() {
+			return WebMvcStreamableServerTransportProvider.builder().mcpEndpoint(MESSAGE_ENDPOINT).build();
+		}
+
+		@Bean
+		public RouterFunction<ServerResponse> routerFunction(
+				WebMvcStreamableServerTransportProvider transportProvider) {
+			return transportProvider.getRouterFunction();
+		}
+
+	}
+
+	private TomcatTestUtil.TomcatServer tomcatServer;
+
+	private McpAsyncServer server;
+
+	private McpAsyncClient client;
+
+	@BeforeEach
+	void before() throws LifecycleException {
+		this.tomcatServer = TomcatTestUtil.createTomcatServer("", PORT, TestConfig.class);
+		this.tomcatServer.tomcat().getConnector().setProperty("maxThreads", String.valueOf(CONTAINER_THREADS));
+		this.tomcatServer.tomcat().start();
+	}
+
+	@AfterEach
+	void after() throws LifecycleException {
+		if (this.client != null) {
+			this.client.closeGracefully().block(Duration.ofSeconds(5));
+		}
+		if (this.server != null) {
+			this.server.closeGracefully().block(Duration.ofSeconds(5));
+		}
+		this.tomcatServer.appContext().close();
+		this.tomcatServer.tomcat().stop();
+		this.tomcatServer.tomcat().destroy();
+	}
+
+	@Test
+	void inFlightToolCallsExceedContainerThreads() {
+		AtomicInteger inFlight = new AtomicInteger();
+		Sinks.Empty<Void> release = Sinks.empty();
+
+		McpSchema.Tool tool = McpSchema.Tool.builder()
+			.name("hold")
+			.description("Completes once released")
+			.inputSchema(new McpSchema.JsonSchema("object", Map.of(), List.of(), false, null, null))
+			.build();
+		this.server = McpServer
+			.async(this.tomcatServer.appContext().getBean(WebMvcStreamableServerTransportProvider.class))
+			.serverInfo("concurrency-test", "1.0.0")
+			.capabilities(McpSchema.ServerCapabilities.builder().tools(true).build())
+			.toolCall(tool,
+					(exchange, request) -> Mono.fromRunnable(inFlight::incrementAndGet)
+						.then(release.asMono())
+						.then(Mono.just(McpSchema.CallToolResult.builder().addTextContent("done").build())))
+			.build();
+
+		this.client = McpClient
+			.async(HttpClientStreamableHttpTransport.builder("http://localhost:" + PORT)
+				.endpoint(MESSAGE_ENDPOINT)
+				.build())
+			.requestTimeout(Duration.ofSeconds(20))
+			.build();
+		this.client.initialize().block(Duration.ofSeconds(10));
+
+		Mono<List<McpSchema.CallToolResult>> calls = Flux.range(0, CONCURRENT_CALLS)
+			.flatMap(i -> this.client.callTool(new McpSchema.CallToolRequest("hold", Map.of())))
+			.collectList()
+			.cache();
+		calls.subscribe();
+
+		await().atMost(Duration.ofSeconds(15)).untilAsserted(() -> assertThat(inFlight).hasValue(CONCURRENT_CALLS));
+
+		release.tryEmitEmpty();
+		assertThat(calls.block(Duration.ofSeconds(10))).hasSize(CONCURRENT_CALLS)
+			.allSatisfy(result -> assertThat(result.isError()).isNotEqualTo(Boolean.TRUE));
+	}
+
+}
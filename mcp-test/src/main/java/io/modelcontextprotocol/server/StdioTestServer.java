@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.modelcontextprotocol.client.transport.ServerParameters;
+import io.modelcontextprotocol.json.McpJsonDefaults;
+import io.modelcontextprotocol.server.transport.StdioServerTransportProvider;
+import io.modelcontextprotocol.spec.McpSchema;
+
+/**
+ * A stdio MCP server with a single {@code echo} tool, built with the default JSON mapper
+ * and schema validator, for tests that spawn servers in child JVMs. Logging is redirected
+ * to stderr so that stdout only carries protocol messages.
+ */
+public final class StdioTestServer {
+
+	private StdioTestServer() {
+	}
+
+	/**
+	 * Returns the parameters spawning this server in a child JVM with the class path of
+	 * the current one.
+	 * @param jvmArgs extra options for the child JVM
+	 * @return the server parameters
+	 */
+	public static ServerParameters parameters(List<String> jvmArgs) {
+		List<String> args = new ArrayList<>(jvmArgs);
+		args.addAll(List.of("-cp", System.getProperty("java.class.path"), StdioTestServer.class.getName()));
+		return ServerParameters.builder(Path.of(System.getProperty("java.home"), "bin", "java").toString())
+			.args(args)
+			.build();
+	}
+
+	public static void main(String[] args) {
+		PrintStream stdout = System.out;
+		System.setOut(System.err);
+		McpSchema.Tool echo = McpSchema.Tool.builder()
+			.name("echo")
+			.inputSchema(new McpSchema.JsonSchema("object", Map.of("text", Map.of("type", "string")), List.of("text"),
+					null, null, null))
+			.build();
+		McpServer.sync(new StdioServerTransportProvider(McpJsonDefaults.getMapper(), System.in, stdout))
+			.serverInfo("stdio-test-server", "1.0.0")
+			.toolCall(echo,
+					(exchange, request) -> McpSchema.CallToolResult.builder()
+						.addTextContent(String.valueOf(request.arguments().get("text")))
+						.isError(false)
+						.build())
+			.build();
+	}
+
+}
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 import static io.modelcontextprotocol.spec.McpSchema.METHOD_INITIALIZE;
 import static io.modelcontextprotocol.util.McpJsonMapperUtils.JSON_MAPPER;
@@ -337,6 +338,60 @@ class McpAsyncClientResponseHandlerTests {
 		asyncMcpClient.closeGracefully();
 	}
 
+	@Test
+	void testSamplingRequestsSharingSchedulerWaitForASlot() {
+		MockMcpClientTransport transportA = initializationEnabledTransport();
+		MockMcpClientTransport transportB = initializationEnabledTransport();
+		ClientRequestScheduler<McpSchema.CreateMessageRequest> scheduler = ClientRequestScheduler.<McpSchema.CreateMessageRequest>builder()
+			.maxConcurrency(1)
+			.build();
+
+		List<Sinks.One<McpSchema.CreateMessageResult>> handled = new ArrayList<>();
+		Function<McpSchema.CreateMessageRequest, Mono<McpSchema.CreateMessageResult>> samplingHandler = request -> {
+			Sinks.One<McpSchema.CreateMessageResult> result = Sinks.one();
+			handled.add(result);
+			return result.asMono();
+		};
+
+		McpAsyncClient clientA = McpClient.async(transportA)
+			.capabilities(ClientCapabilities.builder().sampling().build())
+			.sampling(samplingHandler)
+			.samplingScheduler(scheduler)
+			.build();
+		McpAsyncClient clientB = McpClient.async(transportB)
+			.capabilities(ClientCapabilities.builder().sampling().build())
+			.sampling(samplingHandler)
+			.samplingScheduler(scheduler)
+			.build();
+		assertThat(clientA.initialize().block()).isNotNull();
+		assertThat(clientB.initialize().block()).isNotNull();
+
+		var messageRequest = McpSchema.CreateMessageRequest.builder()
+			.messages(List
+				.of(new McpSchema.SamplingMessage(McpSchema.Role.USER, new McpSchema.TextContent("Test message"))))
+			.build();
+		transportA.simulateIncomingMessage(new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_SAMPLING_CREATE_MESSAGE, "a-1", messageRequest));
+		transportB.simulateIncomingMessage(new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_SAMPLING_CREATE_MESSAGE, "b-1", messageRequest));
+
+		assertThat(handled).hasSize(1);
+		assertThat(scheduler.metrics().currentlyQueued()).isEqualTo(1);
+
+		McpSchema.CreateMessageResult result = new McpSchema.CreateMessageResult(McpSchema.Role.ASSISTANT,
+				new McpSchema.TextContent("Done"), "test-model", McpSchema.CreateMessageResult.StopReason.END_TURN);
+		handled.get(0).tryEmitValue(result);
+
+		assertThat(((McpSchema.JSONRPCResponse) transportA.getLastSentMessage()).id()).isEqualTo("a-1");
+		assertThat(handled).hasSize(2);
+		handled.get(1).tryEmitValue(result);
+		assertThat(((McpSchema.JSONRPCResponse) transportB.getLastSentMessage()).id()).isEqualTo("b-1");
+		assertThat(scheduler.metrics().dispatched()).isEqualTo(2);
+
+		clientA.closeGracefully();
+		clientB.closeGracefully();
+	}
+
 	@Test
 	void testSamplingCreateMessageRequestHandlingWithoutCapability() {
 		MockMcpClientTransport transport = initializationEnabledTransport();
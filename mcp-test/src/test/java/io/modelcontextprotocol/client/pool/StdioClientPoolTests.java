@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.client.pool;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.modelcontextprotocol.client.McpAsyncClient;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.transport.ServerParameters;
+import io.modelcontextprotocol.json.TypeRef;
+import io.modelcontextprotocol.server.StdioTestServer;
+import io.modelcontextprotocol.spec.McpClientTransport;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for {@link StdioClientPool}, spawning {@link StdioTestServer} in child JVMs.
+ */
+@Timeout(60)
+class StdioClientPoolTests {
+
+	private static final ServerParameters SERVER = StdioTestServer.parameters(List.of());
+
+	private StdioClientPool pool;
+
+	@AfterEach
+	void tearDown() {
+		if (this.pool != null) {
+			this.pool.closeGracefully().block(Duration.ofSeconds(10));
+		}
+	}
+
+	@Test
+	void warmedUpClientsAreLeasedAndReused() {
+		this.pool = StdioClientPool.builder().build();
+
+		this.pool.warmUp(SERVER, 2).block(Duration.ofSeconds(30));
+		assertThat(this.pool.idleCount(SERVER)).isEqualTo(2);
+
+		McpAsyncClient leased;
+		try (StdioClientPool.Lease lease = this.pool.acquire(SERVER).block(Duration.ofSeconds(10))) {
+			leased = lease.client();
+			assertThat(leased.isInitialized()).isTrue();
+			assertThat(this.pool.idleCount(SERVER)).isEqualTo(1);
+			leased.ping().block(Duration.ofSeconds(5));
+		}
+		assertThat(this.pool.idleCount(SERVER)).isEqualTo(2);
+
+		StdioClientPool.Lease again = this.pool.acquire(SERVER).block(Duration.ofSeconds(10));
+		assertThat(again.client()).isSameAs(leased);
+		again.release();
+	}
+
+	@Test
+	void unhealthyIdleClientIsReplaced() {
+		this.pool = StdioClientPool.builder().healthCheckTimeout(Duration.ofSeconds(1)).build();
+
+		StdioClientPool.Lease lease = this.pool.acquire(SERVER).block(Duration.ofSeconds(30));
+		McpAsyncClient broken = lease.client();
+		broken.closeGracefully().block(Duration.ofSeconds(10));
+		lease.release();
+
+		StdioClientPool.Lease replacement = this.pool.acquire(SERVER).block(Duration.ofSeconds(30));
+		assertThat(replacement.client()).isNotSameAs(broken);
+		assertThat(replacement.client().isInitialized()).isTrue();
+		replacement.invalidate();
+		assertThat(this.pool.idleCount(SERVER)).isZero();
+	}
+
+	@Test
+	void idleClientsAreReaped() {
+		this.pool = StdioClientPool.builder()
+			.maxIdleTime(Duration.ofMillis(200))
+			.reapInterval(Duration.ofMillis(100))
+			.build();
+
+		this.pool.warmUp(SERVER, 1).block(Duration.ofSeconds(30));
+		assertThat(this.pool.idleCount(SERVER)).isEqualTo(1);
+
+		await().atMost(Duration.ofSeconds(5)).until(() -> this.pool.idleCount(SERVER) == 0);
+	}
+
+	@Test
+	void cancelledHealthCheckReturnsTheClientToThePool() {
+		AtomicBoolean holdPings = new AtomicBoolean(false);
+		this.pool = StdioClientPool.builder()
+			.clientFactory(transport -> McpClient.async(new PingHoldingTransport(transport, holdPings)).build())
+			.build();
+
+		this.pool.warmUp(SERVER, 1).block(Duration.ofSeconds(30));
+
+		holdPings.set(true);
+		Disposable acquisition = this.pool.acquire(SERVER).subscribe();
+		assertThat(this.pool.idleCount(SERVER)).isZero();
+		acquisition.dispose();
+
+		assertThat(this.pool.idleCount(SERVER)).isEqualTo(1);
+	}
+
+	/**
+	 * Holds back the pings sent while the flag is set, so that a health check stays in
+	 * flight.
+	 */
+	private record PingHoldingTransport(McpClientTransport delegate,
+			AtomicBoolean holdPings) implements McpClientTransport {
+
+		@Override
+		public Mono<Void> connect(Function<Mono<McpSchema.JSONRPCMessage>, Mono<McpSchema.JSONRPCMessage>> handler) {
+			return this.delegate.connect(handler);
+		}
+
+		@Override
+		public Mono<Void> sendMessage(McpSchema.JSONRPCMessage message) {
+			if (this.holdPings.get() && message instanceof McpSchema.JSONRPCRequest request
+					&& McpSchema.METHOD_PING.equals(request.method())) {
+				return Mono.never();
+			}
+			return this.delegate.sendMessage(message);
+		}
+
+		@Override
+		public void setExceptionHandler(Consumer<Throwable> handler) {
+			this.delegate.setExceptionHandler(handler);
+		}
+
+		@Override
+		public Mono<Void> closeGracefully() {
+			return this.delegate.closeGracefully();
+		}
+
+		@Override
+		public List<String> protocolVersions() {
+			return this.delegate.protocolVersions();
+		}
+
+		@Override
+		public <T> T unmarshalFrom(Object data, TypeRef<T> typeRef) {
+			return this.delegate.unmarshalFrom(data, typeRef);
+		}
+
+	}
+
+}
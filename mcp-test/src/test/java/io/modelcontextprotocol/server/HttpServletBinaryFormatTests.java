@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.HttpClientStreamableHttpTransport;
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.server.transport.HttpServletStatelessServerTransport;
+import io.modelcontextprotocol.server.transport.HttpServletStreamableServerTransportProvider;
+import io.modelcontextprotocol.server.transport.TomcatTestUtil;
+import io.modelcontextprotocol.spec.McpBinaryFormat;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.ImageContent;
+import io.modelcontextprotocol.spec.McpSchema.ServerCapabilities;
+import io.modelcontextprotocol.spec.McpSchema.Tool;
+import jakarta.servlet.Filter;
+import jakarta.servlet.Servlet;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.startup.Tomcat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static io.modelcontextprotocol.util.ToolsUtils.EMPTY_JSON_SCHEMA;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the exchange of messages in a {@link McpBinaryFormat} between
+ * {@link HttpClientStreamableHttpTransport} and the servlet server transports.
+ */
+@Timeout(30)
+class HttpServletBinaryFormatTests {
+
+	private static final String MCP_ENDPOINT = "/mcp";
+
+	private static final McpBinaryFormat FORMAT = new JsonBytesFormat();
+
+	private static final Tool IMAGE_TOOL = Tool.builder().name("image").inputSchema(EMPTY_JSON_SCHEMA).build();
+
+	private static final String IMAGE_DATA;
+
+	static {
+		byte[] image = new byte[16 * 1024];
+		new Random(42).nextBytes(image);
+		IMAGE_DATA = Base64.getEncoder().encodeToString(image);
+	}
+
+	private final int port = TomcatTestUtil.findAvailablePort();
+
+	private final List<String> exchanges = new CopyOnWriteArrayList<>();
+
+	private Tomcat tomcat;
+
+	@AfterEach
+	void stopServer() throws LifecycleException {
+		if (this.tomcat != null) {
+			this.tomcat.stop();
+			this.tomcat.destroy();
+		}
+	}
+
+	@Test
+	void statelessServerAnswersInTheFormatOfTheRequest() throws LifecycleException {
+		HttpServletStatelessServerTransport transport = HttpServletStatelessServerTransport.builder()
+			.messageEndpoint(MCP_ENDPOINT)
+			.binaryFormat(FORMAT)
+			.build();
+		McpStatelessSyncServer server = McpServer.sync(transport)
+			.capabilities(ServerCapabilities.builder().tools(true).build())
+			.tools(new McpStatelessServerFeatures.SyncToolSpecification(IMAGE_TOOL,
+					(context, request) -> CallToolResult.builder()
+						.content(List.of(new ImageContent(null, IMAGE_DATA, "image/png")))
+						.build()))
+			.build();
+		startTomcat(transport);
+		try {
+			try (McpSyncClient client = client(true)) {
+				assertThat(callImageTool(client)).isEqualTo(IMAGE_DATA);
+			}
+			// The initialized notification is accepted without a body
+			assertThat(this.exchanges).containsOnly("application/x-mcp-test application/x-mcp-test",
+					"application/x-mcp-test null");
+
+			this.exchanges.clear();
+			try (McpSyncClient client = client(false)) {
+				assertThat(callImageTool(client)).isEqualTo(IMAGE_DATA);
+			}
+			assertThat(this.exchanges).isNotEmpty().allMatch(exchange -> !exchange.contains("x-mcp-test"));
+		}
+		finally {
+			server.close();
+		}
+	}
+
+	@Test
+	void streamableServerReadsBinaryRequestsAndStreamsJson() throws LifecycleException {
+		HttpServletStreamableServerTransportProvider transportProvider = HttpServletStreamableServerTransportProvider
+			.builder()
+			.mcpEndpoint(MCP_ENDPOINT)
+			.binaryFormat(FORMAT)
+			.build();
+		McpSyncServer server = McpServer.sync(transportProvider)
+			.capabilities(ServerCapabilities.builder().tools(true).build())
+			.toolCall(IMAGE_TOOL,
+					(exchange, request) -> CallToolResult.builder()
+						.content(List.of(new ImageContent(null, IMAGE_DATA, "image/png")))
+						.build())
+			.build();
+		startTomcat(transportProvider);
+		try (McpSyncClient client = client(true)) {
+			assertThat(callImageTool(client)).isEqualTo(IMAGE_DATA);
+			// The initialize response is binary, the tool call is answered on an SSE
+			// stream
+			assertThat(this.exchanges).contains("application/x-mcp-test application/x-mcp-test",
+					"application/x-mcp-test text/event-stream;charset=UTF-8");
+		}
+		finally {
+			server.closeGracefully();
+		}
+	}
+
+	private void startTomcat(Servlet servlet) throws LifecycleException {
+		// Records the content types of each POST: request, response
+		Filter recorder = (request, response, chain) -> {
+			chain.doFilter(request, response);
+			if ("POST".equals(((HttpServletRequest) request).getMethod())) {
+				this.exchanges.add(request.getContentType() + " " + response.getContentType());
+			}
+		};
+		this.tomcat = TomcatTestUtil.createTomcatServer("", this.port, servlet, recorder);
+		this.tomcat.start();
+	}
+
+	private McpSyncClient client(boolean binary) {
+		HttpClientStreamableHttpTransport.Builder builder = HttpClientStreamableHttpTransport
+			.builder("http://localhost:" + this.port)
+			.endpoint(MCP_ENDPOINT);
+		if (binary) {
+			builder.binaryFormat(FORMAT);
+		}
+		McpSyncClient client = McpClient.sync(builder.build()).requestTimeout(Duration.ofSeconds(10)).build();
+		client.initialize();
+		return client;
+	}
+
+	private static String callImageTool(McpSyncClient client) {
+		CallToolResult result = client.callTool(new McpSchema.CallToolRequest("image", Map.of()));
+		return ((ImageContent) result.content().get(0)).data();
+	}
+
+	/**
+	 * A format carrying JSON under its own content type, standing in for the binary
+	 * formats of the JSON modules.
+	 */
+	private static final class JsonBytesFormat implements McpBinaryFormat {
+
+		@Override
+		public String contentType() {
+			return "application/x-mcp-test";
+		}
+
+		@Override
+		public byte[] write(McpJsonMapper jsonMapper, McpSchema.JSONRPCMessage message) throws IOException {
+			return McpSchema.serializeJsonRpcMessageAsBytes(jsonMapper, message);
+		}
+
+		@Override
+		public McpSchema.JSONRPCMessage read(McpJsonMapper jsonMapper, byte[] content) throws IOException {
+			return McpSchema.deserializeJsonRpcMessage(jsonMapper, content);
+		}
+
+	}
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.HttpClientStreamableHttpTransport;
+import io.modelcontextprotocol.server.transport.HttpServletStreamableServerTransportProvider;
+import io.modelcontextprotocol.server.transport.TomcatTestUtil;
+import io.modelcontextprotocol.spec.HttpCompression;
+import io.modelcontextprotocol.spec.HttpHeaders;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.ServerCapabilities;
+import io.modelcontextprotocol.spec.McpSchema.Tool;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.startup.Tomcat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static io.modelcontextprotocol.util.ToolsUtils.EMPTY_JSON_SCHEMA;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the compression of request bodies, JSON responses and SSE streams by
+ * {@link HttpServletStreamableServerTransportProvider} and
+ * {@link HttpClientStreamableHttpTransport}.
+ */
+@Timeout(30)
+class HttpServletStreamableCompressionTests {
+
+	private static final String MCP_ENDPOINT = "/mcp";
+
+	private static final String LARGE_TEXT = "The quick brown fox jumps over the lazy dog. ".repeat(200);
+
+	private final int port = TomcatTestUtil.findAvailablePort();
+
+	private final List<String> exchanges = new CopyOnWriteArrayList<>();
+
+	private McpSyncServer server;
+
+	private Tomcat tomcat;
+
+	@BeforeEach
+	void startServer() throws LifecycleException {
+		HttpServletStreamableServerTransportProvider transportProvider = HttpServletStreamableServerTransportProvider
+			.builder()
+			.mcpEndpoint(MCP_ENDPOINT)
+			.compression(HttpCompression.builder().minSize(256).build())
+			.build();
+		this.server = McpServer.sync(transportProvider)
+			.serverInfo("compressing-server", "1.0.0")
+			.capabilities(ServerCapabilities.builder().tools(true).build())
+			.toolCall(Tool.builder().name("large").inputSchema(EMPTY_JSON_SCHEMA).build(),
+					(exchange, request) -> CallToolResult.builder().addTextContent(LARGE_TEXT).build())
+			.build();
+		// Records the encodings of each request and response: method, request body,
+		// response body
+		Filter recorder = (request, response, chain) -> {
+			chain.doFilter(request, response);
+			HttpServletRequest httpRequest = (HttpServletRequest) request;
+			this.exchanges.add(httpRequest.getMethod() + " " + httpRequest.getHeader(HttpHeaders.CONTENT_ENCODING) + " "
+					+ ((HttpServletResponse) response).getHeader(HttpHeaders.CONTENT_ENCODING));
+		};
+		this.tomcat = TomcatTestUtil.createTomcatServer("", this.port, transportProvider, recorder);
+		this.tomcat.start();
+	}
+
+	@AfterEach
+	void stopServer() throws LifecycleException {
+		this.server.closeGracefully();
+		this.tomcat.stop();
+		this.tomcat.destroy();
+	}
+
+	@Test
+	void compressingClientReceivesLargeResultsCompressed() {
+		HttpClientStreamableHttpTransport transport = HttpClientStreamableHttpTransport
+			.builder("http://localhost:" + this.port)
+			.endpoint(MCP_ENDPOINT)
+			.compression(HttpCompression.builder().minSize(256).compressRequests(true).build())
+			.build();
+		try (McpSyncClient client = McpClient.sync(transport).requestTimeout(Duration.ofSeconds(10)).build()) {
+			client.initialize();
+
+			CallToolResult result = client
+				.callTool(new McpSchema.CallToolRequest("large", Map.of("padding", LARGE_TEXT)));
+
+			assertThat(((McpSchema.TextContent) result.content().get(0)).text()).isEqualTo(LARGE_TEXT);
+			// The small initialize exchange is sent as it is; the tool call and its SSE
+			// response are compressed
+			assertThat(this.exchanges).contains("POST null null", "POST gzip gzip");
+		}
+	}
+
+	@Test
+	void respondsWithTheNegotiatedCoding() throws Exception {
+		HttpClient httpClient = HttpClient.newHttpClient();
+		HttpResponse<byte[]> initialize = httpClient.send(post(null,
+				"{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"initialize\",\"params\":{\"protocolVersion\":\"2025-06-18\","
+						+ "\"capabilities\":{},\"clientInfo\":{\"name\":\"client\",\"version\":\"1.0.0\"}}}")
+			.header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+			.build(), HttpResponse.BodyHandlers.ofByteArray());
+		assertThat(initialize.statusCode()).isEqualTo(200);
+		// Below the minimum size
+		assertThat(initialize.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).isEmpty();
+		assertThat(initialize.headers().allValues(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+		String sessionId = initialize.headers().firstValue(HttpHeaders.MCP_SESSION_ID).orElseThrow();
+
+		HttpResponse<InputStream> call = httpClient.send(post(sessionId,
+				"{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"tools/call\",\"params\":{\"name\":\"large\"}}")
+			.header(HttpHeaders.ACCEPT_ENCODING, "deflate;q=0.5, gzip")
+			.build(), HttpResponse.BodyHandlers.ofInputStream());
+		assertThat(call.statusCode()).isEqualTo(200);
+		assertThat(call.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).contains("gzip");
+		try (InputStream events = new GZIPInputStream(call.body())) {
+			String stream = new String(events.readAllBytes(), StandardCharsets.UTF_8);
+			assertThat(stream).startsWith("id: ").contains("event: message", LARGE_TEXT);
+		}
+	}
+
+	@Test
+	void decodesCompressedRequestsAndRejectsUnsupportedCodings() throws Exception {
+		HttpClient httpClient = HttpClient.newHttpClient();
+		String initialize = "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"initialize\",\"params\":{\"protocolVersion\":"
+				+ "\"2025-06-18\",\"capabilities\":{},\"clientInfo\":{\"name\":\"client\",\"version\":\"1.0.0\"}}}";
+
+		ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+		try (GZIPOutputStream out = new GZIPOutputStream(gzipped)) {
+			out.write(initialize.getBytes(StandardCharsets.UTF_8));
+		}
+		HttpResponse<String> accepted = httpClient.send(request(null).header(HttpHeaders.CONTENT_ENCODING, "gzip")
+			.POST(HttpRequest.BodyPublishers.ofByteArray(gzipped.toByteArray()))
+			.build(), HttpResponse.BodyHandlers.ofString());
+		assertThat(accepted.statusCode()).isEqualTo(200);
+		assertThat(accepted.body()).contains("compressing-server");
+
+		HttpResponse<String> rejected = httpClient.send(request(null).header(HttpHeaders.CONTENT_ENCODING, "br")
+			.POST(HttpRequest.BodyPublishers.ofString(initialize))
+			.build(), HttpResponse.BodyHandlers.ofString());
+		assertThat(rejected.statusCode()).isEqualTo(415);
+		assertThat(rejected.headers().firstValue(HttpHeaders.ACCEPT_ENCODING)).contains("gzip, deflate");
+	}
+
+	private HttpRequest.Builder post(String sessionId, String body) {
+		return request(sessionId).POST(HttpRequest.BodyPublishers.ofString(body));
+	}
+
+	private HttpRequest.Builder request(String sessionId) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + this.port + MCP_ENDPOINT))
+			.header(HttpHeaders.ACCEPT, "application/json, text/event-stream")
+			.header(HttpHeaders.CONTENT_TYPE, "application/json");
+		if (sessionId != null) {
+			builder.header(HttpHeaders.MCP_SESSION_ID, sessionId);
+		}
+		return builder;
+	}
+
+}
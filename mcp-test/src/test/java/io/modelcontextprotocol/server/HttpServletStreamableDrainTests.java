@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.HttpClientStreamableHttpTransport;
+import io.modelcontextprotocol.server.transport.HttpServletStreamableServerTransportProvider;
+import io.modelcontextprotocol.server.transport.McpDrainMetrics;
+import io.modelcontextprotocol.server.transport.TomcatTestUtil;
+import io.modelcontextprotocol.spec.HttpHeaders;
+import io.modelcontextprotocol.spec.InMemoryMcpStreamableSessionStore;
+import io.modelcontextprotocol.spec.McpError;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.ServerCapabilities;
+import io.modelcontextprotocol.spec.McpSchema.Tool;
+import io.modelcontextprotocol.spec.McpStreamableSessionState;
+import io.modelcontextprotocol.spec.McpStreamableSessionStore;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.startup.Tomcat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import reactor.core.publisher.Mono;
+
+import static io.modelcontextprotocol.util.ToolsUtils.EMPTY_JSON_SCHEMA;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the drain of {@link HttpServletStreamableServerTransportProvider} when it
+ * shuts down with a tool call in flight.
+ */
+@Timeout(30)
+class HttpServletStreamableDrainTests {
+
+	private static final String MCP_ENDPOINT = "/mcp";
+
+	private final int port = TomcatTestUtil.findAvailablePort();
+
+	private final CountDownLatch started = new CountDownLatch(1);
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	private HttpServletStreamableServerTransportProvider transportProvider;
+
+	private McpSyncServer server;
+
+	private Tomcat tomcat;
+
+	@AfterEach
+	void stopServer() throws LifecycleException {
+		this.release.countDown();
+		if (this.server != null) {
+			this.server.closeGracefully();
+		}
+		if (this.tomcat != null) {
+			this.tomcat.stop();
+			this.tomcat.destroy();
+		}
+	}
+
+	@Test
+	void completesToolCallsInFlightAndRefusesNewSessions() throws Exception {
+		startServer(Duration.ofSeconds(10));
+		try (McpSyncClient client = client()) {
+			CompletableFuture<CallToolResult> call = CompletableFuture.supplyAsync(() -> callSlowTool(client));
+			assertThat(this.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+			CompletableFuture<Void> closed = this.transportProvider.closeGracefully().toFuture();
+
+			HttpResponse<String> refused = initialize();
+			assertThat(refused.statusCode()).isEqualTo(503);
+			assertThat(refused.headers().firstValue(HttpHeaders.RETRY_AFTER)).contains("2");
+			assertThat(closed).isNotDone();
+
+			this.release.countDown();
+			assertThat(((McpSchema.TextContent) call.get(5, TimeUnit.SECONDS).content().get(0)).text())
+				.isEqualTo("done");
+			closed.get(5, TimeUnit.SECONDS);
+		}
+		McpDrainMetrics metrics = this.transportProvider.drainMetrics();
+		assertThat(metrics.drained()).isEqualTo(1);
+		assertThat(metrics.aborted()).isZero();
+		// The initialize request, and whatever the client sent while closing
+		assertThat(metrics.rejected()).isPositive();
+		assertThat(metrics.inFlight()).isZero();
+	}
+
+	@Test
+	void answersToolCallsStillInFlightAtTheDeadlineWithAnError() throws Exception {
+		startServer(Duration.ofMillis(200));
+		try (McpSyncClient client = client()) {
+			CompletableFuture<CallToolResult> call = CompletableFuture.supplyAsync(() -> callSlowTool(client));
+			assertThat(this.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+			this.transportProvider.closeGracefully().block(Duration.ofSeconds(5));
+
+			assertThatThrownBy(() -> call.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(McpError.class)
+				.hasMessageContaining("Server shut down before the request completed");
+		}
+		McpDrainMetrics metrics = this.transportProvider.drainMetrics();
+		assertThat(metrics.drained()).isZero();
+		assertThat(metrics.aborted()).isEqualTo(1);
+		assertThat(metrics.inFlight()).isZero();
+	}
+
+	@Test
+	void savesSessionsWhenRequestsRunPastTheDeadline() throws Exception {
+		AtomicInteger saves = new AtomicInteger();
+		startServer(Duration.ofMillis(200), new InMemoryMcpStreamableSessionStore() {
+
+			@Override
+			public Mono<Void> save(McpStreamableSessionState state) {
+				// Slower than what is left of the drain once the deadline has passed
+				return Mono.delay(Duration.ofMillis(100))
+					.then(super.save(state))
+					.doOnSuccess(v -> saves.incrementAndGet());
+			}
+
+		});
+		try (McpSyncClient client = client()) {
+			CompletableFuture<CallToolResult> call = CompletableFuture.supplyAsync(() -> callSlowTool(client));
+			assertThat(this.started.await(5, TimeUnit.SECONDS)).isTrue();
+			int savedBeforeClose = saves.get();
+
+			this.transportProvider.closeGracefully().block(Duration.ofSeconds(5));
+
+			assertThat(saves.get()).isGreaterThan(savedBeforeClose);
+			assertThatThrownBy(() -> call.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(McpError.class)
+				.hasMessageContaining("Server shut down before the request completed");
+		}
+		assertThat(this.transportProvider.drainMetrics().aborted()).isEqualTo(1);
+	}
+
+	private void startServer(Duration drainTimeout) throws LifecycleException {
+		startServer(HttpServletStreamableServerTransportProvider.builder().drainTimeout(drainTimeout));
+	}
+
+	private void startServer(Duration drainTimeout, McpStreamableSessionStore sessionStore) throws LifecycleException {
+		startServer(HttpServletStreamableServerTransportProvider.builder()
+			.drainTimeout(drainTimeout)
+			.sessionStore(sessionStore));
+	}
+
+	private void startServer(HttpServletStreamableServerTransportProvider.Builder builder) throws LifecycleException {
+		this.transportProvider = builder.mcpEndpoint(MCP_ENDPOINT).drainRetryAfter(Duration.ofMillis(1500)).build();
+		this.server = McpServer.sync(this.transportProvider)
+			.capabilities(ServerCapabilities.builder().tools(true).build())
+			.toolCall(Tool.builder().name("slow").inputSchema(EMPTY_JSON_SCHEMA).build(), (exchange, request) -> {
+				this.started.countDown();
+				try {
+					this.release.await(20, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return CallToolResult.builder().addTextContent("done").build();
+			})
+			.build();
+		this.tomcat = TomcatTestUtil.createTomcatServer("", this.port, this.transportProvider);
+		this.tomcat.start();
+	}
+
+	private McpSyncClient client() {
+		McpSyncClient client = McpClient
+			.sync(HttpClientStreamableHttpTransport.builder("http://localhost:" + this.port)
+				.endpoint(MCP_ENDPOINT)
+				.build())
+			.requestTimeout(Duration.ofSeconds(20))
+			.build();
+		client.initialize();
+		return client;
+	}
+
+	private static CallToolResult callSlowTool(McpSyncClient client) {
+		return client.callTool(new McpSchema.CallToolRequest("slow", Map.of()));
+	}
+
+	private HttpResponse<String> initialize() throws Exception {
+		return HttpClient.newHttpClient()
+			.send(HttpRequest.newBuilder(URI.create("http://localhost:" + this.port + MCP_ENDPOINT))
+				.header(HttpHeaders.ACCEPT, "application/json, text/event-stream")
+				.header(HttpHeaders.CONTENT_TYPE, "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"initialize\","
+						+ "\"params\":{\"protocolVersion\":\"2025-06-18\",\"capabilities\":{},"
+						+ "\"clientInfo\":{\"name\":\"client\",\"version\":\"1.0.0\"}}}"))
+				.build(), HttpResponse.BodyHandlers.ofString());
+	}
+
+}
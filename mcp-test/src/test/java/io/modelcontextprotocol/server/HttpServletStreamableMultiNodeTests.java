@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.HttpClientStreamableHttpTransport;
+import io.modelcontextprotocol.server.transport.HttpServletStreamableServerTransportProvider;
+import io.modelcontextprotocol.server.transport.TomcatTestUtil;
+import io.modelcontextprotocol.spec.InMemoryMcpStreamableMessageBus;
+import io.modelcontextprotocol.spec.HttpHeaders;
+import io.modelcontextprotocol.spec.InMemoryMcpStreamableSessionStore;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.ClientCapabilities;
+import io.modelcontextprotocol.spec.McpSchema.CreateMessageRequest;
+import io.modelcontextprotocol.spec.McpSchema.CreateMessageResult;
+import io.modelcontextprotocol.spec.McpSchema.ServerCapabilities;
+import io.modelcontextprotocol.spec.McpSchema.Tool;
+import io.modelcontextprotocol.spec.McpStreamableSessionState;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.startup.Tomcat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static io.modelcontextprotocol.util.ToolsUtils.EMPTY_JSON_SCHEMA;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for Streamable HTTP sessions served by two nodes, each an embedded Tomcat with
+ * its own server, sharing an {@link InMemoryMcpStreamableSessionStore} and an
+ * {@link InMemoryMcpStreamableMessageBus}. The client sends its requests to the nodes in
+ * turn, like a load balancer without sticky sessions.
+ */
+@Timeout(30)
+class HttpServletStreamableMultiNodeTests {
+
+	private static final String MCP_ENDPOINT = "/mcp";
+
+	private static final String INITIALIZE = "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"initialize\",\"params\":"
+			+ "{\"protocolVersion\":\"2025-06-18\",\"capabilities\":{},"
+			+ "\"clientInfo\":{\"name\":\"client\",\"version\":\"1.0.0\"}}}";
+
+	private static final String INITIALIZED = "{\"jsonrpc\":\"2.0\",\"method\":\"notifications/initialized\"}";
+
+	private static final String PING = "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"ping\"}";
+
+	private final InMemoryMcpStreamableSessionStore sessionStore = new InMemoryMcpStreamableSessionStore();
+
+	private final InMemoryMcpStreamableMessageBus messageBus = new InMemoryMcpStreamableMessageBus();
+
+	private final List<Node> nodes = new ArrayList<>();
+
+	private final AtomicInteger requests = new AtomicInteger();
+
+	private final Set<String> sessionIds = ConcurrentHashMap.newKeySet();
+
+	private volatile int listeningPort;
+
+	@BeforeEach
+	void startNodes() throws LifecycleException {
+		this.nodes.add(new Node("node-a"));
+		this.nodes.add(new Node("node-b"));
+	}
+
+	@AfterEach
+	void stopNodes() throws LifecycleException {
+		for (Node node : this.nodes) {
+			node.stop();
+		}
+	}
+
+	@Test
+	void anyNodeServesTheSessionAndReceivesResponsesToItsRequests() {
+		try (McpSyncClient client = client().build()) {
+			client.initialize();
+
+			Set<String> servedBy = new HashSet<>();
+			for (int i = 0; i < 4; i++) {
+				CallToolResult result = client.callTool(new McpSchema.CallToolRequest("sample", Map.of()));
+				assertThat(result.isError()).isNotEqualTo(Boolean.TRUE);
+				String text = ((McpSchema.TextContent) result.content().get(0)).text();
+				assertThat(text).endsWith(":sampled");
+				servedBy.add(text.substring(0, text.indexOf(':')));
+				// A call and the response to its sampling request take two requests; the
+				// ping sends the next call to the other node
+				client.ping();
+			}
+
+			assertThat(servedBy).containsExactlyInAnyOrder("node-a", "node-b");
+			assertThat(this.sessionIds).singleElement()
+				.satisfies(sessionId -> assertThat(this.sessionStore.find(sessionId).block()).isNotNull());
+		}
+	}
+
+	@Test
+	void notificationsReachTheNodeHoldingTheListeningStream() {
+		AtomicInteger toolListChanges = new AtomicInteger();
+		try (McpSyncClient client = client().toolsChangeConsumer(tools -> toolListChanges.incrementAndGet()).build()) {
+			client.initialize();
+			// Both nodes serve a request, so that both know the session
+			client.listTools();
+			client.listTools();
+
+			await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+				assertThat(this.listeningPort).isNotZero();
+				Node other = this.nodes.stream().filter(node -> node.port != this.listeningPort).findFirst().get();
+				other.server.notifyToolsListChanged();
+				assertThat(toolListChanges).hasPositiveValue();
+			});
+		}
+	}
+
+	@Test
+	void sessionDeletedOnOneNodeIsUnknownToTheOthers() throws Exception {
+		Node first = this.nodes.get(0);
+		Node second = this.nodes.get(1);
+		HttpResponse<String> initialized = post(first.port, null, INITIALIZE);
+		String sessionId = initialized.headers().firstValue(HttpHeaders.MCP_SESSION_ID).orElseThrow();
+		post(first.port, sessionId, INITIALIZED);
+		assertThat(post(second.port, sessionId, PING).statusCode()).isEqualTo(200);
+
+		HttpResponse<String> deleted = HttpClient.newHttpClient()
+			.send(HttpRequest.newBuilder(URI.create("http://localhost:" + first.port + MCP_ENDPOINT))
+				.header(HttpHeaders.MCP_SESSION_ID, sessionId)
+				.DELETE()
+				.build(), HttpResponse.BodyHandlers.ofString());
+		assertThat(deleted.statusCode()).isEqualTo(200);
+
+		assertThat(post(second.port, sessionId, PING).statusCode()).isEqualTo(404);
+		assertThat(post(first.port, sessionId, PING).statusCode()).isEqualTo(404);
+	}
+
+	@Test
+	void sessionsThatTheFactoryCannotRestoreAreNotFound() throws Exception {
+		HttpServletStreamableServerTransportProvider transportProvider = HttpServletStreamableServerTransportProvider
+			.builder()
+			.mcpEndpoint(MCP_ENDPOINT)
+			.sessionStore(this.sessionStore)
+			.build();
+		transportProvider.setSessionFactory(initializeRequest -> {
+			throw new IllegalStateException("Not expected to initialize sessions");
+		});
+		int port = TomcatTestUtil.findAvailablePort();
+		Tomcat tomcat = TomcatTestUtil.createTomcatServer("", port, transportProvider);
+		tomcat.start();
+		try {
+			this.sessionStore
+				.save(new McpStreamableSessionState("stored", McpSchema.LATEST_PROTOCOL_VERSION,
+						ClientCapabilities.builder().build(), new McpSchema.Implementation("client", "1.0.0"),
+						McpSchema.LoggingLevel.INFO))
+				.block();
+
+			assertThat(post(port, "stored", PING).statusCode()).isEqualTo(404);
+		}
+		finally {
+			tomcat.stop();
+			tomcat.destroy();
+		}
+	}
+
+	private static HttpResponse<String> post(int port, String sessionId, String body) throws Exception {
+		HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + MCP_ENDPOINT))
+			.header(HttpHeaders.ACCEPT, "application/json, text/event-stream")
+			.header(HttpHeaders.CONTENT_TYPE, "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(body));
+		if (sessionId != null) {
+			request.header(HttpHeaders.MCP_SESSION_ID, sessionId);
+		}
+		return HttpClient.newHttpClient().send(request.build(), HttpResponse.BodyHandlers.ofString());
+	}
+
+	private McpClient.SyncSpec client() {
+		HttpClientStreamableHttpTransport transport = HttpClientStreamableHttpTransport
+			.builder("http://localhost:" + this.nodes.get(0).port)
+			.endpoint(MCP_ENDPOINT)
+			.httpRequestCustomizer((builder, method, endpoint, body, context) -> {
+				int port = this.nodes.get(Math.floorMod(this.requests.getAndIncrement(), this.nodes.size())).port;
+				builder.uri(URI.create("http://localhost:" + port + endpoint.getRawPath()));
+				if ("GET".equals(method)) {
+					this.listeningPort = port;
+				}
+			})
+			.build();
+		return McpClient.sync(transport)
+			.requestTimeout(Duration.ofSeconds(10))
+			.capabilities(ClientCapabilities.builder().sampling().build())
+			.sampling(request -> new CreateMessageResult(McpSchema.Role.ASSISTANT, new McpSchema.TextContent("sampled"),
+					"model", CreateMessageResult.StopReason.END_TURN));
+	}
+
+	private final class Node {
+
+		private final int port = TomcatTestUtil.findAvailablePort();
+
+		private final HttpServletStreamableServerTransportProvider transportProvider;
+
+		private final McpSyncServer server;
+
+		private final Tomcat tomcat;
+
+		Node(String name) throws LifecycleException {
+			this.transportProvider = HttpServletStreamableServerTransportProvider.builder()
+				.mcpEndpoint(MCP_ENDPOINT)
+				.sessionStore(sessionStore)
+				.messageBus(messageBus)
+				.build();
+			this.server = McpServer.sync(this.transportProvider)
+				.serverInfo(name, "1.0.0")
+				.capabilities(ServerCapabilities.builder().tools(true).build())
+				.tools(McpServerFeatures.SyncToolSpecification.builder()
+					.tool(Tool.builder().name("sample").inputSchema(EMPTY_JSON_SCHEMA).build())
+					.callHandler((exchange, request) -> {
+						CreateMessageResult sampled = exchange.createMessage(CreateMessageRequest.builder()
+							.messages(List.of(new McpSchema.SamplingMessage(McpSchema.Role.USER,
+									new McpSchema.TextContent("hello"))))
+							.maxTokens(10)
+							.build());
+						sessionIds.add(exchange.sessionId());
+						String text = ((McpSchema.TextContent) sampled.content()).text();
+						return CallToolResult.builder().addTextContent(name + ":" + text).build();
+					})
+					.build())
+				.build();
+			this.tomcat = TomcatTestUtil.createTomcatServer("", this.port, this.transportProvider);
+			this.tomcat.start();
+		}
+
+		void stop() throws LifecycleException {
+			this.server.closeGracefully();
+			this.tomcat.stop();
+			this.tomcat.destroy();
+		}
+
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import java.time.Duration;
+import java.util.Map;
+
+import io.modelcontextprotocol.MockMcpServerTransport;
+import io.modelcontextprotocol.MockMcpServerTransportProvider;
+import io.modelcontextprotocol.json.TypeRef;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.PendingRequestTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import static io.modelcontextprotocol.util.ToolsUtils.EMPTY_JSON_SCHEMA;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for the limit on the requests a server session sends to its client, configured
+ * with {@link McpServer.AsyncSpecification#maxInFlightRequests}.
+ */
+class McpServerInFlightRequestsTests {
+
+	private final MockMcpServerTransport transport = new MockMcpServerTransport();
+
+	private final MockMcpServerTransportProvider transportProvider = new MockMcpServerTransportProvider(this.transport);
+
+	private final McpAsyncServer server = McpServer.async(this.transportProvider)
+		.serverInfo("in-flight-test", "1.0.0")
+		.capabilities(McpSchema.ServerCapabilities.builder().tools(true).build())
+		.maxInFlightRequests(1, PendingRequestTable.OverflowPolicy.FAIL_FAST)
+		.toolCall(McpSchema.Tool.builder().name("roots").inputSchema(EMPTY_JSON_SCHEMA).build(),
+				(exchange, request) -> {
+					// The client never answers, so this request keeps the only slot
+					exchange.listRoots().subscribe(roots -> {
+					}, error -> {
+					});
+					return exchange.listRoots()
+						.map(roots -> CallToolResult.builder().addTextContent("roots").build())
+						.onErrorResume(error -> Mono
+							.just(CallToolResult.builder().addTextContent(error.getMessage()).isError(true).build()));
+				})
+		.build();
+
+	@AfterEach
+	void tearDown() {
+		this.server.closeGracefully().block(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void requestsBeyondTheLimitFailFast() {
+		initialize();
+
+		this.transportProvider.simulateIncomingMessage(new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_TOOLS_CALL, "call-1", new McpSchema.CallToolRequest("roots", Map.of())));
+
+		McpSchema.JSONRPCResponse response = await().atMost(Duration.ofSeconds(5))
+			.until(() -> this.transport.getAllSentMessages()
+				.stream()
+				.filter(message -> message instanceof McpSchema.JSONRPCResponse candidate
+						&& "call-1".equals(candidate.id()))
+				.map(McpSchema.JSONRPCResponse.class::cast)
+				.findFirst()
+				.orElse(null), message -> message != null);
+		CallToolResult result = this.transport.unmarshalFrom(response.result(), new TypeRef<CallToolResult>() {
+		});
+		assertThat(result.isError()).isTrue();
+		assertThat(((McpSchema.TextContent) result.content().get(0)).text())
+			.isEqualTo("Too many in-flight requests (limit 1)");
+		assertThat(this.transport.getAllSentMessages()).filteredOn(McpSchema.JSONRPCRequest.class::isInstance)
+			.hasSize(1);
+	}
+
+	private void initialize() {
+		McpSchema.InitializeRequest initializeRequest = new McpSchema.InitializeRequest(
+				McpSchema.LATEST_PROTOCOL_VERSION, McpSchema.ClientCapabilities.builder().build(),
+				new McpSchema.Implementation("agent", "1.0.0"));
+		this.transportProvider.simulateIncomingMessage(new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_INITIALIZE, "init-1", initializeRequest));
+		this.transportProvider.simulateIncomingMessage(new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_NOTIFICATION_INITIALIZED, null));
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import io.modelcontextprotocol.MockMcpServerTransport;
+import io.modelcontextprotocol.MockMcpServerTransportProvider;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for broadcasting logging notifications from {@link McpAsyncServer}.
+ */
+class McpServerLoggingBroadcastTests {
+
+	private final MockMcpServerTransport transport = new MockMcpServerTransport();
+
+	private final MockMcpServerTransportProvider transportProvider = new MockMcpServerTransportProvider(this.transport);
+
+	private final McpAsyncServer server = McpServer.async(this.transportProvider)
+		.serverInfo("logging-test", "1.0.0")
+		.build();
+
+	@AfterEach
+	void tearDown() {
+		this.server.closeGracefully().block(Duration.ofSeconds(5));
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	void broadcastReachesSessionsAcceptingTheLevel() {
+		initialize();
+
+		// Until the client sets a level, it receives messages of any level
+		this.server.loggingNotification(log(McpSchema.LoggingLevel.DEBUG, "before-set-level")).block();
+		assertThat(loggedData()).containsExactly("before-set-level");
+
+		this.transportProvider.simulateIncomingMessage(new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_LOGGING_SET_LEVEL, "level-1", Map.of("level", "warning")));
+		await().atMost(Duration.ofSeconds(5))
+			.until(() -> this.transport.getAllSentMessages()
+				.stream()
+				.anyMatch(message -> message instanceof McpSchema.JSONRPCResponse response
+						&& "level-1".equals(response.id())));
+
+		this.server.loggingNotification(log(McpSchema.LoggingLevel.INFO, "info")).block();
+		this.server.loggingNotification(log(McpSchema.LoggingLevel.ERROR, "error")).block();
+
+		assertThat(loggedData()).containsExactly("before-set-level", "error");
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	void broadcastSkipsClosedSessions() {
+		initialize();
+		this.transportProvider.closeGracefully().block(Duration.ofSeconds(5));
+
+		this.server.loggingNotification(log(McpSchema.LoggingLevel.ERROR, "after-close")).block();
+
+		assertThat(loggedData()).isEmpty();
+	}
+
+	private List<Object> loggedData() {
+		return this.transport.getAllSentMessages()
+			.stream()
+			.filter(message -> message instanceof McpSchema.JSONRPCNotification notification
+					&& McpSchema.METHOD_NOTIFICATION_MESSAGE.equals(notification.method()))
+			.map(message -> ((McpSchema.LoggingMessageNotification) ((McpSchema.JSONRPCNotification) message).params())
+				.data())
+			.map(Object.class::cast)
+			.toList();
+	}
+
+	private static McpSchema.LoggingMessageNotification log(McpSchema.LoggingLevel level, String data) {
+		return McpSchema.LoggingMessageNotification.builder().level(level).logger("test").data(data).build();
+	}
+
+	private void initialize() {
+		McpSchema.InitializeRequest initializeRequest = new McpSchema.InitializeRequest(
+				McpSchema.LATEST_PROTOCOL_VERSION, McpSchema.ClientCapabilities.builder().build(),
+				new McpSchema.Implementation("agent", "1.0.0"));
+		this.transportProvider.simulateIncomingMessage(new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_INITIALIZE, "init-1", initializeRequest));
+		this.transportProvider.simulateIncomingMessage(new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_NOTIFICATION_INITIALIZED, null));
+	}
+
+}
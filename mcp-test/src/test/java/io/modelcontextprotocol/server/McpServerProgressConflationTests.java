@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import io.modelcontextprotocol.MockMcpServerTransport;
+import io.modelcontextprotocol.MockMcpServerTransportProvider;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for progress notification conflation in {@link McpAsyncServer}.
+ */
+class McpServerProgressConflationTests {
+
+	private final MockMcpServerTransport transport = new MockMcpServerTransport();
+
+	private final MockMcpServerTransportProvider transportProvider = new MockMcpServerTransportProvider(this.transport);
+
+	private final McpAsyncServer server = McpServer.async(this.transportProvider)
+		.serverInfo("progress-test", "1.0.0")
+		.capabilities(McpSchema.ServerCapabilities.builder().tools(true).build())
+		.progressNotificationInterval(Duration.ofSeconds(10))
+		.tools(McpServerFeatures.AsyncToolSpecification.builder()
+			.tool(McpSchema.Tool.builder()
+				.name("work")
+				.inputSchema(new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null))
+				.build())
+			.callHandler((exchange, request) -> Flux.range(1, 99)
+				.concatMap(step -> exchange.progressNotification(
+						new McpSchema.ProgressNotification(request.progressToken(), step, 100.0, null)))
+				.then(Mono.just(McpSchema.CallToolResult.builder().addTextContent("done").build())))
+			.build())
+		.build();
+
+	@AfterEach
+	void tearDown() {
+		this.server.closeGracefully().block(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void intermediateProgressIsConflatedAndFlushedBeforeResponse() {
+		initialize();
+
+		this.transportProvider.simulateIncomingMessage(
+				new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION, McpSchema.METHOD_TOOLS_CALL, "call-1",
+						Map.of("name", "work", "arguments", Map.of(), "_meta", Map.of("progressToken", "token-1"))));
+
+		await().atMost(Duration.ofSeconds(5))
+			.until(() -> this.transport.getAllSentMessages()
+				.stream()
+				.anyMatch(message -> message instanceof McpSchema.JSONRPCResponse response
+						&& "call-1".equals(response.id())));
+
+		List<McpSchema.JSONRPCMessage> afterInit = this.transport.getAllSentMessages()
+			.stream()
+			.filter(message -> !(message instanceof McpSchema.JSONRPCResponse response
+					&& "init-1".equals(response.id())))
+			.toList();
+		assertThat(afterInit).hasSize(3);
+		assertThat(afterInit.get(0)).isInstanceOf(McpSchema.JSONRPCNotification.class);
+		assertThat(afterInit.get(1)).isInstanceOfSatisfying(McpSchema.JSONRPCNotification.class,
+				notification -> assertThat(notification.params()).hasFieldOrPropertyWithValue("progress", 99.0));
+		assertThat(afterInit.get(2)).isInstanceOf(McpSchema.JSONRPCResponse.class);
+
+		assertThat(this.server.getProgressCounters().delivered()).isEqualTo(2);
+		assertThat(this.server.getProgressCounters().dropped()).isEqualTo(97);
+	}
+
+	private void initialize() {
+		McpSchema.InitializeRequest initializeRequest = new McpSchema.InitializeRequest(
+				McpSchema.LATEST_PROTOCOL_VERSION, McpSchema.ClientCapabilities.builder().build(),
+				new McpSchema.Implementation("agent", "1.0.0"));
+		this.transportProvider.simulateIncomingMessage(new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_INITIALIZE, "init-1", initializeRequest));
+		this.transportProvider.simulateIncomingMessage(new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_NOTIFICATION_INITIALIZED, null));
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.modelcontextprotocol.MockMcpServerTransport;
+import io.modelcontextprotocol.MockMcpServerTransportProvider;
+import io.modelcontextprotocol.json.McpJsonDefaults;
+import io.modelcontextprotocol.json.McpJsonMapper;
+import io.modelcontextprotocol.json.TypeRef;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for tool argument validation and typed argument binding in
+ * {@link McpAsyncServer}.
+ */
+class McpServerToolArgumentsTests {
+
+	private static final McpJsonMapper JSON_MAPPER = McpJsonDefaults.getMapper();
+
+	private static final McpSchema.JsonSchema GREET_SCHEMA = new McpSchema.JsonSchema("object",
+			Map.of("name", Map.of("type", "string"), "times", Map.of("type", "integer", "minimum", 1)), List.of("name"),
+			null, null, null);
+
+	record Greeting(String name, Integer times) {
+	}
+
+	private final MockMcpServerTransport transport = new MockMcpServerTransport();
+
+	private final MockMcpServerTransportProvider transportProvider = new MockMcpServerTransportProvider(this.transport);
+
+	private final AtomicInteger calls = new AtomicInteger();
+
+	private final McpAsyncServer server = McpServer.async(this.transportProvider)
+		.serverInfo("arguments-test", "1.0.0")
+		.capabilities(McpSchema.ServerCapabilities.builder().tools(true).build())
+		.validateToolInputs(true)
+		.tools(greetTool("greet"))
+		.build();
+
+	@AfterEach
+	void tearDown() {
+		this.server.closeGracefully().block(Duration.ofSeconds(5));
+	}
+
+	private McpServerFeatures.AsyncToolSpecification greetTool(String name) {
+		return McpServerFeatures.AsyncToolSpecification.builder()
+			.tool(McpSchema.Tool.builder().name(name).inputSchema(GREET_SCHEMA).build())
+			.callHandler(JSON_MAPPER.codec(new TypeRef<Greeting>() {
+			}), (exchange, greeting) -> {
+				this.calls.incrementAndGet();
+				int times = greeting.times() != null ? greeting.times() : 1;
+				return Mono.just(McpSchema.CallToolResult.builder()
+					.addTextContent(("Hello " + greeting.name() + "! ").repeat(times).trim())
+					.build());
+			})
+			.build();
+	}
+
+	@Test
+	void validArgumentsAreBoundToTheRecord() {
+		initialize();
+
+		McpSchema.CallToolResult result = callTool("call-1", "greet", Map.of("name", "Ada", "times", 2));
+
+		assertThat(result.isError()).isNotEqualTo(Boolean.TRUE);
+		assertThat(text(result)).isEqualTo("Hello Ada! Hello Ada!");
+		assertThat(this.calls).hasValue(1);
+	}
+
+	@Test
+	void invalidArgumentsAreReportedWithoutCallingTheTool() {
+		initialize();
+
+		McpSchema.CallToolResult missingName = callTool("call-1", "greet", Map.of("times", 2));
+		McpSchema.CallToolResult belowMinimum = callTool("call-2", "greet", Map.of("name", "Ada", "times", 0));
+
+		assertThat(missingName.isError()).isTrue();
+		assertThat(text(missingName)).startsWith("Invalid arguments for tool 'greet'")
+			.contains("name")
+			.doesNotContain("outputSchema");
+		assertThat(belowMinimum.isError()).isTrue();
+		assertThat(text(belowMinimum)).contains("times");
+		assertThat(this.calls).hasValue(0);
+	}
+
+	@Test
+	void toolsAddedAtRuntimeAreValidated() {
+		initialize();
+		this.server.addTool(greetTool("greet-later")).block(Duration.ofSeconds(5));
+
+		McpSchema.CallToolResult result = callTool("call-1", "greet-later", Map.of("name", 42));
+
+		assertThat(result.isError()).isTrue();
+		assertThat(this.calls).hasValue(0);
+	}
+
+	@Test
+	void toolsWithAnInvalidInputSchemaAreRejected() {
+		McpSchema.JsonSchema invalidSchema = new McpSchema.JsonSchema("object",
+				Map.of("times", Map.of("type", "integer", "minimum", "one")), null, null, null, null);
+		McpServerFeatures.AsyncToolSpecification tool = McpServerFeatures.AsyncToolSpecification.builder()
+			.tool(McpSchema.Tool.builder().name("invalid").inputSchema(invalidSchema).build())
+			.callHandler((exchange, request) -> Mono.just(McpSchema.CallToolResult.builder().build()))
+			.build();
+
+		assertThatIllegalArgumentException().isThrownBy(() -> this.server.addTool(tool).block(Duration.ofSeconds(5)))
+			.withMessageContaining("Invalid JSON Schema");
+	}
+
+	@Test
+	void argumentsThatCannotBeBoundAreReportedAsToolErrors() {
+		McpServerFeatures.AsyncToolSpecification unvalidated = greetTool("greet");
+
+		McpSchema.CallToolResult result = unvalidated.callHandler()
+			.apply(null, new McpSchema.CallToolRequest("greet", Map.of("name", "Ada", "times", "many")))
+			.block(Duration.ofSeconds(5));
+
+		assertThat(result.isError()).isTrue();
+		assertThat(text(result)).startsWith("Invalid arguments for tool 'greet'");
+		assertThat(this.calls).hasValue(0);
+	}
+
+	private McpSchema.CallToolResult callTool(String id, String name, Map<String, Object> arguments) {
+		this.transportProvider.simulateIncomingMessage(new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_TOOLS_CALL, id, Map.of("name", name, "arguments", arguments)));
+
+		await().atMost(Duration.ofSeconds(5)).until(() -> response(id) != null);
+		McpSchema.JSONRPCResponse response = response(id);
+		assertThat(response.error()).isNull();
+		return JSON_MAPPER.convertValue(response.result(), McpSchema.CallToolResult.class);
+	}
+
+	private McpSchema.JSONRPCResponse response(String id) {
+		return this.transport.getAllSentMessages()
+			.stream()
+			.filter(message -> message instanceof McpSchema.JSONRPCResponse response && id.equals(response.id()))
+			.map(McpSchema.JSONRPCResponse.class::cast)
+			.findFirst()
+			.orElse(null);
+	}
+
+	private static String text(McpSchema.CallToolResult result) {
+		return ((McpSchema.TextContent) result.content().get(0)).text();
+	}
+
+	private void initialize() {
+		McpSchema.InitializeRequest initializeRequest = new McpSchema.InitializeRequest(
+				McpSchema.LATEST_PROTOCOL_VERSION, McpSchema.ClientCapabilities.builder().build(),
+				new McpSchema.Implementation("agent", "1.0.0"));
+		this.transportProvider.simulateIncomingMessage(new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_INITIALIZE, "init-1", initializeRequest));
+		this.transportProvider.simulateIncomingMessage(new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_NOTIFICATION_INITIALIZED, null));
+	}
+
+}
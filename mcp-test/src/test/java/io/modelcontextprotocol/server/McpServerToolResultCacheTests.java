@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.modelcontextprotocol.MockMcpServerTransport;
+import io.modelcontextprotocol.MockMcpServerTransportProvider;
+import io.modelcontextprotocol.server.cache.McpToolResultCache;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for caching the results of read-only, idempotent tools in {@link McpAsyncServer}.
+ */
+class McpServerToolResultCacheTests {
+
+	private final MockMcpServerTransport transport = new MockMcpServerTransport();
+
+	private final MockMcpServerTransportProvider transportProvider = new MockMcpServerTransportProvider(this.transport);
+
+	private final McpToolResultCache cache = McpToolResultCache.builder().build();
+
+	private final AtomicInteger lookups = new AtomicInteger();
+
+	private final AtomicInteger writes = new AtomicInteger();
+
+	private final McpAsyncServer server = McpServer.async(this.transportProvider)
+		.serverInfo("cache-test", "1.0.0")
+		.capabilities(McpSchema.ServerCapabilities.builder().tools(true).build())
+		.toolResultCache(this.cache)
+		.tools(tool("lookup", true, this.lookups), tool("write", false, this.writes))
+		.build();
+
+	@AfterEach
+	void tearDown() {
+		this.server.closeGracefully().block(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void repeatedCallsToReadOnlyIdempotentToolsAreAnsweredFromTheCache() {
+		initialize();
+
+		callTool("call-1", "lookup", Map.of("key", "a"));
+		callTool("call-2", "lookup", Map.of("key", "a"));
+		callTool("call-3", "lookup", Map.of("key", "b"));
+		callTool("call-4", "write", Map.of("key", "a"));
+		callTool("call-5", "write", Map.of("key", "a"));
+
+		assertThat(this.lookups).hasValue(2);
+		assertThat(this.writes).hasValue(2);
+		assertThat(this.cache.getMetrics().hits()).isEqualTo(1);
+	}
+
+	@Test
+	void removingAToolDiscardsItsResults() {
+		initialize();
+		callTool("call-1", "lookup", Map.of("key", "a"));
+
+		this.server.removeTool("lookup").block(Duration.ofSeconds(5));
+		this.server.addTool(tool("lookup", true, this.lookups)).block(Duration.ofSeconds(5));
+		callTool("call-2", "lookup", Map.of("key", "a"));
+
+		assertThat(this.lookups).hasValue(2);
+	}
+
+	private static McpServerFeatures.AsyncToolSpecification tool(String name, boolean cacheable,
+			AtomicInteger counter) {
+		return McpServerFeatures.AsyncToolSpecification.builder()
+			.tool(McpSchema.Tool.builder()
+				.name(name)
+				.inputSchema(new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null))
+				.annotations(new McpSchema.ToolAnnotations(null, cacheable, !cacheable, cacheable, false, null))
+				.build())
+			.callHandler((exchange,
+					request) -> Mono.fromSupplier(() -> McpSchema.CallToolResult.builder()
+						.addTextContent(name + " " + counter.incrementAndGet())
+						.build()))
+			.build();
+	}
+
+	private void callTool(String id, String name, Map<String, Object> arguments) {
+		this.transportProvider.simulateIncomingMessage(new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_TOOLS_CALL, id, Map.of("name", name, "arguments", arguments)));
+		await().atMost(Duration.ofSeconds(5))
+			.until(() -> this.transport.getAllSentMessages()
+				.stream()
+				.anyMatch(message -> message instanceof McpSchema.JSONRPCResponse response && id.equals(response.id())
+						&& response.error() == null));
+	}
+
+	private void initialize() {
+		McpSchema.InitializeRequest initializeRequest = new McpSchema.InitializeRequest(
+				McpSchema.LATEST_PROTOCOL_VERSION, McpSchema.ClientCapabilities.builder().build(),
+				new McpSchema.Implementation("agent", "1.0.0"));
+		this.transportProvider.simulateIncomingMessage(new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_INITIALIZE, "init-1", initializeRequest));
+		this.transportProvider.simulateIncomingMessage(new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_NOTIFICATION_INITIALIZED, null));
+	}
+
+}
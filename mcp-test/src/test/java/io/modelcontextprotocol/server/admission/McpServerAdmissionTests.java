@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.admission;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import io.modelcontextprotocol.MockMcpServerTransport;
+import io.modelcontextprotocol.MockMcpServerTransportProvider;
+import io.modelcontextprotocol.server.McpAsyncServer;
+import io.modelcontextprotocol.server.McpServer;
+import io.modelcontextprotocol.server.McpServerFeatures;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Sinks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for admission control in the server request dispatch path.
+ */
+class McpServerAdmissionTests {
+
+	private final Sinks.One<McpSchema.CallToolResult> searchResult = Sinks.one();
+
+	private final MockMcpServerTransport transport = new MockMcpServerTransport();
+
+	private final MockMcpServerTransportProvider transportProvider = new MockMcpServerTransportProvider(this.transport);
+
+	private final DefaultMcpAdmissionController admissionController = DefaultMcpAdmissionController.builder()
+		.toolConcurrencyLimit("search", 1)
+		.build();
+
+	private final McpAsyncServer server = McpServer.async(this.transportProvider)
+		.serverInfo("admission-test", "1.0.0")
+		.capabilities(McpSchema.ServerCapabilities.builder().tools(true).build())
+		.admissionController(this.admissionController)
+		.tools(McpServerFeatures.AsyncToolSpecification.builder()
+			.tool(McpSchema.Tool.builder()
+				.name("search")
+				.inputSchema(new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null))
+				.build())
+			.callHandler((exchange, request) -> this.searchResult.asMono())
+			.build())
+		.build();
+
+	@AfterEach
+	void tearDown() {
+		this.server.closeGracefully().block(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void toolCallBeyondConcurrencyLimitIsRejectedWithJsonRpcError() {
+		initialize();
+
+		callSearch("call-1");
+		callSearch("call-2");
+
+		await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(response("call-2")).isNotNull());
+		McpSchema.JSONRPCResponse rejected = response("call-2");
+		assertThat(rejected.error().code()).isEqualTo(McpSchema.ErrorCodes.SERVER_OVERLOADED);
+		assertThat(response("call-1")).isNull();
+
+		this.searchResult.tryEmitValue(McpSchema.CallToolResult.builder().addTextContent("done").build());
+		await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(response("call-1")).isNotNull());
+		assertThat(response("call-1").error()).isNull();
+
+		// Pings bypass admission control
+		this.transportProvider.simulateIncomingMessage(
+				new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION, McpSchema.METHOD_PING, "ping-1", null));
+		await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(response("ping-1")).isNotNull());
+
+		McpAdmissionMetrics metrics = this.admissionController.getMetrics();
+		assertThat(metrics.admitted()).isEqualTo(1);
+		assertThat(metrics.rejectedConcurrencyLimit()).isEqualTo(1);
+	}
+
+	private void callSearch(String id) {
+		this.transportProvider.simulateIncomingMessage(new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_TOOLS_CALL, id, Map.of("name", "search", "arguments", Map.of())));
+	}
+
+	private McpSchema.JSONRPCResponse response(Object id) {
+		return this.transport.getAllSentMessages()
+			.stream()
+			.filter(message -> message instanceof McpSchema.JSONRPCResponse response && id.equals(response.id()))
+			.map(McpSchema.JSONRPCResponse.class::cast)
+			.findFirst()
+			.orElse(null);
+	}
+
+	private void initialize() {
+		McpSchema.InitializeRequest initializeRequest = new McpSchema.InitializeRequest(
+				McpSchema.LATEST_PROTOCOL_VERSION, McpSchema.ClientCapabilities.builder().build(),
+				new McpSchema.Implementation("agent", "1.0.0"));
+		this.transportProvider.simulateIncomingMessage(new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_INITIALIZE, "init-1", initializeRequest));
+		this.transportProvider.simulateIncomingMessage(new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_NOTIFICATION_INITIALIZED, null));
+	}
+
+}
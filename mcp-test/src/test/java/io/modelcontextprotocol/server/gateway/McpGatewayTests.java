@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.gateway;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import io.modelcontextprotocol.MockMcpClientTransport;
+import io.modelcontextprotocol.MockMcpServerTransport;
+import io.modelcontextprotocol.MockMcpServerTransportProvider;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.json.TypeRef;
+import io.modelcontextprotocol.server.McpAsyncServer;
+import io.modelcontextprotocol.server.McpServer;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for {@link McpGateway}.
+ */
+class McpGatewayTests {
+
+	private volatile List<McpSchema.Tool> upstreamTools;
+
+	private MockMcpClientTransport upstreamTransport;
+
+	private MockMcpServerTransport downstreamTransport;
+
+	private MockMcpServerTransportProvider downstreamProvider;
+
+	private McpAsyncServer server;
+
+	private McpGateway gateway;
+
+	@BeforeEach
+	void setUp() {
+		this.upstreamTools = List.of(tool("echo"));
+		this.upstreamTransport = new MockMcpClientTransport((t, message) -> {
+			if (!(message instanceof McpSchema.JSONRPCRequest request)) {
+				return;
+			}
+			Object result = switch (request.method()) {
+				case McpSchema.METHOD_INITIALIZE -> new McpSchema.InitializeResult(McpSchema.LATEST_PROTOCOL_VERSION,
+						McpSchema.ServerCapabilities.builder().tools(true).build(),
+						new McpSchema.Implementation("upstream", "1.0.0"), null);
+				case McpSchema.METHOD_TOOLS_LIST -> new McpSchema.ListToolsResult(this.upstreamTools, null);
+				case McpSchema.METHOD_TOOLS_CALL -> {
+					Map<?, ?> params = (Map<?, ?>) t.unmarshalFrom(request.params(),
+							new TypeRef<Map<String, Object>>() {
+							});
+					Map<?, ?> meta = (Map<?, ?>) params.get("_meta");
+					if (meta != null && meta.get("progressToken") != null) {
+						t.simulateIncomingMessage(new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
+								McpSchema.METHOD_NOTIFICATION_PROGRESS,
+								new McpSchema.ProgressNotification(meta.get("progressToken"), 0.5, 1.0, "half")));
+					}
+					yield McpSchema.CallToolResult.builder().addTextContent("upstream:" + params.get("name")).build();
+				}
+				default -> Map.of();
+			};
+			t.simulateIncomingMessage(
+					new McpSchema.JSONRPCResponse(McpSchema.JSONRPC_VERSION, request.id(), result, null));
+		});
+
+		this.downstreamTransport = new MockMcpServerTransport();
+		this.downstreamProvider = new MockMcpServerTransportProvider(this.downstreamTransport);
+		this.server = McpServer.async(this.downstreamProvider)
+			.serverInfo("gateway", "1.0.0")
+			.capabilities(McpSchema.ServerCapabilities.builder().tools(true).build())
+			.build();
+
+		this.gateway = McpGateway.builder(this.server)
+			.upstream("alpha", McpClient.async(this.upstreamTransport).requestTimeout(Duration.ofSeconds(5)))
+			.healthCheckInterval(null)
+			.build();
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.gateway.closeGracefully().block(Duration.ofSeconds(5));
+		this.server.closeGracefully().block(Duration.ofSeconds(5));
+	}
+
+	private static McpSchema.Tool tool(String name) {
+		return McpSchema.Tool.builder().name(name).description(name + " tool").inputSchema(schema()).build();
+	}
+
+	private static McpSchema.JsonSchema schema() {
+		return new McpSchema.JsonSchema("object", Map.of(), List.of(), null, null, null);
+	}
+
+	@Test
+	void builderValidatesUpstreams() {
+		assertThatThrownBy(() -> McpGateway.builder(this.server).build()).isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("At least one upstream must be configured");
+		assertThatThrownBy(() -> McpGateway.builder(this.server)
+			.upstream("alpha", McpClient.async(new MockMcpClientTransport()))
+			.upstream("alpha", McpClient.async(new MockMcpClientTransport())))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Duplicate upstream name: alpha");
+	}
+
+	@Test
+	void startMergesUpstreamToolsUnderNamespace() {
+		this.gateway.start().block(Duration.ofSeconds(5));
+
+		assertThat(this.server.listTools().map(McpSchema.Tool::name).collectList().block())
+			.containsExactly("alpha__echo");
+	}
+
+	@Test
+	void toolsListChangedIsAppliedIncrementally() {
+		this.gateway.start().block(Duration.ofSeconds(5));
+
+		this.upstreamTools = List.of(tool("search"));
+		this.upstreamTransport.simulateIncomingMessage(new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_NOTIFICATION_TOOLS_LIST_CHANGED, null));
+
+		await().atMost(Duration.ofSeconds(5))
+			.untilAsserted(() -> assertThat(this.server.listTools().map(McpSchema.Tool::name).collectList().block())
+				.containsExactly("alpha__search"));
+	}
+
+	@Test
+	void toolsListChangedIsForwardedOncePerUpstreamChange() {
+		this.gateway.start().block(Duration.ofSeconds(5));
+		initializeDownstream();
+		int before = toolsListChangedCount();
+
+		this.upstreamTools = List.of(tool("search"), tool("fetch"));
+		this.upstreamTransport.simulateIncomingMessage(new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_NOTIFICATION_TOOLS_LIST_CHANGED, null));
+
+		await().atMost(Duration.ofSeconds(5))
+			.untilAsserted(() -> assertThat(this.server.listTools().map(McpSchema.Tool::name).collectList().block())
+				.containsExactlyInAnyOrder("alpha__search", "alpha__fetch"));
+		await().atMost(Duration.ofSeconds(5)).until(() -> toolsListChangedCount() > before);
+		assertThat(toolsListChangedCount()).isEqualTo(before + 1);
+	}
+
+	@Test
+	void toolCallIsRoutedAndProgressForwardedWithOriginalToken() {
+		this.gateway.start().block(Duration.ofSeconds(5));
+		initializeDownstream();
+
+		this.downstreamProvider.simulateIncomingMessage(new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_TOOLS_CALL, "call-1", Map.of("name", "alpha__echo", "arguments", Map.of(), "_meta",
+						Map.of("progressToken", "client-token"))));
+
+		await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+			List<McpSchema.JSONRPCMessage> sent = this.downstreamTransport.getAllSentMessages();
+			assertThat(sent).anySatisfy(message -> {
+				assertThat(message).isInstanceOf(McpSchema.JSONRPCNotification.class);
+				McpSchema.JSONRPCNotification notification = (McpSchema.JSONRPCNotification) message;
+				assertThat(notification.method()).isEqualTo(McpSchema.METHOD_NOTIFICATION_PROGRESS);
+				assertThat(((McpSchema.ProgressNotification) notification.params()).progressToken())
+					.isEqualTo("client-token");
+			});
+			assertThat(sent).anySatisfy(message -> {
+				assertThat(message).isInstanceOf(McpSchema.JSONRPCResponse.class);
+				McpSchema.JSONRPCResponse response = (McpSchema.JSONRPCResponse) message;
+				assertThat(response.id()).isEqualTo("call-1");
+				McpSchema.CallToolResult result = (McpSchema.CallToolResult) response.result();
+				assertThat(((McpSchema.TextContent) result.content().get(0)).text()).isEqualTo("upstream:echo");
+			});
+		});
+
+		assertThat(this.gateway.getUpstreamPool("alpha").getEndpoints().get(0).latencyHistogram().count()).isPositive();
+	}
+
+	private int toolsListChangedCount() {
+		return (int) this.downstreamTransport.getAllSentMessages()
+			.stream()
+			.filter(message -> message instanceof McpSchema.JSONRPCNotification notification
+					&& McpSchema.METHOD_NOTIFICATION_TOOLS_LIST_CHANGED.equals(notification.method()))
+			.count();
+	}
+
+	private void initializeDownstream() {
+		McpSchema.InitializeRequest initializeRequest = new McpSchema.InitializeRequest(
+				McpSchema.LATEST_PROTOCOL_VERSION, McpSchema.ClientCapabilities.builder().build(),
+				new McpSchema.Implementation("agent", "1.0.0"));
+		this.downstreamProvider.simulateIncomingMessage(new McpSchema.JSONRPCRequest(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_INITIALIZE, "init-1", initializeRequest));
+		this.downstreamProvider.simulateIncomingMessage(new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION,
+				McpSchema.METHOD_NOTIFICATION_INITIALIZED, null));
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026-2026 the original author or authors.
+ */
+
+package io.modelcontextprotocol.server.transport;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.ServerParameters;
+import io.modelcontextprotocol.client.transport.StdioClientTransport;
+import io.modelcontextprotocol.json.McpJsonDefaults;
+import io.modelcontextprotocol.server.StdioTestServer;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Startup benchmark for stdio servers: measures the time from spawning a server JVM to
+ * receiving the result of its first {@code tools/call}, which is what a CLI tool or a
+ * serverless function waits for on a cold start.
+ * <p>
+ * Each run spawns a fresh {@link StdioTestServer}. The number of runs is set with the
+ * {@code mcp.startup.runs} system property, and extra options for the server JVM, such as
+ * {@code -XX:SharedArchiveFile=app.jsa} to compare with an AppCDS archive, with
+ * {@code mcp.startup.jvmArgs}. The timings are logged; only the result of the call is
+ * asserted.
+ */
+@Timeout(120)
+class StdioServerStartupTests {
+
+	private static final Logger logger = LoggerFactory.getLogger(StdioServerStartupTests.class);
+
+	@Test
+	void measuresTimeToFirstToolCall() {
+		int runs = Integer.getInteger("mcp.startup.runs", 1);
+		List<Duration> timings = new ArrayList<>();
+		for (int i = 0; i < runs; i++) {
+			timings.add(timeToFirstToolCall());
+		}
+		timings.sort(null);
+		logger.info("Time to first tools/call over {} run(s): min {} ms, median {} ms, max {} ms", runs,
+				timings.get(0).toMillis(), timings.get(runs / 2).toMillis(), timings.get(runs - 1).toMillis());
+	}
+
+	private static Duration timeToFirstToolCall() {
+		String jvmArgs = System.getProperty("mcp.startup.jvmArgs", "").trim();
+		ServerParameters server = StdioTestServer
+			.parameters(jvmArgs.isEmpty() ? List.of() : Arrays.asList(jvmArgs.split("\\s+")));
+
+		long start = System.nanoTime();
+		McpSyncClient client = McpClient.sync(new StdioClientTransport(server, McpJsonDefaults.getMapper()))
+			.requestTimeout(Duration.ofSeconds(60))
+			.initializationTimeout(Duration.ofSeconds(60))
+			.build();
+		try {
+			client.initialize();
+			McpSchema.CallToolResult result = client
+				.callTool(new McpSchema.CallToolRequest("echo", Map.of("text", "ready")));
+			Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+			assertThat(result.isError()).isFalse();
+			assertThat(result.content()).singleElement()
+				.isInstanceOfSatisfying(McpSchema.TextContent.class,
+						content -> assertThat(content.text()).isEqualTo("ready"));
+			return elapsed;
+		}
+		finally {
+			client.closeGracefully();
+		}
+	}
+
+}
@@ -6,7 +6,11 @@ package io.modelcontextprotocol.server.transport;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
@@ -19,6 +23,8 @@ import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpServerSession;
 import io.modelcontextprotocol.spec.McpServerTransport;
+import io.modelcontextprotocol.spec.McpTransportException;
+import io.modelcontextprotocol.spec.TransportExecutors;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -220,4 +226,74 @@ class StdioServerTransportProviderTests {
 		verify(mockSession).closeGracefully();
 	}
 
+	@Test
+	void shouldDisconnectClientThatStopsReading() throws Exception {
+		StalledOutputStream stdout = new StalledOutputStream();
+		PipedOutputStream stdinWriter = new PipedOutputStream();
+		McpOutboundQueue outboundQueue = McpOutboundQueue.builder()
+			.capacity(2)
+			.overflowStrategy(McpOutboundQueue.OverflowStrategy.DISCONNECT)
+			.build();
+		transportProvider = new StdioServerTransportProvider(McpJsonDefaults.getMapper(),
+				new PipedInputStream(stdinWriter), stdout, TransportExecutors.shared(), outboundQueue);
+		AtomicReference<McpServerTransport> transport = new AtomicReference<>();
+		transportProvider.setSessionFactory(sessionTransport -> {
+			transport.set(sessionTransport);
+			return mockSession;
+		});
+
+		try {
+			// The first message is flushed to a client that does not read it
+			transport.get().sendMessage(notification(1)).block(java.time.Duration.ofSeconds(5));
+			assertThat(stdout.writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+			transport.get().sendMessage(notification(2)).subscribe();
+			transport.get().sendMessage(notification(3)).subscribe();
+			assertThat(outboundQueue.metrics().currentlyQueued()).isEqualTo(2);
+
+			StepVerifier.create(transport.get().sendMessage(notification(4)))
+				.expectError(McpTransportException.class)
+				.verify(java.time.Duration.ofSeconds(5));
+			assertThat(outboundQueue.metrics().disconnected()).isEqualTo(1);
+			assertThat(outboundQueue.metrics().currentlyQueued()).isZero();
+		}
+		finally {
+			stdout.reading.countDown();
+			stdinWriter.close();
+		}
+	}
+
+	private static McpSchema.JSONRPCNotification notification(int sequence) {
+		return new McpSchema.JSONRPCNotification(McpSchema.JSONRPC_VERSION, "notifications/progress",
+				Map.of("progress", sequence));
+	}
+
+	/**
+	 * Stdout of a client that stops reading: writes block until the client is released.
+	 */
+	private static final class StalledOutputStream extends OutputStream {
+
+		private final CountDownLatch writing = new CountDownLatch(1);
+
+		private final CountDownLatch reading = new CountDownLatch(1);
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			this.writing.countDown();
+			try {
+				this.reading.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException(e);
+			}
+		}
+
+	}
+
 }